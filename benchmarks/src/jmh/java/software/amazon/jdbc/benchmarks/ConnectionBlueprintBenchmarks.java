@@ -0,0 +1,171 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.benchmarks;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.openMocks;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import org.mockito.Mock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.jdbc.ConnectionBlueprint;
+import software.amazon.jdbc.ConnectionPluginChainBuilder;
+import software.amazon.jdbc.ConnectionPluginFactory;
+import software.amazon.jdbc.ConnectionProvider;
+import software.amazon.jdbc.PluginManagerService;
+import software.amazon.jdbc.PluginService;
+import software.amazon.jdbc.PropertyDefinition;
+import software.amazon.jdbc.TargetDriverHelper;
+import software.amazon.jdbc.benchmarks.testplugin.BenchmarkPluginFactory;
+import software.amazon.jdbc.profile.ConfigurationProfile;
+import software.amazon.jdbc.profile.ConfigurationProfileBuilder;
+import software.amazon.jdbc.targetdriverdialect.TargetDriverDialect;
+import software.amazon.jdbc.targetdriverdialect.TargetDriverDialectManager;
+import software.amazon.jdbc.util.telemetry.DefaultTelemetryFactory;
+import software.amazon.jdbc.util.telemetry.TelemetryContext;
+import software.amazon.jdbc.util.telemetry.TelemetryFactory;
+
+/**
+ * Measures the work done by the wrapper when opening a connection, besides the connect call of the
+ * target driver: resolving the target driver, the target driver dialect and the telemetry factory,
+ * and building the plugin chain. The benchmarks compare a cold path, where nothing is cached, with
+ * the path that reuses a {@link ConnectionBlueprint} and the cached plugin factories.
+ */
+@State(Scope.Benchmark)
+@Fork(3)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConnectionBlueprintBenchmarks {
+
+  private static final String DRIVER_URL =
+      "jdbc:postgresql://instance-0.XYZ.us-east-2.rds.amazonaws.com:5432/db";
+
+  @Mock PluginService mockPluginService;
+  @Mock PluginManagerService mockPluginManagerService;
+  @Mock ConnectionProvider mockConnectionProvider;
+  @Mock TelemetryFactory mockTelemetryFactory;
+  @Mock TelemetryContext mockTelemetryContext;
+
+  private final ConnectionPluginChainBuilder pluginChainBuilder = new ConnectionPluginChainBuilder();
+  private ConfigurationProfile configurationProfile;
+  private Properties props;
+  private AutoCloseable closeable;
+
+  public static void main(String[] args) throws RunnerException {
+    Options opt = new OptionsBuilder()
+        .include(ConnectionBlueprintBenchmarks.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .detectJvmArgs()
+        .build();
+
+    new Runner(opt).run();
+  }
+
+  @Setup(Level.Iteration)
+  public void setUpIteration() throws Exception {
+    closeable = openMocks(this);
+    when(mockPluginService.getTelemetryFactory()).thenReturn(mockTelemetryFactory);
+    when(mockTelemetryFactory.openTelemetryContext(anyString(), any())).thenReturn(mockTelemetryContext);
+    when(mockTelemetryFactory.openTelemetryContext(eq(null), any())).thenReturn(mockTelemetryContext);
+
+    // Create a plugin chain with 10 custom test plugins.
+    final List<Class<? extends ConnectionPluginFactory>> pluginFactories = new ArrayList<>(
+        Collections.nCopies(10, BenchmarkPluginFactory.class));
+
+    configurationProfile = ConfigurationProfileBuilder.get()
+        .withName("benchmark")
+        .withPluginFactories(pluginFactories)
+        .build();
+
+    props = new Properties();
+    props.setProperty(PropertyDefinition.USER.name, "user");
+    props.setProperty(PropertyDefinition.PASSWORD.name, "password");
+    props.setProperty(PropertyDefinition.ENABLE_TELEMETRY.name, "false");
+  }
+
+  @TearDown(Level.Iteration)
+  public void tearDownIteration() throws Exception {
+    ConnectionBlueprint.clearCache();
+    ConnectionPluginChainBuilder.clearCache();
+    closeable.close();
+  }
+
+  @Benchmark
+  public void connectPathWithoutBlueprint(Blackhole blackhole) throws SQLException {
+    ConnectionBlueprint.clearCache();
+    ConnectionPluginChainBuilder.clearCache();
+    blackhole.consume(this.resolveBlueprint());
+    blackhole.consume(this.buildPluginChain());
+  }
+
+  @Benchmark
+  public void connectPathWithBlueprint(Blackhole blackhole) throws SQLException {
+    blackhole.consume(this.resolveBlueprint());
+    blackhole.consume(this.buildPluginChain());
+  }
+
+  // Follows the steps of Driver.connect() that precede the creation of the connection wrapper.
+  private ConnectionBlueprint resolveBlueprint() throws SQLException {
+    final ConnectionBlueprint.Key key = ConnectionBlueprint.getKey(DRIVER_URL, props, configurationProfile);
+    ConnectionBlueprint blueprint = ConnectionBlueprint.get(key);
+    if (blueprint == null) {
+      final TelemetryFactory telemetryFactory = new DefaultTelemetryFactory(props);
+      final java.sql.Driver driver = new TargetDriverHelper().getTargetDriver(DRIVER_URL, props);
+      final TargetDriverDialect targetDriverDialect = new TargetDriverDialectManager().getDialect(driver, props);
+      blueprint = new ConnectionBlueprint(driver, targetDriverDialect, telemetryFactory);
+      ConnectionBlueprint.put(key, blueprint);
+    }
+    return blueprint;
+  }
+
+  private Object buildPluginChain() throws SQLException {
+    return pluginChainBuilder.getPlugins(
+        mockPluginService,
+        mockConnectionProvider,
+        null,
+        mockPluginManagerService,
+        props,
+        configurationProfile);
+  }
+}
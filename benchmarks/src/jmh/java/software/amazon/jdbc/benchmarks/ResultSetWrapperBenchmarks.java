@@ -0,0 +1,187 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package software.amazon.jdbc.benchmarks;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.openMocks;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.mockito.Mock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.jdbc.ConnectionPluginFactory;
+import software.amazon.jdbc.ConnectionPluginManager;
+import software.amazon.jdbc.ConnectionProvider;
+import software.amazon.jdbc.PluginManagerService;
+import software.amazon.jdbc.PluginService;
+import software.amazon.jdbc.PropertyDefinition;
+import software.amazon.jdbc.benchmarks.testplugin.BenchmarkPluginFactory;
+import software.amazon.jdbc.benchmarks.testplugin.BenchmarkResultSet;
+import software.amazon.jdbc.profile.ConfigurationProfile;
+import software.amazon.jdbc.profile.ConfigurationProfileBuilder;
+import software.amazon.jdbc.util.telemetry.DefaultTelemetryFactory;
+import software.amazon.jdbc.util.telemetry.TelemetryFactory;
+import software.amazon.jdbc.wrapper.ConnectionWrapper;
+import software.amazon.jdbc.wrapper.ResultSetWrapper;
+
+/**
+ * Iterates a large result set through {@link ResultSetWrapper} and compares it with iterating the
+ * target result set directly.
+ */
+@State(Scope.Benchmark)
+@Fork(3)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResultSetWrapperBenchmarks {
+
+  private static final int ROW_COUNT = 100_000;
+  private static final int CONNECTION_EPOCH = 1;
+
+  private ConnectionPluginManager pluginManager;
+  private ConnectionPluginManager pluginManagerWithNoPlugins;
+  private BenchmarkResultSet resultSet;
+  private ResultSet resultSetWrapper;
+  private ResultSet resultSetWrapperWithNoPlugins;
+
+  @Mock ConnectionProvider mockConnectionProvider;
+  @Mock ConnectionWrapper mockConnectionWrapper;
+  @Mock PluginService mockPluginService;
+  @Mock PluginManagerService mockPluginManagerService;
+  @Mock Connection mockConnection;
+  @Mock Statement mockStatement;
+  @Mock ResultSet mockSourceResultSet;
+  @Mock ResultSetMetaData mockResultSetMetaData;
+  private AutoCloseable closeable;
+
+  public static void main(String[] args) throws RunnerException {
+    Options opt = new OptionsBuilder()
+        .include(ResultSetWrapperBenchmarks.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .detectJvmArgs()
+        .build();
+
+    new Runner(opt).run();
+  }
+
+  @Setup(Level.Iteration)
+  public void setUpIteration() throws Exception {
+    closeable = openMocks(this);
+
+    final AtomicInteger sourceRow = new AtomicInteger();
+    when(mockSourceResultSet.getMetaData()).thenReturn(mockResultSetMetaData);
+    when(mockSourceResultSet.next()).thenAnswer(invocation -> sourceRow.incrementAndGet() <= ROW_COUNT);
+    when(mockSourceResultSet.getObject(1)).thenAnswer(invocation -> sourceRow.get());
+    when(mockSourceResultSet.getObject(2)).thenAnswer(invocation -> "row-" + sourceRow.get());
+    when(mockResultSetMetaData.getColumnCount()).thenReturn(2);
+    when(mockResultSetMetaData.getColumnName(anyInt())).thenAnswer(invocation -> "col" + invocation.getArgument(0));
+    when(mockStatement.getConnection()).thenReturn(mockConnection);
+    when(mockPluginService.getCurrentConnection()).thenReturn(mockConnection);
+    when(mockPluginService.getConnectionEpoch()).thenReturn(CONNECTION_EPOCH);
+
+    resultSet = new BenchmarkResultSet(mockSourceResultSet, mockStatement);
+
+    // Create a plugin chain with 10 custom test plugins.
+    final List<Class<? extends ConnectionPluginFactory>> pluginFactories = new ArrayList<>(
+        Collections.nCopies(10, BenchmarkPluginFactory.class));
+
+    final ConfigurationProfile configurationProfile = ConfigurationProfileBuilder.get()
+        .withName("benchmark")
+        .withPluginFactories(pluginFactories)
+        .build();
+
+    final Properties propertiesWithoutPlugins = new Properties();
+    propertiesWithoutPlugins.setProperty(PropertyDefinition.PLUGINS.name, "");
+
+    final Properties propertiesWithPlugins = new Properties();
+    propertiesWithPlugins.setProperty(PropertyDefinition.PROFILE_NAME.name, "benchmark");
+    propertiesWithPlugins.setProperty(PropertyDefinition.ENABLE_TELEMETRY.name, "false");
+
+    final TelemetryFactory telemetryFactory = new DefaultTelemetryFactory(propertiesWithPlugins);
+    when(mockPluginService.getTelemetryFactory()).thenReturn(telemetryFactory);
+
+    pluginManager = new ConnectionPluginManager(mockConnectionProvider, null,
+        mockConnectionWrapper, telemetryFactory);
+    pluginManager.init(mockPluginService, propertiesWithPlugins, mockPluginManagerService, configurationProfile);
+
+    pluginManagerWithNoPlugins = new ConnectionPluginManager(mockConnectionProvider, null,
+        mockConnectionWrapper, telemetryFactory);
+    pluginManagerWithNoPlugins.init(mockPluginService, propertiesWithoutPlugins, mockPluginManagerService, null);
+
+    resultSetWrapper = new ResultSetWrapper(resultSet, pluginManager);
+    resultSetWrapperWithNoPlugins = new ResultSetWrapper(resultSet, pluginManagerWithNoPlugins);
+  }
+
+  @TearDown(Level.Iteration)
+  public void tearDownIteration() throws Exception {
+    pluginManager.releaseResources();
+    pluginManagerWithNoPlugins.releaseResources();
+    closeable.close();
+  }
+
+  @Benchmark
+  public void iterateResultSet(Blackhole blackhole) throws SQLException {
+    iterate(resultSet, blackhole);
+  }
+
+  @Benchmark
+  public void iterateResultSetWrapperWithNoPlugins(Blackhole blackhole) throws SQLException {
+    iterate(resultSetWrapperWithNoPlugins, blackhole);
+  }
+
+  @Benchmark
+  public void iterateResultSetWrapperWithPlugins(Blackhole blackhole) throws SQLException {
+    iterate(resultSetWrapper, blackhole);
+  }
+
+  private void iterate(final ResultSet rs, final Blackhole blackhole) throws SQLException {
+    resultSet.beforeFirst();
+    while (rs.next()) {
+      blackhole.consume(rs.getInt(1));
+      blackhole.consume(rs.getString(2));
+    }
+  }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package software.amazon.jdbc.benchmarks.testplugin;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import software.amazon.jdbc.plugin.DataCacheConnectionPlugin.CachedResultSet;
+
+/**
+ * An in-memory result set that behaves like a driver result set: it returns the statement that
+ * produced it.
+ */
+public class BenchmarkResultSet extends CachedResultSet {
+
+  private final Statement statement;
+
+  public BenchmarkResultSet(final ResultSet resultSet, final Statement statement) throws SQLException {
+    super(resultSet);
+    this.statement = statement;
+  }
+
+  @Override
+  public Statement getStatement() {
+    return this.statement;
+  }
+}
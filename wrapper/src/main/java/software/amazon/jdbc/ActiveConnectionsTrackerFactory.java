@@ -0,0 +1,110 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A Hikari {@link MetricsTrackerFactory} that keeps the number of connections borrowed from the
+ * internal connection pools of a host up to date. Hikari reports every borrow and every return to
+ * the tracker, which adds it to the striped counter of the host, so the
+ * {@link LeastConnectionsHostSelector} can read the load of a host without visiting every pool.
+ * Any {@link MetricsTrackerFactory} configured by the user is still called.
+ */
+class ActiveConnectionsTrackerFactory implements MetricsTrackerFactory {
+
+  private final LongAdder hostActiveConnections;
+  private final @Nullable MetricsTrackerFactory delegate;
+
+  ActiveConnectionsTrackerFactory(
+      final LongAdder hostActiveConnections,
+      final @Nullable MetricsTrackerFactory delegate) {
+    this.hostActiveConnections = hostActiveConnections;
+    // A HikariConfig may be reused for several pools, in which case it already holds a tracker
+    // factory of another host.
+    this.delegate = delegate instanceof ActiveConnectionsTrackerFactory
+        ? ((ActiveConnectionsTrackerFactory) delegate).delegate
+        : delegate;
+  }
+
+  @Override
+  public IMetricsTracker create(final String poolName, final PoolStats poolStats) {
+    return new ActiveConnectionsTracker(
+        this.hostActiveConnections,
+        this.delegate == null ? null : this.delegate.create(poolName, poolStats));
+  }
+
+  static class ActiveConnectionsTracker implements IMetricsTracker {
+
+    private final LongAdder hostActiveConnections;
+    private final @Nullable IMetricsTracker delegate;
+    // Connections currently borrowed from this pool. They are taken off the host counter when the
+    // pool is closed, since Hikari doesn't report the return of connections it aborts on shutdown.
+    private final AtomicLong borrowedConnections = new AtomicLong();
+
+    ActiveConnectionsTracker(final LongAdder hostActiveConnections, final @Nullable IMetricsTracker delegate) {
+      this.hostActiveConnections = hostActiveConnections;
+      this.delegate = delegate;
+    }
+
+    @Override
+    public void recordConnectionCreatedMillis(final long connectionCreatedMillis) {
+      if (this.delegate != null) {
+        this.delegate.recordConnectionCreatedMillis(connectionCreatedMillis);
+      }
+    }
+
+    @Override
+    public void recordConnectionAcquiredNanos(final long elapsedAcquiredNanos) {
+      this.borrowedConnections.incrementAndGet();
+      this.hostActiveConnections.increment();
+      if (this.delegate != null) {
+        this.delegate.recordConnectionAcquiredNanos(elapsedAcquiredNanos);
+      }
+    }
+
+    @Override
+    public void recordConnectionUsageMillis(final long elapsedBorrowedMillis) {
+      if (this.borrowedConnections.getAndUpdate(count -> count > 0 ? count - 1 : 0) > 0) {
+        this.hostActiveConnections.decrement();
+      }
+      if (this.delegate != null) {
+        this.delegate.recordConnectionUsageMillis(elapsedBorrowedMillis);
+      }
+    }
+
+    @Override
+    public void recordConnectionTimeout() {
+      if (this.delegate != null) {
+        this.delegate.recordConnectionTimeout();
+      }
+    }
+
+    @Override
+    public void close() {
+      this.hostActiveConnections.add(-this.borrowedConnections.getAndSet(0));
+      if (this.delegate != null) {
+        this.delegate.close();
+      }
+    }
+  }
+}
@@ -48,6 +48,7 @@ public class C3P0PooledConnectionProvider implements PooledConnectionProvider, C
       Collections.unmodifiableMap(new HashMap<String, HostSelector>() {
         {
           put(HighestWeightHostSelector.STRATEGY_HIGHEST_WEIGHT, new HighestWeightHostSelector());
+          put(LeastReplicaLagHostSelector.STRATEGY_LEAST_REPLICA_LAG, new LeastReplicaLagHostSelector());
           put(RandomHostSelector.STRATEGY_RANDOM, new RandomHostSelector());
           put(RoundRobinHostSelector.STRATEGY_ROUND_ROBIN, new RoundRobinHostSelector());
         }
@@ -0,0 +1,186 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import software.amazon.jdbc.profile.ConfigurationProfile;
+import software.amazon.jdbc.targetdriverdialect.TargetDriverDialect;
+import software.amazon.jdbc.util.BoundedCacheMap;
+import software.amazon.jdbc.util.telemetry.TelemetryFactory;
+
+/**
+ * The parts of a new connection that only depend on the connection URL and the effective
+ * connection properties: the target driver, the target driver dialect and the telemetry factory.
+ * {@link Driver} and {@link software.amazon.jdbc.ds.AwsWrapperDataSource} keep the blueprints of
+ * recent connections, so opening another connection with the same settings doesn't need to resolve
+ * them again.
+ */
+public class ConnectionBlueprint {
+
+  private static final int MAX_BLUEPRINTS = 100;
+  private static final long BLUEPRINT_EXPIRATION_NANO = TimeUnit.MINUTES.toNanos(30);
+
+  private static final BoundedCacheMap<Key, ConnectionBlueprint> blueprints =
+      new BoundedCacheMap<>(MAX_BLUEPRINTS, Long.MAX_VALUE, (blueprint) -> 1L);
+
+  private final java.sql.Driver targetDriver;
+  private final @NonNull TargetDriverDialect targetDriverDialect;
+  private final @NonNull TelemetryFactory telemetryFactory;
+
+  public ConnectionBlueprint(
+      final java.sql.Driver targetDriver,
+      final @NonNull TargetDriverDialect targetDriverDialect,
+      final @NonNull TelemetryFactory telemetryFactory) {
+    this.targetDriver = targetDriver;
+    this.targetDriverDialect = targetDriverDialect;
+    this.telemetryFactory = telemetryFactory;
+  }
+
+  /**
+   * Returns the target driver, or null if the connections are opened through a target data source.
+   *
+   * @return the target driver
+   */
+  public java.sql.Driver getTargetDriver() {
+    return this.targetDriver;
+  }
+
+  public @NonNull TargetDriverDialect getTargetDriverDialect() {
+    return this.targetDriverDialect;
+  }
+
+  public @NonNull TelemetryFactory getTelemetryFactory() {
+    return this.telemetryFactory;
+  }
+
+  /**
+   * Creates the key of the blueprint of a connection.
+   *
+   * @param target               the target driver URL, or the target data source class name
+   * @param props                the effective connection properties
+   * @param configurationProfile the configuration profile of the connection, if any
+   * @return the key of the blueprint
+   */
+  public static Key getKey(
+      final @NonNull String target,
+      final @NonNull Properties props,
+      final @Nullable ConfigurationProfile configurationProfile) {
+    return new Key(target, props, configurationProfile, Driver.getCustomTargetDriverDialect());
+  }
+
+  public static @Nullable ConnectionBlueprint get(final @NonNull Key key) {
+    return blueprints.get(key);
+  }
+
+  public static void put(final @NonNull Key key, final @NonNull ConnectionBlueprint blueprint) {
+    blueprints.put(key, blueprint, BLUEPRINT_EXPIRATION_NANO);
+  }
+
+  public static void clearCache() {
+    blueprints.clear();
+  }
+
+  /**
+   * A fingerprint of the settings a {@link ConnectionBlueprint} depends on. The target and the
+   * properties are only kept as a SHA-256 digest, so that credentials in the URL or in the
+   * properties, such as keystore or SSL passwords, aren't kept in the cache. The password isn't part
+   * of the fingerprint, so changing it doesn't invalidate the blueprint. The configuration profile
+   * and the custom target driver dialect are compared by identity, so replacing them results in a
+   * new blueprint.
+   */
+  public static final class Key {
+    private final byte[] digest;
+    private final @Nullable ConfigurationProfile configurationProfile;
+    private final @Nullable TargetDriverDialect customTargetDriverDialect;
+    private final int hashCode;
+
+    private Key(
+        final String target,
+        final Properties props,
+        final @Nullable ConfigurationProfile configurationProfile,
+        final @Nullable TargetDriverDialect customTargetDriverDialect) {
+      this.digest = getDigest(target, props);
+      this.configurationProfile = configurationProfile;
+      this.customTargetDriverDialect = customTargetDriverDialect;
+      this.hashCode = Objects.hash(
+          Arrays.hashCode(this.digest),
+          System.identityHashCode(configurationProfile),
+          System.identityHashCode(customTargetDriverDialect));
+    }
+
+    private static byte[] getDigest(final String target, final Properties props) {
+      final MessageDigest messageDigest;
+      try {
+        messageDigest = MessageDigest.getInstance("SHA-256");
+      } catch (final NoSuchAlgorithmException e) {
+        // Every Java platform supports SHA-256.
+        throw new IllegalStateException(e);
+      }
+
+      final Map<String, String> sortedProps = new TreeMap<>();
+      for (final Map.Entry<Object, Object> entry : props.entrySet()) {
+        sortedProps.put(String.valueOf(entry.getKey()), String.valueOf(entry.getValue()));
+      }
+      sortedProps.remove(PropertyDefinition.PASSWORD.name);
+
+      update(messageDigest, target);
+      for (final Map.Entry<String, String> entry : sortedProps.entrySet()) {
+        update(messageDigest, entry.getKey());
+        update(messageDigest, entry.getValue());
+      }
+      return messageDigest.digest();
+    }
+
+    private static void update(final MessageDigest messageDigest, final String value) {
+      // The length prefix keeps adjacent values from running into each other.
+      final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+      messageDigest.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+      messageDigest.update(bytes);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof Key)) {
+        return false;
+      }
+      final Key other = (Key) obj;
+      return this.hashCode == other.hashCode
+          && this.configurationProfile == other.configurationProfile
+          && this.customTargetDriverDialect == other.customTargetDriverDialect
+          && Arrays.equals(this.digest, other.digest);
+    }
+
+    @Override
+    public int hashCode() {
+      return this.hashCode;
+    }
+  }
+}
@@ -32,6 +32,17 @@ public interface ConnectionPlugin {
 
   Set<String> getSubscribedMethods();
 
+  /**
+   * Returns the {@link JdbcMethod} constants of the methods returned by {@link #getSubscribedMethods()}.
+   * The plugin manager uses this set to build the plugin chains of known methods. Subscribed method
+   * names that don't have a {@link JdbcMethod} constant are still matched by name.
+   *
+   * @return the set of subscribed JDBC methods
+   */
+  default EnumSet<JdbcMethod> getSubscribedJdbcMethods() {
+    return JdbcMethod.fromMethodNames(this.getSubscribedMethods());
+  }
+
   <T, E extends Exception> T execute(
       final Class<T> resultClass,
       final Class<E> exceptionClass,
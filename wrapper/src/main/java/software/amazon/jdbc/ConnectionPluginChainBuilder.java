@@ -23,6 +23,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -46,8 +47,10 @@ import software.amazon.jdbc.plugin.limitless.LimitlessConnectionPluginFactory;
 import software.amazon.jdbc.plugin.readwritesplitting.ReadWriteSplittingPluginFactory;
 import software.amazon.jdbc.plugin.staledns.AuroraStaleDnsPluginFactory;
 import software.amazon.jdbc.plugin.strategy.fastestresponse.FastestResponseStrategyPluginFactory;
+import software.amazon.jdbc.plugin.strategy.leastload.LeastLoadStrategyPluginFactory;
 import software.amazon.jdbc.profile.ConfigurationProfile;
 import software.amazon.jdbc.util.Messages;
+import software.amazon.jdbc.util.Pair;
 import software.amazon.jdbc.util.SqlState;
 import software.amazon.jdbc.util.StringUtils;
 import software.amazon.jdbc.util.WrapperUtils;
@@ -80,6 +83,7 @@ public class ConnectionPluginChainBuilder {
           put("connectTime", ConnectTimeConnectionPluginFactory.class);
           put("dev", DeveloperConnectionPluginFactory.class);
           put("fastestResponseStrategy", FastestResponseStrategyPluginFactory.class);
+          put("leastLoadStrategy", LeastLoadStrategyPluginFactory.class);
           put("initialConnection", AuroraInitialConnectionStrategyPluginFactory.class);
           put("limitless", LimitlessConnectionPluginFactory.class);
         }
@@ -105,6 +109,7 @@ public class ConnectionPluginChainBuilder {
           put(HostMonitoringConnectionPluginFactory.class, 800);
           put(software.amazon.jdbc.plugin.efm2.HostMonitoringConnectionPluginFactory.class, 810);
           put(FastestResponseStrategyPluginFactory.class, 900);
+          put(LeastLoadStrategyPluginFactory.class, 910);
           put(LimitlessConnectionPluginFactory.class, 950);
           put(IamAuthConnectionPluginFactory.class, 1000);
           put(AwsSecretsManagerConnectionPluginFactory.class, 1100);
@@ -118,6 +123,15 @@ public class ConnectionPluginChainBuilder {
 
   protected static final String DEFAULT_PLUGINS = "auroraConnectionTracker,failover2,efm2";
 
+  private static final int MAX_CACHED_PLUGIN_CHAINS = 100;
+
+  /*
+   Plugin factories in their final order, keyed by the requested plugin factories and the plugin
+   auto-sort setting. Plugin factories don't hold state, so the instances are shared by connections.
+  */
+  private static final Map<Pair<List<Class<? extends ConnectionPluginFactory>>, Boolean>, ConnectionPluginFactory[]>
+      pluginFactoriesCache = new ConcurrentHashMap<>();
+
   /*
    Internal class used for plugin factory sorting. It holds a reference to a plugin
    factory and an assigned weight.
@@ -164,35 +178,25 @@ public class ConnectionPluginChainBuilder {
 
     if (!pluginFactories.isEmpty()) {
 
-      if (PropertyDefinition.AUTO_SORT_PLUGIN_ORDER.getBoolean(props)) {
-        pluginFactories = this.sortPluginFactories(pluginFactories);
+      final boolean autoSort = PropertyDefinition.AUTO_SORT_PLUGIN_ORDER.getBoolean(props);
+      final Pair<List<Class<? extends ConnectionPluginFactory>>, Boolean> cacheKey =
+          Pair.create(pluginFactories, autoSort);
+      ConnectionPluginFactory[] factories = pluginFactoriesCache.get(cacheKey);
 
-        final List<Class<? extends ConnectionPluginFactory>> tempPluginFactories = pluginFactories;
-        LOGGER.finest(() ->
-            "Plugins order has been rearranged. The following order is in effect: "
-                + tempPluginFactories.stream()
-                  .map(Class::getSimpleName)
-                  .collect(Collectors.joining(", ")));
+      if (factories == null) {
+        factories = this.loadPluginFactories(pluginFactories, autoSort);
+        if (pluginFactoriesCache.size() >= MAX_CACHED_PLUGIN_CHAINS) {
+          pluginFactoriesCache.clear();
+        }
+        pluginFactoriesCache.put(Pair.create(new ArrayList<>(pluginFactories), autoSort), factories);
       }
 
-      try {
-        final ConnectionPluginFactory[] factories =
-            WrapperUtils.loadClasses(
-                    pluginFactories,
-                    ConnectionPluginFactory.class,
-                    "ConnectionPluginManager.unableToLoadPlugin")
-                .toArray(new ConnectionPluginFactory[0]);
+      // make a chain of connection plugins
 
-        // make a chain of connection plugins
+      plugins = new ArrayList<>(factories.length + 1);
 
-        plugins = new ArrayList<>(factories.length + 1);
-
-        for (final ConnectionPluginFactory factory : factories) {
-          plugins.add(factory.getInstance(pluginService, props));
-        }
-
-      } catch (final InstantiationException instEx) {
-        throw new SQLException(instEx.getMessage(), SqlState.UNKNOWN_STATE.getState(), instEx);
+      for (final ConnectionPluginFactory factory : factories) {
+        plugins.add(factory.getInstance(pluginService, props));
       }
     } else {
       plugins = new ArrayList<>(1); // one spot for default connection plugin
@@ -210,6 +214,36 @@ public class ConnectionPluginChainBuilder {
     return plugins;
   }
 
+  private ConnectionPluginFactory[] loadPluginFactories(
+      List<Class<? extends ConnectionPluginFactory>> pluginFactories,
+      final boolean autoSort) throws SQLException {
+
+    if (autoSort) {
+      pluginFactories = this.sortPluginFactories(pluginFactories);
+
+      final List<Class<? extends ConnectionPluginFactory>> tempPluginFactories = pluginFactories;
+      LOGGER.finest(() ->
+          "Plugins order has been rearranged. The following order is in effect: "
+              + tempPluginFactories.stream()
+                .map(Class::getSimpleName)
+                .collect(Collectors.joining(", ")));
+    }
+
+    try {
+      return WrapperUtils.loadClasses(
+              pluginFactories,
+              ConnectionPluginFactory.class,
+              "ConnectionPluginManager.unableToLoadPlugin")
+          .toArray(new ConnectionPluginFactory[0]);
+    } catch (final InstantiationException instEx) {
+      throw new SQLException(instEx.getMessage(), SqlState.UNKNOWN_STATE.getState(), instEx);
+    }
+  }
+
+  public static void clearCache() {
+    pluginFactoriesCache.clear();
+  }
+
   public static List<String> getPluginCodes(final Properties props) {
     String pluginCodes = PropertyDefinition.PLUGINS.getString(props);
     if (pluginCodes == null) {
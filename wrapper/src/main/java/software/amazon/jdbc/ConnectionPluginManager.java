@@ -47,6 +47,7 @@ import software.amazon.jdbc.plugin.limitless.LimitlessConnectionPlugin;
 import software.amazon.jdbc.plugin.readwritesplitting.ReadWriteSplittingPlugin;
 import software.amazon.jdbc.plugin.staledns.AuroraStaleDnsPlugin;
 import software.amazon.jdbc.plugin.strategy.fastestresponse.FastestResponseStrategyPlugin;
+import software.amazon.jdbc.plugin.strategy.leastload.LeastLoadStrategyPlugin;
 import software.amazon.jdbc.profile.ConfigurationProfile;
 import software.amazon.jdbc.util.AsynchronousMethodsHelper;
 import software.amazon.jdbc.util.Messages;
@@ -56,6 +57,7 @@ import software.amazon.jdbc.util.WrapperUtils;
 import software.amazon.jdbc.util.telemetry.TelemetryContext;
 import software.amazon.jdbc.util.telemetry.TelemetryFactory;
 import software.amazon.jdbc.util.telemetry.TelemetryTraceLevel;
+import software.amazon.jdbc.wrapper.ConnectionEpochAware;
 import software.amazon.jdbc.wrapper.ConnectionWrapper;
 
 /**
@@ -85,6 +87,7 @@ public class ConnectionPluginManager implements CanReleaseResources, Wrapper {
           put(AuroraStaleDnsPlugin.class, "plugin:auroraStaleDns");
           put(ReadWriteSplittingPlugin.class, "plugin:readWriteSplitting");
           put(FastestResponseStrategyPlugin.class, "plugin:fastestResponseStrategy");
+          put(LeastLoadStrategyPlugin.class, "plugin:leastLoadStrategy");
           put(DefaultConnectionPlugin.class, "plugin:targetDriver");
           put(AuroraInitialConnectionStrategyPlugin.class, "plugin:initialConnection");
           put(CustomEndpointPlugin.class, "plugin:customEndpoint");
@@ -94,13 +97,12 @@ public class ConnectionPluginManager implements CanReleaseResources, Wrapper {
   private static final Logger LOGGER = Logger.getLogger(ConnectionPluginManager.class.getName());
   protected static final String ALL_METHODS = "*";
   protected static final String CONNECT_METHOD = "connect";
-  private static final String FORCE_CONNECT_METHOD = "forceConnect";
   private static final String ACCEPTS_STRATEGY_METHOD = "acceptsStrategy";
   protected static final String GET_HOST_SPEC_BY_STRATEGY_METHOD = "getHostSpecByStrategy";
-  private static final String INIT_HOST_PROVIDER_METHOD = "initHostProvider";
   private static final String NOTIFY_CONNECTION_CHANGED_METHOD = "notifyConnectionChanged";
   private static final String NOTIFY_NODE_LIST_CHANGED_METHOD = "notifyNodeListChanged";
   private static final SqlMethodAnalyzer sqlMethodAnalyzer = new SqlMethodAnalyzer();
+  private static final int JDBC_METHOD_COUNT = JdbcMethod.values().length;
 
   private final ReentrantLock lock = new ReentrantLock();
 
@@ -112,9 +114,18 @@ public class ConnectionPluginManager implements CanReleaseResources, Wrapper {
   protected PluginService pluginService;
   protected TelemetryFactory telemetryFactory;
 
+  // Plugin chains of the methods known to JdbcMethod, indexed by JdbcMethod.ordinal().
+  @SuppressWarnings("rawtypes")
+  protected final PluginChainJdbcCallable[] pluginChainFuncs = new PluginChainJdbcCallable[JDBC_METHOD_COUNT];
+
+  // Plugin chains of the methods that aren't known to JdbcMethod.
   @SuppressWarnings("rawtypes")
   protected final Map<String, PluginChainJdbcCallable> pluginChainFuncMap = new HashMap<>();
 
+  // Indexed by JdbcMethod.ordinal() and accessed without holding the plugin manager lock, see mustUsePipeline().
+  // Concurrent initialization is harmless since every thread computes the same value.
+  protected final Boolean[] directDispatchFlags = new Boolean[JDBC_METHOD_COUNT];
+
   public ConnectionPluginManager(
       final @NonNull ConnectionProvider defaultConnProvider,
       final @Nullable ConnectionProvider effectiveConnProvider,
@@ -206,6 +217,36 @@ public class ConnectionPluginManager implements CanReleaseResources, Wrapper {
         configurationProfile);
   }
 
+  protected <T, E extends Exception> T executeWithSubscribedPlugins(
+      final JdbcMethod jdbcMethod,
+      final PluginPipeline<T, E> pluginPipeline,
+      final JdbcCallable<T, E> jdbcMethodFunc,
+      final @Nullable ConnectionPlugin pluginToSkip)
+      throws E {
+
+    if (pluginPipeline == null) {
+      throw new IllegalArgumentException("pluginPipeline");
+    }
+
+    if (jdbcMethodFunc == null) {
+      throw new IllegalArgumentException("jdbcMethodFunc");
+    }
+
+    // noinspection unchecked
+    PluginChainJdbcCallable<T, E> pluginChainFunc = this.pluginChainFuncs[jdbcMethod.ordinal()];
+
+    if (pluginChainFunc == null) {
+      pluginChainFunc = this.makePluginChainFunc(jdbcMethod.methodName);
+      this.pluginChainFuncs[jdbcMethod.ordinal()] = pluginChainFunc;
+    }
+
+    if (pluginChainFunc == null) {
+      throw new RuntimeException("Error processing this JDBC call.");
+    }
+
+    return pluginChainFunc.call(pluginPipeline, jdbcMethodFunc, pluginToSkip);
+  }
+
   protected <T, E extends Exception> T executeWithSubscribedPlugins(
       final String methodName,
       final PluginPipeline<T, E> pluginPipeline,
@@ -213,6 +254,11 @@ public class ConnectionPluginManager implements CanReleaseResources, Wrapper {
       final @Nullable ConnectionPlugin pluginToSkip)
       throws E {
 
+    final JdbcMethod jdbcMethod = JdbcMethod.fromMethodName(methodName);
+    if (jdbcMethod != null) {
+      return this.executeWithSubscribedPlugins(jdbcMethod, pluginPipeline, jdbcMethodFunc, pluginToSkip);
+    }
+
     if (pluginPipeline == null) {
       throw new IllegalArgumentException("pluginPipeline");
     }
@@ -240,6 +286,9 @@ public class ConnectionPluginManager implements CanReleaseResources, Wrapper {
   protected <T, E extends Exception> T executeWithTelemetry(
       final @NonNull JdbcCallable<T, E> execution,
       final @NonNull String pluginName) throws E {
+    if (!this.telemetryFactory.isCurrentCallTraced()) {
+      return execution.call();
+    }
     final TelemetryContext context = telemetryFactory.openTelemetryContext(
         pluginName, TelemetryTraceLevel.NESTED);
     try {
@@ -254,15 +303,13 @@ public class ConnectionPluginManager implements CanReleaseResources, Wrapper {
       final @NonNull String methodName) {
 
     PluginChainJdbcCallable<T, E> pluginChainFunc = null;
+    final JdbcMethod jdbcMethod = JdbcMethod.fromMethodName(methodName);
 
     for (int i = this.plugins.size() - 1; i >= 0; i--) {
       final ConnectionPlugin plugin = this.plugins.get(i);
-      final Set<String> pluginSubscribedMethods = plugin.getSubscribedMethods();
       final String pluginName = pluginNameByClass.getOrDefault(plugin.getClass(), plugin.getClass().getSimpleName());
-      final boolean isSubscribed = pluginSubscribedMethods.contains(ALL_METHODS)
-          || pluginSubscribedMethods.contains(methodName);
 
-      if (isSubscribed) {
+      if (this.isSubscribed(plugin, methodName, jdbcMethod)) {
         if (pluginChainFunc == null) {
           // This case is for DefaultConnectionPlugin that always terminates the list of plugins.
           // Default plugin can't be skipped.
@@ -287,6 +334,15 @@ public class ConnectionPluginManager implements CanReleaseResources, Wrapper {
     return pluginChainFunc;
   }
 
+  protected boolean isSubscribed(
+      final ConnectionPlugin plugin, final String methodName, final @Nullable JdbcMethod jdbcMethod) {
+    if (jdbcMethod != null) {
+      return plugin.getSubscribedJdbcMethods().contains(jdbcMethod);
+    }
+    final Set<String> pluginSubscribedMethods = plugin.getSubscribedMethods();
+    return pluginSubscribedMethods.contains(ALL_METHODS) || pluginSubscribedMethods.contains(methodName);
+  }
+
   protected <E extends Exception> void notifySubscribedPlugins(
       final String methodName,
       final PluginPipeline<Void, E> pluginPipeline,
@@ -320,35 +376,199 @@ public class ConnectionPluginManager implements CanReleaseResources, Wrapper {
     return this.telemetryFactory;
   }
 
+  public int getConnectionEpoch() {
+    return this.pluginService == null
+        ? ConnectionEpochAware.UNKNOWN_CONNECTION_EPOCH
+        : this.pluginService.getConnectionEpoch();
+  }
+
+  public boolean isCurrentConnection(final Object methodInvokeOn) {
+    return this.pluginService != null
+        && methodInvokeOn != null
+        && methodInvokeOn == this.pluginService.getCurrentConnection();
+  }
+
+  public <T, E extends Exception> T execute(
+      final Class<T> resultType,
+      final Class<E> exceptionClass,
+      final Object methodInvokeOn,
+      final String methodName,
+      final JdbcCallable<T, E> jdbcMethodFunc,
+      final Object[] jdbcMethodArgs)
+      throws E {
+    return this.execute(
+        resultType, exceptionClass, methodInvokeOn, null, methodName, jdbcMethodFunc, jdbcMethodArgs);
+  }
+
+  public <T, E extends Exception> T execute(
+      final Class<T> resultType,
+      final Class<E> exceptionClass,
+      final Object methodInvokeOn,
+      final @Nullable ConnectionEpochAware methodInvokeOnWrapper,
+      final String methodName,
+      final JdbcCallable<T, E> jdbcMethodFunc,
+      final Object[] jdbcMethodArgs)
+      throws E {
+    return this.execute(
+        resultType,
+        exceptionClass,
+        methodInvokeOn,
+        methodInvokeOnWrapper,
+        methodName,
+        JdbcMethod.fromMethodName(methodName),
+        jdbcMethodFunc,
+        jdbcMethodArgs);
+  }
+
   public <T, E extends Exception> T execute(
       final Class<T> resultType,
       final Class<E> exceptionClass,
       final Object methodInvokeOn,
+      final @Nullable ConnectionEpochAware methodInvokeOnWrapper,
+      final JdbcMethod jdbcMethod,
+      final JdbcCallable<T, E> jdbcMethodFunc,
+      final Object[] jdbcMethodArgs)
+      throws E {
+    return this.execute(
+        resultType,
+        exceptionClass,
+        methodInvokeOn,
+        methodInvokeOnWrapper,
+        jdbcMethod.methodName,
+        jdbcMethod,
+        jdbcMethodFunc,
+        jdbcMethodArgs);
+  }
+
+  protected <T, E extends Exception> T execute(
+      final Class<T> resultType,
+      final Class<E> exceptionClass,
+      final Object methodInvokeOn,
+      final @Nullable ConnectionEpochAware methodInvokeOnWrapper,
       final String methodName,
+      final @Nullable JdbcMethod jdbcMethod,
       final JdbcCallable<T, E> jdbcMethodFunc,
       final Object[] jdbcMethodArgs)
       throws E {
 
+    final boolean isAsynchronous = jdbcMethod != null
+        ? jdbcMethod.isAsynchronous
+        : AsynchronousMethodsHelper.ASYNCHRONOUS_METHODS.contains(methodName);
+
     // The target driver may block on Statement.getConnection().
-    if (!AsynchronousMethodsHelper.ASYNCHRONOUS_METHODS.contains(methodName)) {
-      final Connection conn = WrapperUtils.getConnectionFromSqlObject(methodInvokeOn);
-      if (conn != null
-          && conn != this.pluginService.getCurrentConnection()
-          && !sqlMethodAnalyzer.isMethodClosingSqlObject(methodName)) {
-        throw WrapperUtils.wrapExceptionIfNeeded(
-            exceptionClass,
-            new SQLException(
-                Messages.get("ConnectionPluginManager.invokedAgainstOldConnection", new Object[] {methodInvokeOn})));
+    if (!isAsynchronous
+        && this.isInvokedAgainstOldConnection(methodInvokeOn, methodInvokeOnWrapper, methodName)) {
+      throw WrapperUtils.wrapExceptionIfNeeded(
+          exceptionClass,
+          new SQLException(
+              Messages.get("ConnectionPluginManager.invokedAgainstOldConnection", new Object[] {methodInvokeOn})));
+    }
+
+    // DefaultConnectionPlugin gets the wrapper as well, so it can reuse the connection check made above.
+    final PluginPipeline<T, E> pluginPipeline = (plugin, func) -> plugin instanceof DefaultConnectionPlugin
+        ? ((DefaultConnectionPlugin) plugin).execute(
+            resultType, exceptionClass, methodInvokeOn, methodInvokeOnWrapper, methodName, func, jdbcMethodArgs)
+        : plugin.execute(resultType, exceptionClass, methodInvokeOn, methodName, func, jdbcMethodArgs);
+
+    return jdbcMethod != null
+        ? executeWithSubscribedPlugins(jdbcMethod, pluginPipeline, jdbcMethodFunc, null)
+        : executeWithSubscribedPlugins(methodName, pluginPipeline, jdbcMethodFunc, null);
+  }
+
+  /**
+   * Checks whether a JDBC method has to be executed through the plugin pipeline. A method may bypass
+   * the pipeline and be invoked directly against the target driver object when only
+   * {@link DefaultConnectionPlugin} is subscribed to it, its calls are neither traced nor measured,
+   * and the object it is invoked on belongs to the current connection.
+   *
+   * <p>Wrappers should only ask this for methods that neither return JDBC objects requiring a
+   * wrapper nor affect the transaction or session state, since these are handled by the pipeline.
+   * This method doesn't require the plugin manager lock to be held.
+   *
+   * @param methodInvokeOn        the target driver object the method is invoked on
+   * @param methodInvokeOnWrapper the wrapper of the target driver object, if it tracks the
+   *                              connection epoch
+   * @param jdbcMethod            the JDBC method
+   * @return true if the method has to be executed with {@link WrapperUtils#executeWithPlugins}
+   */
+  public boolean mustUsePipeline(
+      final Object methodInvokeOn,
+      final @Nullable ConnectionEpochAware methodInvokeOnWrapper,
+      final JdbcMethod jdbcMethod) {
+    Boolean isDirectDispatch = this.directDispatchFlags[jdbcMethod.ordinal()];
+    if (isDirectDispatch == null) {
+      if (this.plugins == null) {
+        // Plugins aren't initialized yet.
+        return true;
       }
+      isDirectDispatch = this.isDirectDispatchAllowed(jdbcMethod);
+      this.directDispatchFlags[jdbcMethod.ordinal()] = isDirectDispatch;
     }
 
-    return executeWithSubscribedPlugins(
-        methodName,
-        (plugin, func) ->
-            plugin.execute(
-                resultType, exceptionClass, methodInvokeOn, methodName, func, jdbcMethodArgs),
-        jdbcMethodFunc,
-        null);
+    // Calls made against an old connection are rejected by the pipeline.
+    return !isDirectDispatch
+        || this.isInvokedAgainstOldConnection(methodInvokeOn, methodInvokeOnWrapper, jdbcMethod.methodName);
+  }
+
+  public boolean mustUsePipeline(
+      final Object methodInvokeOn,
+      final @Nullable ConnectionEpochAware methodInvokeOnWrapper,
+      final String methodName) {
+    final JdbcMethod jdbcMethod = JdbcMethod.fromMethodName(methodName);
+    return jdbcMethod == null || this.mustUsePipeline(methodInvokeOn, methodInvokeOnWrapper, jdbcMethod);
+  }
+
+  public boolean mustUsePipeline(final Object methodInvokeOn, final JdbcMethod jdbcMethod) {
+    return this.mustUsePipeline(methodInvokeOn, null, jdbcMethod);
+  }
+
+  public boolean mustUsePipeline(final Object methodInvokeOn, final String methodName) {
+    return this.mustUsePipeline(methodInvokeOn, null, methodName);
+  }
+
+  protected boolean isDirectDispatchAllowed(final @NonNull JdbcMethod jdbcMethod) {
+    if (this.telemetryFactory.isCallObserved(jdbcMethod.methodName)) {
+      return false;
+    }
+
+    for (final ConnectionPlugin plugin : this.plugins) {
+      if (plugin instanceof DefaultConnectionPlugin) {
+        continue;
+      }
+      if (this.isSubscribed(plugin, jdbcMethod.methodName, jdbcMethod)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  protected boolean isInvokedAgainstOldConnection(
+      final Object methodInvokeOn,
+      final @Nullable ConnectionEpochAware methodInvokeOnWrapper,
+      final String methodName) {
+
+    // The epoch has to be read before the current connection, see PluginServiceImpl#setCurrentConnection.
+    final int connectionEpoch = this.getConnectionEpoch();
+    if (methodInvokeOnWrapper != null
+        && connectionEpoch != ConnectionEpochAware.UNKNOWN_CONNECTION_EPOCH
+        && methodInvokeOnWrapper.getConnectionEpoch() == connectionEpoch) {
+      // The current connection hasn't changed since the object was last known to belong to it.
+      return false;
+    }
+
+    final Connection conn = WrapperUtils.getConnectionFromSqlObject(methodInvokeOn);
+    if (conn == null) {
+      return false;
+    }
+
+    if (conn == this.pluginService.getCurrentConnection()) {
+      if (methodInvokeOnWrapper != null) {
+        methodInvokeOnWrapper.setConnectionEpoch(connectionEpoch);
+      }
+      return false;
+    }
+
+    return !sqlMethodAnalyzer.isMethodClosingSqlObject(methodName);
   }
 
   /**
@@ -385,7 +605,7 @@ public class ConnectionPluginManager implements CanReleaseResources, Wrapper {
     TelemetryContext context = telemetryFactory.openTelemetryContext("connect", TelemetryTraceLevel.NESTED);
     try {
       return executeWithSubscribedPlugins(
-          CONNECT_METHOD,
+          JdbcMethod.CONNECT,
           (plugin, func) ->
               plugin.connect(driverProtocol, hostSpec, props, isInitialConnection, func),
           () -> {
@@ -431,7 +651,7 @@ public class ConnectionPluginManager implements CanReleaseResources, Wrapper {
 
     try {
       return executeWithSubscribedPlugins(
-          FORCE_CONNECT_METHOD,
+          JdbcMethod.FORCE_CONNECT,
           (plugin, func) ->
               plugin.forceConnect(driverProtocol, hostSpec, props, isInitialConnection, func),
           () -> {
@@ -542,7 +762,7 @@ public class ConnectionPluginManager implements CanReleaseResources, Wrapper {
         "initHostProvider", TelemetryTraceLevel.NESTED);
     try {
       executeWithSubscribedPlugins(
-          INIT_HOST_PROVIDER_METHOD,
+          JdbcMethod.INIT_HOST_PROVIDER,
           (PluginPipeline<Void, SQLException>)
               (plugin, func) -> {
                 plugin.initHostProvider(
@@ -45,6 +45,7 @@ import software.amazon.jdbc.plugin.DataCacheConnectionPlugin;
 import software.amazon.jdbc.plugin.OpenedConnectionTracker;
 import software.amazon.jdbc.plugin.customendpoint.CustomEndpointMonitorImpl;
 import software.amazon.jdbc.plugin.customendpoint.CustomEndpointPlugin;
+import software.amazon.jdbc.plugin.failover.ClusterFailoverCoordinator;
 import software.amazon.jdbc.plugin.efm.MonitorThreadContainer;
 import software.amazon.jdbc.plugin.federatedauth.FederatedAuthCacheHolder;
 import software.amazon.jdbc.plugin.federatedauth.OktaAuthCacheHolder;
@@ -175,15 +176,17 @@ public class Driver implements java.sql.Driver {
       }
     }
 
-    TelemetryFactory telemetryFactory = new DefaultTelemetryFactory(props);
+    final String driverUrl = url.replaceFirst(PROTOCOL_PREFIX, "jdbc:");
+    final ConnectionBlueprint.Key blueprintKey = ConnectionBlueprint.getKey(driverUrl, props, configurationProfile);
+    ConnectionBlueprint blueprint = ConnectionBlueprint.get(blueprintKey);
+
+    TelemetryFactory telemetryFactory = blueprint == null
+        ? new DefaultTelemetryFactory(props)
+        : blueprint.getTelemetryFactory();
     TelemetryContext context = telemetryFactory.openTelemetryContext(
         "software.amazon.jdbc.Driver.connect", TelemetryTraceLevel.TOP_LEVEL);
 
     try {
-      final String driverUrl = url.replaceFirst(PROTOCOL_PREFIX, "jdbc:");
-
-      TargetDriverHelper helper = new TargetDriverHelper();
-      java.sql.Driver driver = helper.getTargetDriver(driverUrl, props);
 
       final String logLevelStr = PropertyDefinition.LOGGER_LEVEL.getString(props);
       if (!StringUtils.isNullOrEmpty(logLevelStr)) {
@@ -200,16 +203,24 @@ public class Driver implements java.sql.Driver {
         PARENT_LOGGER.setLevel(logLevel);
       }
 
-      TargetDriverDialect targetDriverDialect = configurationProfile == null
-          ? null
-          : configurationProfile.getTargetDriverDialect();
+      if (blueprint == null) {
+        TargetDriverHelper helper = new TargetDriverHelper();
+        java.sql.Driver driver = helper.getTargetDriver(driverUrl, props);
+
+        TargetDriverDialect targetDriverDialect = configurationProfile == null
+            ? null
+            : configurationProfile.getTargetDriverDialect();
+
+        if (targetDriverDialect == null) {
+          final TargetDriverDialectManager targetDriverDialectManager = new TargetDriverDialectManager();
+          targetDriverDialect = targetDriverDialectManager.getDialect(driver, props);
+        }
 
-      if (targetDriverDialect == null) {
-        final TargetDriverDialectManager targetDriverDialectManager = new TargetDriverDialectManager();
-        targetDriverDialect = targetDriverDialectManager.getDialect(driver, props);
+        blueprint = new ConnectionBlueprint(driver, targetDriverDialect, telemetryFactory);
+        ConnectionBlueprint.put(blueprintKey, blueprint);
       }
 
-      final ConnectionProvider defaultConnectionProvider = new DriverConnectionProvider(driver);
+      final ConnectionProvider defaultConnectionProvider = new DriverConnectionProvider(blueprint.getTargetDriver());
 
       ConnectionProvider effectiveConnectionProvider = null;
       if (configurationProfile != null) {
@@ -221,7 +232,7 @@ public class Driver implements java.sql.Driver {
           driverUrl,
           defaultConnectionProvider,
           effectiveConnectionProvider,
-          targetDriverDialect,
+          blueprint.getTargetDriverDialect(),
           configurationProfile,
           telemetryFactory);
 
@@ -403,6 +414,9 @@ public class Driver implements java.sql.Driver {
     LimitlessRouterServiceImpl.clearCache();
     RoundRobinHostSelector.clearCache();
     FastestResponseStrategyPlugin.clearCache();
+    ConnectionBlueprint.clearCache();
+    ConnectionPluginChainBuilder.clearCache();
+    ClusterFailoverCoordinator.clearCache();
   }
 
   public static void releaseResources() {
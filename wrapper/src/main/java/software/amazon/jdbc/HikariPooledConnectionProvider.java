@@ -55,6 +55,7 @@ public class HikariPooledConnectionProvider implements PooledConnectionProvider,
       Collections.unmodifiableMap(new HashMap<String, HostSelector>() {
         {
           put(HighestWeightHostSelector.STRATEGY_HIGHEST_WEIGHT, new HighestWeightHostSelector());
+          put(LeastReplicaLagHostSelector.STRATEGY_LEAST_REPLICA_LAG, new LeastReplicaLagHostSelector());
           put(RandomHostSelector.STRATEGY_RANDOM, new RandomHostSelector());
           put(RoundRobinHostSelector.STRATEGY_ROUND_ROBIN, new RoundRobinHostSelector());
         }
@@ -423,11 +424,32 @@ public class HikariPooledConnectionProvider implements PooledConnectionProvider,
 
     HikariConfig config = poolConfigurator.configurePool(hostSpec, props);
     configurePool(config, protocol, hostSpec, props, targetDriverDialect);
+    trackActiveConnections(config, hostSpec);
     return new HikariDataSource(config);
   }
 
+  /**
+   * Lets the pool report borrowed and returned connections to the active connection counter of the
+   * host, which is read by the {@link LeastConnectionsHostSelector}. Hikari doesn't allow a
+   * {@link com.zaxxer.hikari.metrics.MetricsTrackerFactory} together with a metric registry, so
+   * pools with a metric registry are left untracked.
+   *
+   * @param config   the {@link HikariConfig} of the new pool
+   * @param hostSpec the host the pool connects to
+   */
+  void trackActiveConnections(final HikariConfig config, final HostSpec hostSpec) {
+    if (config.getMetricRegistry() != null) {
+      HikariPoolsHolder.hasUntrackedPools = true;
+      return;
+    }
+    config.setMetricsTrackerFactory(new ActiveConnectionsTrackerFactory(
+        HikariPoolsHolder.getActiveConnectionsCounter(hostSpec.getUrl()),
+        config.getMetricsTrackerFactory()));
+  }
+
   // For testing purposes only
   void setDatabasePools(SlidingExpirationCache<Pair, AutoCloseable> connectionPools) {
     HikariPoolsHolder.databasePools = connectionPools;
+    HikariPoolsHolder.hasUntrackedPools = true;
   }
 }
@@ -16,6 +16,9 @@
 
 package software.amazon.jdbc;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import software.amazon.jdbc.util.Pair;
 import software.amazon.jdbc.util.SlidingExpirationCache;
 
@@ -32,6 +35,17 @@ public class HikariPoolsHolder {
           }
       );
 
+  // Number of connections currently borrowed from the pools of each host, keyed by host URL.
+  static final Map<String, LongAdder> activeConnections = new ConcurrentHashMap<>();
+
+  // Set when a pool can't report its borrowed connections to activeConnections, for example because
+  // a Hikari MetricRegistry is configured. The active connections are then read from every pool.
+  static volatile boolean hasUntrackedPools = false;
+
+  static LongAdder getActiveConnectionsCounter(final String hostUrl) {
+    return activeConnections.computeIfAbsent(hostUrl, (key) -> new LongAdder());
+  }
+
   public static void closeAllPools() {
     databasePools.getEntries().forEach((poolKey, pool) -> {
       try {
@@ -41,6 +55,7 @@ public class HikariPoolsHolder {
       }
     });
     databasePools.clear();
-
+    activeConnections.clear();
+    hasUntrackedPools = false;
   }
 }
@@ -0,0 +1,262 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import software.amazon.jdbc.util.StringUtils;
+import software.amazon.jdbc.util.Utils;
+
+/**
+ * An immutable view of the hosts known to a {@link PluginService} at a given time. The allowed hosts
+ * and the indexes by role, URL and host ID are built once when the snapshot is created, so reading
+ * them doesn't allocate. Every change to the host list or to the allowed and blocked hosts creates a
+ * new snapshot with a greater version.
+ */
+public final class HostSnapshot {
+
+  public static final HostSnapshot EMPTY = new HostSnapshot(0, Collections.emptyList(), null);
+
+  private final long version;
+  private final List<HostSpec> allHosts;
+  private final @Nullable AllowedAndBlockedHosts allowedAndBlockedHosts;
+  private final List<HostSpec> hosts;
+  private final Map<String, HostSpec> allHostsByUrl;
+  private final Map<String, HostSpec> hostsById;
+  private final Map<HostRole, List<HostSpec>> hostsByRole;
+  private final @Nullable HostSpec writer;
+
+  private HostSnapshot(
+      final long version,
+      final @NonNull List<HostSpec> allHosts,
+      final @Nullable AllowedAndBlockedHosts allowedAndBlockedHosts) {
+    this(
+        version,
+        allHosts,
+        indexByUrl(allHosts),
+        allowedAndBlockedHosts,
+        filterHosts(allHosts, allowedAndBlockedHosts));
+  }
+
+  private HostSnapshot(
+      final long version,
+      final @NonNull List<HostSpec> allHosts,
+      final @NonNull Map<String, HostSpec> allHostsByUrl,
+      final @Nullable AllowedAndBlockedHosts allowedAndBlockedHosts,
+      final @NonNull List<HostSpec> hosts) {
+    this.version = version;
+    this.allHosts = allHosts;
+    this.allHostsByUrl = allHostsByUrl;
+    this.allowedAndBlockedHosts = allowedAndBlockedHosts;
+    this.hosts = hosts;
+
+    final Map<String, HostSpec> hostsById = new HashMap<>();
+    final Map<HostRole, List<HostSpec>> hostsByRole = new EnumMap<>(HostRole.class);
+    for (final HostSpec host : this.hosts) {
+      if (!StringUtils.isNullOrEmpty(host.getHostId())) {
+        hostsById.putIfAbsent(host.getHostId(), host);
+      }
+      hostsByRole.computeIfAbsent(host.getRole(), (role) -> new ArrayList<>()).add(host);
+    }
+    for (final HostRole role : HostRole.values()) {
+      final List<HostSpec> roleHosts = hostsByRole.get(role);
+      hostsByRole.put(role, roleHosts == null ? Collections.emptyList() : Collections.unmodifiableList(roleHosts));
+    }
+    this.hostsById = Collections.unmodifiableMap(hostsById);
+    this.hostsByRole = hostsByRole;
+
+    HostSpec writer = null;
+    for (final HostSpec host : allHosts) {
+      if (host.getRole() == HostRole.WRITER) {
+        writer = host;
+        break;
+      }
+    }
+    this.writer = writer;
+  }
+
+  /**
+   * Returns a snapshot of the given hosts and of the given allowed hosts. The snapshot isn't related to
+   * the snapshots of a {@link PluginService}, so its version is 0.
+   *
+   * @param allHosts the hosts of the cluster
+   * @param hosts    the hosts of the cluster that are allowed
+   * @return a new snapshot
+   */
+  public static HostSnapshot of(final @Nullable List<HostSpec> allHosts, final @Nullable List<HostSpec> hosts) {
+    final List<HostSpec> allHostsCopy = copyHosts(allHosts);
+    return new HostSnapshot(0, allHostsCopy, indexByUrl(allHostsCopy), null, copyHosts(hosts));
+  }
+
+  /**
+   * Returns a snapshot of the given hosts, keeping the allowed and blocked hosts of this snapshot. The
+   * hosts are copied, so later changes to the given list don't change the snapshot.
+   *
+   * @param allHosts the hosts of the cluster
+   * @return a new snapshot with a greater version
+   */
+  public HostSnapshot withAllHosts(final @Nullable List<HostSpec> allHosts) {
+    return new HostSnapshot(this.version + 1, copyHosts(allHosts), this.allowedAndBlockedHosts);
+  }
+
+  /**
+   * Returns a snapshot of the hosts of this snapshot with the given allowed and blocked hosts.
+   *
+   * @param allowedAndBlockedHosts the allowed and blocked hosts, or null if all hosts are allowed
+   * @return a new snapshot with a greater version
+   */
+  public HostSnapshot withAllowedAndBlockedHosts(final @Nullable AllowedAndBlockedHosts allowedAndBlockedHosts) {
+    return new HostSnapshot(
+        this.version + 1,
+        this.allHosts,
+        this.allHostsByUrl,
+        allowedAndBlockedHosts,
+        filterHosts(this.allHosts, allowedAndBlockedHosts));
+  }
+
+  public long getVersion() {
+    return this.version;
+  }
+
+  /**
+   * Returns all hosts of the cluster, including the hosts that are not allowed.
+   *
+   * @return an unmodifiable list of all hosts
+   */
+  public List<HostSpec> getAllHosts() {
+    return this.allHosts;
+  }
+
+  /**
+   * Returns the hosts of the cluster that are allowed by the allowed and blocked hosts.
+   *
+   * @return an unmodifiable list of the allowed hosts
+   */
+  public List<HostSpec> getHosts() {
+    return this.hosts;
+  }
+
+  public @Nullable AllowedAndBlockedHosts getAllowedAndBlockedHosts() {
+    return this.allowedAndBlockedHosts;
+  }
+
+  /**
+   * Returns the allowed hosts with the given role.
+   *
+   * @param role the host role
+   * @return an unmodifiable list of the allowed hosts with the given role
+   */
+  public List<HostSpec> getHostsByRole(final @NonNull HostRole role) {
+    return this.hostsByRole.get(role);
+  }
+
+  public @Nullable HostSpec getHostById(final String hostId) {
+    return this.hostsById.get(hostId);
+  }
+
+  /**
+   * Returns the host with the given URL, including hosts that are not allowed.
+   *
+   * @param url the host URL, see {@link HostSpec#getUrl()}
+   * @return the host with the given URL, or null if there is no such host
+   */
+  public @Nullable HostSpec getHostByUrl(final String url) {
+    return this.allHostsByUrl.get(url);
+  }
+
+  /**
+   * Returns the first writer of all hosts, including hosts that are not allowed.
+   *
+   * @return the writer host, or null if there is no writer
+   */
+  public @Nullable HostSpec getWriter() {
+    return this.writer;
+  }
+
+  /**
+   * Returns whether the given hosts are the hosts of this snapshot, including their weight and replica lag.
+   *
+   * @param hosts the hosts to compare with
+   * @return true if the given hosts are equal to the hosts of this snapshot
+   */
+  public boolean hasSameHosts(final @Nullable List<HostSpec> hosts) {
+    if (hosts == null || !hosts.equals(this.allHosts)) {
+      return false;
+    }
+    // HostSpec#equals doesn't compare the replica lag.
+    for (int i = 0; i < hosts.size(); i++) {
+      if (hosts.get(i).getReplicaLagMs() != this.allHosts.get(i).getReplicaLagMs()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  Map<String, HostSpec> getAllHostsByUrl() {
+    return this.allHostsByUrl;
+  }
+
+  private static List<HostSpec> copyHosts(final @Nullable List<HostSpec> hosts) {
+    return Utils.isNullOrEmpty(hosts)
+        ? Collections.emptyList()
+        : Collections.unmodifiableList(new ArrayList<>(hosts));
+  }
+
+  private static Map<String, HostSpec> indexByUrl(final List<HostSpec> hosts) {
+    if (hosts.isEmpty()) {
+      return Collections.emptyMap();
+    }
+    final Map<String, HostSpec> hostsByUrl = new HashMap<>();
+    for (final HostSpec host : hosts) {
+      hostsByUrl.putIfAbsent(host.getUrl(), host);
+    }
+    return Collections.unmodifiableMap(hostsByUrl);
+  }
+
+  private static List<HostSpec> filterHosts(
+      final List<HostSpec> allHosts,
+      final @Nullable AllowedAndBlockedHosts allowedAndBlockedHosts) {
+    if (allowedAndBlockedHosts == null) {
+      return allHosts;
+    }
+
+    final Set<String> allowedHostIds = allowedAndBlockedHosts.getAllowedHostIds();
+    final Set<String> blockedHostIds = allowedAndBlockedHosts.getBlockedHostIds();
+    if (Utils.isNullOrEmpty(allowedHostIds) && Utils.isNullOrEmpty(blockedHostIds)) {
+      return allHosts;
+    }
+
+    final List<HostSpec> hosts = new ArrayList<>(allHosts.size());
+    for (final HostSpec host : allHosts) {
+      if (!Utils.isNullOrEmpty(allowedHostIds) && !allowedHostIds.contains(host.getHostId())) {
+        continue;
+      }
+      if (!Utils.isNullOrEmpty(blockedHostIds) && blockedHostIds.contains(host.getHostId())) {
+        continue;
+      }
+      hosts.add(host);
+    }
+    return Collections.unmodifiableList(hosts);
+  }
+}
@@ -35,6 +35,7 @@ public class HostSpec {
 
   public static final int NO_PORT = -1;
   public static final long DEFAULT_WEIGHT = 100;
+  public static final long UNKNOWN_REPLICA_LAG = -1;
 
   protected final String host;
   protected final int port;
@@ -45,6 +46,7 @@ public class HostSpec {
   protected long weight; // Greater or equal 0. Lesser the weight, the healthier node.
   protected String hostId;
   protected Timestamp lastUpdateTime;
+  protected long replicaLagMs; // Replication lag of a reader in milliseconds as reported by the cluster topology.
   protected HostAvailabilityStrategy hostAvailabilityStrategy;
 
   private HostSpec(
@@ -56,7 +58,7 @@ public class HostSpec {
       final HostAvailabilityStrategy hostAvailabilityStrategy) {
 
     this(host, port, hostId, role, availability, DEFAULT_WEIGHT,
-        Timestamp.from(Instant.now()), hostAvailabilityStrategy);
+        Timestamp.from(Instant.now()), UNKNOWN_REPLICA_LAG, hostAvailabilityStrategy);
   }
 
   HostSpec(
@@ -67,6 +69,7 @@ public class HostSpec {
       final HostAvailability availability,
       final long weight,
       final Timestamp lastUpdateTime,
+      final long replicaLagMs,
       final HostAvailabilityStrategy hostAvailabilityStrategy) {
 
     this.host = host;
@@ -77,6 +80,7 @@ public class HostSpec {
     this.allAliases.add(this.asAlias());
     this.weight = weight;
     this.lastUpdateTime = lastUpdateTime;
+    this.replicaLagMs = replicaLagMs;
     this.hostAvailabilityStrategy = hostAvailabilityStrategy;
   }
 
@@ -137,6 +141,17 @@ public class HostSpec {
     return this.lastUpdateTime;
   }
 
+  /**
+   * Returns the replication lag of this host in milliseconds, as reported by the cluster topology when this host
+   * was last refreshed.
+   *
+   * @return the replication lag in milliseconds, or {@link #UNKNOWN_REPLICA_LAG} if the cluster topology
+   *     doesn't report it
+   */
+  public long getReplicaLagMs() {
+    return this.replicaLagMs;
+  }
+
   public Set<String> getAliases() {
     return Collections.unmodifiableSet(this.aliases);
   }
@@ -30,6 +30,7 @@ public class HostSpecBuilder {
   private HostRole role = HostRole.WRITER;
   private long weight = HostSpec.DEFAULT_WEIGHT; // Greater than or equal to 0. Healthier nodes have lower weights.
   private Timestamp lastUpdateTime;
+  private long replicaLagMs = HostSpec.UNKNOWN_REPLICA_LAG;
   private HostAvailabilityStrategy hostAvailabilityStrategy;
 
   public HostSpecBuilder(final @NonNull HostAvailabilityStrategy hostAvailabilityStrategy) {
@@ -44,6 +45,7 @@ public class HostSpecBuilder {
     this.role = hostSpecBuilder.role;
     this.weight = hostSpecBuilder.weight;
     this.lastUpdateTime = hostSpecBuilder.lastUpdateTime;
+    this.replicaLagMs = hostSpecBuilder.replicaLagMs;
     this.hostAvailabilityStrategy = hostSpecBuilder.hostAvailabilityStrategy;
   }
 
@@ -55,6 +57,7 @@ public class HostSpecBuilder {
     this.availability = hostSpec.availability;
     this.lastUpdateTime = hostSpec.lastUpdateTime;
     this.weight = hostSpec.weight;
+    this.replicaLagMs = hostSpec.replicaLagMs;
     return this;
   }
 
@@ -98,10 +101,15 @@ public class HostSpecBuilder {
     return this;
   }
 
+  public HostSpecBuilder replicaLagMs(long replicaLagMs) {
+    this.replicaLagMs = replicaLagMs;
+    return this;
+  }
+
   public HostSpec build() {
     checkHostIsSet();
     return new HostSpec(this.host, this.port, this.hostId, this.role, this.availability,
-        this.weight, this.lastUpdateTime, this.hostAvailabilityStrategy);
+        this.weight, this.lastUpdateTime, this.replicaLagMs, this.hostAvailabilityStrategy);
   }
 
   private void checkHostIsSet() {
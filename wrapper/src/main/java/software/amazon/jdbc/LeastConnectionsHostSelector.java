@@ -21,7 +21,7 @@ import java.sql.SQLException;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.LongAdder;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import software.amazon.jdbc.hostavailability.HostAvailability;
@@ -43,27 +43,36 @@ public class LeastConnectionsHostSelector implements HostSelector {
       @NonNull final List<HostSpec> hosts,
       @NonNull final HostRole role,
       @Nullable final Properties props) throws SQLException {
-    final List<HostSpec> eligibleHosts = hosts.stream()
-        .filter(hostSpec ->
-            role.equals(hostSpec.getRole()) && hostSpec.getAvailability().equals(HostAvailability.AVAILABLE))
-        .sorted((hostSpec1, hostSpec2) ->
-            getNumConnections(hostSpec1, this.databasePools) - getNumConnections(hostSpec2, this.databasePools))
-        .collect(Collectors.toList());
+    HostSpec selectedHost = null;
+    long selectedHostConnections = Long.MAX_VALUE;
+    for (final HostSpec hostSpec : hosts) {
+      if (!role.equals(hostSpec.getRole()) || !hostSpec.getAvailability().equals(HostAvailability.AVAILABLE)) {
+        continue;
+      }
+      final long numConnections = getNumConnections(hostSpec);
+      if (numConnections < selectedHostConnections) {
+        selectedHost = hostSpec;
+        selectedHostConnections = numConnections;
+      }
+    }
 
-    if (eligibleHosts.size() == 0) {
+    if (selectedHost == null) {
       throw new SQLException(Messages.get("HostSelector.noHostsMatchingRole", new Object[]{role}));
     }
 
-    return eligibleHosts.get(0);
+    return selectedHost;
   }
 
-  private int getNumConnections(
-      final HostSpec hostSpec,
-      final SlidingExpirationCache<Pair, AutoCloseable> databasePools) {
+  private long getNumConnections(final HostSpec hostSpec) {
+    if (!HikariPoolsHolder.hasUntrackedPools) {
+      final LongAdder activeConnections = HikariPoolsHolder.activeConnections.get(hostSpec.getUrl());
+      return activeConnections == null ? 0 : activeConnections.sum();
+    }
+
     int numConnections = 0;
     final String url = hostSpec.getUrl();
     for (final Map.Entry<Pair, AutoCloseable> entry :
-        databasePools.getEntries().entrySet()) {
+        this.databasePools.getEntries().entrySet()) {
       if (!url.equals(entry.getKey().getValue1())) {
         continue;
       }
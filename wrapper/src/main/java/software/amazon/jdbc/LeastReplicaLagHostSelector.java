@@ -0,0 +1,117 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc;
+
+import java.sql.SQLException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import software.amazon.jdbc.hostavailability.HostAvailability;
+import software.amazon.jdbc.util.Messages;
+
+/**
+ * Selects a reader whose replication lag, as reported by the cluster topology, doesn't exceed
+ * {@link #MAX_REPLICA_LAG_MS}. The reader is picked randomly among the readers that are within
+ * {@link #REPLICA_LAG_TOLERANCE_MS} of the least lagging reader, so that the load is spread over the
+ * readers that are nearly equally up to date. Readers with an unknown replication lag are not selected.
+ * If no reader qualifies, the writer is returned instead.
+ */
+public class LeastReplicaLagHostSelector implements HostSelector {
+
+  public static final AwsWrapperProperty MAX_REPLICA_LAG_MS = new AwsWrapperProperty(
+      "maxReplicaLagMs", "1000",
+      "The maximum replication lag in milliseconds of a reader selected by the `leastReplicaLag` strategy.");
+  public static final AwsWrapperProperty REPLICA_LAG_TOLERANCE_MS = new AwsWrapperProperty(
+      "replicaLagToleranceMs", "20",
+      "Readers whose replication lag exceeds the lag of the least lagging reader by no more than this value "
+          + "are selected with equal probability by the `leastReplicaLag` strategy.");
+  public static final String STRATEGY_LEAST_REPLICA_LAG = "leastReplicaLag";
+
+  static {
+    PropertyDefinition.registerPluginProperties(LeastReplicaLagHostSelector.class);
+  }
+
+  @Override
+  public HostSpec getHost(
+      @NonNull final List<HostSpec> hosts,
+      @NonNull final HostRole role,
+      @Nullable final Properties props) throws SQLException {
+
+    if (role == HostRole.READER) {
+      final HostSpec reader = this.getLeastLaggingReader(hosts, props);
+      if (reader != null) {
+        return reader;
+      }
+    }
+
+    final HostSpec writer = hosts.stream()
+        .filter(hostSpec ->
+            HostRole.WRITER.equals(hostSpec.getRole()) && hostSpec.getAvailability().equals(HostAvailability.AVAILABLE))
+        .findFirst()
+        .orElse(null);
+    if (writer == null) {
+      throw new SQLException(Messages.get("HostSelector.noHostsMatchingRole", new Object[]{role}));
+    }
+    return writer;
+  }
+
+  private @Nullable HostSpec getLeastLaggingReader(
+      @NonNull final List<HostSpec> hosts, @Nullable final Properties props) throws SQLException {
+
+    final long maxReplicaLagMs = this.getLongProperty(MAX_REPLICA_LAG_MS, props);
+    final List<HostSpec> eligibleHosts = hosts.stream()
+        .filter(hostSpec ->
+            HostRole.READER.equals(hostSpec.getRole())
+                && hostSpec.getAvailability().equals(HostAvailability.AVAILABLE)
+                && hostSpec.getReplicaLagMs() != HostSpec.UNKNOWN_REPLICA_LAG
+                && hostSpec.getReplicaLagMs() <= maxReplicaLagMs)
+        .collect(Collectors.toList());
+    if (eligibleHosts.isEmpty()) {
+      return null;
+    }
+
+    final long leastReplicaLagMs = eligibleHosts.stream()
+        .min(Comparator.comparingLong(HostSpec::getReplicaLagMs))
+        .get()
+        .getReplicaLagMs();
+    final long toleranceMs = this.getLongProperty(REPLICA_LAG_TOLERANCE_MS, props);
+    final List<HostSpec> leastLaggingHosts = eligibleHosts.stream()
+        .filter(hostSpec -> hostSpec.getReplicaLagMs() - leastReplicaLagMs <= toleranceMs)
+        .collect(Collectors.toList());
+
+    return leastLaggingHosts.get(ThreadLocalRandom.current().nextInt(leastLaggingHosts.size()));
+  }
+
+  private long getLongProperty(final AwsWrapperProperty property, @Nullable final Properties props)
+      throws SQLException {
+    final String value = props == null ? property.defaultValue : property.getString(props);
+    try {
+      final long parsedValue = Long.parseLong(value);
+      if (parsedValue >= 0) {
+        return parsedValue;
+      }
+    } catch (NumberFormatException e) {
+      // fall through
+    }
+    throw new SQLException(Messages.get("HostSelector.leastReplicaLagInvalidValue",
+        new Object[]{property.name, value}));
+  }
+}
@@ -30,6 +30,7 @@ import software.amazon.jdbc.hostavailability.HostAvailability;
 import software.amazon.jdbc.states.SessionStateService;
 import software.amazon.jdbc.targetdriverdialect.TargetDriverDialect;
 import software.amazon.jdbc.util.telemetry.TelemetryFactory;
+import software.amazon.jdbc.wrapper.ConnectionEpochAware;
 
 /**
  * Interface for retrieving the current active {@link Connection} and its {@link HostSpec}.
@@ -40,6 +41,18 @@ public interface PluginService extends ExceptionHandler {
 
   HostSpec getCurrentHostSpec();
 
+  /**
+   * Returns the connection epoch, a counter that is incremented every time the current connection is
+   * changed. JDBC objects stamped with the current epoch are known to belong to the current
+   * connection.
+   *
+   * @return the current connection epoch, or {@link ConnectionEpochAware#UNKNOWN_CONNECTION_EPOCH} if the
+   *     connection epoch isn't tracked
+   */
+  default int getConnectionEpoch() {
+    return ConnectionEpochAware.UNKNOWN_CONNECTION_EPOCH;
+  }
+
   void setCurrentConnection(final @NonNull Connection connection, final @NonNull HostSpec hostSpec)
       throws SQLException;
 
@@ -78,6 +91,17 @@ public interface PluginService extends ExceptionHandler {
    */
   List<HostSpec> getHosts();
 
+  /**
+   * Get the current snapshot of the hosts in the cluster. The snapshot holds both all hosts and the allowed hosts, and
+   * indexes them by role, URL and host ID. A new snapshot is created every time the hosts change, so a plugin that
+   * reads the hosts several times can read them from the same snapshot to see a consistent view.
+   *
+   * @return the current snapshot of the hosts in the cluster.
+   */
+  default HostSnapshot getHostSnapshot() {
+    return HostSnapshot.of(this.getAllHosts(), this.getHosts());
+  }
+
   HostSpec getInitialConnectionHostSpec();
 
   /**
@@ -20,13 +20,12 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
@@ -68,9 +67,9 @@ public class PluginServiceImpl implements PluginService, CanReleaseResources,
   private final String originalUrl;
   private final String driverProtocol;
   protected volatile HostListProvider hostListProvider;
-  protected List<HostSpec> allHosts = new ArrayList<>();
-  protected AtomicReference<AllowedAndBlockedHosts> allowedAndBlockedHosts = new AtomicReference<>();
+  protected final AtomicReference<HostSnapshot> hostSnapshot = new AtomicReference<>(HostSnapshot.EMPTY);
   protected Connection currentConnection;
+  protected volatile int connectionEpoch;
   protected HostSpec currentHostSpec;
   protected HostSpec initialConnectionHostSpec;
   private boolean isInTransaction;
@@ -163,18 +162,24 @@ public class PluginServiceImpl implements PluginService, CanReleaseResources,
     return this.currentConnection;
   }
 
+  @Override
+  public int getConnectionEpoch() {
+    return this.connectionEpoch;
+  }
+
   @Override
   public HostSpec getCurrentHostSpec() {
     if (this.currentHostSpec == null) {
       this.currentHostSpec = this.initialConnectionHostSpec;
 
       if (this.currentHostSpec == null) {
-        if (this.getAllHosts().isEmpty()) {
+        final HostSnapshot snapshot = this.hostSnapshot.get();
+        if (snapshot.getAllHosts().isEmpty()) {
           throw new RuntimeException(Messages.get("PluginServiceImpl.hostListEmpty"));
         }
 
-        this.currentHostSpec = this.getWriter(this.getAllHosts());
-        final List<HostSpec> allowedHosts = this.getHosts();
+        this.currentHostSpec = snapshot.getWriter();
+        final List<HostSpec> allowedHosts = snapshot.getHosts();
         if (!Utils.containsUrl(allowedHosts, this.currentHostSpec.getUrl())) {
           throw new RuntimeException(
               Messages.get("PluginServiceImpl.currentHostNotAllowed",
@@ -185,7 +190,7 @@ public class PluginServiceImpl implements PluginService, CanReleaseResources,
         }
 
         if (this.currentHostSpec == null) {
-          this.currentHostSpec = this.getHosts().get(0);
+          this.currentHostSpec = allowedHosts.get(0);
         }
       }
       if (this.currentHostSpec == null) {
@@ -207,7 +212,7 @@ public class PluginServiceImpl implements PluginService, CanReleaseResources,
 
   @Override
   public void setAllowedAndBlockedHosts(AllowedAndBlockedHosts allowedAndBlockedHosts) {
-    this.allowedAndBlockedHosts.set(allowedAndBlockedHosts);
+    this.hostSnapshot.updateAndGet((snapshot) -> snapshot.withAllowedAndBlockedHosts(allowedAndBlockedHosts));
   }
 
   @Override
@@ -230,15 +235,6 @@ public class PluginServiceImpl implements PluginService, CanReleaseResources,
     return this.hostListProvider.getHostRole(conn);
   }
 
-  private HostSpec getWriter(final @NonNull List<HostSpec> hosts) {
-    for (final HostSpec hostSpec : hosts) {
-      if (hostSpec.getRole() == HostRole.WRITER) {
-        return hostSpec;
-      }
-    }
-    return null;
-  }
-
   @Override
   @Deprecated
   public ConnectionProvider getConnectionProvider() {
@@ -278,6 +274,8 @@ public class PluginServiceImpl implements PluginService, CanReleaseResources,
 
         this.currentConnection = connection;
         this.currentHostSpec = hostSpec;
+        // The epoch must be incremented after the connection is assigned.
+        this.connectionEpoch++;
         this.sessionStateService.reset();
 
         final EnumSet<NodeChangeOptions> changes = EnumSet.of(NodeChangeOptions.INITIAL_CONNECTION);
@@ -300,6 +298,7 @@ public class PluginServiceImpl implements PluginService, CanReleaseResources,
           try {
             this.currentConnection = connection;
             this.currentHostSpec = hostSpec;
+            this.connectionEpoch++;
 
             this.sessionStateService.applyCurrentSessionState(connection);
             this.setInTransaction(false);
@@ -396,33 +395,17 @@ public class PluginServiceImpl implements PluginService, CanReleaseResources,
 
   @Override
   public List<HostSpec> getAllHosts() {
-    return this.allHosts;
+    return this.hostSnapshot.get().getAllHosts();
   }
 
   @Override
   public List<HostSpec> getHosts() {
-    AllowedAndBlockedHosts hostPermissions = this.allowedAndBlockedHosts.get();
-    if (hostPermissions == null) {
-      return this.allHosts;
-    }
-
-    List<HostSpec> hosts = this.allHosts;
-    Set<String> allowedHostIds = hostPermissions.getAllowedHostIds();
-    Set<String> blockedHostIds = hostPermissions.getBlockedHostIds();
-
-    if (!Utils.isNullOrEmpty(allowedHostIds)) {
-      hosts = hosts.stream()
-          .filter((hostSpec -> allowedHostIds.contains(hostSpec.getHostId())))
-          .collect(Collectors.toList());
-    }
-
-    if (!Utils.isNullOrEmpty(blockedHostIds)) {
-      hosts = hosts.stream()
-          .filter((hostSpec -> !blockedHostIds.contains(hostSpec.getHostId())))
-          .collect(Collectors.toList());
-    }
+    return this.hostSnapshot.get().getHosts();
+  }
 
-    return hosts;
+  @Override
+  public HostSnapshot getHostSnapshot() {
+    return this.hostSnapshot.get();
   }
 
   @Override
@@ -483,18 +466,18 @@ public class PluginServiceImpl implements PluginService, CanReleaseResources,
   @Override
   public void refreshHostList() throws SQLException {
     final List<HostSpec> updatedHostList = this.getHostListProvider().refresh();
-    if (!Objects.equals(updatedHostList, this.allHosts)) {
+    if (!this.hostSnapshot.get().hasSameHosts(updatedHostList)) {
       updateHostAvailability(updatedHostList);
-      setNodeList(this.allHosts, updatedHostList);
+      setNodeList(updatedHostList);
     }
   }
 
   @Override
   public void refreshHostList(final Connection connection) throws SQLException {
     final List<HostSpec> updatedHostList = this.getHostListProvider().refresh(connection);
-    if (!Objects.equals(updatedHostList, this.allHosts)) {
+    if (!this.hostSnapshot.get().hasSameHosts(updatedHostList)) {
       updateHostAvailability(updatedHostList);
-      setNodeList(this.allHosts, updatedHostList);
+      setNodeList(updatedHostList);
     }
   }
 
@@ -503,7 +486,7 @@ public class PluginServiceImpl implements PluginService, CanReleaseResources,
     final List<HostSpec> updatedHostList = this.getHostListProvider().forceRefresh();
     if (updatedHostList != null) {
       updateHostAvailability(updatedHostList);
-      setNodeList(this.allHosts, updatedHostList);
+      setNodeList(updatedHostList);
     }
   }
 
@@ -512,7 +495,7 @@ public class PluginServiceImpl implements PluginService, CanReleaseResources,
     final List<HostSpec> updatedHostList = this.getHostListProvider().forceRefresh(connection);
     if (updatedHostList != null) {
       updateHostAvailability(updatedHostList);
-      setNodeList(this.allHosts, updatedHostList);
+      setNodeList(updatedHostList);
     }
   }
 
@@ -532,7 +515,7 @@ public class PluginServiceImpl implements PluginService, CanReleaseResources,
           ((BlockingHostListProvider) hostListProvider).forceRefresh(shouldVerifyWriter, timeoutMs);
       if (updatedHostList != null) {
         updateHostAvailability(updatedHostList);
-        setNodeList(this.allHosts, updatedHostList);
+        setNodeList(updatedHostList);
         return true;
       }
     } catch (TimeoutException ex) {
@@ -542,25 +525,50 @@ public class PluginServiceImpl implements PluginService, CanReleaseResources,
     return false;
   }
 
-  void setNodeList(@Nullable final List<HostSpec> oldHosts,
-      @Nullable final List<HostSpec> newHosts) {
+  void setNodeList(@Nullable final List<HostSpec> newHosts) {
+    HostSnapshot oldSnapshot;
+    HostSnapshot newSnapshot;
+    Map<String, EnumSet<NodeChangeOptions>> changes;
+    do {
+      oldSnapshot = this.hostSnapshot.get();
+      newSnapshot = oldSnapshot.withAllHosts(newHosts);
+      changes = this.getNodeChanges(oldSnapshot, newSnapshot);
+      // Changes of the weight or replica lag of a host aren't notified to the plugins, but the hosts are
+      // still replaced so that host selectors see the latest values.
+      if (changes.isEmpty() && oldSnapshot.hasSameHosts(newSnapshot.getAllHosts())) {
+        return;
+      }
+    } while (!this.hostSnapshot.compareAndSet(oldSnapshot, newSnapshot));
+
+    if (!changes.isEmpty()) {
+      this.pluginManager.notifyNodeListChanged(changes);
+    }
+  }
 
-    final Map<String, HostSpec> oldHostMap = oldHosts == null
-        ? new HashMap<>()
-        : oldHosts.stream().collect(Collectors.toMap(HostSpec::getUrl, (value) -> value));
+  /**
+   * Compares the hosts of two snapshots using the URL indexes built by the snapshots.
+   */
+  protected Map<String, EnumSet<NodeChangeOptions>> getNodeChanges(
+      final HostSnapshot oldSnapshot, final HostSnapshot newSnapshot) {
 
-    final Map<String, HostSpec> newHostMap = newHosts == null
-        ? new HashMap<>()
-        : newHosts.stream().collect(Collectors.toMap(HostSpec::getUrl, (value) -> value));
+    final Map<String, HostSpec> oldHostMap = oldSnapshot.getAllHostsByUrl();
+    final Map<String, HostSpec> newHostMap = newSnapshot.getAllHostsByUrl();
+    if (oldHostMap.isEmpty() && newHostMap.isEmpty()) {
+      return Collections.emptyMap();
+    }
 
     final Map<String, EnumSet<NodeChangeOptions>> changes = new HashMap<>();
+    int retainedHostCount = 0;
 
     for (final Entry<String, HostSpec> entry : oldHostMap.entrySet()) {
       final HostSpec correspondingNewHost = newHostMap.get(entry.getKey());
       if (correspondingNewHost == null) {
         // host deleted
         changes.put(entry.getKey(), EnumSet.of(NodeChangeOptions.NODE_DELETED));
-      } else {
+        continue;
+      }
+      retainedHostCount++;
+      if (correspondingNewHost != entry.getValue()) {
         // host maybe changed
         final EnumSet<NodeChangeOptions> hostChanges = compare(entry.getValue(), correspondingNewHost);
         if (!hostChanges.isEmpty()) {
@@ -569,17 +577,17 @@ public class PluginServiceImpl implements PluginService, CanReleaseResources,
       }
     }
 
-    for (final Entry<String, HostSpec> entry : newHostMap.entrySet()) {
-      if (!oldHostMap.containsKey(entry.getKey())) {
-        // host added
-        changes.put(entry.getKey(), EnumSet.of(NodeChangeOptions.NODE_ADDED));
+    // Look for added hosts only if some new hosts are not old hosts.
+    if (newHostMap.size() > retainedHostCount) {
+      for (final String url : newHostMap.keySet()) {
+        if (!oldHostMap.containsKey(url)) {
+          // host added
+          changes.put(url, EnumSet.of(NodeChangeOptions.NODE_ADDED));
+        }
       }
     }
 
-    if (!changes.isEmpty()) {
-      this.allHosts = newHosts != null ? newHosts : new ArrayList<>();
-      this.pluginManager.notifyNodeListChanged(changes);
-    }
+    return changes;
   }
 
   @Override
@@ -106,6 +106,22 @@ public class PropertyDefinition {
               "OTLP", "NONE"
           });
 
+  public static final AwsWrapperProperty TELEMETRY_TRACES_SAMPLING_RATE =
+      new AwsWrapperProperty(
+          "telemetryTracesSamplingRate", "1.0",
+          "Fraction of the traced JDBC calls, between 0 and 1, that are submitted as traces.");
+
+  public static final AwsWrapperProperty TELEMETRY_TRACED_CALLS =
+      new AwsWrapperProperty(
+          "telemetryTracedCalls", null,
+          "Comma separated list of the categories of JDBC calls to trace. Available categories: "
+              + "connection, execute, transaction, resultSet, metadata, other. All calls are traced by default.");
+
+  public static final AwsWrapperProperty TELEMETRY_CALL_LATENCY_HISTOGRAMS =
+      new AwsWrapperProperty(
+          "telemetryCallLatencyHistograms", "false",
+          "Records the latency of JDBC calls in histogram metrics per call category.");
+
   public static final AwsWrapperProperty AWS_PROFILE =
       new AwsWrapperProperty(
           "awsProfile", null, "Name of the AWS Profile to use for IAM/SecretsManager auth.");
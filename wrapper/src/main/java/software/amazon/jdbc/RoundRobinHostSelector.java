@@ -18,11 +18,13 @@ package software.amazon.jdbc;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Properties;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -76,58 +78,69 @@ public class RoundRobinHostSelector implements HostSelector {
       final @NonNull HostRole role,
       final @Nullable Properties props) throws SQLException {
 
-    lock.lock();
-    try {
-      final List<HostSpec> eligibleHosts = hosts.stream()
-          .filter(hostSpec ->
-              role.equals(hostSpec.getRole()) && hostSpec.getAvailability().equals(HostAvailability.AVAILABLE))
-          .sorted(Comparator.comparing(HostSpec::getHost))
-          .collect(Collectors.toList());
-
-      if (eligibleHosts.isEmpty()) {
-        throw new SQLException(Messages.get("HostSelector.noHostsMatchingRole", new Object[]{role}));
+    HostSpec firstEligibleHost = null;
+    for (int i = 0; i < hosts.size(); i++) {
+      if (isEligible(hosts.get(i), role)) {
+        firstEligibleHost = hosts.get(i);
+        break;
       }
+    }
+    if (firstEligibleHost == null) {
+      throw new SQLException(Messages.get("HostSelector.noHostsMatchingRole", new Object[]{role}));
+    }
 
-      // Create new cache entries for provided hosts if necessary. All hosts point to the same cluster info.
-      createCacheEntryForHosts(eligibleHosts, props);
-      final String currentClusterInfoKey = eligibleHosts.get(0).getHost();
-      final RoundRobinClusterInfo clusterInfo = roundRobinCache.get(currentClusterInfoKey);
-
-      final HostSpec lastHost = clusterInfo.lastHost;
-      int lastHostIndex = -1;
-
-      // Check if lastHost is in list of eligible hosts. Update lastHostIndex.
-      if (lastHost != null) {
-        for (int i = 0; i < eligibleHosts.size(); i++) {
-          if (eligibleHosts.get(i).getHost().equals(lastHost.getHost())) {
-            lastHostIndex = i;
-          }
+    SelectionTable table = getSelectionTable(firstEligibleHost, hosts, role, props);
+    if (table == null) {
+      lock.lock();
+      try {
+        // Another thread may have updated the table while this one was waiting for the lock.
+        table = getSelectionTable(firstEligibleHost, hosts, role, props);
+        if (table == null) {
+          table = this.updateSelectionTable(hosts, role, props);
         }
+      } finally {
+        lock.unlock();
       }
+    }
+    return table.next();
+  }
 
-      final int targetHostIndex;
-      // If the host is weighted and the lastHost is in the eligibleHosts list.
-      if (clusterInfo.weightCounter > 0 && lastHostIndex != -1) {
-        targetHostIndex = lastHostIndex;
-      } else {
-        if (lastHostIndex != -1 && lastHostIndex != eligibleHosts.size() - 1) {
-          targetHostIndex = lastHostIndex + 1;
-        } else {
-          targetHostIndex = 0;
-        }
+  private static @Nullable SelectionTable getSelectionTable(
+      final HostSpec eligibleHost,
+      final List<HostSpec> hosts,
+      final HostRole role,
+      final @Nullable Properties props) {
+    // All eligible hosts point to the same cluster info, so any of them can be used to find its selection table.
+    final RoundRobinClusterInfo clusterInfo = roundRobinCache.get(eligibleHost.getHost());
+    final SelectionTable table = clusterInfo == null ? null : clusterInfo.selectionTable;
+    return table != null && table.isValidFor(hosts, role, props) ? table : null;
+  }
 
-        final Integer weight = clusterInfo.clusterWeightsMap.get(eligibleHosts.get(targetHostIndex).getHostId());
-        clusterInfo.weightCounter = weight == null ? clusterInfo.defaultWeight : weight;
-      }
+  private SelectionTable updateSelectionTable(
+      final @NonNull List<HostSpec> hosts,
+      final @NonNull HostRole role,
+      final @Nullable Properties props) throws SQLException {
+    final List<HostSpec> eligibleHosts = hosts.stream()
+        .filter(hostSpec -> isEligible(hostSpec, role))
+        .sorted(Comparator.comparing(HostSpec::getHost))
+        .collect(Collectors.toList());
 
-      clusterInfo.weightCounter--;
-      clusterInfo.lastHost = eligibleHosts.get(targetHostIndex);
+    if (eligibleHosts.isEmpty()) {
+      throw new SQLException(Messages.get("HostSelector.noHostsMatchingRole", new Object[]{role}));
+    }
 
-      return eligibleHosts.get(targetHostIndex);
+    // Create new cache entries for provided hosts if necessary. All hosts point to the same cluster info.
+    createCacheEntryForHosts(eligibleHosts, props);
+    final String currentClusterInfoKey = eligibleHosts.get(0).getHost();
+    final RoundRobinClusterInfo clusterInfo = roundRobinCache.get(currentClusterInfoKey);
 
-    } finally {
-      lock.unlock();
-    }
+    final SelectionTable table = new SelectionTable(hosts, eligibleHosts, role, clusterInfo);
+    clusterInfo.selectionTable = table;
+    return table;
+  }
+
+  private static boolean isEligible(final HostSpec hostSpec, final HostRole role) {
+    return role.equals(hostSpec.getRole()) && hostSpec.getAvailability().equals(HostAvailability.AVAILABLE);
   }
 
   private void createCacheEntryForHosts(
@@ -147,8 +160,8 @@ public class RoundRobinHostSelector implements HostSelector {
       final RoundRobinClusterInfo roundRobinClusterInfo = roundRobinCache.get(hostsWithCacheEntry.get(0).getHost());
       if (hasPropertyChanged(roundRobinClusterInfo.lastClusterHostWeightPairPropertyValue,
           ROUND_ROBIN_HOST_WEIGHT_PAIRS, props)) {
-        roundRobinClusterInfo.lastHost = null;
-        roundRobinClusterInfo.weightCounter = 0;
+        // Start over from the first host.
+        roundRobinClusterInfo.selectionTable = null;
         updateCachedHostWeightPairsPropertiesForRoundRobinClusterInfo(roundRobinClusterInfo, props);
       }
       if (hasPropertyChanged(roundRobinClusterInfo.lastClusterDefaultWeightPropertyValue, ROUND_ROBIN_DEFAULT_WEIGHT,
@@ -255,11 +268,141 @@ public class RoundRobinHostSelector implements HostSelector {
   }
 
   public static class RoundRobinClusterInfo {
-    public HostSpec lastHost;
     public HashMap<String, Integer> clusterWeightsMap = new HashMap<>();
     public int defaultWeight = 1;
-    public int weightCounter = 0;
     public String lastClusterHostWeightPairPropertyValue = "";
     public String lastClusterDefaultWeightPropertyValue = "";
+    public volatile @Nullable SelectionTable selectionTable;
+  }
+
+  /**
+   * A precomputed round-robin sequence of the eligible hosts of a cluster. Each host takes as many
+   * consecutive slots as its weight, and a host is picked by incrementing a shared position, so
+   * picking a host doesn't take any lock. A new table is built when the eligible hosts or the
+   * weight properties change.
+   */
+  public static class SelectionTable {
+    // Tables with more slots find the host of a slot with a binary search instead.
+    private static final int MAX_SLOTS = 4096;
+    // Rebuilding the table refreshes the cache entries of the cluster before they expire.
+    private static final long REFRESH_INTERVAL_NANO = DEFAULT_ROUND_ROBIN_CACHE_EXPIRE_NANO / 2;
+
+    private final HostSpec[] eligibleHostsInListOrder;
+    private final HostRole role;
+    private final String hostWeightPairsPropertyValue;
+    private final String defaultWeightPropertyValue;
+    private final HostSpec[] hosts;
+    private final int[] slotEnds;
+    private final int @Nullable [] slotHostIndexes;
+    private final int totalSlots;
+    private final AtomicLong position;
+    private final long refreshTimeNano;
+
+    SelectionTable(
+        final List<HostSpec> hostList,
+        final List<HostSpec> sortedEligibleHosts,
+        final HostRole role,
+        final RoundRobinClusterInfo clusterInfo) {
+      this.eligibleHostsInListOrder = hostList.stream()
+          .filter(hostSpec -> isEligible(hostSpec, role))
+          .toArray(HostSpec[]::new);
+      this.role = role;
+      this.hostWeightPairsPropertyValue = clusterInfo.lastClusterHostWeightPairPropertyValue;
+      this.defaultWeightPropertyValue = clusterInfo.lastClusterDefaultWeightPropertyValue;
+      this.hosts = sortedEligibleHosts.toArray(new HostSpec[0]);
+
+      this.slotEnds = new int[this.hosts.length];
+      int slots = 0;
+      for (int i = 0; i < this.hosts.length; i++) {
+        final Integer weight = clusterInfo.clusterWeightsMap.get(this.hosts[i].getHostId());
+        slots += weight == null ? clusterInfo.defaultWeight : weight;
+        this.slotEnds[i] = slots;
+      }
+      this.totalSlots = slots;
+
+      if (slots <= MAX_SLOTS) {
+        this.slotHostIndexes = new int[slots];
+        for (int i = 0, slot = 0; i < this.hosts.length; i++) {
+          while (slot < this.slotEnds[i]) {
+            this.slotHostIndexes[slot++] = i;
+          }
+        }
+      } else {
+        this.slotHostIndexes = null;
+      }
+
+      this.position = new AtomicLong(this.getStartPosition(clusterInfo.selectionTable));
+      this.refreshTimeNano = System.nanoTime() + REFRESH_INTERVAL_NANO;
+    }
+
+    HostSpec next() {
+      final int slot = (int) (this.position.getAndIncrement() % this.totalSlots);
+      return this.hosts[this.getHostIndex(slot)];
+    }
+
+    boolean isValidFor(final List<HostSpec> hostList, final HostRole role, final @Nullable Properties props) {
+      if (this.role != role || System.nanoTime() - this.refreshTimeNano > 0) {
+        return false;
+      }
+      if (props != null
+          && (hasChanged(ROUND_ROBIN_HOST_WEIGHT_PAIRS.getString(props), this.hostWeightPairsPropertyValue)
+          || hasChanged(ROUND_ROBIN_DEFAULT_WEIGHT.getString(props), this.defaultWeightPropertyValue))) {
+        return false;
+      }
+
+      // The eligible hosts must be the same host instances as the ones the table was built from.
+      int eligibleHostCount = 0;
+      for (int i = 0; i < hostList.size(); i++) {
+        final HostSpec hostSpec = hostList.get(i);
+        if (isEligible(hostSpec, role)) {
+          if (eligibleHostCount == this.eligibleHostsInListOrder.length
+              || this.eligibleHostsInListOrder[eligibleHostCount] != hostSpec) {
+            return false;
+          }
+          eligibleHostCount++;
+        }
+      }
+      return eligibleHostCount == this.eligibleHostsInListOrder.length;
+    }
+
+    private static boolean hasChanged(final @Nullable String propertyValue, final String lastPropertyValue) {
+      return propertyValue != null && !propertyValue.equals(lastPropertyValue);
+    }
+
+    private int getHostIndex(final int slot) {
+      if (this.slotHostIndexes != null) {
+        return this.slotHostIndexes[slot];
+      }
+      int index = Arrays.binarySearch(this.slotEnds, slot + 1);
+      if (index < 0) {
+        index = -index - 1;
+      }
+      return index;
+    }
+
+    // Continues the sequence of the previous table: the last picked host is picked again until it
+    // has used up its weight, then the next host in the new table is picked.
+    private long getStartPosition(final @Nullable SelectionTable previousTable) {
+      if (previousTable == null) {
+        return 0;
+      }
+      final long previousPosition = previousTable.position.get();
+      if (previousPosition == 0) {
+        return 0;
+      }
+
+      final int lastSlot = (int) ((previousPosition - 1) % previousTable.totalSlots);
+      final int lastHostIndex = previousTable.getHostIndex(lastSlot);
+      final String lastHost = previousTable.hosts[lastHostIndex].getHost();
+      final int remainingWeight = previousTable.slotEnds[lastHostIndex] - lastSlot - 1;
+
+      for (int i = 0; i < this.hosts.length; i++) {
+        if (this.hosts[i].getHost().equals(lastHost)) {
+          final int slotStart = i == 0 ? 0 : this.slotEnds[i - 1];
+          return Math.max(slotStart + 1, this.slotEnds[i] - remainingWeight);
+        }
+      }
+      return 0;
+    }
   }
 }
@@ -21,6 +21,7 @@ import java.util.EnumSet;
 import java.util.List;
 import java.util.Properties;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import software.amazon.jdbc.HostSpec;
 import software.amazon.jdbc.exceptions.ExceptionHandler;
 import software.amazon.jdbc.plugin.failover.FailoverRestriction;
@@ -38,6 +39,15 @@ public interface Dialect {
 
   List</* dialect code */ String> getDialectUpdateCandidates();
 
+  /**
+   * Returns the probe that checks the dialect update candidates with a single query.
+   *
+   * @return the probe, or null if each candidate should be checked with {@link #isDialect}
+   */
+  default @Nullable DialectProbe getDialectProbe() {
+    return null;
+  }
+
   HostListProviderSupplier getHostListProvider();
 
   void prepareConnectProperties(
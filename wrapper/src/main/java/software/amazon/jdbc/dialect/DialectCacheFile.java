@@ -0,0 +1,207 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.dialect;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Logger;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import software.amazon.jdbc.util.CacheMap;
+import software.amazon.jdbc.util.Messages;
+
+/**
+ * A file that keeps the dialects identified for each endpoint across application restarts. Each
+ * entry maps an endpoint to a dialect code and the time the dialect was identified, and is used for
+ * the same time as the entries of the in-memory endpoint cache of {@link DialectManager}.
+ */
+class DialectCacheFile {
+
+  private static final Logger LOGGER = Logger.getLogger(DialectCacheFile.class.getName());
+
+  private static final Map<String, DialectCacheFile> files = new ConcurrentHashMap<>();
+
+  private final Path path;
+  private final long expirationNano;
+  private final long expirationMillis;
+  private final Map<String, SavedDialect> savedDialects = new ConcurrentHashMap<>();
+  private final ReentrantLock lock = new ReentrantLock();
+
+  private DialectCacheFile(final Path path, final long expirationNano) {
+    this.path = path;
+    this.expirationNano = expirationNano;
+    this.expirationMillis = TimeUnit.NANOSECONDS.toMillis(expirationNano);
+  }
+
+  /**
+   * Returns the cache file with the given name. The entries of the file are added to the given
+   * endpoint cache the first time the file is requested.
+   *
+   * @param fileName           the name of the file
+   * @param endpointDialects   the endpoint cache to add the entries of the file to
+   * @param expirationNano     the time in nanoseconds during which an identified dialect is used
+   * @return the cache file
+   */
+  static DialectCacheFile getInstance(
+      final String fileName,
+      final CacheMap<String, String> endpointDialects,
+      final long expirationNano) {
+    return files.computeIfAbsent(fileName, (key) -> {
+      final DialectCacheFile file = new DialectCacheFile(Paths.get(key), expirationNano);
+      file.loadInto(endpointDialects);
+      return file;
+    });
+  }
+
+  static void clearInstances() {
+    files.clear();
+  }
+
+  private void loadInto(final CacheMap<String, String> endpointDialects) {
+    final long nowMillis = System.currentTimeMillis();
+    final Properties entries = this.read();
+    for (final String endpoint : entries.stringPropertyNames()) {
+      final SavedDialect saved = SavedDialect.parse(entries.getProperty(endpoint));
+      if (saved == null) {
+        continue;
+      }
+      final long remainingNano = this.expirationNano
+          - TimeUnit.MILLISECONDS.toNanos(nowMillis - saved.savedTimeMillis);
+      if (remainingNano > 0) {
+        endpointDialects.putIfAbsent(endpoint, saved.dialectCode, remainingNano);
+        this.savedDialects.put(endpoint, saved);
+      }
+    }
+  }
+
+  /**
+   * Saves the dialect identified for the given endpoints, unless the file already holds it and the
+   * entries are not close to expiring yet.
+   *
+   * @param dialectCode the identified dialect
+   * @param endpoints   the endpoints of the database
+   */
+  void save(final String dialectCode, final String... endpoints) {
+    final long nowMillis = System.currentTimeMillis();
+    boolean changed = false;
+    for (final String endpoint : endpoints) {
+      final SavedDialect saved = this.savedDialects.get(endpoint);
+      // Entries are rewritten after half of their lifetime, so that endpoints in use don't expire.
+      if (saved == null
+          || !dialectCode.equals(saved.dialectCode)
+          || nowMillis - saved.savedTimeMillis > this.expirationMillis / 2) {
+        changed = true;
+        break;
+      }
+    }
+    if (!changed) {
+      return;
+    }
+
+    this.lock.lock();
+    try {
+      // Other applications may have updated the file, so their entries are kept unless they expired.
+      final Properties entries = this.read();
+      for (final String endpoint : entries.stringPropertyNames()) {
+        final SavedDialect saved = SavedDialect.parse(entries.getProperty(endpoint));
+        if (saved == null || nowMillis - saved.savedTimeMillis >= this.expirationMillis) {
+          entries.remove(endpoint);
+        }
+      }
+      final SavedDialect entry = new SavedDialect(dialectCode, nowMillis);
+      for (final String endpoint : endpoints) {
+        entries.setProperty(endpoint, entry.toString());
+      }
+
+      final Path directory = this.path.toAbsolutePath().getParent();
+      if (directory != null) {
+        Files.createDirectories(directory);
+      }
+      final Path tempFile = Files.createTempFile(directory, this.path.getFileName().toString(), ".tmp");
+      try {
+        try (final OutputStream out = Files.newOutputStream(tempFile)) {
+          entries.store(out, "AWS JDBC Driver dialects");
+        }
+        try {
+          Files.move(tempFile, this.path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final AtomicMoveNotSupportedException ex) {
+          Files.move(tempFile, this.path, StandardCopyOption.REPLACE_EXISTING);
+        }
+      } finally {
+        Files.deleteIfExists(tempFile);
+      }
+
+      for (final String endpoint : endpoints) {
+        this.savedDialects.put(endpoint, entry);
+      }
+    } catch (final IOException ex) {
+      LOGGER.fine(() -> Messages.get("DialectCacheFile.errorWriting", new Object[] {this.path, ex.getMessage()}));
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  private Properties read() {
+    final Properties entries = new Properties();
+    try (final InputStream in = Files.newInputStream(this.path)) {
+      entries.load(in);
+    } catch (final NoSuchFileException ex) {
+      // nothing is saved yet
+    } catch (final IOException | IllegalArgumentException ex) {
+      LOGGER.fine(() -> Messages.get("DialectCacheFile.errorReading", new Object[] {this.path, ex.getMessage()}));
+    }
+    return entries;
+  }
+
+  private static final class SavedDialect {
+    final String dialectCode;
+    final long savedTimeMillis;
+
+    SavedDialect(final String dialectCode, final long savedTimeMillis) {
+      this.dialectCode = dialectCode;
+      this.savedTimeMillis = savedTimeMillis;
+    }
+
+    static @Nullable SavedDialect parse(final String value) {
+      final String[] entry = value.split(",");
+      if (entry.length != 2) {
+        return null;
+      }
+      try {
+        return new SavedDialect(entry[0], Long.parseLong(entry[1]));
+      } catch (final NumberFormatException ex) {
+        return null;
+      }
+    }
+
+    @Override
+    public String toString() {
+      return this.dialectCode + "," + this.savedTimeMillis;
+    }
+  }
+}
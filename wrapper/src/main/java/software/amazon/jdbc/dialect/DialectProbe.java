@@ -0,0 +1,37 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.dialect;
+
+import java.sql.Connection;
+import java.util.Map;
+
+/**
+ * Checks several dialect update candidates with a single query, instead of running the queries of
+ * {@link Dialect#isDialect} for each candidate.
+ */
+public interface DialectProbe {
+
+  /**
+   * Runs the probe query on the given connection.
+   *
+   * @param connection the connection to the database to identify
+   * @return the dialect codes mapped to whether the database matches the dialect. Dialects that are
+   *     missing from the map couldn't be decided by the probe, and should be checked with
+   *     {@link Dialect#isDialect}. The map is empty if the probe query failed.
+   */
+  Map</* dialect code */ String, Boolean> probe(Connection connection);
+}
@@ -39,6 +39,7 @@ public class MariaDbDialect implements Dialect {
       DialectCodes.MYSQL);
   private static MariaDBExceptionHandler mariaDBExceptionHandler;
 
+  private static final DialectProbe dialectProbe = new MysqlDialectProbe();
   private static final EnumSet<FailoverRestriction> NO_RESTRICTIONS = EnumSet.noneOf(FailoverRestriction.class);
 
   @Override
@@ -103,6 +104,11 @@ public class MariaDbDialect implements Dialect {
     return dialectUpdateCandidates;
   }
 
+  @Override
+  public DialectProbe getDialectProbe() {
+    return dialectProbe;
+  }
+
   public HostListProviderSupplier getHostListProvider() {
     return (properties, initialUrl, hostListProviderService, pluginService) ->
         new ConnectionStringHostListProvider(properties, initialUrl, hostListProviderService);
@@ -40,6 +40,7 @@ public class MysqlDialect implements Dialect {
   );
   private static MySQLExceptionHandler mySQLExceptionHandler;
 
+  private static final DialectProbe dialectProbe = new MysqlDialectProbe();
   private static final EnumSet<FailoverRestriction> NO_RESTRICTIONS = EnumSet.noneOf(FailoverRestriction.class);
 
   @Override
@@ -107,6 +108,11 @@ public class MysqlDialect implements Dialect {
     return dialectUpdateCandidates;
   }
 
+  @Override
+  public DialectProbe getDialectProbe() {
+    return dialectProbe;
+  }
+
   public HostListProviderSupplier getHostListProvider() {
     return (properties, initialUrl, hostListProviderService, pluginService) ->
         new ConnectionStringHostListProvider(properties, initialUrl, hostListProviderService);
@@ -0,0 +1,74 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.dialect;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Checks the MySQL dialects with a single query. The query only reads the server variables and the
+ * catalog, so it doesn't fail on servers that lack some of the checked features.
+ */
+public class MysqlDialectProbe implements DialectProbe {
+
+  private static final Logger LOGGER = Logger.getLogger(MysqlDialectProbe.class.getName());
+
+  private static final String PROBE_QUERY =
+      "SELECT @@version_comment AS version_comment, "
+          + "(SELECT COUNT(*) FROM performance_schema.global_variables"
+          + " WHERE variable_name = 'aurora_version') AS aurora_version, "
+          + "(SELECT COUNT(*) FROM information_schema.tables"
+          + " WHERE table_schema = 'mysql' AND table_name = 'rds_topology') AS rds_topology";
+
+  @Override
+  public Map<String, Boolean> probe(final Connection connection) {
+    try (final Statement stmt = connection.createStatement();
+        final ResultSet rs = stmt.executeQuery(PROBE_QUERY)) {
+      if (!rs.next()) {
+        return Collections.emptyMap();
+      }
+      final String versionComment = rs.getString("version_comment");
+      final boolean hasAuroraVersion = rs.getInt("aurora_version") > 0;
+      final boolean hasRdsTopology = rs.getInt("rds_topology") > 0;
+      LOGGER.finest(() -> String.format("versionComment: %s, auroraVersion: %b, rdsTopology: %b",
+          versionComment, hasAuroraVersion, hasRdsTopology));
+
+      final boolean isMysql = versionComment != null && versionComment.toLowerCase().contains("mysql");
+      final Map<String, Boolean> result = new HashMap<>();
+      result.put(DialectCodes.MYSQL, isMysql);
+      result.put(DialectCodes.RDS_MYSQL, !isMysql && "Source distribution".equalsIgnoreCase(versionComment));
+      if (hasAuroraVersion) {
+        // The variable is also missing when performance_schema is disabled, so only its presence is decisive.
+        result.put(DialectCodes.AURORA_MYSQL, true);
+      }
+      if (!hasRdsTopology) {
+        // The topology table also needs to contain data, which only its own query can check.
+        result.put(DialectCodes.RDS_MULTI_AZ_MYSQL_CLUSTER, false);
+      }
+      return result;
+    } catch (final SQLException ex) {
+      // The server doesn't support the probe query, fall back to the queries of each dialect.
+      return Collections.emptyMap();
+    }
+  }
+}
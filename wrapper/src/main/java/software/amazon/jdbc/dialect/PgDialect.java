@@ -43,6 +43,7 @@ public class PgDialect implements Dialect {
 
   private static PgExceptionHandler pgExceptionHandler;
 
+  private static final DialectProbe dialectProbe = new PgDialectProbe();
   private static final EnumSet<FailoverRestriction> NO_RESTRICTIONS = EnumSet.noneOf(FailoverRestriction.class);
 
   @Override
@@ -104,6 +105,11 @@ public class PgDialect implements Dialect {
     return dialectUpdateCandidates;
   }
 
+  @Override
+  public DialectProbe getDialectProbe() {
+    return dialectProbe;
+  }
+
   @Override
   public HostListProviderSupplier getHostListProvider() {
     return (properties, initialUrl, hostListProviderService, pluginService) ->
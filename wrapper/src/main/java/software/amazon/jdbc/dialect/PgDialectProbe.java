@@ -0,0 +1,73 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.dialect;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Checks the PostgreSQL dialects with a single query. The query only reads the server settings and
+ * the catalog, so it doesn't fail on servers that lack some of the checked functions.
+ */
+public class PgDialectProbe implements DialectProbe {
+
+  private static final Logger LOGGER = Logger.getLogger(PgDialectProbe.class.getName());
+
+  private static final String PROBE_QUERY =
+      "SELECT COALESCE((SELECT setting LIKE '%rds_tools%' FROM pg_settings"
+          + " WHERE name = 'rds.extensions'), false) AS rds_tools, "
+          + "COALESCE((SELECT setting LIKE '%aurora_stat_utils%' FROM pg_settings"
+          + " WHERE name = 'rds.extensions'), false) AS aurora_stat_utils, "
+          + "EXISTS (SELECT 1 FROM pg_proc WHERE proname = 'aurora_replica_status') AS aurora_replica_status, "
+          + "EXISTS (SELECT 1 FROM information_schema.routines WHERE routine_schema = 'rds_tools'"
+          + " AND routine_name = 'multi_az_db_cluster_source_dbi_resource_id') AS multi_az_source_id, "
+          + "EXISTS (SELECT 1 FROM information_schema.routines WHERE routine_schema = 'rds_tools'"
+          + " AND routine_name = 'dbi_resource_id') AS dbi_resource_id";
+
+  @Override
+  public Map<String, Boolean> probe(final Connection connection) {
+    try (final Statement stmt = connection.createStatement();
+        final ResultSet rs = stmt.executeQuery(PROBE_QUERY)) {
+      if (!rs.next()) {
+        return Collections.emptyMap();
+      }
+      final boolean rdsTools = rs.getBoolean("rds_tools");
+      final boolean auroraUtils = rs.getBoolean("aurora_stat_utils");
+      final boolean hasAuroraReplicaStatus = rs.getBoolean("aurora_replica_status");
+      final boolean hasMultiAzFunctions = rs.getBoolean("multi_az_source_id") && rs.getBoolean("dbi_resource_id");
+      LOGGER.finest(() -> String.format(
+          "rdsTools: %b, auroraUtils: %b, auroraReplicaStatus: %b, multiAzFunctions: %b",
+          rdsTools, auroraUtils, hasAuroraReplicaStatus, hasMultiAzFunctions));
+
+      final Map<String, Boolean> result = new HashMap<>();
+      result.put(DialectCodes.PG, true);
+      result.put(DialectCodes.RDS_PG, rdsTools && !auroraUtils);
+      result.put(DialectCodes.AURORA_PG, auroraUtils && hasAuroraReplicaStatus);
+      result.put(DialectCodes.RDS_MULTI_AZ_PG_CLUSTER, hasMultiAzFunctions);
+      return result;
+    } catch (final SQLException ex) {
+      // The server doesn't support the probe query, fall back to the queries of each dialect.
+      return Collections.emptyMap();
+    }
+  }
+}
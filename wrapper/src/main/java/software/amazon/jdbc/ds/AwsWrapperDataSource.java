@@ -34,6 +34,7 @@ import javax.naming.StringRefAddr;
 import javax.sql.DataSource;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
+import software.amazon.jdbc.ConnectionBlueprint;
 import software.amazon.jdbc.ConnectionProvider;
 import software.amazon.jdbc.DataSourceConnectionProvider;
 import software.amazon.jdbc.Driver;
@@ -201,8 +202,18 @@ public class AwsWrapperDataSource implements DataSource, Referenceable, Serializ
         }
 
         if (targetDriverDialect == null) {
-          final TargetDriverDialectManager targetDriverDialectManager = new TargetDriverDialectManager();
-          targetDriverDialect = targetDriverDialectManager.getDialect(this.targetDataSourceClassName, props);
+          final ConnectionBlueprint.Key blueprintKey =
+              ConnectionBlueprint.getKey(this.targetDataSourceClassName, props, configurationProfile);
+          ConnectionBlueprint blueprint = ConnectionBlueprint.get(blueprintKey);
+          if (blueprint == null) {
+            final TargetDriverDialectManager targetDriverDialectManager = new TargetDriverDialectManager();
+            blueprint = new ConnectionBlueprint(
+                null,
+                targetDriverDialectManager.getDialect(this.targetDataSourceClassName, props),
+                telemetryFactory);
+            ConnectionBlueprint.put(blueprintKey, blueprint);
+          }
+          targetDriverDialect = blueprint.getTargetDriverDialect();
         }
 
         ConnectionProvider defaultConnectionProvider = new DataSourceConnectionProvider(targetDataSource);
@@ -216,22 +227,30 @@ public class AwsWrapperDataSource implements DataSource, Referenceable, Serializ
             configurationProfile,
             telemetryFactory);
       } else {
-        TargetDriverHelper helper = new TargetDriverHelper();
-        final java.sql.Driver targetDriver = helper.getTargetDriver(finalUrl, props);
-
-        if (targetDriverDialect == null) {
-          final TargetDriverDialectManager targetDriverDialectManager = new TargetDriverDialectManager();
-          targetDriverDialect = targetDriverDialectManager.getDialect(targetDriver, props);
+        final ConnectionBlueprint.Key blueprintKey =
+            ConnectionBlueprint.getKey(finalUrl, props, configurationProfile);
+        ConnectionBlueprint blueprint = ConnectionBlueprint.get(blueprintKey);
+        if (blueprint == null) {
+          TargetDriverHelper helper = new TargetDriverHelper();
+          final java.sql.Driver targetDriver = helper.getTargetDriver(finalUrl, props);
+
+          if (targetDriverDialect == null) {
+            final TargetDriverDialectManager targetDriverDialectManager = new TargetDriverDialectManager();
+            targetDriverDialect = targetDriverDialectManager.getDialect(targetDriver, props);
+          }
+
+          blueprint = new ConnectionBlueprint(targetDriver, targetDriverDialect, telemetryFactory);
+          ConnectionBlueprint.put(blueprintKey, blueprint);
         }
 
-        ConnectionProvider defaultConnectionProvider = new DriverConnectionProvider(targetDriver);
+        ConnectionProvider defaultConnectionProvider = new DriverConnectionProvider(blueprint.getTargetDriver());
 
         return createConnectionWrapper(
             props,
             finalUrl,
             defaultConnectionProvider,
             effectiveConnectionProvider,
-            targetDriverDialect,
+            blueprint.getTargetDriverDialect(),
             configurationProfile,
             telemetryFactory);
       }
@@ -24,6 +24,7 @@ import java.sql.Statement;
 import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -34,6 +35,7 @@ import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
@@ -46,8 +48,10 @@ import software.amazon.jdbc.HostListProviderService;
 import software.amazon.jdbc.HostRole;
 import software.amazon.jdbc.HostSpec;
 import software.amazon.jdbc.HostSpecBuilder;
+import software.amazon.jdbc.PluginService;
 import software.amazon.jdbc.PropertyDefinition;
 import software.amazon.jdbc.hostavailability.HostAvailability;
+import software.amazon.jdbc.hostlistprovider.TopologyRefreshCoordinator.ClusterRefreshState;
 import software.amazon.jdbc.util.CacheMap;
 import software.amazon.jdbc.util.ConnectionUrlParser;
 import software.amazon.jdbc.util.Messages;
@@ -56,6 +60,10 @@ import software.amazon.jdbc.util.RdsUtils;
 import software.amazon.jdbc.util.StringUtils;
 import software.amazon.jdbc.util.SynchronousExecutor;
 import software.amazon.jdbc.util.Utils;
+import software.amazon.jdbc.util.telemetry.NullTelemetryFactory;
+import software.amazon.jdbc.util.telemetry.TelemetryCounter;
+import software.amazon.jdbc.util.telemetry.TelemetryFactory;
+import software.amazon.jdbc.util.telemetry.TelemetryHistogram;
 
 public class RdsHostListProvider implements DynamicHostListProvider {
 
@@ -93,6 +101,9 @@ public class RdsHostListProvider implements DynamicHostListProvider {
   protected static final CacheMap<String, String> suggestedPrimaryClusterIdCache = new CacheMap<>();
   protected static final CacheMap<String, Boolean> primaryClusterIdCache = new CacheMap<>();
 
+  private static final List<Long> STALENESS_BUCKETS_MILLIS = Collections.unmodifiableList(
+      Arrays.asList(1000L, 5000L, 15000L, 30000L, 60000L, 120000L, 300000L));
+
   protected final HostListProviderService hostListProviderService;
   protected final String originalUrl;
   protected final String topologyQuery;
@@ -118,6 +129,10 @@ public class RdsHostListProvider implements DynamicHostListProvider {
 
   protected Properties properties;
 
+  protected final TelemetryCounter topologyQueriesCounter;
+  protected final TelemetryCounter topologyRefreshesCoalescedCounter;
+  protected final TelemetryHistogram staleTopologyAgeHistogram;
+
   static {
     PropertyDefinition.registerPluginProperties(RdsHostListProvider.class);
   }
@@ -135,6 +150,17 @@ public class RdsHostListProvider implements DynamicHostListProvider {
     this.topologyQuery = topologyQuery;
     this.nodeIdQuery = nodeIdQuery;
     this.isReaderQuery = isReaderQuery;
+
+    TelemetryFactory telemetryFactory = hostListProviderService instanceof PluginService
+        ? ((PluginService) hostListProviderService).getTelemetryFactory()
+        : null;
+    if (telemetryFactory == null) {
+      telemetryFactory = new NullTelemetryFactory();
+    }
+    this.topologyQueriesCounter = telemetryFactory.createCounter("topology.queries");
+    this.topologyRefreshesCoalescedCounter = telemetryFactory.createCounter("topology.refreshes.coalesced");
+    this.staleTopologyAgeHistogram =
+        telemetryFactory.createHistogram("topology.stale.age.ms", STALENESS_BUCKETS_MILLIS);
   }
 
   protected void init() throws SQLException {
@@ -217,7 +243,9 @@ public class RdsHostListProvider implements DynamicHostListProvider {
   /**
    * Get cluster topology. It may require an extra call to database to fetch the latest topology. A
    * cached copy of topology is returned if it's not yet outdated (controlled by {@link
-   * #refreshRateNano}).
+   * #refreshRateNano}). Only one provider at a time queries the topology of a cluster, see
+   * {@link TopologyRefreshCoordinator}. While another provider is querying it, the last fetched
+   * topology of the cluster is returned, unless forceUpdate is set.
    *
    * @param conn A connection to database to fetch the latest topology, if needed.
    * @param forceUpdate If true, it forces a service to ignore cached copy of topology and to fetch
@@ -258,15 +286,46 @@ public class RdsHostListProvider implements DynamicHostListProvider {
         return new FetchTopologyResult(false, this.initialHostList);
       }
 
-      // fetch topology from the DB
-      final List<HostSpec> hosts = queryForTopology(conn);
+      final ClusterRefreshState refreshState = TopologyRefreshCoordinator.getState(this.clusterId);
+      final CompletableFuture<List<HostSpec>> refresh = refreshState.tryStartRefresh();
+
+      if (refresh == null) {
+        // Another provider is fetching the topology of this cluster.
+        this.topologyRefreshesCoalescedCounter.inc();
+        final List<HostSpec> lastHosts = refreshState.getLastHosts();
+        if (!forceUpdate && lastHosts != null) {
+          this.staleTopologyAgeHistogram.record(
+              TimeUnit.NANOSECONDS.toMillis(refreshState.getLastHostsAgeNano()));
+          return new FetchTopologyResult(true, lastHosts);
+        }
+        final List<HostSpec> hosts = refreshState.awaitRefresh(defaultTopologyQueryTimeoutMs);
+        if (!Utils.isNullOrEmpty(hosts)) {
+          return new FetchTopologyResult(false, hosts);
+        }
+      } else {
+        List<HostSpec> hosts = null;
+        try {
+          // The topology may have been fetched by another provider since it was read from the cache.
+          final List<HostSpec> refreshedHosts = forceUpdate ? null : topologyCache.get(this.clusterId);
+          if (refreshedHosts != null) {
+            return new FetchTopologyResult(true, refreshedHosts);
+          }
 
-      if (!Utils.isNullOrEmpty(hosts)) {
-        topologyCache.put(this.clusterId, hosts, this.refreshRateNano);
-        if (needToSuggest) {
-          this.suggestPrimaryCluster(hosts);
+          // fetch topology from the DB
+          this.topologyQueriesCounter.inc();
+          hosts = queryForTopology(conn);
+
+          if (!Utils.isNullOrEmpty(hosts)) {
+            topologyCache.put(this.clusterId, hosts,
+                TopologyRefreshCoordinator.getJitteredRefreshRateNano(this.refreshRateNano));
+            if (needToSuggest) {
+              this.suggestPrimaryCluster(hosts);
+            }
+            return new FetchTopologyResult(false, hosts);
+          }
+        } finally {
+          refreshState.completeRefresh(refresh, hosts);
         }
-        return new FetchTopologyResult(false, hosts);
       }
     }
 
@@ -447,14 +506,23 @@ public class RdsHostListProvider implements DynamicHostListProvider {
     // Calculate weight based on node lag in time and CPU utilization.
     final long weight = Math.round(nodeLag) * 100L + Math.round(cpuUtilization);
 
-    return createHost(hostName, isWriter, weight, lastUpdateTime);
+    return createHost(hostName, isWriter, weight, lastUpdateTime, Math.round(nodeLag));
   }
 
   protected HostSpec createHost(
-      String host,
+      final String host,
       final boolean isWriter,
       final long weight,
       final Timestamp lastUpdateTime) {
+    return createHost(host, isWriter, weight, lastUpdateTime, HostSpec.UNKNOWN_REPLICA_LAG);
+  }
+
+  protected HostSpec createHost(
+      String host,
+      final boolean isWriter,
+      final long weight,
+      final Timestamp lastUpdateTime,
+      final long replicaLagMs) {
 
     host = host == null ? "?" : host;
     final String endpoint = getHostEndpoint(host);
@@ -469,6 +537,7 @@ public class RdsHostListProvider implements DynamicHostListProvider {
         .availability(HostAvailability.AVAILABLE)
         .weight(weight)
         .lastUpdateTime(lastUpdateTime)
+        .replicaLagMs(isWriter ? 0 : replicaLagMs)
         .build();
     hostSpec.addAlias(host);
     hostSpec.setHostId(host);
@@ -501,6 +570,7 @@ public class RdsHostListProvider implements DynamicHostListProvider {
    */
   public static void clearAll() {
     topologyCache.clear();
+    TopologyRefreshCoordinator.clearAll();
     primaryClusterIdCache.clear();
     suggestedPrimaryClusterIdCache.clear();
   }
@@ -510,6 +580,7 @@ public class RdsHostListProvider implements DynamicHostListProvider {
    */
   public void clear() {
     topologyCache.remove(this.clusterId);
+    TopologyRefreshCoordinator.clear(this.clusterId);
   }
 
   @Override
@@ -0,0 +1,136 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.hostlistprovider;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import software.amazon.jdbc.HostSpec;
+import software.amazon.jdbc.util.SlidingExpirationCache;
+
+/**
+ * Coordinates the topology queries of the {@link RdsHostListProvider} instances that share a cluster id.
+ * At most one topology query per cluster is in flight at any time. While it runs, the other providers keep
+ * using the last topology fetched for the cluster, or wait for the query when no topology was fetched yet.
+ */
+public class TopologyRefreshCoordinator {
+
+  // Fraction of the refresh rate by which the expiration of a fetched topology is randomly moved, so the
+  // topologies of the clusters used by an application don't all expire at the same time.
+  static final double REFRESH_JITTER_RATIO = 0.1;
+
+  private static final long STATE_EXPIRATION_NANO = TimeUnit.MINUTES.toNanos(30);
+
+  private static final SlidingExpirationCache<String, ClusterRefreshState> states =
+      new SlidingExpirationCache<>((state) -> !state.isRefreshing(), null);
+
+  private TopologyRefreshCoordinator() {
+  }
+
+  static ClusterRefreshState getState(final String clusterId) {
+    return states.computeIfAbsent(clusterId, (key) -> new ClusterRefreshState(), STATE_EXPIRATION_NANO);
+  }
+
+  static void clear(final String clusterId) {
+    states.remove(clusterId);
+  }
+
+  public static void clearAll() {
+    states.clear();
+  }
+
+  /**
+   * Returns the given refresh rate moved by a random amount of up to {@link #REFRESH_JITTER_RATIO} of its
+   * value in either direction.
+   *
+   * @param refreshRateNano the configured topology refresh rate in nanoseconds
+   * @return the refresh rate to use for the next topology fetched by the caller
+   */
+  static long getJitteredRefreshRateNano(final long refreshRateNano) {
+    final long spread = (long) (refreshRateNano * REFRESH_JITTER_RATIO);
+    if (spread <= 0) {
+      return refreshRateNano;
+    }
+    return refreshRateNano - spread + ThreadLocalRandom.current().nextLong(2 * spread + 1);
+  }
+
+  static class ClusterRefreshState {
+
+    private final AtomicReference<CompletableFuture<List<HostSpec>>> inFlightRefresh = new AtomicReference<>();
+    private volatile @Nullable List<HostSpec> lastHosts;
+    private volatile long lastUpdateTimeNano;
+
+    /**
+     * Registers the caller as the only provider querying the topology of the cluster.
+     *
+     * @return the refresh to complete with {@link #completeRefresh}, or null if another provider is already
+     *     querying the topology
+     */
+    @Nullable CompletableFuture<List<HostSpec>> tryStartRefresh() {
+      final CompletableFuture<List<HostSpec>> refresh = new CompletableFuture<>();
+      return this.inFlightRefresh.compareAndSet(null, refresh) ? refresh : null;
+    }
+
+    void completeRefresh(final CompletableFuture<List<HostSpec>> refresh, final @Nullable List<HostSpec> hosts) {
+      if (hosts != null && !hosts.isEmpty()) {
+        this.lastHosts = hosts;
+        this.lastUpdateTimeNano = System.nanoTime();
+      }
+      this.inFlightRefresh.compareAndSet(refresh, null);
+      refresh.complete(hosts);
+    }
+
+    /**
+     * Waits for the topology query run by another provider.
+     *
+     * @param timeoutMs the maximum time to wait in milliseconds
+     * @return the hosts fetched by the query, or null if the query failed, didn't complete in time, or no
+     *     query is in flight
+     */
+    @Nullable List<HostSpec> awaitRefresh(final long timeoutMs) {
+      final CompletableFuture<List<HostSpec>> refresh = this.inFlightRefresh.get();
+      if (refresh == null) {
+        return null;
+      }
+      try {
+        return refresh.get(timeoutMs, TimeUnit.MILLISECONDS);
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        return null;
+      } catch (ExecutionException | TimeoutException ex) {
+        return null;
+      }
+    }
+
+    boolean isRefreshing() {
+      return this.inFlightRefresh.get() != null;
+    }
+
+    @Nullable List<HostSpec> getLastHosts() {
+      return this.lastHosts;
+    }
+
+    long getLastHostsAgeNano() {
+      return System.nanoTime() - this.lastUpdateTimeNano;
+    }
+  }
+}
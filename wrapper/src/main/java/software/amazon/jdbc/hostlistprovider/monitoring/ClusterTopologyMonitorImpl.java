@@ -758,14 +758,23 @@ public class ClusterTopologyMonitorImpl implements ClusterTopologyMonitor {
     // Calculate weight based on node lag in time and CPU utilization.
     final long weight = Math.round(nodeLag) * 100L + Math.round(cpuUtilization);
 
-    return createHost(hostName, isWriter, weight, lastUpdateTime);
+    return createHost(hostName, isWriter, weight, lastUpdateTime, Math.round(nodeLag));
   }
 
   protected HostSpec createHost(
-      String nodeName,
+      final String nodeName,
       final boolean isWriter,
       final long weight,
       final Timestamp lastUpdateTime) {
+    return createHost(nodeName, isWriter, weight, lastUpdateTime, HostSpec.UNKNOWN_REPLICA_LAG);
+  }
+
+  protected HostSpec createHost(
+      String nodeName,
+      final boolean isWriter,
+      final long weight,
+      final Timestamp lastUpdateTime,
+      final long replicaLagMs) {
 
     nodeName = nodeName == null ? "?" : nodeName;
     final String endpoint = getHostEndpoint(nodeName);
@@ -780,6 +789,7 @@ public class ClusterTopologyMonitorImpl implements ClusterTopologyMonitor {
         .availability(HostAvailability.AVAILABLE)
         .weight(weight)
         .lastUpdateTime(lastUpdateTime)
+        .replicaLagMs(isWriter ? 0 : replicaLagMs)
         .build();
     hostSpec.addAlias(nodeName);
     hostSpec.setHostId(nodeName);
@@ -17,8 +17,11 @@
 package software.amazon.jdbc.plugin;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import software.amazon.jdbc.plugin.AwsSecretsManagerConnectionPlugin.Secret;
+import software.amazon.jdbc.util.ExecutorFactory;
 import software.amazon.jdbc.util.Pair;
 
 /**
@@ -31,7 +34,28 @@ public class AwsSecretsManagerCacheHolder {
   static final Map<Pair<String /* secretId */, String /* region */>, Secret> secretsCache
       = new ConcurrentHashMap<>();
 
+  // Secrets that are being fetched, keyed by the same key as secretsCache. Connections that need a secret
+  // while it is being fetched wait for the same request instead of calling AWS Secrets Manager themselves.
+  static final Map<Pair<String /* secretId */, String /* region */>, PendingSecret> pendingSecrets
+      = new ConcurrentHashMap<>();
+
+  // Fetches the secrets that are refreshed before their time-to-live elapses.
+  static final ExecutorService secretRefreshExecutor = ExecutorFactory.newCachedThreadPool("secretsManagerRefresh");
+
   public static void clearCache() {
     secretsCache.clear();
+    pendingSecrets.clear();
+  }
+
+  /**
+   * A secret that is being fetched. The time the request was sent tells whether it can still
+   * return credentials that were rotated before a failed login.
+   */
+  static class PendingSecret extends CompletableFuture<Secret> {
+    final long startTimeNano;
+
+    PendingSecret(final long startTimeNano) {
+      this.startTimeNano = startTimeNano;
+    }
   }
 }
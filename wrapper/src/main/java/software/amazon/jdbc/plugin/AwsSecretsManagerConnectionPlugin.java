@@ -20,20 +20,29 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.secretsmanager.SecretsManagerClient;
@@ -46,6 +55,7 @@ import software.amazon.jdbc.JdbcCallable;
 import software.amazon.jdbc.PluginService;
 import software.amazon.jdbc.PropertyDefinition;
 import software.amazon.jdbc.authentication.AwsCredentialsManager;
+import software.amazon.jdbc.plugin.AwsSecretsManagerCacheHolder.PendingSecret;
 import software.amazon.jdbc.util.Messages;
 import software.amazon.jdbc.util.Pair;
 import software.amazon.jdbc.util.RegionUtils;
@@ -53,12 +63,16 @@ import software.amazon.jdbc.util.StringUtils;
 import software.amazon.jdbc.util.telemetry.TelemetryContext;
 import software.amazon.jdbc.util.telemetry.TelemetryCounter;
 import software.amazon.jdbc.util.telemetry.TelemetryFactory;
+import software.amazon.jdbc.util.telemetry.TelemetryHistogram;
 import software.amazon.jdbc.util.telemetry.TelemetryTraceLevel;
 
 public class AwsSecretsManagerConnectionPlugin extends AbstractConnectionPlugin {
   private static final Logger LOGGER = Logger.getLogger(AwsSecretsManagerConnectionPlugin.class.getName());
   private static final String TELEMETRY_UPDATE_SECRETS = "fetch credentials";
   private static final String TELEMETRY_FETCH_CREDENTIALS_COUNTER = "secretsManager.fetchCredentials.count";
+  private static final String TELEMETRY_FETCH_CREDENTIALS_LATENCY = "secretsManager.fetchCredentials.latency.ms";
+  private static final List<Long> FETCH_CREDENTIALS_LATENCY_BUCKETS_MILLIS = Collections.unmodifiableList(
+      Arrays.asList(5L, 10L, 25L, 50L, 100L, 250L, 500L, 1_000L, 2_500L, 5_000L, 10_000L));
 
   private static final Set<String> subscribedMethods =
       Collections.unmodifiableSet(new HashSet<String>() {
@@ -77,6 +91,14 @@ public class AwsSecretsManagerConnectionPlugin extends AbstractConnectionPlugin
   public static final AwsWrapperProperty ENDPOINT_PROPERTY = new AwsWrapperProperty(
       "secretsManagerEndpoint", null,
       "The endpoint of the secret to retrieve.");
+  public static final AwsWrapperProperty SECRET_TTL_PROPERTY = new AwsWrapperProperty(
+      "secretsManagerSecretTtlSec", "0",
+      "Time in seconds a fetched secret is used before it is fetched again. "
+          + "Set to 0 to keep using a cached secret until a login fails with it.");
+  public static final AwsWrapperProperty SECRET_REFRESH_PERCENT_PROPERTY = new AwsWrapperProperty(
+      "secretsManagerSecretRefreshPercent", "80",
+      "Percentage of the secret time-to-live after which a cached secret is refreshed in the background. "
+          + "Set to 0 to disable background refresh.");
 
   protected static final RegionUtils regionUtils = new RegionUtils();
   private static final Pattern SECRETS_ARN_PATTERN =
@@ -86,10 +108,13 @@ public class AwsSecretsManagerConnectionPlugin extends AbstractConnectionPlugin
   private final BiFunction<HostSpec, Region, SecretsManagerClient>
       secretsManagerClientFunc;
   private final Function<String, GetSecretValueRequest> getSecretValueRequestFunc;
+  private final long secretTtlNano;
+  private final long secretRefreshNano;
   private Secret secret;
   protected PluginService pluginService;
 
   private final TelemetryCounter fetchCredentialsCounter;
+  private final TelemetryHistogram fetchCredentialsLatencyHistogram;
 
   static {
     PropertyDefinition.registerPluginProperties(AwsSecretsManagerConnectionPlugin.class);
@@ -170,11 +195,15 @@ public class AwsSecretsManagerConnectionPlugin extends AbstractConnectionPlugin
     }
 
     this.secretKey = Pair.create(secretId, region.id());
+    this.secretTtlNano = TimeUnit.SECONDS.toNanos(SECRET_TTL_PROPERTY.getInteger(props));
+    this.secretRefreshNano = this.secretTtlNano * SECRET_REFRESH_PERCENT_PROPERTY.getInteger(props) / 100;
 
     this.secretsManagerClientFunc = secretsManagerClientFunc;
     this.getSecretValueRequestFunc = getSecretValueRequestFunc;
     this.fetchCredentialsCounter = this.pluginService.getTelemetryFactory()
         .createCounter(TELEMETRY_FETCH_CREDENTIALS_COUNTER);
+    this.fetchCredentialsLatencyHistogram = this.pluginService.getTelemetryFactory()
+        .createHistogram(TELEMETRY_FETCH_CREDENTIALS_LATENCY, FETCH_CREDENTIALS_LATENCY_BUCKETS_MILLIS);
   }
 
   @Override
@@ -195,7 +224,7 @@ public class AwsSecretsManagerConnectionPlugin extends AbstractConnectionPlugin
 
   private Connection connectInternal(HostSpec hostSpec, Properties props,
       JdbcCallable<Connection, SQLException> connectFunc) throws SQLException {
-    boolean secretWasFetched = updateSecret(hostSpec, false);
+    boolean secretWasFetched = updateSecret(hostSpec, null);
 
     try {
       applySecretToProperties(props);
@@ -207,7 +236,7 @@ public class AwsSecretsManagerConnectionPlugin extends AbstractConnectionPlugin
         // Login unsuccessful with cached credentials
         // Try to re-fetch credentials and try again
 
-        secretWasFetched = updateSecret(hostSpec, true);
+        secretWasFetched = updateSecret(hostSpec, System.nanoTime());
         if (secretWasFetched) {
           applySecretToProperties(props);
           return connectFunc.call();
@@ -236,29 +265,39 @@ public class AwsSecretsManagerConnectionPlugin extends AbstractConnectionPlugin
   }
 
   /**
-   * Called to update credentials from the cache, or from the AWS Secrets Manager service.
+   * Called to update credentials from the cache, or from the AWS Secrets Manager service. Cached
+   * credentials that are close to the end of their time-to-live are used as is and refreshed in the
+   * background.
    *
-   * @param forceReFetch Allows ignoring cached credentials and force fetches the latest credentials from the service.
+   * @param loginFailureTimeNano The time a login with the current credentials failed, or null. If set, the latest
+   *                             credentials are fetched from the service. Credentials that differ from the current
+   *                             ones, or that were fetched after the failure, are used instead of fetching them again.
    * @return true, if credentials were fetched from the service.
    */
-  private boolean updateSecret(final HostSpec hostSpec, final boolean forceReFetch) throws SQLException {
+  private boolean updateSecret(final HostSpec hostSpec, final @Nullable Long loginFailureTimeNano)
+      throws SQLException {
+    final boolean forceReFetch = loginFailureTimeNano != null;
 
     TelemetryFactory telemetryFactory = this.pluginService.getTelemetryFactory();
     TelemetryContext telemetryContext = telemetryFactory.openTelemetryContext(
         TELEMETRY_UPDATE_SECRETS, TelemetryTraceLevel.NESTED);
-    this.fetchCredentialsCounter.inc();
 
     try {
       boolean fetched = false;
-      this.secret = AwsSecretsManagerCacheHolder.secretsCache.get(this.secretKey);
+      final Secret cachedSecret = AwsSecretsManagerCacheHolder.secretsCache.get(this.secretKey);
+
+      if (forceReFetch && cachedSecret != null
+          && isUpdatedAfterLoginFailure(cachedSecret, this.secret, loginFailureTimeNano)) {
+        // Another connection has already fetched the latest credentials.
+        this.secret = cachedSecret;
+        return true;
+      }
+      this.secret = cachedSecret;
 
-      if (secret == null || forceReFetch) {
+      if (secret == null || forceReFetch || this.isSecretExpired(secret)) {
         try {
-          this.secret = fetchLatestCredentials(hostSpec);
-          if (this.secret != null) {
-            fetched = true;
-            AwsSecretsManagerCacheHolder.secretsCache.put(this.secretKey, this.secret);
-          }
+          this.secret = this.getSecret(hostSpec, loginFailureTimeNano);
+          fetched = this.secret != null;
         } catch (final SecretsManagerException | JsonProcessingException exception) {
           LOGGER.log(
               Level.WARNING,
@@ -297,6 +336,9 @@ public class AwsSecretsManagerConnectionPlugin extends AbstractConnectionPlugin
           throw new SQLException(exception);
         }
       }
+      if (!fetched && this.isSecretRefreshDue(secret)) {
+        this.fetchSecret(hostSpec, true, null);
+      }
       return fetched;
     } catch (Exception ex) {
       telemetryContext.setSuccess(false);
@@ -307,6 +349,118 @@ public class AwsSecretsManagerConnectionPlugin extends AbstractConnectionPlugin
     }
   }
 
+  private boolean isSecretExpired(final Secret secret) {
+    return this.secretTtlNano > 0
+        && secret.fetchTimeNano != null
+        && System.nanoTime() - secret.fetchTimeNano >= this.secretTtlNano;
+  }
+
+  /**
+   * Checks whether a cached secret can be used after a login with the failed secret was rejected. Credentials that
+   * differ from the failed ones can be used. The same credentials can only be used if they were fetched after the
+   * failure; a fetch that started earlier may have returned them before they were rotated.
+   */
+  private static boolean isUpdatedAfterLoginFailure(
+      final Secret cachedSecret, final @Nullable Secret failedSecret, final long loginFailureTimeNano) {
+    if (failedSecret == null
+        || !Objects.equals(cachedSecret.getUsername(), failedSecret.getUsername())
+        || !Objects.equals(cachedSecret.getPassword(), failedSecret.getPassword())) {
+      return true;
+    }
+    return cachedSecret.fetchTimeNano != null && cachedSecret.fetchTimeNano - loginFailureTimeNano > 0;
+  }
+
+  private boolean isSecretRefreshDue(final Secret secret) {
+    return this.secretRefreshNano > 0
+        && secret != null
+        && secret.fetchTimeNano != null
+        && System.nanoTime() - secret.fetchTimeNano >= this.secretRefreshNano;
+  }
+
+  /**
+   * Fetches the latest credentials and waits for them. If the credentials are already being fetched for
+   * the same secret, waits for that request instead, unless it was sent before the given login failure.
+   */
+  private Secret getSecret(final HostSpec hostSpec, final @Nullable Long loginFailureTimeNano) throws Exception {
+    try {
+      return this.fetchSecret(hostSpec, false, loginFailureTimeNano).join();
+    } catch (final CompletionException exception) {
+      if (exception.getCause() instanceof Exception) {
+        throw (Exception) exception.getCause();
+      }
+      throw exception;
+    }
+  }
+
+  /**
+   * Starts fetching the latest credentials for this plugin's secret unless they are already being
+   * fetched. The fetched credentials are stored in the secrets cache.
+   *
+   * @param hostSpec     A {@link HostSpec} instance containing host information for the current connection.
+   * @param inBackground whether the credentials should be fetched by the secret refresh executor instead of
+   *                     the calling thread
+   * @param loginFailureTimeNano the time a login with the current credentials failed, or null. A fetch that was
+   *                             started before this time isn't waited for, as it may return the same credentials.
+   * @return a future that completes with the fetched credentials
+   */
+  private CompletableFuture<Secret> fetchSecret(
+      final HostSpec hostSpec, final boolean inBackground, final @Nullable Long loginFailureTimeNano) {
+    final PendingSecret future = new PendingSecret(System.nanoTime());
+    final PendingSecret pendingFuture = AwsSecretsManagerCacheHolder.pendingSecrets.compute(
+        this.secretKey,
+        (key, currentFuture) -> currentFuture != null
+            && (loginFailureTimeNano == null || currentFuture.startTimeNano - loginFailureTimeNano > 0)
+            ? currentFuture
+            : future);
+    if (pendingFuture != future) {
+      return pendingFuture;
+    }
+
+    final Runnable fetchTask = () -> {
+      final long startTimeNano = System.nanoTime();
+      try {
+        this.fetchCredentialsCounter.inc();
+        final Secret fetchedSecret = this.fetchLatestCredentials(hostSpec);
+        if (fetchedSecret != null) {
+          // The time the request was sent, so a secret can be compared with the time a login failed.
+          fetchedSecret.fetchTimeNano = future.startTimeNano;
+          // A fetch that was sent earlier but completes later doesn't replace these credentials.
+          AwsSecretsManagerCacheHolder.secretsCache.merge(
+              this.secretKey,
+              fetchedSecret,
+              (cachedSecret, newSecret) -> cachedSecret.fetchTimeNano != null
+                  && cachedSecret.fetchTimeNano - newSecret.fetchTimeNano > 0 ? cachedSecret : newSecret);
+        }
+        AwsSecretsManagerCacheHolder.pendingSecrets.remove(this.secretKey, future);
+        future.complete(fetchedSecret);
+      } catch (final Throwable throwable) {
+        if (inBackground) {
+          LOGGER.fine(
+              () -> Messages.get(
+                  "AwsSecretsManagerConnectionPlugin.secretRefreshFailed",
+                  new Object[] {this.secretKey.getValue1(), throwable}));
+        }
+        AwsSecretsManagerCacheHolder.pendingSecrets.remove(this.secretKey, future);
+        future.completeExceptionally(throwable);
+      } finally {
+        this.fetchCredentialsLatencyHistogram.record(
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTimeNano));
+      }
+    };
+
+    if (inBackground) {
+      try {
+        AwsSecretsManagerCacheHolder.secretRefreshExecutor.execute(fetchTask);
+      } catch (final RejectedExecutionException exception) {
+        AwsSecretsManagerCacheHolder.pendingSecrets.remove(this.secretKey, future);
+        future.completeExceptionally(exception);
+      }
+    } else {
+      fetchTask.run();
+    }
+    return future;
+  }
+
   /**
    * Fetches the current credentials from AWS Secrets Manager service.
    *
@@ -329,8 +483,7 @@ public class AwsSecretsManagerConnectionPlugin extends AbstractConnectionPlugin
       client.close();
     }
 
-    final ObjectMapper mapper = new ObjectMapper();
-    return mapper.readValue(valueResponse.secretString(), Secret.class);
+    return SecretReaderHolder.SECRET_READER.readValue(valueResponse.secretString());
   }
 
   /**
@@ -350,12 +503,22 @@ public class AwsSecretsManagerConnectionPlugin extends AbstractConnectionPlugin
     AwsSecretsManagerCacheHolder.clearCache();
   }
 
+  /**
+   * Holds the reader that maps secret strings to {@link Secret} objects. The reader is thread-safe and is
+   * created on first use, after the constructor has checked that Jackson is on the classpath.
+   */
+  private static class SecretReaderHolder {
+    static final ObjectReader SECRET_READER = new ObjectMapper().readerFor(Secret.class);
+  }
+
   @JsonIgnoreProperties(ignoreUnknown = true)
   static class Secret {
     @JsonProperty("username")
     private String username;
     @JsonProperty("password")
     private String password;
+    // Set when the secret is fetched from AWS Secrets Manager.
+    private Long fetchTimeNano;
 
     Secret() {
     }
@@ -365,6 +528,11 @@ public class AwsSecretsManagerConnectionPlugin extends AbstractConnectionPlugin
       this.password = password;
     }
 
+    Secret(final String username, final String password, final long fetchTimeNano) {
+      this(username, password);
+      this.fetchTimeNano = fetchTimeNano;
+    }
+
     String getUsername() {
       return this.username;
     }
@@ -35,21 +35,29 @@ import java.sql.SQLXML;
 import java.sql.Statement;
 import java.sql.Time;
 import java.sql.Timestamp;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.logging.Logger;
+import java.util.regex.Pattern;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import software.amazon.jdbc.AwsWrapperProperty;
+import software.amazon.jdbc.HostSpec;
 import software.amazon.jdbc.JdbcCallable;
 import software.amazon.jdbc.PluginService;
 import software.amazon.jdbc.PropertyDefinition;
+import software.amazon.jdbc.util.BoundedCacheMap;
 import software.amazon.jdbc.util.Messages;
 import software.amazon.jdbc.util.StringUtils;
 import software.amazon.jdbc.util.telemetry.TelemetryCounter;
@@ -59,6 +67,8 @@ import software.amazon.jdbc.util.telemetry.TelemetryGauge;
 public class DataCacheConnectionPlugin extends AbstractConnectionPlugin {
 
   private static final Logger LOGGER = Logger.getLogger(DataCacheConnectionPlugin.class.getName());
+  private static final Object[] EMPTY_ARGS = new Object[0];
+  private static final int MAX_TRIGGER_VERDICTS = 1000;
 
   private static final Set<String> subscribedMethods = Collections.unmodifiableSet(new HashSet<>(
       Arrays.asList("Statement.executeQuery", "Statement.execute",
@@ -69,32 +79,94 @@ public class DataCacheConnectionPlugin extends AbstractConnectionPlugin {
       "dataCacheTriggerCondition", "false",
       "A regular expression that, if it's matched, allows the plugin to cache SQL results.");
 
-  protected static final Map<String, ResultSet> dataCache = new ConcurrentHashMap<>();
+  public static final AwsWrapperProperty DATA_CACHE_MAX_ENTRIES = new AwsWrapperProperty(
+      "dataCacheMaxEntries", "1000",
+      "The maximum number of cached query results. The cache is shared by all connections and uses the largest "
+          + "value set by any of them.");
+
+  public static final AwsWrapperProperty DATA_CACHE_MAX_SIZE_BYTES = new AwsWrapperProperty(
+      "dataCacheMaxSizeBytes", "67108864",
+      "The maximum estimated size of all cached query results, in bytes. The cache is shared by all connections "
+          + "and uses the largest value set by any of them.");
+
+  public static final AwsWrapperProperty DATA_CACHE_EXPIRATION_TIME_MS = new AwsWrapperProperty(
+      "dataCacheExpirationTimeMs", "300000",
+      "The time in milliseconds after which a cached query result expires. Set to 0 to never expire results.");
+
+  public static final AwsWrapperProperty DATA_CACHE_LOAD_WAIT_TIMEOUT_MS = new AwsWrapperProperty(
+      "dataCacheLoadWaitTimeoutMs", "5000",
+      "The maximum time in milliseconds a query waits for the same query executed by another connection "
+          + "before executing it itself. A shorter query timeout of the statement takes precedence.");
+
+  protected static final BoundedCacheMap<DataCacheKey, CachedResultData> dataCache = new BoundedCacheMap<>(
+      Integer.parseInt(DATA_CACHE_MAX_ENTRIES.defaultValue),
+      Long.parseLong(DATA_CACHE_MAX_SIZE_BYTES.defaultValue),
+      CachedResultData::getEstimatedSize);
+
+  // Queries that are being loaded into the cache. Concurrent misses for the same key wait for a single load.
+  protected static final Map<DataCacheKey, CompletableFuture<CachedResultData>> pendingLoads =
+      new ConcurrentHashMap<>();
+
+  // Whether a query matches the trigger condition, shared by the connections with the same condition.
+  protected static final BoundedCacheMap<TriggerVerdictKey, Boolean> triggerVerdicts =
+      new BoundedCacheMap<>(MAX_TRIGGER_VERDICTS, Long.MAX_VALUE, (verdict) -> 1L);
+
+  // The largest limits configured by any connection, or -1 before the first connection sets them.
+  private static int configuredMaxEntries = -1;
+  private static long configuredMaxSize = -1;
 
   protected final String dataCacheTriggerCondition;
+  protected final @Nullable Pattern dataCacheTriggerPattern;
+  protected final long dataCacheExpirationTimeNano;
+  protected final long loadWaitTimeoutNano;
 
   static {
     PropertyDefinition.registerPluginProperties(DataCacheConnectionPlugin.class);
   }
 
+  private final PluginService pluginService;
+  private final Properties props;
   private final TelemetryFactory telemetryFactory;
   private final TelemetryCounter hitCounter;
   private final TelemetryCounter missCounter;
   private final TelemetryCounter totalCallsCounter;
   private final TelemetryGauge cacheSizeGauge;
+  private final TelemetryGauge cacheBytesGauge;
+  private final TelemetryCounter cacheEvictionsCounter;
+  private String database;
 
   public DataCacheConnectionPlugin(final PluginService pluginService, final Properties props) {
+    this.pluginService = pluginService;
+    this.props = props;
     this.telemetryFactory = pluginService.getTelemetryFactory();
     this.dataCacheTriggerCondition = DATA_CACHE_TRIGGER_CONDITION.getString(props);
+    this.dataCacheTriggerPattern = StringUtils.isNullOrEmpty(this.dataCacheTriggerCondition)
+        ? null
+        : Pattern.compile(this.dataCacheTriggerCondition);
+    this.dataCacheExpirationTimeNano = TimeUnit.MILLISECONDS.toNanos(DATA_CACHE_EXPIRATION_TIME_MS.getLong(props));
+    this.loadWaitTimeoutNano = TimeUnit.MILLISECONDS.toNanos(DATA_CACHE_LOAD_WAIT_TIMEOUT_MS.getLong(props));
+    setCacheLimits(DATA_CACHE_MAX_ENTRIES.getInteger(props), DATA_CACHE_MAX_SIZE_BYTES.getLong(props));
 
     this.hitCounter = telemetryFactory.createCounter("dataCache.cache.hit");
     this.missCounter = telemetryFactory.createCounter("dataCache.cache.miss");
     this.totalCallsCounter = telemetryFactory.createCounter("dataCache.cache.totalCalls");
     this.cacheSizeGauge = telemetryFactory.createGauge("dataCache.cache.size", () -> (long) dataCache.size());
+    this.cacheBytesGauge = telemetryFactory.createGauge("dataCache.cache.bytes", dataCache::getEstimatedSize);
+    this.cacheEvictionsCounter = telemetryFactory.createCounter("dataCache.cache.evictions");
+  }
+
+  private static synchronized void setCacheLimits(final int maxEntries, final long maxSize) {
+    // The cache is shared, so a connection with lower limits doesn't shrink it for the others.
+    if (maxEntries > configuredMaxEntries || maxSize > configuredMaxSize) {
+      configuredMaxEntries = Math.max(configuredMaxEntries, maxEntries);
+      configuredMaxSize = Math.max(configuredMaxSize, maxSize);
+      dataCache.setLimits(configuredMaxEntries, configuredMaxSize);
+    }
   }
 
   public static void clearCache() {
     dataCache.clear();
+    triggerVerdicts.clear();
   }
 
   @Override
@@ -112,54 +184,127 @@ public class DataCacheConnectionPlugin extends AbstractConnectionPlugin {
       final Object[] jdbcMethodArgs)
       throws E {
 
-    if (StringUtils.isNullOrEmpty(this.dataCacheTriggerCondition) || resultClass != ResultSet.class) {
+    if (this.dataCacheTriggerPattern == null || resultClass != ResultSet.class) {
       return jdbcMethodFunc.call();
     }
 
     totalCallsCounter.inc();
 
-    ResultSet result;
-    boolean needToCache = false;
     final String sql = getQuery(jdbcMethodArgs);
 
-    if (!StringUtils.isNullOrEmpty(sql) && sql.matches(this.dataCacheTriggerCondition)) {
-      result = dataCache.get(sql);
-      if (result == null) {
-        needToCache = true;
-        missCounter.inc();
-        LOGGER.finest(
-            () -> Messages.get(
-                "DataCacheConnectionPlugin.queryResultsCached",
-                new Object[]{methodName, sql}));
-      } else {
+    if (StringUtils.isNullOrEmpty(sql) || !this.isCacheable(sql)) {
+      return jdbcMethodFunc.call();
+    }
+
+    final DataCacheKey key = new DataCacheKey(this.getDatabase(), sql, jdbcMethodArgs);
+    CachedResultData cachedData = dataCache.get(key);
+    if (cachedData != null) {
+      hitCounter.inc();
+      // Each caller gets its own cursor over the shared cached data.
+      return resultClass.cast(new CachedResultSet(cachedData));
+    }
+
+    final CompletableFuture<CachedResultData> load = new CompletableFuture<>();
+    final CompletableFuture<CachedResultData> pendingLoad = pendingLoads.putIfAbsent(key, load);
+    if (pendingLoad != null) {
+      // Another connection is already executing the same query.
+      cachedData = this.waitForLoad(pendingLoad, methodInvokeOn);
+      if (cachedData != null) {
         hitCounter.inc();
-        try {
-          result.beforeFirst();
-        } catch (final SQLException ex) {
-          if (exceptionClass.isAssignableFrom(ex.getClass())) {
-            throw exceptionClass.cast(ex);
-          }
-          throw new RuntimeException(ex);
-        }
+        return resultClass.cast(new CachedResultSet(cachedData));
+      }
+      missCounter.inc();
+      return jdbcMethodFunc.call();
+    }
+
+    try {
+      // The query may have been loaded since the first lookup.
+      cachedData = dataCache.get(key);
+      if (cachedData != null) {
+        hitCounter.inc();
+        load.complete(cachedData);
+        return resultClass.cast(new CachedResultSet(cachedData));
+      }
+
+      missCounter.inc();
+      LOGGER.finest(
+          () -> Messages.get(
+              "DataCacheConnectionPlugin.queryResultsCached",
+              new Object[]{methodName, sql}));
+
+      final ResultSet result = (ResultSet) jdbcMethodFunc.call();
+      try {
+        cachedData = new CachedResultData(result);
+      } catch (final SQLException ex) {
+        load.complete(null);
         return resultClass.cast(result);
       }
+      dataCache.put(key, cachedData, this.dataCacheExpirationTimeNano, this.cacheEvictionsCounter);
+      load.complete(cachedData);
+      return resultClass.cast(new CachedResultSet(cachedData));
+
+    } finally {
+      // Waiting connections execute the query themselves if this load failed.
+      load.complete(null);
+      pendingLoads.remove(key, load);
+    }
+  }
+
+  protected boolean isCacheable(final String sql) {
+    if (this.dataCacheTriggerPattern == null) {
+      return false;
+    }
+    final TriggerVerdictKey key = new TriggerVerdictKey(this.dataCacheTriggerCondition, sql);
+    final Boolean verdict = triggerVerdicts.get(key);
+    if (verdict != null) {
+      return verdict;
     }
+    final boolean matches = this.dataCacheTriggerPattern.matcher(sql).matches();
+    triggerVerdicts.put(key, matches, 0);
+    return matches;
+  }
 
-    result = (ResultSet) jdbcMethodFunc.call();
+  protected @Nullable CachedResultData waitForLoad(
+      final CompletableFuture<CachedResultData> pendingLoad, final Object methodInvokeOn) {
+    final long timeoutNano = this.getLoadWaitTimeoutNano(methodInvokeOn);
+    try {
+      return pendingLoad.get(timeoutNano, TimeUnit.NANOSECONDS);
+    } catch (final InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      return null;
+    } catch (final ExecutionException ex) {
+      return null;
+    } catch (final TimeoutException ex) {
+      LOGGER.finest(() -> Messages.get(
+          "DataCacheConnectionPlugin.loadWaitTimedOut",
+          new Object[] {TimeUnit.NANOSECONDS.toMillis(timeoutNano)}));
+      return null;
+    }
+  }
 
-    if (needToCache) {
-      final ResultSet cachedResultSet;
+  protected long getLoadWaitTimeoutNano(final Object methodInvokeOn) {
+    if (methodInvokeOn instanceof Statement) {
       try {
-        cachedResultSet = new CachedResultSet(result);
-        dataCache.put(sql, cachedResultSet);
-        cachedResultSet.beforeFirst();
-        return resultClass.cast(cachedResultSet);
+        final int queryTimeoutSec = ((Statement) methodInvokeOn).getQueryTimeout();
+        if (queryTimeoutSec > 0) {
+          return Math.min(this.loadWaitTimeoutNano, TimeUnit.SECONDS.toNanos(queryTimeoutSec));
+        }
       } catch (final SQLException ex) {
-        // ignore exception
+        // ignore
       }
     }
+    return this.loadWaitTimeoutNano;
+  }
 
-    return resultClass.cast(result);
+  protected String getDatabase() {
+    if (this.database == null) {
+      // Results of the same query can only be shared by connections to the same database.
+      final HostSpec hostSpec = this.pluginService.getInitialConnectionHostSpec();
+      final String databaseName = PropertyDefinition.DATABASE.getString(this.props);
+      this.database = (hostSpec == null ? "" : hostSpec.getHostAndPort())
+          + "/" + (databaseName == null ? "" : databaseName);
+    }
+    return this.database;
   }
 
   protected String getQuery(final Object[] jdbcMethodArgs) {
@@ -171,105 +316,642 @@ public class DataCacheConnectionPlugin extends AbstractConnectionPlugin {
     return null;
   }
 
-  public static class CachedRow {
-    protected final HashMap<Integer, Object> columnByIndex = new HashMap<>();
-    protected final HashMap<String, Object> columnByName = new HashMap<>();
+  /**
+   * Identifies a cached query result by the target database, the SQL query and the remaining
+   * arguments of the execute method, e.g. the auto-generated keys flag.
+   */
+  protected static class DataCacheKey {
+    private final String database;
+    private final String sql;
+    private final Object[] args;
+    private final int hashCode;
+
+    DataCacheKey(final String database, final String sql, final Object[] jdbcMethodArgs) {
+      this.database = database;
+      this.sql = sql;
+      this.args = jdbcMethodArgs.length > 1
+          ? Arrays.copyOfRange(jdbcMethodArgs, 1, jdbcMethodArgs.length)
+          : EMPTY_ARGS;
+      this.hashCode = Objects.hash(database, sql, Arrays.deepHashCode(this.args));
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof DataCacheKey)) {
+        return false;
+      }
+      final DataCacheKey other = (DataCacheKey) obj;
+      return this.hashCode == other.hashCode
+          && this.sql.equals(other.sql)
+          && this.database.equals(other.database)
+          && Arrays.deepEquals(this.args, other.args);
+    }
+
+    @Override
+    public int hashCode() {
+      return this.hashCode;
+    }
+  }
+
+  protected static class TriggerVerdictKey {
+    private final String triggerCondition;
+    private final String sql;
+    private final int hashCode;
+
+    TriggerVerdictKey(final String triggerCondition, final String sql) {
+      this.triggerCondition = triggerCondition;
+      this.sql = sql;
+      this.hashCode = Objects.hash(triggerCondition, sql);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof TriggerVerdictKey)) {
+        return false;
+      }
+      final TriggerVerdictKey other = (TriggerVerdictKey) obj;
+      return this.hashCode == other.hashCode
+          && this.sql.equals(other.sql)
+          && this.triggerCondition.equals(other.triggerCondition);
+    }
+
+    @Override
+    public int hashCode() {
+      return this.hashCode;
+    }
+  }
+
+  /**
+   * The rows of a query result stored column by column. Columns that only hold {@link Integer},
+   * {@link Long}, {@link Double} or {@link Boolean} values are kept in primitive arrays with a bitmap
+   * of null values; other columns keep their values as objects. Instances are immutable once built,
+   * so the same data can be read by many {@link CachedResultSet} cursors at the same time.
+   */
+  public static class CachedResultData {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    protected final String[] columnNames;
+    protected final Map<String, Integer> columnIndexByName;
+    protected final CachedColumn[] columns;
+    protected final int rowCount;
+    protected final long estimatedSize;
+
+    public CachedResultData(final ResultSet resultSet) throws SQLException {
+      final ResultSetMetaData md = resultSet.getMetaData();
+      final int columnCount = md.getColumnCount();
+
+      this.columnNames = new String[columnCount];
+      final Map<String, Integer> indexByName = new HashMap<>();
+      long size = 64;
+      for (int i = 0; i < columnCount; i++) {
+        this.columnNames[i] = md.getColumnName(i + 1);
+        // As in JDBC drivers, the first column with a given name wins.
+        indexByName.putIfAbsent(this.columnNames[i], i + 1);
+        size += CachedColumn.estimateValueSize(this.columnNames[i]) + 32;
+      }
+      this.columnIndexByName = Collections.unmodifiableMap(indexByName);
+
+      Object[][] values = new Object[columnCount][INITIAL_CAPACITY];
+      int capacity = INITIAL_CAPACITY;
+      int rows = 0;
+      while (resultSet.next()) {
+        if (rows == capacity) {
+          capacity *= 2;
+          for (int i = 0; i < columnCount; i++) {
+            values[i] = Arrays.copyOf(values[i], capacity);
+          }
+        }
+        for (int i = 0; i < columnCount; i++) {
+          values[i][rows] = resultSet.getObject(i + 1);
+        }
+        rows++;
+      }
+      this.rowCount = rows;
+
+      this.columns = new CachedColumn[columnCount];
+      for (int i = 0; i < columnCount; i++) {
+        this.columns[i] = CachedColumn.create(values[i], rows);
+        values[i] = null;
+        size += this.columns[i].getEstimatedSize();
+      }
+      this.estimatedSize = size;
+    }
+
+    public int getRowCount() {
+      return this.rowCount;
+    }
+
+    public int getColumnCount() {
+      return this.columns.length;
+    }
+
+    /**
+     * Returns the index of the column with the given name. The name is matched case-insensitively
+     * when there is no exact match.
+     *
+     * @param columnName the name of the column
+     * @return the index of the column starting from 1, or 0 if there is no such column
+     */
+    public int getColumnIndex(final String columnName) {
+      final Integer columnIndex = this.columnIndexByName.get(columnName);
+      if (columnIndex != null) {
+        return columnIndex;
+      }
+      for (int i = 0; i < this.columnNames.length; i++) {
+        if (this.columnNames[i] != null && this.columnNames[i].equalsIgnoreCase(columnName)) {
+          return i + 1;
+        }
+      }
+      return 0;
+    }
+
+    /**
+     * Returns a rough estimate of the memory used by the cached data, in bytes.
+     *
+     * @return the estimated size of the cached data
+     */
+    public long getEstimatedSize() {
+      return this.estimatedSize;
+    }
+  }
+
+  /**
+   * A column of {@link CachedResultData}. Values are converted to the requested type the way most
+   * JDBC drivers do for the corresponding getters.
+   */
+  protected abstract static class CachedColumn {
+
+    // Bit i is set if the value in row i is null.
+    protected final long @Nullable [] nulls;
+
+    protected CachedColumn(final long @Nullable [] nulls) {
+      this.nulls = nulls;
+    }
+
+    static CachedColumn create(final Object[] values, final int rowCount) {
+      Class<?> valueClass = null;
+      for (int i = 0; i < rowCount; i++) {
+        if (values[i] == null) {
+          continue;
+        }
+        if (valueClass == null) {
+          valueClass = values[i].getClass();
+        } else if (valueClass != values[i].getClass()) {
+          valueClass = Object.class;
+          break;
+        }
+      }
+
+      if (valueClass == Integer.class) {
+        final int[] ints = new int[rowCount];
+        for (int i = 0; i < rowCount; i++) {
+          ints[i] = values[i] == null ? 0 : (Integer) values[i];
+        }
+        return new IntColumn(ints, createNullBitmap(values, rowCount));
+      } else if (valueClass == Long.class) {
+        final long[] longs = new long[rowCount];
+        for (int i = 0; i < rowCount; i++) {
+          longs[i] = values[i] == null ? 0 : (Long) values[i];
+        }
+        return new LongColumn(longs, createNullBitmap(values, rowCount));
+      } else if (valueClass == Double.class) {
+        final double[] doubles = new double[rowCount];
+        for (int i = 0; i < rowCount; i++) {
+          doubles[i] = values[i] == null ? 0 : (Double) values[i];
+        }
+        return new DoubleColumn(doubles, createNullBitmap(values, rowCount));
+      } else if (valueClass == Boolean.class) {
+        final boolean[] booleans = new boolean[rowCount];
+        for (int i = 0; i < rowCount; i++) {
+          booleans[i] = values[i] != null && (Boolean) values[i];
+        }
+        return new BooleanColumn(booleans, createNullBitmap(values, rowCount));
+      }
+      return new ObjectColumn(Arrays.copyOf(values, rowCount));
+    }
+
+    private static long @Nullable [] createNullBitmap(final Object[] values, final int rowCount) {
+      long[] nulls = null;
+      for (int i = 0; i < rowCount; i++) {
+        if (values[i] == null) {
+          if (nulls == null) {
+            nulls = new long[(rowCount + 63) >>> 6];
+          }
+          nulls[i >>> 6] |= 1L << i;
+        }
+      }
+      return nulls;
+    }
 
-    public void put(final int columnIndex, final String columnName, final Object columnValue) {
-      columnByIndex.put(columnIndex, columnValue);
-      columnByName.put(columnName, columnValue);
+    boolean isNull(final int row) {
+      return this.nulls != null && (this.nulls[row >>> 6] & (1L << row)) != 0;
     }
 
-    @SuppressWarnings("unused")
-    public Object get(final int columnIndex) {
-      return columnByIndex.get(columnIndex);
+    abstract Object getObject(int row);
+
+    abstract long getEstimatedSize();
+
+    String getString(final int row) {
+      return this.getObject(row).toString();
+    }
+
+    long getLong(final int row) throws SQLException {
+      final Object value = this.getObject(row);
+      if (value instanceof Number) {
+        return ((Number) value).longValue();
+      } else if (value instanceof Boolean) {
+        return (Boolean) value ? 1 : 0;
+      } else if (value instanceof String) {
+        try {
+          return Long.parseLong(((String) value).trim());
+        } catch (final NumberFormatException ex) {
+          return this.getBigDecimal(row).longValue();
+        }
+      }
+      throw unsupportedConversion(value, long.class);
     }
 
-    @SuppressWarnings("unused")
-    public Object get(final String columnName) {
-      return columnByName.get(columnName);
+    double getDouble(final int row) throws SQLException {
+      final Object value = this.getObject(row);
+      if (value instanceof Number) {
+        return ((Number) value).doubleValue();
+      } else if (value instanceof Boolean) {
+        return (Boolean) value ? 1 : 0;
+      } else if (value instanceof String) {
+        try {
+          return Double.parseDouble(((String) value).trim());
+        } catch (final NumberFormatException ex) {
+          throw unsupportedConversion(value, double.class);
+        }
+      }
+      throw unsupportedConversion(value, double.class);
+    }
+
+    boolean getBoolean(final int row) throws SQLException {
+      final Object value = this.getObject(row);
+      if (value instanceof Boolean) {
+        return (Boolean) value;
+      } else if (value instanceof Number) {
+        return ((Number) value).doubleValue() != 0;
+      } else if (value instanceof String) {
+        final String str = ((String) value).trim();
+        return "1".equals(str) || "true".equalsIgnoreCase(str) || "t".equalsIgnoreCase(str)
+            || "yes".equalsIgnoreCase(str) || "y".equalsIgnoreCase(str);
+      }
+      throw unsupportedConversion(value, boolean.class);
+    }
+
+    BigDecimal getBigDecimal(final int row) throws SQLException {
+      final Object value = this.getObject(row);
+      if (value instanceof BigDecimal) {
+        return (BigDecimal) value;
+      } else if (value instanceof Number || value instanceof String) {
+        try {
+          return new BigDecimal(value.toString().trim());
+        } catch (final NumberFormatException ex) {
+          throw unsupportedConversion(value, BigDecimal.class);
+        }
+      } else if (value instanceof Boolean) {
+        return (Boolean) value ? BigDecimal.ONE : BigDecimal.ZERO;
+      }
+      throw unsupportedConversion(value, BigDecimal.class);
+    }
+
+    static <T> T convert(final Object value, final Class<T> type) throws SQLException {
+      if (value == null || type.isInstance(value)) {
+        return type.cast(value);
+      } else if (value instanceof java.util.Date) {
+        final long time = ((java.util.Date) value).getTime();
+        if (type == Date.class) {
+          return type.cast(new Date(time));
+        } else if (type == Time.class) {
+          return type.cast(new Time(time));
+        } else if (type == Timestamp.class) {
+          return type.cast(new Timestamp(time));
+        }
+      }
+      throw unsupportedConversion(value, type);
+    }
+
+    static SQLException unsupportedConversion(final Object value, final Class<?> type) {
+      return new SQLException(
+          Messages.get(
+              "DataCacheConnectionPlugin.unsupportedConversion",
+              new Object[] {value.getClass().getName(), type.getName()}));
+    }
+
+    static long estimateValueSize(final Object value) {
+      if (value == null) {
+        return 0;
+      } else if (value instanceof String) {
+        return 40 + 2L * ((String) value).length();
+      } else if (value instanceof byte[]) {
+        return 16 + ((byte[]) value).length;
+      } else if (value instanceof Number || value instanceof Boolean) {
+        return value instanceof BigDecimal ? 64 : 24;
+      }
+      return 64;
+    }
+
+    long getNullBitmapSize() {
+      return this.nulls == null ? 0 : 16 + 8L * this.nulls.length;
     }
   }
 
+  protected static class IntColumn extends CachedColumn {
+    private final int[] values;
+
+    IntColumn(final int[] values, final long @Nullable [] nulls) {
+      super(nulls);
+      this.values = values;
+    }
+
+    @Override
+    Object getObject(final int row) {
+      return this.values[row];
+    }
+
+    @Override
+    String getString(final int row) {
+      return Integer.toString(this.values[row]);
+    }
+
+    @Override
+    long getLong(final int row) {
+      return this.values[row];
+    }
+
+    @Override
+    double getDouble(final int row) {
+      return this.values[row];
+    }
+
+    @Override
+    boolean getBoolean(final int row) {
+      return this.values[row] != 0;
+    }
+
+    @Override
+    long getEstimatedSize() {
+      return 32 + 4L * this.values.length + this.getNullBitmapSize();
+    }
+  }
+
+  protected static class LongColumn extends CachedColumn {
+    private final long[] values;
+
+    LongColumn(final long[] values, final long @Nullable [] nulls) {
+      super(nulls);
+      this.values = values;
+    }
+
+    @Override
+    Object getObject(final int row) {
+      return this.values[row];
+    }
+
+    @Override
+    String getString(final int row) {
+      return Long.toString(this.values[row]);
+    }
+
+    @Override
+    long getLong(final int row) {
+      return this.values[row];
+    }
+
+    @Override
+    double getDouble(final int row) {
+      return this.values[row];
+    }
+
+    @Override
+    boolean getBoolean(final int row) {
+      return this.values[row] != 0;
+    }
+
+    @Override
+    long getEstimatedSize() {
+      return 32 + 8L * this.values.length + this.getNullBitmapSize();
+    }
+  }
+
+  protected static class DoubleColumn extends CachedColumn {
+    private final double[] values;
+
+    DoubleColumn(final double[] values, final long @Nullable [] nulls) {
+      super(nulls);
+      this.values = values;
+    }
+
+    @Override
+    Object getObject(final int row) {
+      return this.values[row];
+    }
+
+    @Override
+    String getString(final int row) {
+      return Double.toString(this.values[row]);
+    }
+
+    @Override
+    long getLong(final int row) {
+      return (long) this.values[row];
+    }
+
+    @Override
+    double getDouble(final int row) {
+      return this.values[row];
+    }
+
+    @Override
+    boolean getBoolean(final int row) {
+      return this.values[row] != 0;
+    }
+
+    @Override
+    long getEstimatedSize() {
+      return 32 + 8L * this.values.length + this.getNullBitmapSize();
+    }
+  }
+
+  protected static class BooleanColumn extends CachedColumn {
+    private final boolean[] values;
+
+    BooleanColumn(final boolean[] values, final long @Nullable [] nulls) {
+      super(nulls);
+      this.values = values;
+    }
+
+    @Override
+    Object getObject(final int row) {
+      return this.values[row];
+    }
+
+    @Override
+    String getString(final int row) {
+      return Boolean.toString(this.values[row]);
+    }
+
+    @Override
+    long getLong(final int row) {
+      return this.values[row] ? 1 : 0;
+    }
+
+    @Override
+    double getDouble(final int row) {
+      return this.values[row] ? 1 : 0;
+    }
+
+    @Override
+    boolean getBoolean(final int row) {
+      return this.values[row];
+    }
+
+    @Override
+    long getEstimatedSize() {
+      return 32 + this.values.length + this.getNullBitmapSize();
+    }
+  }
+
+  protected static class ObjectColumn extends CachedColumn {
+    private final Object[] values;
+    private final long estimatedSize;
+
+    ObjectColumn(final Object[] values) {
+      super(null);
+      this.values = values;
+      long size = 32 + 8L * values.length;
+      for (final Object value : values) {
+        size += estimateValueSize(value);
+      }
+      this.estimatedSize = size;
+    }
+
+    @Override
+    boolean isNull(final int row) {
+      return this.values[row] == null;
+    }
+
+    @Override
+    Object getObject(final int row) {
+      return this.values[row];
+    }
+
+    @Override
+    long getEstimatedSize() {
+      return this.estimatedSize;
+    }
+  }
+
+  /**
+   * A read-only cursor over {@link CachedResultData}. Every cursor has its own position, so many
+   * cursors can read the same cached data concurrently.
+   */
   @SuppressWarnings({"RedundantThrows", "checkstyle:OverloadMethodsDeclarationOrder"})
   public static class CachedResultSet implements ResultSet {
 
-    protected ArrayList<CachedRow> rows;
+    protected final CachedResultData data;
     protected int currentRow;
+    protected boolean wasNull;
 
     public CachedResultSet(final ResultSet resultSet) throws SQLException {
+      this(new CachedResultData(resultSet));
+    }
 
-      final ResultSetMetaData md = resultSet.getMetaData();
-      final int columns = md.getColumnCount();
-      rows = new ArrayList<>();
+    public CachedResultSet(final CachedResultData data) {
+      this.data = data;
+      this.currentRow = -1;
+    }
 
-      while (resultSet.next()) {
-        final CachedRow row = new CachedRow();
-        for (int i = 1; i <= columns; ++i) {
-          row.put(i, md.getColumnName(i), resultSet.getObject(i));
-        }
-        rows.add(row);
+    // Returns the column of the given index if the value in the current row isn't null.
+    private @Nullable CachedColumn getColumn(final int columnIndex) throws SQLException {
+      if (columnIndex < 1 || columnIndex > this.data.columns.length) {
+        throw new SQLException(
+            Messages.get("DataCacheConnectionPlugin.columnIndexOutOfRange",
+                new Object[] {columnIndex, this.data.columns.length}));
+      }
+      if (this.currentRow < 0 || this.currentRow >= this.data.rowCount) {
+        this.wasNull = true;
+        return null; // out of boundaries
       }
-      currentRow = -1;
+      final CachedColumn column = this.data.columns[columnIndex - 1];
+      this.wasNull = column.isNull(this.currentRow);
+      return this.wasNull ? null : column;
     }
 
     @Override
     public boolean next() throws SQLException {
-      if (rows.size() == 0 || isLast()) {
+      if (this.currentRow + 1 >= this.data.rowCount) {
         return false;
       }
-      currentRow++;
+      this.currentRow++;
       return true;
     }
 
     @Override
     public void close() throws SQLException {
-      currentRow = rows.size() - 1;
+      this.currentRow = this.data.rowCount - 1;
     }
 
     @Override
     public boolean wasNull() throws SQLException {
-      throw new UnsupportedOperationException();
+      return this.wasNull;
     }
 
     @Override
     public String getString(final int columnIndex) throws SQLException {
-      throw new UnsupportedOperationException();
+      final CachedColumn column = this.getColumn(columnIndex);
+      return column == null ? null : column.getString(this.currentRow);
     }
 
     @Override
     public boolean getBoolean(final int columnIndex) throws SQLException {
-      throw new UnsupportedOperationException();
+      final CachedColumn column = this.getColumn(columnIndex);
+      return column != null && column.getBoolean(this.currentRow);
     }
 
     @Override
     public byte getByte(final int columnIndex) throws SQLException {
-      throw new UnsupportedOperationException();
+      final CachedColumn column = this.getColumn(columnIndex);
+      return column == null ? 0 : (byte) column.getLong(this.currentRow);
     }
 
     @Override
     public short getShort(final int columnIndex) throws SQLException {
-      throw new UnsupportedOperationException();
+      final CachedColumn column = this.getColumn(columnIndex);
+      return column == null ? 0 : (short) column.getLong(this.currentRow);
     }
 
     @Override
     public int getInt(final int columnIndex) throws SQLException {
-      throw new UnsupportedOperationException();
+      final CachedColumn column = this.getColumn(columnIndex);
+      return column == null ? 0 : (int) column.getLong(this.currentRow);
     }
 
     @Override
     public long getLong(final int columnIndex) throws SQLException {
-      throw new UnsupportedOperationException();
+      final CachedColumn column = this.getColumn(columnIndex);
+      return column == null ? 0 : column.getLong(this.currentRow);
     }
 
     @Override
     public float getFloat(final int columnIndex) throws SQLException {
-      throw new UnsupportedOperationException();
+      final CachedColumn column = this.getColumn(columnIndex);
+      return column == null ? 0 : (float) column.getDouble(this.currentRow);
     }
 
     @Override
     public double getDouble(final int columnIndex) throws SQLException {
-      throw new UnsupportedOperationException();
+      final CachedColumn column = this.getColumn(columnIndex);
+      return column == null ? 0 : column.getDouble(this.currentRow);
     }
 
     @Override
@@ -280,22 +962,22 @@ public class DataCacheConnectionPlugin extends AbstractConnectionPlugin {
 
     @Override
     public byte[] getBytes(final int columnIndex) throws SQLException {
-      throw new UnsupportedOperationException();
+      return CachedColumn.convert(this.getObject(columnIndex), byte[].class);
     }
 
     @Override
     public Date getDate(final int columnIndex) throws SQLException {
-      throw new UnsupportedOperationException();
+      return CachedColumn.convert(this.getObject(columnIndex), Date.class);
     }
 
     @Override
     public Time getTime(final int columnIndex) throws SQLException {
-      throw new UnsupportedOperationException();
+      return CachedColumn.convert(this.getObject(columnIndex), Time.class);
     }
 
     @Override
     public Timestamp getTimestamp(final int columnIndex) throws SQLException {
-      throw new UnsupportedOperationException();
+      return CachedColumn.convert(this.getObject(columnIndex), Timestamp.class);
     }
 
     @Override
@@ -316,42 +998,42 @@ public class DataCacheConnectionPlugin extends AbstractConnectionPlugin {
 
     @Override
     public String getString(final String columnLabel) throws SQLException {
-      throw new UnsupportedOperationException();
+      return this.getString(this.findColumn(columnLabel));
     }
 
     @Override
     public boolean getBoolean(final String columnLabel) throws SQLException {
-      throw new UnsupportedOperationException();
+      return this.getBoolean(this.findColumn(columnLabel));
     }
 
     @Override
     public byte getByte(final String columnLabel) throws SQLException {
-      throw new UnsupportedOperationException();
+      return this.getByte(this.findColumn(columnLabel));
     }
 
     @Override
     public short getShort(final String columnLabel) throws SQLException {
-      throw new UnsupportedOperationException();
+      return this.getShort(this.findColumn(columnLabel));
     }
 
     @Override
     public int getInt(final String columnLabel) throws SQLException {
-      throw new UnsupportedOperationException();
+      return this.getInt(this.findColumn(columnLabel));
     }
 
     @Override
     public long getLong(final String columnLabel) throws SQLException {
-      throw new UnsupportedOperationException();
+      return this.getLong(this.findColumn(columnLabel));
     }
 
     @Override
     public float getFloat(final String columnLabel) throws SQLException {
-      throw new UnsupportedOperationException();
+      return this.getFloat(this.findColumn(columnLabel));
     }
 
     @Override
     public double getDouble(final String columnLabel) throws SQLException {
-      throw new UnsupportedOperationException();
+      return this.getDouble(this.findColumn(columnLabel));
     }
 
     @Override
@@ -362,22 +1044,22 @@ public class DataCacheConnectionPlugin extends AbstractConnectionPlugin {
 
     @Override
     public byte[] getBytes(final String columnLabel) throws SQLException {
-      throw new UnsupportedOperationException();
+      return this.getBytes(this.findColumn(columnLabel));
     }
 
     @Override
     public Date getDate(final String columnLabel) throws SQLException {
-      throw new UnsupportedOperationException();
+      return this.getDate(this.findColumn(columnLabel));
     }
 
     @Override
     public Time getTime(final String columnLabel) throws SQLException {
-      throw new UnsupportedOperationException();
+      return this.getTime(this.findColumn(columnLabel));
     }
 
     @Override
     public Timestamp getTimestamp(final String columnLabel) throws SQLException {
-      throw new UnsupportedOperationException();
+      return this.getTimestamp(this.findColumn(columnLabel));
     }
 
     @Override
@@ -418,31 +1100,23 @@ public class DataCacheConnectionPlugin extends AbstractConnectionPlugin {
 
     @Override
     public Object getObject(final int columnIndex) throws SQLException {
-      if (this.currentRow < 0 || this.currentRow >= this.rows.size()) {
-        return null; // out of boundaries
-      }
-      final CachedRow row = this.rows.get(this.currentRow);
-      if (!row.columnByIndex.containsKey(columnIndex)) {
-        return null; // column index out of boundaries
-      }
-      return row.columnByIndex.get(columnIndex);
+      final CachedColumn column = this.getColumn(columnIndex);
+      return column == null ? null : column.getObject(this.currentRow);
     }
 
     @Override
     public Object getObject(final String columnLabel) throws SQLException {
-      if (this.currentRow < 0 || this.currentRow >= this.rows.size()) {
-        return null; // out of boundaries
-      }
-      final CachedRow row = this.rows.get(this.currentRow);
-      if (!row.columnByName.containsKey(columnLabel)) {
-        return null; // column name not found
-      }
-      return row.columnByName.get(columnLabel);
+      return this.getObject(this.findColumn(columnLabel));
     }
 
     @Override
     public int findColumn(final String columnLabel) throws SQLException {
-      throw new UnsupportedOperationException();
+      final int columnIndex = this.data.getColumnIndex(columnLabel);
+      if (columnIndex == 0) {
+        throw new SQLException(
+            Messages.get("DataCacheConnectionPlugin.columnLabelNotFound", new Object[] {columnLabel}));
+      }
+      return columnIndex;
     }
 
     @Override
@@ -457,12 +1131,13 @@ public class DataCacheConnectionPlugin extends AbstractConnectionPlugin {
 
     @Override
     public BigDecimal getBigDecimal(final int columnIndex) throws SQLException {
-      throw new UnsupportedOperationException();
+      final CachedColumn column = this.getColumn(columnIndex);
+      return column == null ? null : column.getBigDecimal(this.currentRow);
     }
 
     @Override
     public BigDecimal getBigDecimal(final String columnLabel) throws SQLException {
-      throw new UnsupportedOperationException();
+      return this.getBigDecimal(this.findColumn(columnLabel));
     }
 
     @Override
@@ -472,17 +1147,17 @@ public class DataCacheConnectionPlugin extends AbstractConnectionPlugin {
 
     @Override
     public boolean isAfterLast() throws SQLException {
-      return this.currentRow >= this.rows.size();
+      return this.currentRow >= this.data.rowCount;
     }
 
     @Override
     public boolean isFirst() throws SQLException {
-      return this.currentRow == 0 && this.rows.size() > 0;
+      return this.currentRow == 0 && this.data.rowCount > 0;
     }
 
     @Override
     public boolean isLast() throws SQLException {
-      return this.currentRow == (this.rows.size() - 1) && this.rows.size() > 0;
+      return this.currentRow == (this.data.rowCount - 1) && this.data.rowCount > 0;
     }
 
     @Override
@@ -492,18 +1167,18 @@ public class DataCacheConnectionPlugin extends AbstractConnectionPlugin {
 
     @Override
     public void afterLast() throws SQLException {
-      this.currentRow = this.rows.size();
+      this.currentRow = this.data.rowCount;
     }
 
     @Override
     public boolean first() throws SQLException {
       this.currentRow = 0;
-      return this.currentRow < this.rows.size();
+      return this.currentRow < this.data.rowCount;
     }
 
     @Override
     public boolean last() throws SQLException {
-      this.currentRow = this.rows.size() - 1;
+      this.currentRow = this.data.rowCount - 1;
       return this.currentRow >= 0;
     }
 
@@ -517,21 +1192,21 @@ public class DataCacheConnectionPlugin extends AbstractConnectionPlugin {
       if (row > 0) {
         this.currentRow = row - 1;
       } else {
-        this.currentRow = this.rows.size() + row;
+        this.currentRow = this.data.rowCount + row;
       }
-      return this.currentRow >= 0 && this.currentRow < this.rows.size();
+      return this.currentRow >= 0 && this.currentRow < this.data.rowCount;
     }
 
     @Override
     public boolean relative(final int rows) throws SQLException {
       this.currentRow += rows;
-      return this.currentRow >= 0 && this.currentRow < this.rows.size();
+      return this.currentRow >= 0 && this.currentRow < this.data.rowCount;
     }
 
     @Override
     public boolean previous() throws SQLException {
       this.currentRow--;
-      return this.currentRow >= 0 && this.currentRow < this.rows.size();
+      return this.currentRow >= 0 && this.currentRow < this.data.rowCount;
     }
 
     @Override
@@ -49,6 +49,7 @@ import software.amazon.jdbc.util.WrapperUtils;
 import software.amazon.jdbc.util.telemetry.TelemetryContext;
 import software.amazon.jdbc.util.telemetry.TelemetryFactory;
 import software.amazon.jdbc.util.telemetry.TelemetryTraceLevel;
+import software.amazon.jdbc.wrapper.ConnectionEpochAware;
 
 /**
  * This connection plugin will always be the last plugin in the connection plugin chain, and will
@@ -59,9 +60,10 @@ public final class DefaultConnectionPlugin implements ConnectionPlugin {
   private static final Logger LOGGER =  Logger.getLogger(DefaultConnectionPlugin.class.getName());
   private static final Set<String> subscribedMethods = Collections.unmodifiableSet(new HashSet<>(
       Collections.singletonList("*")));
-  private static final SqlMethodAnalyzer sqlMethodAnalyzer = new SqlMethodAnalyzer();
 
   private final @NonNull ConnectionProvider defaultConnProvider;
+  // Each connection has its own analyzer, so the statement it remembers isn't shared across threads.
+  private final SqlMethodAnalyzer sqlMethodAnalyzer = new SqlMethodAnalyzer();
 
   private final ConnectionProviderManager connProviderManager;
   private final PluginService pluginService;
@@ -115,27 +117,68 @@ public final class DefaultConnectionPlugin implements ConnectionPlugin {
       final JdbcCallable<T, E> jdbcMethodFunc,
       final Object[] jdbcMethodArgs)
       throws E {
+    return this.execute(
+        resultClass, exceptionClass, methodInvokeOn, null, methodName, jdbcMethodFunc, jdbcMethodArgs);
+  }
+
+  /**
+   * Invokes the JDBC method. If the wrapper of the target driver object is known, its connection
+   * epoch is used to check whether the object belongs to the current connection, instead of asking
+   * the target driver for the connection of the object.
+   *
+   * @param resultClass           the class of the result
+   * @param exceptionClass        the class of the exception the method may throw
+   * @param methodInvokeOn        the target driver object the method is invoked on
+   * @param methodInvokeOnWrapper the wrapper of the target driver object, if it tracks the
+   *                              connection epoch
+   * @param methodName            the name of the method
+   * @param jdbcMethodFunc        the method invocation
+   * @param jdbcMethodArgs        the method arguments
+   * @param <T>                   the type of the result
+   * @param <E>                   the type of the exception
+   * @return the result of the method
+   * @throws E if the method fails
+   */
+  public <T, E extends Exception> T execute(
+      final Class<T> resultClass,
+      final Class<E> exceptionClass,
+      final Object methodInvokeOn,
+      final @Nullable ConnectionEpochAware methodInvokeOnWrapper,
+      final String methodName,
+      final JdbcCallable<T, E> jdbcMethodFunc,
+      final Object[] jdbcMethodArgs)
+      throws E {
 
     LOGGER.finest(
         () -> Messages.get("DefaultConnectionPlugin.executingMethod", new Object[] {methodName}));
 
     TelemetryFactory telemetryFactory = this.pluginService.getTelemetryFactory();
-    TelemetryContext telemetryContext = telemetryFactory.openTelemetryContext(
-        this.pluginService.getTargetName(), TelemetryTraceLevel.NESTED);
+    TelemetryContext telemetryContext = telemetryFactory.isCurrentCallTraced()
+        ? telemetryFactory.openTelemetryContext(this.pluginService.getTargetName(), TelemetryTraceLevel.NESTED)
+        : null;
 
     T result;
     try {
       result = jdbcMethodFunc.call();
     } finally {
-      telemetryContext.closeContext();
+      if (telemetryContext != null) {
+        telemetryContext.closeContext();
+      }
     }
 
+    // The epoch has to be read before the current connection, see PluginServiceImpl#setCurrentConnection.
+    final int connectionEpoch = this.pluginService.getConnectionEpoch();
     final Connection currentConn = this.pluginService.getCurrentConnection();
-    final Connection boundConnection = WrapperUtils.getConnectionFromSqlObject(methodInvokeOn);
-    if (boundConnection != null && boundConnection != currentConn) {
-      // The method being invoked is using an old connection, so transaction/autocommit analysis should be skipped.
-      // ConnectionPluginManager#execute blocks all methods invoked using old connections except for close/abort.
-      return result;
+    final boolean isKnownToBelongToCurrentConnection = methodInvokeOnWrapper != null
+        && connectionEpoch != ConnectionEpochAware.UNKNOWN_CONNECTION_EPOCH
+        && methodInvokeOnWrapper.getConnectionEpoch() == connectionEpoch;
+    if (!isKnownToBelongToCurrentConnection) {
+      final Connection boundConnection = WrapperUtils.getConnectionFromSqlObject(methodInvokeOn);
+      if (boundConnection != null && boundConnection != currentConn) {
+        // The method being invoked is using an old connection, so transaction/autocommit analysis should be skipped.
+        // ConnectionPluginManager#execute blocks all methods invoked using old connections except for close/abort.
+        return result;
+      }
     }
 
     if (sqlMethodAnalyzer.doesOpenTransaction(currentConn, methodName, jdbcMethodArgs)) {
@@ -153,6 +196,7 @@ public final class DefaultConnectionPlugin implements ConnectionPlugin {
       if (autocommit != null) {
         try {
           currentConn.setAutoCommit(autocommit);
+          this.pluginService.getSessionStateService().setAutoCommit(autocommit);
         } catch (final SQLException e) {
           // do nothing
         }
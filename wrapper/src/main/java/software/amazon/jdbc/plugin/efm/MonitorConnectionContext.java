@@ -23,6 +23,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.logging.Logger;
 import software.amazon.jdbc.util.ExecutorFactory;
+import software.amazon.jdbc.util.HashedWheelTimer;
 import software.amazon.jdbc.util.Messages;
 import software.amazon.jdbc.util.telemetry.TelemetryCounter;
 
@@ -50,6 +51,7 @@ public class MonitorConnectionContext {
   private long expectedActiveMonitoringStartTimeNano;
   private long invalidNodeStartTimeNano; // Only accessed by monitor thread
   private long failureCount; // Only accessed by monitor thread
+  private volatile HashedWheelTimer.Timeout activationTimeout;
 
   private final ReentrantLock lock = new ReentrantLock();
 
@@ -140,6 +142,14 @@ public class MonitorConnectionContext {
 
   public void setInactive() {
     this.activeContext = false;
+    final HashedWheelTimer.Timeout timeout = this.activationTimeout;
+    if (timeout != null) {
+      timeout.cancel();
+    }
+  }
+
+  void setActivationTimeout(final HashedWheelTimer.Timeout activationTimeout) {
+    this.activationTimeout = activationTimeout;
   }
 
   void abortConnection() {
@@ -18,15 +18,20 @@ package software.amazon.jdbc.plugin.efm;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Properties;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import software.amazon.jdbc.HostSpec;
 import software.amazon.jdbc.PluginService;
+import software.amazon.jdbc.util.HashedWheelTimer;
 import software.amazon.jdbc.util.Messages;
 import software.amazon.jdbc.util.PropertyUtils;
 import software.amazon.jdbc.util.StringUtils;
@@ -34,11 +39,13 @@ import software.amazon.jdbc.util.telemetry.TelemetryContext;
 import software.amazon.jdbc.util.telemetry.TelemetryCounter;
 import software.amazon.jdbc.util.telemetry.TelemetryFactory;
 import software.amazon.jdbc.util.telemetry.TelemetryGauge;
+import software.amazon.jdbc.util.telemetry.TelemetryHistogram;
 import software.amazon.jdbc.util.telemetry.TelemetryTraceLevel;
 
 /**
  * This class uses a background thread to monitor a particular server with one or more active {@link
- * Connection}.
+ * Connection}. New contexts are kept on a timer shared by all monitors until their grace period ends,
+ * so contexts that stop before then are never seen by the monitoring thread.
  */
 public class MonitorImpl implements Monitor {
 
@@ -57,9 +64,15 @@ public class MonitorImpl implements Monitor {
   private static final long THREAD_SLEEP_WHEN_INACTIVE_MILLIS = 100;
   private static final long MIN_CONNECTION_CHECK_TIMEOUT_MILLIS = 100;
   private static final String MONITORING_PROPERTY_PREFIX = "monitoring-";
+  private static final List<Long> LAG_BUCKETS_MILLIS = Collections.unmodifiableList(
+      Arrays.asList(1L, 5L, 10L, 25L, 50L, 100L, 250L, 500L, 1_000L, 2_500L, 5_000L));
+
+  // Activates the contexts of all monitors once their grace period ends.
+  static final HashedWheelTimer CONTEXT_TIMER = new HashedWheelTimer("efmTimer", 50, TimeUnit.MILLISECONDS, 512);
 
   final Queue<MonitorConnectionContext> activeContexts = new ConcurrentLinkedQueue<>();
-  private final Queue<MonitorConnectionContext> newContexts = new ConcurrentLinkedQueue<>();
+  // Incremented when the contexts are cleared, so that contexts still waiting on the timer are dropped.
+  private final AtomicLong contextsGeneration = new AtomicLong();
   private final PluginService pluginService;
   private final TelemetryFactory telemetryFactory;
   private final Properties properties;
@@ -73,6 +86,10 @@ public class MonitorImpl implements Monitor {
 
   private final TelemetryGauge contextsSizeGauge;
   private final TelemetryCounter nodeInvalidCounter;
+  private final TelemetryCounter contextsStartedCounter;
+  private final TelemetryCounter contextsStoppedCounter;
+  private final TelemetryHistogram contextActivationLagHistogram;
+  private final TelemetryHistogram probeLagHistogram;
 
   /**
    * Store the monitoring configuration for a connection.
@@ -109,6 +126,11 @@ public class MonitorImpl implements Monitor {
         ? this.hostSpec.getHost()
         : this.hostSpec.getHostId();
     this.nodeInvalidCounter = telemetryFactory.createCounter(String.format("efm.nodeUnhealthy.count.%s", nodeId));
+    this.contextsStartedCounter = telemetryFactory.createCounter("efm.contexts.started");
+    this.contextsStoppedCounter = telemetryFactory.createCounter("efm.contexts.stopped");
+    this.contextActivationLagHistogram =
+        telemetryFactory.createHistogram("efm.contexts.activation.lag.ms", LAG_BUCKETS_MILLIS);
+    this.probeLagHistogram = telemetryFactory.createHistogram("efm.probe.lag.ms", LAG_BUCKETS_MILLIS);
   }
 
   @Override
@@ -119,7 +141,25 @@ public class MonitorImpl implements Monitor {
     final long currentTimeNano = this.getCurrentTimeNano();
     context.setStartMonitorTimeNano(currentTimeNano);
     this.contextLastUsedTimestampNano = currentTimeNano;
-    this.newContexts.add(context);
+    this.contextsStartedCounter.inc();
+
+    final long delayNano = context.getExpectedActiveMonitoringStartTimeNano() - currentTimeNano;
+    if (delayNano <= 0) {
+      this.activateContext(context, this.contextsGeneration.get());
+      return;
+    }
+    final long generation = this.contextsGeneration.get();
+    context.setActivationTimeout(
+        CONTEXT_TIMER.newTimeout(() -> this.activateContext(context, generation), delayNano, TimeUnit.NANOSECONDS));
+  }
+
+  private void activateContext(final MonitorConnectionContext context, final long generation) {
+    if (!context.isActiveContext() || generation != this.contextsGeneration.get()) {
+      return;
+    }
+    final long lagNano = this.getCurrentTimeNano() - context.getExpectedActiveMonitoringStartTimeNano();
+    this.contextActivationLagHistogram.record(TimeUnit.NANOSECONDS.toMillis(Math.max(0, lagNano)));
+    this.activeContexts.add(context);
   }
 
   @Override
@@ -131,10 +171,11 @@ public class MonitorImpl implements Monitor {
 
     context.setInactive();
     this.contextLastUsedTimestampNano = this.getCurrentTimeNano();
+    this.contextsStoppedCounter.inc();
   }
 
   public void clearContexts() {
-    this.newContexts.clear();
+    this.contextsGeneration.incrementAndGet();
     this.activeContexts.clear();
   }
 
@@ -147,42 +188,21 @@ public class MonitorImpl implements Monitor {
 
     try {
       this.stopped = false;
+      // The time the next connection status check is due, or 0 if no check is scheduled.
+      long nextStatusCheckTimeNano = 0;
       while (true) {
         try {
 
-          // process new contexts
-          MonitorConnectionContext newMonitorContext;
-          MonitorConnectionContext firstAddedNewMonitorContext = null;
-          final long currentTimeNano = this.getCurrentTimeNano();
-
-          while ((newMonitorContext = this.newContexts.poll()) != null) {
-            if (firstAddedNewMonitorContext == newMonitorContext) {
-              // This context has already been processed.
-              // Add it back to the queue and process it in the next round.
-              this.newContexts.add(newMonitorContext);
-              break;
-            }
-            if (newMonitorContext.isActiveContext()) {
-              if (newMonitorContext.getExpectedActiveMonitoringStartTimeNano() > currentTimeNano) {
-                // The context active monitoring time hasn't come.
-                // Add the context to the queue and check it later.
-                this.newContexts.add(newMonitorContext);
-                if (firstAddedNewMonitorContext == null) {
-                  firstAddedNewMonitorContext = newMonitorContext;
-                }
-              } else {
-                // It's time to start actively monitor this context.
-                this.activeContexts.add(newMonitorContext);
-              }
-            }
-          }
-
           if (!this.activeContexts.isEmpty()
               || this.monitoringConn == null
               || this.monitoringConn.isClosed()) {
 
             final long statusCheckStartTimeNano = this.getCurrentTimeNano();
             this.contextLastUsedTimestampNano = statusCheckStartTimeNano;
+            if (nextStatusCheckTimeNano > 0) {
+              this.probeLagHistogram.record(
+                  TimeUnit.NANOSECONDS.toMillis(Math.max(0, statusCheckStartTimeNano - nextStatusCheckTimeNano)));
+            }
 
             final ConnectionStatus status = checkConnectionStatus(this.nodeCheckTimeoutMillis);
 
@@ -232,6 +252,7 @@ public class MonitorImpl implements Monitor {
             if (delayMillis == -1) {
               // No active contexts
               delayMillis = THREAD_SLEEP_WHEN_INACTIVE_MILLIS;
+              nextStatusCheckTimeNano = 0;
             } else {
               delayMillis -= TimeUnit.NANOSECONDS.toMillis(status.elapsedTimeNano);
               // Check for min delay between node health check
@@ -240,6 +261,7 @@ public class MonitorImpl implements Monitor {
               }
               // Use this delay as node checkout timeout since it corresponds to min interval for all active contexts
               this.nodeCheckTimeoutMillis = delayMillis;
+              nextStatusCheckTimeNano = this.getCurrentTimeNano() + TimeUnit.MILLISECONDS.toNanos(delayMillis);
             }
 
             this.sleep(delayMillis);
@@ -74,6 +74,7 @@ public class MonitorThreadContainer {
    * container.
    */
   public static void releaseInstance() {
+    MonitorImpl.CONTEXT_TIMER.shutdown();
     if (singleton == null) {
       return;
     }
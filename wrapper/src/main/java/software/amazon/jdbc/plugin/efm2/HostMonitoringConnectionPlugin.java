@@ -29,6 +29,7 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 import software.amazon.jdbc.AwsWrapperProperty;
 import software.amazon.jdbc.HostSpec;
 import software.amazon.jdbc.JdbcCallable;
+import software.amazon.jdbc.JdbcMethod;
 import software.amazon.jdbc.NodeChangeOptions;
 import software.amazon.jdbc.OldConnectionSuggestedAction;
 import software.amazon.jdbc.PluginService;
@@ -38,7 +39,6 @@ import software.amazon.jdbc.plugin.AbstractConnectionPlugin;
 import software.amazon.jdbc.util.Messages;
 import software.amazon.jdbc.util.RdsUrlType;
 import software.amazon.jdbc.util.RdsUtils;
-import software.amazon.jdbc.util.SubscribedMethodHelper;
 
 /**
  * Monitor the server while the connection is executing methods for more sophisticated failure
@@ -143,7 +143,8 @@ public class HostMonitoringConnectionPlugin extends AbstractConnectionPlugin
     // update config settings since they may change
     final boolean isEnabled = FAILURE_DETECTION_ENABLED.getBoolean(this.properties);
 
-    if (!isEnabled || !SubscribedMethodHelper.NETWORK_BOUND_METHODS.contains(methodName)) {
+    final JdbcMethod jdbcMethod = JdbcMethod.fromMethodName(methodName);
+    if (!isEnabled || jdbcMethod == null || !jdbcMethod.isNetworkBound) {
       return jdbcMethodFunc.call();
     }
 
@@ -28,11 +28,15 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import software.amazon.jdbc.HostSpec;
 import software.amazon.jdbc.PluginService;
 import software.amazon.jdbc.hostavailability.HostAvailability;
@@ -48,7 +52,8 @@ import software.amazon.jdbc.util.telemetry.TelemetryTraceLevel;
 
 /**
  * This class uses a background thread to monitor a particular server with one or more active {@link
- * Connection}.
+ * Connection}. When a shared scheduler is provided, the monitoring runs as tasks timed by the
+ * scheduler and executed by a shared check executor instead of on threads owned by the monitor.
  */
 public class MonitorImpl implements Monitor {
 
@@ -67,9 +72,15 @@ public class MonitorImpl implements Monitor {
   private final Properties properties;
   private final HostSpec hostSpec;
   private final AtomicBoolean stopped = new AtomicBoolean(false);
-  private Connection monitoringConn = null;
-  private final ExecutorService threadPool =
-      ExecutorFactory.newFixedThreadPool(2, "threadPool");
+  private volatile Connection monitoringConn = null;
+  private final @Nullable ExecutorService threadPool;
+  private final @Nullable ScheduledExecutorService scheduler;
+  private final @Nullable Executor checkExecutor;
+  // Set while a scheduled check runs. Whichever of the check and close() finishes last closes the
+  // monitoring connection, so it isn't closed while a check is using it.
+  private final AtomicBoolean checkRunning = new AtomicBoolean(false);
+  private volatile @Nullable ScheduledFuture<?> newContextFuture;
+  private volatile @Nullable ScheduledFuture<?> monitoringFuture;
 
   private final long failureDetectionTimeNano;
   private final long failureDetectionIntervalNano;
@@ -106,6 +117,44 @@ public class MonitorImpl implements Monitor {
       final int failureDetectionIntervalMillis,
       final int failureDetectionCount,
       final TelemetryCounter abortedConnectionsCounter) {
+    this(
+        pluginService,
+        hostSpec,
+        properties,
+        failureDetectionTimeMillis,
+        failureDetectionIntervalMillis,
+        failureDetectionCount,
+        abortedConnectionsCounter,
+        null,
+        null);
+  }
+
+  /**
+   * Store the monitoring configuration for a connection.
+   *
+   * @param pluginService             A service for creating new connections.
+   * @param hostSpec                  The {@link HostSpec} of the server this {@link MonitorImpl}
+   *                                  instance is monitoring.
+   * @param properties                The {@link Properties} containing additional monitoring
+   *                                  configuration.
+   * @param failureDetectionTimeMillis A failure detection time in millis.
+   * @param failureDetectionIntervalMillis A failure detection interval in millis.
+   * @param failureDetectionCount A failure detection count.
+   * @param abortedConnectionsCounter Aborted connection telemetry counter.
+   * @param scheduler A scheduler shared by monitors, or null if the monitor should use its own threads.
+   * @param checkExecutor An executor shared by monitors to check the monitored servers, or null to
+   *                      run the checks on the scheduler.
+   */
+  public MonitorImpl(
+      final @NonNull PluginService pluginService,
+      final @NonNull HostSpec hostSpec,
+      final @NonNull Properties properties,
+      final int failureDetectionTimeMillis,
+      final int failureDetectionIntervalMillis,
+      final int failureDetectionCount,
+      final TelemetryCounter abortedConnectionsCounter,
+      final @Nullable ScheduledExecutorService scheduler,
+      final @Nullable Executor checkExecutor) {
 
     this.pluginService = pluginService;
     this.telemetryFactory = pluginService.getTelemetryFactory();
@@ -132,9 +181,24 @@ public class MonitorImpl implements Monitor {
         String.format("efm2.nodeHealthy.%s", hostId),
         () -> this.nodeUnhealthy ? 0L : 1L);
 
-    this.threadPool.submit(this::newContextRun); // task to handle new contexts
-    this.threadPool.submit(this); // task to handle active monitoring contexts
-    this.threadPool.shutdown(); // No more tasks are accepted by pool.
+    this.scheduler = scheduler;
+    this.checkExecutor = checkExecutor == null ? scheduler : checkExecutor;
+    if (scheduler == null) {
+      this.threadPool = ExecutorFactory.newFixedThreadPool(2, "threadPool");
+      MonitorScheduler.dedicatedThreadStarted();
+      MonitorScheduler.dedicatedThreadStarted();
+      this.threadPool.submit(this::newContextRun); // task to handle new contexts
+      this.threadPool.submit(this); // task to handle active monitoring contexts
+      this.threadPool.shutdown(); // No more tasks are accepted by pool.
+    } else {
+      this.threadPool = null;
+      LOGGER.finest(() -> Messages.get(
+          "MonitorImpl.startMonitoringThread",
+          new Object[]{this.hostSpec.getHost()}));
+      this.newContextFuture = scheduler.scheduleWithFixedDelay(
+          this::processNewContexts, 0, 1, TimeUnit.SECONDS);
+      this.scheduleMonitoring(0);
+    }
   }
 
   @Override
@@ -146,6 +210,25 @@ public class MonitorImpl implements Monitor {
   public void close() throws Exception {
     this.stopped.set(true);
 
+    if (this.threadPool == null) {
+      final ScheduledFuture<?> newContextTask = this.newContextFuture;
+      if (newContextTask != null) {
+        newContextTask.cancel(false);
+      }
+      final ScheduledFuture<?> monitoringTask = this.monitoringFuture;
+      if (monitoringTask != null) {
+        monitoringTask.cancel(false);
+      }
+      // A check that is running closes the monitoring connection when it completes.
+      if (!this.checkRunning.get()) {
+        this.closeMonitoringConnection();
+      }
+      LOGGER.finest(() -> Messages.get(
+          "MonitorImpl.stopped",
+          new Object[] {this.hostSpec.getHost()}));
+      return;
+    }
+
     // Waiting for 30s gives a thread enough time to exit monitoring loop and close database connection.
     if (!this.threadPool.awaitTermination(30, TimeUnit.SECONDS)) {
       this.threadPool.shutdownNow();
@@ -198,29 +281,7 @@ public class MonitorImpl implements Monitor {
 
     try {
       while (!this.stopped.get()) {
-
-        final long currentTimeNano = this.getCurrentTimeNano();
-
-        final ArrayList<Long> processedKeys = new ArrayList<>();
-        this.newContexts.entrySet().stream()
-            // Get entries with key (that is a time in nanos) less or equal than current time.
-            .filter(entry -> entry.getKey() < currentTimeNano)
-            .forEach(entry -> {
-              final Queue<WeakReference<MonitorConnectionContext>> queue = entry.getValue();
-              processedKeys.add(entry.getKey());
-              // Each value of found entry is a queue of monitoring contexts awaiting active monitoring.
-              // Add all contexts to an active monitoring contexts queue.
-              // Ignore disposed contexts.
-              WeakReference<MonitorConnectionContext> contextWeakRef;
-              while ((contextWeakRef = queue.poll()) != null) {
-                MonitorConnectionContext context = contextWeakRef.get();
-                if (context != null && context.isActive()) {
-                  this.activeContexts.add(contextWeakRef);
-                }
-              }
-            });
-        processedKeys.forEach(this.newContexts::remove);
-
+        this.processNewContexts();
         TimeUnit.SECONDS.sleep(1);
       }
     } catch (final InterruptedException intEx) {
@@ -237,11 +298,36 @@ public class MonitorImpl implements Monitor {
       }
     }
 
+    MonitorScheduler.dedicatedThreadStopped();
     LOGGER.finest(() -> Messages.get(
         "MonitorImpl.stopMonitoringThreadNewContext",
         new Object[]{this.hostSpec.getHost()}));
   }
 
+  void processNewContexts() {
+    final long currentTimeNano = this.getCurrentTimeNano();
+
+    final ArrayList<Long> processedKeys = new ArrayList<>();
+    this.newContexts.entrySet().stream()
+        // Get entries with key (that is a time in nanos) less or equal than current time.
+        .filter(entry -> entry.getKey() < currentTimeNano)
+        .forEach(entry -> {
+          final Queue<WeakReference<MonitorConnectionContext>> queue = entry.getValue();
+          processedKeys.add(entry.getKey());
+          // Each value of found entry is a queue of monitoring contexts awaiting active monitoring.
+          // Add all contexts to an active monitoring contexts queue.
+          // Ignore disposed contexts.
+          WeakReference<MonitorConnectionContext> contextWeakRef;
+          while ((contextWeakRef = queue.poll()) != null) {
+            MonitorConnectionContext context = contextWeakRef.get();
+            if (context != null && context.isActive()) {
+              this.activeContexts.add(contextWeakRef);
+            }
+          }
+        });
+    processedKeys.forEach(this.newContexts::remove);
+  }
+
   @Override
   public void run() {
 
@@ -251,63 +337,113 @@ public class MonitorImpl implements Monitor {
 
     try {
       while (!this.stopped.get()) {
+        TimeUnit.NANOSECONDS.sleep(this.checkActiveContexts());
+      }
+    } catch (final InterruptedException intEx) {
+      // do nothing
+    } catch (final Exception ex) {
+      // this should not be reached; log and exit thread
+      if (LOGGER.isLoggable(Level.FINEST)) {
+        LOGGER.log(
+            Level.FINEST,
+            Messages.get(
+                "MonitorImpl.exceptionDuringMonitoringStop",
+                new Object[]{this.hostSpec.getHost()}),
+            ex); // We want to print full trace stack of the exception.
+      }
+    } finally {
+      this.stopped.set(true);
+      this.closeMonitoringConnection();
+      MonitorScheduler.dedicatedThreadStopped();
+    }
 
-        if (this.activeContexts.isEmpty() && !this.nodeUnhealthy) {
-          TimeUnit.NANOSECONDS.sleep(THREAD_SLEEP_NANO);
-          continue;
-        }
+    LOGGER.finest(() -> Messages.get(
+        "MonitorImpl.stopMonitoringThread",
+        new Object[]{this.hostSpec.getHost()}));
+  }
 
-        final long statusCheckStartTimeNano = this.getCurrentTimeNano();
-        final boolean isValid = this.checkConnectionStatus();
-        final long statusCheckEndTimeNano = this.getCurrentTimeNano();
+  /**
+   * Checks the monitored server if there are active contexts, and aborts the connections of the
+   * active contexts if the server is unhealthy.
+   *
+   * @return the delay before the next check, in nanoseconds
+   */
+  long checkActiveContexts() {
+    if (this.activeContexts.isEmpty() && !this.nodeUnhealthy) {
+      return THREAD_SLEEP_NANO;
+    }
 
-        this.updateNodeHealthStatus(isValid, statusCheckStartTimeNano, statusCheckEndTimeNano);
+    final long statusCheckStartTimeNano = this.getCurrentTimeNano();
+    final boolean isValid = this.checkConnectionStatus();
+    final long statusCheckEndTimeNano = this.getCurrentTimeNano();
 
-        if (this.nodeUnhealthy) {
-          this.pluginService.setAvailability(this.hostSpec.asAliases(), HostAvailability.NOT_AVAILABLE);
-        }
+    this.updateNodeHealthStatus(isValid, statusCheckStartTimeNano, statusCheckEndTimeNano);
+
+    if (this.nodeUnhealthy) {
+      this.pluginService.setAvailability(this.hostSpec.asAliases(), HostAvailability.NOT_AVAILABLE);
+    }
 
-        final List<WeakReference<MonitorConnectionContext>> tmpActiveContexts = new ArrayList<>();
-        WeakReference<MonitorConnectionContext> monitorContextWeakRef;
+    final List<WeakReference<MonitorConnectionContext>> tmpActiveContexts = new ArrayList<>();
+    WeakReference<MonitorConnectionContext> monitorContextWeakRef;
 
-        while ((monitorContextWeakRef = this.activeContexts.poll()) != null) {
-          if (this.stopped.get()) {
-            break;
-          }
+    while ((monitorContextWeakRef = this.activeContexts.poll()) != null) {
+      if (this.stopped.get()) {
+        break;
+      }
 
-          MonitorConnectionContext monitorContext = monitorContextWeakRef.get();
-          if (monitorContext == null) {
-            continue;
-          }
+      MonitorConnectionContext monitorContext = monitorContextWeakRef.get();
+      if (monitorContext == null) {
+        continue;
+      }
 
-          if (this.nodeUnhealthy) {
-            // Kill connection.
-            monitorContext.setNodeUnhealthy(true);
-            final Connection connectionToAbort = monitorContext.getConnection();
-            monitorContext.setInactive();
-            if (connectionToAbort != null) {
-              this.abortConnection(connectionToAbort);
-              this.abortedConnectionsCounter.inc();
-            }
-          } else if (monitorContext.isActive()) {
-            tmpActiveContexts.add(monitorContextWeakRef);
-          }
+      if (this.nodeUnhealthy) {
+        // Kill connection.
+        monitorContext.setNodeUnhealthy(true);
+        final Connection connectionToAbort = monitorContext.getConnection();
+        monitorContext.setInactive();
+        if (connectionToAbort != null) {
+          this.abortConnection(connectionToAbort);
+          this.abortedConnectionsCounter.inc();
         }
+      } else if (monitorContext.isActive()) {
+        tmpActiveContexts.add(monitorContextWeakRef);
+      }
+    }
 
-        // activeContexts is empty now and tmpActiveContexts contains all yet active contexts
-        // Add active contexts back to the queue.
-        this.activeContexts.addAll(tmpActiveContexts);
+    // activeContexts is empty now and tmpActiveContexts contains all yet active contexts
+    // Add active contexts back to the queue.
+    this.activeContexts.addAll(tmpActiveContexts);
 
-        long delayNano = this.failureDetectionIntervalNano - (statusCheckEndTimeNano - statusCheckStartTimeNano);
-        if (delayNano < THREAD_SLEEP_NANO) {
-          delayNano = THREAD_SLEEP_NANO;
-        }
-        TimeUnit.NANOSECONDS.sleep(delayNano);
+    final long delayNano = this.failureDetectionIntervalNano - (statusCheckEndTimeNano - statusCheckStartTimeNano);
+    return Math.max(delayNano, THREAD_SLEEP_NANO);
+  }
+
+  private void scheduleMonitoring(final long delayNano) {
+    final long plannedStartTimeNano = System.nanoTime() + delayNano;
+    this.monitoringFuture = this.scheduler.schedule(
+        () -> this.submitScheduledMonitoring(plannedStartTimeNano), delayNano, TimeUnit.NANOSECONDS);
+  }
+
+  private void submitScheduledMonitoring(final long plannedStartTimeNano) {
+    try {
+      this.checkExecutor.execute(() -> this.runScheduledMonitoring(plannedStartTimeNano));
+    } catch (final RejectedExecutionException ex) {
+      // The check executor was shut down.
+      this.stopScheduledMonitoring();
+    }
+  }
+
+  private void runScheduledMonitoring(final long plannedStartTimeNano) {
+    MonitorScheduler.recordLag(System.nanoTime() - plannedStartTimeNano);
+
+    long delayNano = -1;
+    this.checkRunning.set(true);
+    try {
+      if (!this.stopped.get()) {
+        delayNano = this.checkActiveContexts();
       }
-    } catch (final InterruptedException intEx) {
-      // do nothing
     } catch (final Exception ex) {
-      // this should not be reached; log and exit thread
+      // this should not be reached; log and stop monitoring
       if (LOGGER.isLoggable(Level.FINEST)) {
         LOGGER.log(
             Level.FINEST,
@@ -317,21 +453,46 @@ public class MonitorImpl implements Monitor {
             ex); // We want to print full trace stack of the exception.
       }
     } finally {
-      this.stopped.set(true);
-      if (this.monitoringConn != null) {
-        try {
-          this.monitoringConn.close();
-        } catch (final SQLException ex) {
-          // ignore
-        }
-      }
+      this.checkRunning.set(false);
     }
 
+    // The next check is only scheduled once this one no longer uses the monitoring connection.
+    if (delayNano < 0 || this.stopped.get()) {
+      this.stopScheduledMonitoring();
+      return;
+    }
+    try {
+      this.scheduleMonitoring(delayNano);
+    } catch (final RejectedExecutionException ex) {
+      // The scheduler was shut down.
+      this.stopScheduledMonitoring();
+    }
+  }
+
+  private void stopScheduledMonitoring() {
+    this.stopped.set(true);
+    final ScheduledFuture<?> newContextTask = this.newContextFuture;
+    if (newContextTask != null) {
+      newContextTask.cancel(false);
+    }
+    this.closeMonitoringConnection();
     LOGGER.finest(() -> Messages.get(
         "MonitorImpl.stopMonitoringThread",
         new Object[]{this.hostSpec.getHost()}));
   }
 
+  private synchronized void closeMonitoringConnection() {
+    final Connection connection = this.monitoringConn;
+    this.monitoringConn = null;
+    if (connection != null) {
+      try {
+        connection.close();
+      } catch (final SQLException ex) {
+        // ignore
+      }
+    }
+  }
+
   /**
    * Check the status of the monitored server by establishing a connection and sending a ping.
    *
@@ -0,0 +1,145 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.plugin.efm2;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import software.amazon.jdbc.util.ExecutorFactory;
+import software.amazon.jdbc.util.Messages;
+import software.amazon.jdbc.util.telemetry.TelemetryFactory;
+
+/**
+ * Holds the executors shared by all {@link MonitorImpl} instances when monitors run as scheduled
+ * tasks instead of on their own threads, and keeps track of the threads used for monitoring.
+ *
+ * <p>The scheduler only times the monitoring tasks and hands them over to the check executor, so
+ * a node that doesn't respond holds a thread of the check executor and never delays the checks
+ * of other nodes that are due.
+ */
+class MonitorScheduler {
+
+  private static final Logger LOGGER = Logger.getLogger(MonitorScheduler.class.getName());
+
+  private static final AtomicLong dedicatedThreads = new AtomicLong();
+  private static final AtomicLong maxLagNano = new AtomicLong();
+  private static final AtomicBoolean telemetryInitialized = new AtomicBoolean(false);
+  private static volatile @Nullable ScheduledThreadPoolExecutor scheduler;
+  private static volatile @Nullable ThreadPoolExecutor checkExecutor;
+
+  private MonitorScheduler() {
+  }
+
+  /**
+   * Registers the monitoring thread gauges. The gauges are shared by all monitors, so they are
+   * only registered once.
+   *
+   * @param telemetryFactory the telemetry factory to register the gauges with
+   */
+  static void initTelemetry(final TelemetryFactory telemetryFactory) {
+    if (!telemetryInitialized.compareAndSet(false, true)) {
+      return;
+    }
+    telemetryFactory.createGauge("efm2.monitoring.threads", MonitorScheduler::getThreadCount);
+    telemetryFactory.createGauge(
+        "efm2.scheduler.lag.ms",
+        () -> TimeUnit.NANOSECONDS.toMillis(maxLagNano.getAndSet(0)));
+  }
+
+  /**
+   * Returns the shared scheduler, creating it on first use. The scheduler has a single thread that
+   * never waits for a monitored node.
+   *
+   * @return the shared scheduler
+   */
+  static synchronized ScheduledExecutorService getScheduler() {
+    ScheduledThreadPoolExecutor result = scheduler;
+    if (result == null) {
+      result = (ScheduledThreadPoolExecutor) ExecutorFactory.newScheduledThreadPool(1, "efm2");
+      result.setRemoveOnCancelPolicy(true);
+      scheduler = result;
+    }
+    return result;
+  }
+
+  /**
+   * Returns the shared executor that checks the monitored nodes, creating it on first use. The
+   * executor is shared by all connections, so it grows to the largest number of threads any of
+   * them requests.
+   *
+   * @param threadCount the requested number of threads
+   * @return the shared check executor
+   */
+  static synchronized ExecutorService getCheckExecutor(final int threadCount) {
+    ThreadPoolExecutor result = checkExecutor;
+    if (result == null) {
+      result = (ThreadPoolExecutor) ExecutorFactory.newFixedThreadPool(threadCount, "efm2-check");
+      checkExecutor = result;
+    } else if (threadCount > result.getMaximumPoolSize()) {
+      LOGGER.finest(() -> Messages.get(
+          "MonitorScheduler.checkThreadsIncreased",
+          new Object[] {threadCount}));
+      result.setMaximumPoolSize(threadCount);
+      result.setCorePoolSize(threadCount);
+    }
+    return result;
+  }
+
+  static synchronized void shutdown() {
+    final ScheduledThreadPoolExecutor currentScheduler = scheduler;
+    if (currentScheduler != null) {
+      currentScheduler.shutdownNow();
+      scheduler = null;
+    }
+    final ThreadPoolExecutor currentCheckExecutor = checkExecutor;
+    if (currentCheckExecutor != null) {
+      currentCheckExecutor.shutdownNow();
+      checkExecutor = null;
+    }
+  }
+
+  /**
+   * Records how late a monitoring task started compared to the time it was scheduled for.
+   *
+   * @param lagNano the delay between the planned and the actual start of a task, in nanoseconds
+   */
+  static void recordLag(final long lagNano) {
+    maxLagNano.accumulateAndGet(lagNano, Math::max);
+  }
+
+  static void dedicatedThreadStarted() {
+    dedicatedThreads.incrementAndGet();
+  }
+
+  static void dedicatedThreadStopped() {
+    dedicatedThreads.decrementAndGet();
+  }
+
+  static long getThreadCount() {
+    final ScheduledThreadPoolExecutor currentScheduler = scheduler;
+    final ThreadPoolExecutor currentCheckExecutor = checkExecutor;
+    return dedicatedThreads.get()
+        + (currentScheduler == null ? 0 : currentScheduler.getPoolSize())
+        + (currentCheckExecutor == null ? 0 : currentCheckExecutor.getPoolSize());
+  }
+}
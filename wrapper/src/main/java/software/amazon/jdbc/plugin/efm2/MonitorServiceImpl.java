@@ -20,9 +20,12 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Properties;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import software.amazon.jdbc.AwsWrapperProperty;
 import software.amazon.jdbc.HostSpec;
 import software.amazon.jdbc.PluginService;
@@ -45,6 +48,14 @@ public class MonitorServiceImpl implements MonitorService {
           "600000", // 10min
           "Interval in milliseconds for a monitor to be considered inactive and to be disposed.");
 
+  public static final AwsWrapperProperty MONITOR_SCHEDULER_THREADS =
+      new AwsWrapperProperty(
+          "monitorSchedulerThreads",
+          "0",
+          "Number of threads shared by all host monitors to check the monitored hosts. The threads are shared "
+              + "by all connections, which use the largest value set by any of them. "
+              + "Set to 0 to let each monitor use its own threads.");
+
   protected static final long CACHE_CLEANUP_NANO = TimeUnit.MINUTES.toNanos(1);
 
   protected static final Executor ABORT_EXECUTOR =
@@ -83,7 +94,9 @@ public class MonitorServiceImpl implements MonitorService {
                 failureDetectionTimeMillis,
                 failureDetectionIntervalMillis,
                 failureDetectionCount,
-                abortedConnectionsCounter));
+                abortedConnectionsCounter,
+                getScheduler(properties),
+                getCheckExecutor(properties)));
   }
 
   MonitorServiceImpl(
@@ -93,6 +106,7 @@ public class MonitorServiceImpl implements MonitorService {
     this.telemetryFactory = pluginService.getTelemetryFactory();
     this.abortedConnectionsCounter = telemetryFactory.createCounter("efm2.connections.aborted");
     this.monitorInitializer = monitorInitializer;
+    MonitorScheduler.initTelemetry(this.telemetryFactory);
   }
 
   public static void closeAllMonitors() {
@@ -104,6 +118,7 @@ public class MonitorServiceImpl implements MonitorService {
       }
     });
     monitors.clear();
+    MonitorScheduler.shutdown();
   }
 
   @Override
@@ -156,6 +171,15 @@ public class MonitorServiceImpl implements MonitorService {
     // do nothing
   }
 
+  private static @Nullable ScheduledExecutorService getScheduler(final Properties properties) {
+    return MONITOR_SCHEDULER_THREADS.getInteger(properties) > 0 ? MonitorScheduler.getScheduler() : null;
+  }
+
+  private static @Nullable ExecutorService getCheckExecutor(final Properties properties) {
+    final int threadCount = MONITOR_SCHEDULER_THREADS.getInteger(properties);
+    return threadCount > 0 ? MonitorScheduler.getCheckExecutor(threadCount) : null;
+  }
+
   /**
    * Get or create a {@link MonitorImpl} for a server.
    *
@@ -20,22 +20,25 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletionService;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorCompletionService;
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Logger;
 import software.amazon.jdbc.HostRole;
 import software.amazon.jdbc.HostSpec;
 import software.amazon.jdbc.PluginService;
 import software.amazon.jdbc.hostavailability.HostAvailability;
-import software.amazon.jdbc.util.ExecutorFactory;
 import software.amazon.jdbc.util.Messages;
 import software.amazon.jdbc.util.PropertyUtils;
 import software.amazon.jdbc.util.Utils;
@@ -44,11 +47,13 @@ import software.amazon.jdbc.util.Utils;
  * An implementation of ReaderFailoverHandler.
  *
  * <p>Reader Failover Process goal is to connect to any available reader. In order to connect
- * faster, this implementation tries to connect to two readers at the same time. The first
- * successfully connected reader is returned as the process result. If both readers are unavailable
- * (i.e. could not be connected to), the process picks up another pair of readers and repeat. If no
- * reader has been connected to, the process may consider a writer host, and other hosts marked
- * down, to connect to.
+ * faster, this implementation tries to connect to several readers at the same time, in order of
+ * priority. The first successfully connected reader is returned as the process result, and the
+ * other connection attempts are cancelled. Whenever a connection attempt fails, an attempt to the
+ * next host is started. If no reader has been connected to, the process may consider a writer
+ * host, and other hosts marked down, to connect to. Connection attempts of all connections run on a
+ * shared thread pool, in which each failover reserves as many threads as it runs attempts at the same
+ * time. The connection timeout of an attempt starts when the attempt starts running.
  */
 public class ClusterAwareReaderFailoverHandler implements ReaderFailoverHandler {
 
@@ -62,6 +67,8 @@ public class ClusterAwareReaderFailoverHandler implements ReaderFailoverHandler
   protected int maxFailoverTimeoutMs;
   protected int timeoutMs;
   protected boolean isStrictReaderRequired;
+  protected int connectParallelism = FailoverExecutors.DEFAULT_CONNECT_PARALLELISM;
+  protected int maxConnectThreads = FailoverExecutors.DEFAULT_MAX_CONNECT_THREADS;
   protected final PluginService pluginService;
 
   /**
@@ -104,6 +111,53 @@ public class ClusterAwareReaderFailoverHandler implements ReaderFailoverHandler
     this.isStrictReaderRequired = isStrictReaderRequired;
   }
 
+  /**
+   * ClusterAwareReaderFailoverHandler constructor.
+   *
+   * @param pluginService              A provider for creating new connections.
+   * @param initialConnectionProps     The initial connection properties to copy over to the new reader.
+   * @param maxFailoverTimeoutMs       Maximum allowed time for the entire reader failover process.
+   * @param timeoutMs                  Maximum allowed time in milliseconds for each reader connection attempt during
+   *                                   the reader failover process.
+   * @param isStrictReaderRequired When true, it disables adding a writer to a list of nodes to connect
+   * @param connectParallelism         Maximum number of hosts to attempt to connect to at the same time.
+   */
+  public ClusterAwareReaderFailoverHandler(
+      final PluginService pluginService,
+      final Properties initialConnectionProps,
+      final int maxFailoverTimeoutMs,
+      final int timeoutMs,
+      final boolean isStrictReaderRequired,
+      final int connectParallelism) {
+    this(pluginService, initialConnectionProps, maxFailoverTimeoutMs, timeoutMs, isStrictReaderRequired);
+    this.connectParallelism = Math.max(1, connectParallelism);
+  }
+
+  /**
+   * ClusterAwareReaderFailoverHandler constructor.
+   *
+   * @param pluginService              A provider for creating new connections.
+   * @param initialConnectionProps     The initial connection properties to copy over to the new reader.
+   * @param maxFailoverTimeoutMs       Maximum allowed time for the entire reader failover process.
+   * @param timeoutMs                  Maximum allowed time in milliseconds for each reader connection attempt during
+   *                                   the reader failover process.
+   * @param isStrictReaderRequired When true, it disables adding a writer to a list of nodes to connect
+   * @param connectParallelism         Maximum number of hosts to attempt to connect to at the same time.
+   * @param maxConnectThreads          Maximum number of threads running the connection attempts of all failovers.
+   */
+  public ClusterAwareReaderFailoverHandler(
+      final PluginService pluginService,
+      final Properties initialConnectionProps,
+      final int maxFailoverTimeoutMs,
+      final int timeoutMs,
+      final boolean isStrictReaderRequired,
+      final int connectParallelism,
+      final int maxConnectThreads) {
+    this(pluginService, initialConnectionProps, maxFailoverTimeoutMs, timeoutMs, isStrictReaderRequired,
+        connectParallelism);
+    this.maxConnectThreads = Math.max(1, maxConnectThreads);
+  }
+
   /**
    * Set process timeout in millis. Entire process of connecting to a reader will be limited by this
    * time duration.
@@ -126,22 +180,34 @@ public class ClusterAwareReaderFailoverHandler implements ReaderFailoverHandler
   @Override
   public ReaderFailoverResult failover(final List<HostSpec> hosts, final HostSpec currentHost)
       throws SQLException {
+    return this.failover(hosts, currentHost, this.maxFailoverTimeoutMs);
+  }
+
+  /**
+   * Called to start Reader Failover Process that is limited to the given time, or to the maximum
+   * failover time of this handler if it is shorter.
+   *
+   * @param hosts       Cluster current topology
+   * @param currentHost The currently connected host that has failed.
+   * @param timeoutMs   The maximum time in milliseconds for the process
+   * @return {@link ReaderFailoverResult} The results of this process.
+   */
+  @Override
+  public ReaderFailoverResult failover(final List<HostSpec> hosts, final HostSpec currentHost, final long timeoutMs)
+      throws SQLException {
     if (Utils.isNullOrEmpty(hosts)) {
       LOGGER.fine(() -> Messages.get("ClusterAwareReaderFailoverHandler.invalidTopology", new Object[] {"failover"}));
       return FAILED_READER_FAILOVER_RESULT;
     }
 
-    final ExecutorService executor =
-        ExecutorFactory.newSingleThreadExecutor("failover");
-    final Future<ReaderFailoverResult> future = submitInternalFailoverTask(hosts, currentHost, executor);
-    return getInternalFailoverResult(executor, future);
+    final Future<ReaderFailoverResult> future = submitInternalFailoverTask(hosts, currentHost);
+    return getInternalFailoverResult(future, Math.min(timeoutMs, this.maxFailoverTimeoutMs));
   }
 
   private Future<ReaderFailoverResult> submitInternalFailoverTask(
       final List<HostSpec> hosts,
-      final HostSpec currentHost,
-      final ExecutorService executor) {
-    final Future<ReaderFailoverResult> future = executor.submit(() -> {
+      final HostSpec currentHost) {
+    return FailoverExecutors.getTaskExecutor().submit(() -> {
       ReaderFailoverResult result;
       try {
         while (true) {
@@ -158,18 +224,15 @@ public class ClusterAwareReaderFailoverHandler implements ReaderFailoverHandler
         return new ReaderFailoverResult(null, null, false, new SQLException(ex));
       }
     });
-    executor.shutdown();
-    return future;
   }
 
   private ReaderFailoverResult getInternalFailoverResult(
-      final ExecutorService executor,
-      final Future<ReaderFailoverResult> future) throws SQLException {
+      final Future<ReaderFailoverResult> future, final long timeoutMs) throws SQLException {
     try {
-      final ReaderFailoverResult result = future.get(this.maxFailoverTimeoutMs, TimeUnit.MILLISECONDS);
+      final ReaderFailoverResult result = future.get(timeoutMs, TimeUnit.MILLISECONDS);
       if (result == null) {
         LOGGER.warning(
-            Messages.get("ClusterAwareReaderFailoverHandler.timeout", new Object[] {this.maxFailoverTimeoutMs}));
+            Messages.get("ClusterAwareReaderFailoverHandler.timeout", new Object[] {timeoutMs}));
         return FAILED_READER_FAILOVER_RESULT;
       }
 
@@ -180,12 +243,9 @@ public class ClusterAwareReaderFailoverHandler implements ReaderFailoverHandler
     } catch (final ExecutionException e) {
       return FAILED_READER_FAILOVER_RESULT;
     } catch (final TimeoutException e) {
-      future.cancel(true);
       return FAILED_READER_FAILOVER_RESULT;
     } finally {
-      if (!executor.isTerminated()) {
-        executor.shutdownNow(); // terminate all remaining tasks
-      }
+      future.cancel(true); // terminate the failover process if it's still running
     }
   }
 
@@ -288,74 +348,90 @@ public class ClusterAwareReaderFailoverHandler implements ReaderFailoverHandler
 
   private ReaderFailoverResult getConnectionFromHostGroup(final List<HostSpec> hosts)
       throws SQLException {
-    final ExecutorService executor =
-        ExecutorFactory.newFixedThreadPool(2, "failover");
-    final CompletionService<ReaderFailoverResult> completionService = new ExecutorCompletionService<>(executor);
+    final CompletionService<ReaderFailoverResult> completionService =
+        new ExecutorCompletionService<>(FailoverExecutors.getConnectExecutor());
+    final FailoverExecutors.ConnectReservation reservation =
+        FailoverExecutors.reserveConnectThreads(this.connectParallelism, this.maxConnectThreads);
+    // Set by the first successful connection attempt, or when the connection attempts are abandoned.
+    // Connection attempts that succeed after that close their connection.
+    final AtomicReference<ReaderFailoverResult> outcome = new AtomicReference<>();
+    // Connection attempts in progress, in the order they were submitted.
+    final Map<Future<ReaderFailoverResult>, ConnectionAttemptTask> pendingAttempts = new LinkedHashMap<>();
+    ReaderFailoverResult result = null;
 
     try {
-      for (int i = 0; i < hosts.size(); i += 2) {
-        // submit connection attempt tasks in batches of 2
-        final ReaderFailoverResult result = getResultFromNextTaskBatch(hosts, executor, completionService, i);
-        if (result.isConnected() || result.getException() != null) {
-          return result;
+      int nextHostIndex = 0;
+      while (nextHostIndex < hosts.size() || !pendingAttempts.isEmpty()) {
+        while (nextHostIndex < hosts.size() && pendingAttempts.size() < this.connectParallelism) {
+          final ConnectionAttemptTask attempt = new ConnectionAttemptTask(
+              hosts.get(nextHostIndex++), this.isStrictReaderRequired, outcome, reservation);
+          pendingAttempts.put(completionService.submit(attempt), attempt);
         }
 
-        try {
-          TimeUnit.SECONDS.sleep(1);
-        } catch (final InterruptedException e) {
-          Thread.currentThread().interrupt();
-          throw new SQLException(Messages.get("ClusterAwareReaderFailoverHandler.interruptedThread"), "70100", e);
+        final Future<ReaderFailoverResult> completedAttempt =
+            getNextCompletedAttempt(completionService, pendingAttempts);
+        if (completedAttempt == null) {
+          continue;
+        }
+
+        final ReaderFailoverResult attemptResult = getAttemptResult(completedAttempt);
+        if (attemptResult.isConnected()) {
+          result = attemptResult;
+          return result;
+        }
+        if (attemptResult.getException() != null) {
+          result = attemptResult;
+          return result;
         }
       }
 
-      return new ReaderFailoverResult(
-          null,
-          null,
-          false);
+      result = new ReaderFailoverResult(null, null, false);
+      return result;
     } finally {
-      executor.shutdownNow();
+      // Connections opened by attempts that completed after their deadline are not used.
+      if (!outcome.compareAndSet(null, FAILED_READER_FAILOVER_RESULT) && outcome.get() != result) {
+        closeConnection(outcome.get().getConnection());
+      }
+      for (final Future<ReaderFailoverResult> pendingAttempt : pendingAttempts.keySet()) {
+        pendingAttempt.cancel(true);
+      }
+      reservation.close();
     }
   }
 
-  private ReaderFailoverResult getResultFromNextTaskBatch(
-      final List<HostSpec> hosts,
-      final ExecutorService executor,
+  /**
+   * Waits for the next connection attempt to complete. The deadline of an attempt starts when the
+   * attempt starts running. If no attempt completes before the earliest deadline, the attempts that
+   * are past their deadline are cancelled and null is returned.
+   */
+  private Future<ReaderFailoverResult> getNextCompletedAttempt(
       final CompletionService<ReaderFailoverResult> completionService,
-      final int i) throws SQLException {
-    ReaderFailoverResult result;
-    final int numTasks = i + 1 < hosts.size() ? 2 : 1;
-    completionService.submit(new ConnectionAttemptTask(hosts.get(i), this.isStrictReaderRequired));
-    if (numTasks == 2) {
-      completionService.submit(new ConnectionAttemptTask(hosts.get(i + 1), this.isStrictReaderRequired));
-    }
-    for (int taskNum = 0; taskNum < numTasks; taskNum++) {
-      result = getNextResult(completionService);
-      if (result.isConnected()) {
-        executor.shutdownNow();
-        return result;
-      }
-      if (result.getException() != null) {
-        executor.shutdownNow();
-        return result;
+      final Map<Future<ReaderFailoverResult>, ConnectionAttemptTask> pendingAttempts) throws SQLException {
+    final long timeoutNano = TimeUnit.MILLISECONDS.toNanos(this.timeoutMs);
+    long waitTimeNano = timeoutNano;
+    for (final ConnectionAttemptTask attempt : pendingAttempts.values()) {
+      if (attempt.isStarted) {
+        waitTimeNano = Math.min(waitTimeNano, attempt.startTimeNano + timeoutNano - System.nanoTime());
       }
     }
-    return new ReaderFailoverResult(
-        null,
-        null,
-        false);
-  }
-
-  private ReaderFailoverResult getNextResult(final CompletionService<ReaderFailoverResult> service)
-      throws SQLException {
     try {
-      final Future<ReaderFailoverResult> future = service.poll(this.timeoutMs, TimeUnit.MILLISECONDS);
-      if (future == null) {
-        return FAILED_READER_FAILOVER_RESULT;
+      final Future<ReaderFailoverResult> completedAttempt =
+          completionService.poll(waitTimeNano, TimeUnit.NANOSECONDS);
+      if (completedAttempt == null) {
+        final Iterator<Map.Entry<Future<ReaderFailoverResult>, ConnectionAttemptTask>> iterator =
+            pendingAttempts.entrySet().iterator();
+        while (iterator.hasNext()) {
+          final Map.Entry<Future<ReaderFailoverResult>, ConnectionAttemptTask> pendingAttempt = iterator.next();
+          final ConnectionAttemptTask attempt = pendingAttempt.getValue();
+          if (attempt.isStarted && System.nanoTime() - attempt.startTimeNano >= timeoutNano) {
+            pendingAttempt.getKey().cancel(true);
+            iterator.remove();
+          }
+        }
+        return null;
       }
-      final ReaderFailoverResult result = future.get();
-      return result == null ? FAILED_READER_FAILOVER_RESULT : result;
-    } catch (final ExecutionException e) {
-      return FAILED_READER_FAILOVER_RESULT;
+      // Attempts that were cancelled after their deadline are no longer pending.
+      return pendingAttempts.remove(completedAttempt) == null ? null : completedAttempt;
     } catch (final InterruptedException e) {
       Thread.currentThread().interrupt();
       // "Thread was interrupted"
@@ -367,14 +443,44 @@ public class ClusterAwareReaderFailoverHandler implements ReaderFailoverHandler
     }
   }
 
+  private ReaderFailoverResult getAttemptResult(final Future<ReaderFailoverResult> completedAttempt) {
+    try {
+      final ReaderFailoverResult result = completedAttempt.get();
+      return result == null ? FAILED_READER_FAILOVER_RESULT : result;
+    } catch (final ExecutionException | CancellationException | InterruptedException e) {
+      return FAILED_READER_FAILOVER_RESULT;
+    }
+  }
+
+  private static void closeConnection(final Connection conn) {
+    if (conn == null) {
+      return;
+    }
+    try {
+      conn.close();
+    } catch (final SQLException e) {
+      // ignore
+    }
+  }
+
   private class ConnectionAttemptTask implements Callable<ReaderFailoverResult> {
 
     private final HostSpec newHost;
     private final boolean isStrictReaderRequired;
-
-    private ConnectionAttemptTask(final HostSpec newHost, final boolean isStrictReaderRequired) {
+    private final AtomicReference<ReaderFailoverResult> outcome;
+    private final FailoverExecutors.ConnectReservation reservation;
+    private volatile long startTimeNano;
+    private volatile boolean isStarted;
+
+    private ConnectionAttemptTask(
+        final HostSpec newHost,
+        final boolean isStrictReaderRequired,
+        final AtomicReference<ReaderFailoverResult> outcome,
+        final FailoverExecutors.ConnectReservation reservation) {
       this.newHost = newHost;
       this.isStrictReaderRequired = isStrictReaderRequired;
+      this.outcome = outcome;
+      this.reservation = reservation;
     }
 
     /**
@@ -382,6 +488,17 @@ public class ClusterAwareReaderFailoverHandler implements ReaderFailoverHandler
      */
     @Override
     public ReaderFailoverResult call() {
+      this.startTimeNano = System.nanoTime();
+      this.isStarted = true;
+      this.reservation.attemptStarted();
+      try {
+        return this.connect();
+      } finally {
+        this.reservation.attemptFinished();
+      }
+    }
+
+    private ReaderFailoverResult connect() {
       LOGGER.fine(
           () -> Messages.get(
               "ClusterAwareReaderFailoverHandler.attemptingReaderConnection",
@@ -429,8 +546,14 @@ public class ClusterAwareReaderFailoverHandler implements ReaderFailoverHandler
             () -> Messages.get(
                 "ClusterAwareReaderFailoverHandler.successfulReaderConnection",
                 new Object[] {this.newHost.getUrl()}));
+        final ReaderFailoverResult result = new ReaderFailoverResult(conn, this.newHost, true);
+        if (!this.outcome.compareAndSet(null, result)) {
+          // Another connection attempt has already succeeded, or the attempts have been abandoned.
+          closeConnection(conn);
+          return FAILED_READER_FAILOVER_RESULT;
+        }
         LOGGER.fine("New reader failover connection object: " + conn);
-        return new ReaderFailoverResult(conn, this.newHost, true);
+        return result;
       } catch (final SQLException e) {
         pluginService.setAvailability(newHost.asAliases(), HostAvailability.NOT_AVAILABLE);
         LOGGER.fine(
@@ -18,6 +18,7 @@ package software.amazon.jdbc.plugin.failover;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
 import java.util.Set;
@@ -25,7 +26,6 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.CompletionService;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorCompletionService;
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
@@ -34,7 +34,6 @@ import software.amazon.jdbc.HostRole;
 import software.amazon.jdbc.HostSpec;
 import software.amazon.jdbc.PluginService;
 import software.amazon.jdbc.hostavailability.HostAvailability;
-import software.amazon.jdbc.util.ExecutorFactory;
 import software.amazon.jdbc.util.Messages;
 import software.amazon.jdbc.util.PropertyUtils;
 import software.amazon.jdbc.util.Utils;
@@ -94,6 +93,20 @@ public class ClusterAwareWriterFailoverHandler implements WriterFailoverHandler
   @Override
   public WriterFailoverResult failover(final List<HostSpec> currentTopology)
       throws SQLException {
+    return this.failover(currentTopology, this.maxFailoverTimeoutMs);
+  }
+
+  /**
+   * Called to start Writer Failover Process that is limited to the given time, or to the maximum
+   * failover time of this handler if it is shorter.
+   *
+   * @param currentTopology Cluster current topology
+   * @param timeoutMs       The maximum time in milliseconds for the process
+   * @return {@link WriterFailoverResult} The results of this process.
+   */
+  @Override
+  public WriterFailoverResult failover(final List<HostSpec> currentTopology, final long timeoutMs)
+      throws SQLException {
     if (Utils.isNullOrEmpty(currentTopology)) {
       LOGGER.severe(() -> Messages.get("ClusterAwareWriterFailoverHandler.failoverCalledWithInvalidTopology"));
       return DEFAULT_RESULT;
@@ -102,24 +115,24 @@ public class ClusterAwareWriterFailoverHandler implements WriterFailoverHandler
     final boolean singleTask =
         this.pluginService.getDialect().getFailoverRestrictions().contains(FailoverRestriction.DISABLE_TASK_A);
 
-    final ExecutorService executorService =
-        ExecutorFactory.newFixedThreadPool(2, "failover");
-    final CompletionService<WriterFailoverResult> completionService = new ExecutorCompletionService<>(executorService);
-    submitTasks(currentTopology, executorService, completionService, singleTask);
+    final CompletionService<WriterFailoverResult> completionService =
+        new ExecutorCompletionService<>(FailoverExecutors.getTaskExecutor());
+    final List<Future<WriterFailoverResult>> tasks = submitTasks(currentTopology, completionService, singleTask);
 
     try {
       final long startTimeNano = System.nanoTime();
-      WriterFailoverResult result = getNextResult(executorService, completionService, this.maxFailoverTimeoutMs);
+      final long failoverTimeoutMs = Math.min(timeoutMs, this.maxFailoverTimeoutMs);
+      WriterFailoverResult result = getNextResult(completionService, failoverTimeoutMs);
       if (result.isConnected() || result.getException() != null || singleTask) {
         return result;
       }
 
       final long endTimeNano = System.nanoTime();
       final long durationMs = TimeUnit.NANOSECONDS.toMillis(endTimeNano - startTimeNano);
-      final long remainingTimeMs = this.maxFailoverTimeoutMs - durationMs;
+      final long remainingTimeMs = failoverTimeoutMs - durationMs;
 
       if (remainingTimeMs > 0) {
-        result = getNextResult(executorService, completionService, remainingTimeMs);
+        result = getNextResult(completionService, remainingTimeMs);
         if (result.isConnected() || result.getException() != null) {
           return result;
         }
@@ -128,8 +141,8 @@ public class ClusterAwareWriterFailoverHandler implements WriterFailoverHandler
       LOGGER.fine(() -> Messages.get("ClusterAwareWriterFailoverHandler.failedToConnectToWriterInstance"));
       return DEFAULT_RESULT;
     } finally {
-      if (!executorService.isTerminated()) {
-        executorService.shutdownNow(); // terminate all remaining tasks
+      for (final Future<WriterFailoverResult> task : tasks) {
+        task.cancel(true); // terminate all remaining tasks
       }
     }
   }
@@ -147,22 +160,22 @@ public class ClusterAwareWriterFailoverHandler implements WriterFailoverHandler
     return null;
   }
 
-  private void submitTasks(
-      final List<HostSpec> currentTopology, final ExecutorService executorService,
+  private List<Future<WriterFailoverResult>> submitTasks(
+      final List<HostSpec> currentTopology,
       final CompletionService<WriterFailoverResult> completionService,
       final boolean singleTask) {
+    final List<Future<WriterFailoverResult>> tasks = new ArrayList<>(2);
     final HostSpec writerHost = this.getWriter(currentTopology);
     if (!singleTask) {
-      completionService.submit(new ReconnectToWriterHandler(writerHost));
+      tasks.add(completionService.submit(new ReconnectToWriterHandler(writerHost)));
     }
-    completionService.submit(new WaitForNewWriterHandler(
+    tasks.add(completionService.submit(new WaitForNewWriterHandler(
         currentTopology,
-        writerHost));
-    executorService.shutdown();
+        writerHost)));
+    return tasks;
   }
 
   private WriterFailoverResult getNextResult(
-      final ExecutorService executorService,
       final CompletionService<WriterFailoverResult> completionService,
       final long timeoutMs) throws SQLException {
     try {
@@ -174,13 +187,11 @@ public class ClusterAwareWriterFailoverHandler implements WriterFailoverHandler
       }
       final WriterFailoverResult result = firstCompleted.get();
       if (result.isConnected()) {
-        executorService.shutdownNow();
         logTaskSuccess(result);
         return result;
       }
 
       if (result.getException() != null) {
-        executorService.shutdownNow();
         return result;
       }
     } catch (final InterruptedException e) {
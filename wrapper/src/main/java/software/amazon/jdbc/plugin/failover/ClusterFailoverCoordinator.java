@@ -0,0 +1,343 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.plugin.failover;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Logger;
+import software.amazon.jdbc.HostRole;
+import software.amazon.jdbc.HostSpec;
+import software.amazon.jdbc.PluginService;
+import software.amazon.jdbc.hostavailability.HostAvailability;
+import software.amazon.jdbc.util.Messages;
+
+/**
+ * Coordinates the failover of the connections to the same cluster.
+ *
+ * <p>The first connection that fails over starts a failover epoch and runs its failover handler,
+ * which probes the cluster hosts and elects a new host. Connections that fail over while the epoch
+ * is in progress, or shortly after it completes, wait for the elected host instead of probing the
+ * cluster themselves, and then connect to the elected host directly. A reader failover only connects
+ * to an elected reader.
+ *
+ * <p>A connection falls back to its own failover handler if the epoch is abandoned, if no host
+ * was elected, or if it can't connect to the elected host. In that case, a reader failover uses the
+ * topology seen by the epoch. Waiting connections only use the failover time that is left after waiting.
+ */
+public class ClusterFailoverCoordinator {
+
+  private static final Logger LOGGER = Logger.getLogger(ClusterFailoverCoordinator.class.getName());
+  private static final String TASK_NAME = "Coordinator";
+  private static final WriterFailoverResult FAILED_WRITER_FAILOVER_RESULT =
+      new WriterFailoverResult(false, false, null, null, TASK_NAME);
+  private static final ReaderFailoverResult FAILED_READER_FAILOVER_RESULT =
+      new ReaderFailoverResult(null, null, false);
+
+  private static final Map<String, ClusterFailoverCoordinator> coordinators = new ConcurrentHashMap<>();
+
+  private final String clusterId;
+  private FailoverEpoch writerEpoch;
+  private FailoverEpoch readerEpoch;
+  private long lastEpochId;
+
+  ClusterFailoverCoordinator(final String clusterId) {
+    this.clusterId = clusterId;
+  }
+
+  public static ClusterFailoverCoordinator getInstance(final String clusterId) {
+    return coordinators.computeIfAbsent(clusterId, ClusterFailoverCoordinator::new);
+  }
+
+  public static void clearCache() {
+    coordinators.clear();
+  }
+
+  /**
+   * Fails over to the writer of the cluster. The writer is elected by the failover handler of the
+   * connection that starts the failover epoch.
+   *
+   * @param writerFailoverHandler  the failover handler of the calling connection
+   * @param currentTopology        the current topology of the cluster
+   * @param failedHost             the host that the calling connection failed on
+   * @param pluginService          the plugin service of the calling connection
+   * @param props                  the connection properties
+   * @param coordinationWindowMs   the time after an epoch completes during which its result is reused
+   * @param failoverTimeoutMs      the maximum time to fail over, including the time waiting for the writer to be
+   *                               elected
+   * @return the result of the writer failover
+   * @throws SQLException if the failover handler fails or the calling thread is interrupted
+   */
+  public WriterFailoverResult failoverWriter(
+      final WriterFailoverHandler writerFailoverHandler,
+      final List<HostSpec> currentTopology,
+      final HostSpec failedHost,
+      final PluginService pluginService,
+      final Properties props,
+      final long coordinationWindowMs,
+      final long failoverTimeoutMs) throws SQLException {
+    final FailoverEpoch epoch;
+    final boolean isLeader;
+    synchronized (this) {
+      isLeader = this.writerEpoch == null || !this.writerEpoch.canBeJoined(failedHost, coordinationWindowMs);
+      if (isLeader) {
+        this.writerEpoch = new FailoverEpoch(++this.lastEpochId);
+      }
+      epoch = this.writerEpoch;
+    }
+
+    if (isLeader) {
+      LOGGER.finest(() -> Messages.get(
+          "ClusterFailoverCoordinator.startedEpoch", new Object[] {"writer", epoch.id, this.clusterId}));
+      WriterFailoverResult result = null;
+      try {
+        result = writerFailoverHandler.failover(currentTopology);
+      } finally {
+        if (result == null || result.getException() != null) {
+          epoch.abandon();
+        } else {
+          // The topology of the result belongs to the calling connection, so the joining connections get a copy.
+          final List<HostSpec> topology = copyTopology(result.getTopology(), pluginService);
+          epoch.complete(result.isConnected() ? getWriter(topology) : null, topology);
+        }
+      }
+      return result;
+    }
+
+    LOGGER.finest(() -> Messages.get(
+        "ClusterFailoverCoordinator.joinedEpoch", new Object[] {"writer", epoch.id, this.clusterId}));
+    final long startTimeNano = System.nanoTime();
+    HostSpec electedWriter;
+    try {
+      electedWriter = epoch.awaitElectedHost(failoverTimeoutMs);
+    } catch (final ExecutionException | TimeoutException e) {
+      electedWriter = null;
+    }
+
+    final Connection conn = electedWriter == null
+        ? null
+        : connectToElectedHost(electedWriter, HostRole.WRITER, pluginService, props);
+    if (conn == null) {
+      final long remainingTimeMs = getRemainingTimeMs(startTimeNano, failoverTimeoutMs);
+      return remainingTimeMs > 0
+          ? writerFailoverHandler.failover(currentTopology, remainingTimeMs)
+          : FAILED_WRITER_FAILOVER_RESULT;
+    }
+
+    final boolean isNewHost = failedHost == null || !failedHost.getUrl().equals(electedWriter.getUrl());
+    return new WriterFailoverResult(true, isNewHost, epoch.topology, conn, TASK_NAME);
+  }
+
+  /**
+   * Fails over to a host of the cluster. The connection that starts the failover epoch probes the
+   * cluster hosts, and the connections that join the epoch connect to the host it has elected.
+   *
+   * @param readerFailoverHandler  the failover handler of the calling connection
+   * @param hosts                  the current topology of the cluster
+   * @param failedHost             the host that the calling connection failed on
+   * @param pluginService          the plugin service of the calling connection
+   * @param props                  the connection properties
+   * @param coordinationWindowMs   the time after an epoch completes during which its result is reused
+   * @param failoverTimeoutMs      the maximum time to fail over, including the time waiting for a host to be
+   *                               elected
+   * @return the result of the reader failover
+   * @throws SQLException if the failover handler fails or the calling thread is interrupted
+   */
+  public ReaderFailoverResult failoverReader(
+      final ReaderFailoverHandler readerFailoverHandler,
+      final List<HostSpec> hosts,
+      final HostSpec failedHost,
+      final PluginService pluginService,
+      final Properties props,
+      final long coordinationWindowMs,
+      final long failoverTimeoutMs) throws SQLException {
+    final FailoverEpoch epoch;
+    final boolean isLeader;
+    synchronized (this) {
+      isLeader = this.readerEpoch == null || !this.readerEpoch.canBeJoined(failedHost, coordinationWindowMs);
+      if (isLeader) {
+        this.readerEpoch = new FailoverEpoch(++this.lastEpochId);
+      }
+      epoch = this.readerEpoch;
+    }
+
+    if (isLeader) {
+      LOGGER.finest(() -> Messages.get(
+          "ClusterFailoverCoordinator.startedEpoch", new Object[] {"reader", epoch.id, this.clusterId}));
+      ReaderFailoverResult result = null;
+      try {
+        result = readerFailoverHandler.failover(hosts, failedHost);
+      } finally {
+        if (result == null || result.getException() != null) {
+          epoch.abandon();
+        } else {
+          epoch.complete(result.isConnected() ? result.getHost() : null, copyTopology(hosts, pluginService));
+        }
+      }
+      return result;
+    }
+
+    LOGGER.finest(() -> Messages.get(
+        "ClusterFailoverCoordinator.joinedEpoch", new Object[] {"reader", epoch.id, this.clusterId}));
+    final long startTimeNano = System.nanoTime();
+    HostSpec electedHost;
+    try {
+      electedHost = epoch.awaitElectedHost(failoverTimeoutMs);
+    } catch (final ExecutionException | TimeoutException e) {
+      electedHost = null;
+    }
+
+    // An elected writer is left to the handler of this connection, which knows whether it may connect to a writer.
+    final Connection conn = electedHost == null || electedHost.getRole() != HostRole.READER
+        ? null
+        : connectToElectedHost(electedHost, HostRole.READER, pluginService, props);
+    if (conn != null) {
+      return new ReaderFailoverResult(conn, electedHost, true);
+    }
+
+    final long remainingTimeMs = getRemainingTimeMs(startTimeNano, failoverTimeoutMs);
+    if (remainingTimeMs <= 0) {
+      return FAILED_READER_FAILOVER_RESULT;
+    }
+    // The topology seen by the epoch tells which hosts are available.
+    return readerFailoverHandler.failover(
+        electedHost == null || epoch.topology == null ? hosts : epoch.topology, failedHost, remainingTimeMs);
+  }
+
+  private static long getRemainingTimeMs(final long startTimeNano, final long failoverTimeoutMs) {
+    return failoverTimeoutMs - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTimeNano);
+  }
+
+  private static List<HostSpec> copyTopology(final List<HostSpec> hosts, final PluginService pluginService) {
+    if (hosts == null) {
+      return null;
+    }
+    final List<HostSpec> copy = new ArrayList<>(hosts.size());
+    for (final HostSpec host : hosts) {
+      copy.add(pluginService.getHostSpecBuilder().copyFrom(host).build());
+    }
+    return Collections.unmodifiableList(copy);
+  }
+
+  private static Connection connectToElectedHost(
+      final HostSpec electedHost,
+      final HostRole requiredRole,
+      final PluginService pluginService,
+      final Properties props) {
+    final Properties copy = new Properties();
+    copy.putAll(props);
+
+    Connection conn = null;
+    try {
+      conn = pluginService.forceConnect(electedHost, copy);
+      if (requiredRole != null && pluginService.getHostRole(conn) != requiredRole) {
+        LOGGER.fine(() -> Messages.get(
+            "ClusterFailoverCoordinator.electedHostRoleChanged", new Object[] {electedHost.getUrl(), requiredRole}));
+        closeConnection(conn);
+        return null;
+      }
+      pluginService.setAvailability(electedHost.asAliases(), HostAvailability.AVAILABLE);
+      LOGGER.fine(() -> Messages.get(
+          "ClusterFailoverCoordinator.connectedToElectedHost", new Object[] {electedHost.getUrl()}));
+      return conn;
+    } catch (final SQLException e) {
+      LOGGER.fine(() -> Messages.get(
+          "ClusterFailoverCoordinator.failedToConnectToElectedHost", new Object[] {electedHost.getUrl(), e}));
+      closeConnection(conn);
+      return null;
+    }
+  }
+
+  private static void closeConnection(final Connection conn) {
+    if (conn == null) {
+      return;
+    }
+    try {
+      conn.close();
+    } catch (final SQLException e) {
+      // ignore
+    }
+  }
+
+  private static HostSpec getWriter(final List<HostSpec> topology) {
+    if (topology == null) {
+      return null;
+    }
+    for (final HostSpec host : topology) {
+      if (host.getRole() == HostRole.WRITER) {
+        return host;
+      }
+    }
+    return null;
+  }
+
+  private static class FailoverEpoch {
+    private final long id;
+    // Completes with the elected host, or with null if the epoch failed. Completes exceptionally if the
+    // epoch was abandoned and waiting connections should fail over on their own.
+    private final CompletableFuture<HostSpec> electedHost = new CompletableFuture<>();
+    private volatile List<HostSpec> topology;
+    private volatile long completedTimeNano;
+
+    FailoverEpoch(final long id) {
+      this.id = id;
+    }
+
+    void complete(final HostSpec host, final List<HostSpec> topology) {
+      this.topology = topology;
+      this.completedTimeNano = System.nanoTime();
+      this.electedHost.complete(host);
+    }
+
+    void abandon() {
+      this.completedTimeNano = System.nanoTime();
+      this.electedHost.completeExceptionally(new IllegalStateException("abandoned"));
+    }
+
+    boolean canBeJoined(final HostSpec failedHost, final long coordinationWindowMs) {
+      if (!this.electedHost.isDone()) {
+        return true;
+      }
+      if (this.electedHost.isCompletedExceptionally()
+          || System.nanoTime() - this.completedTimeNano > TimeUnit.MILLISECONDS.toNanos(coordinationWindowMs)) {
+        return false;
+      }
+      final HostSpec host = this.electedHost.getNow(null);
+      // A connection to the elected host has failed, so a new failover is needed.
+      return host != null && (failedHost == null || !failedHost.getUrl().equals(host.getUrl()));
+    }
+
+    HostSpec awaitElectedHost(final long timeoutMs)
+        throws SQLException, ExecutionException, TimeoutException {
+      try {
+        return this.electedHost.get(timeoutMs, TimeUnit.MILLISECONDS);
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new SQLException(Messages.get("ClusterFailoverCoordinator.interruptedThread"), "70100", e);
+      }
+    }
+  }
+}
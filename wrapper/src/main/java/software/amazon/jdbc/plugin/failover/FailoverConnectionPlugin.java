@@ -48,6 +48,7 @@ import software.amazon.jdbc.util.Messages;
 import software.amazon.jdbc.util.RdsUrlType;
 import software.amazon.jdbc.util.RdsUtils;
 import software.amazon.jdbc.util.SqlState;
+import software.amazon.jdbc.util.StringUtils;
 import software.amazon.jdbc.util.SubscribedMethodHelper;
 import software.amazon.jdbc.util.Utils;
 import software.amazon.jdbc.util.WrapperUtils;
@@ -96,6 +97,9 @@ public class FailoverConnectionPlugin extends AbstractConnectionPlugin {
   protected int failoverClusterTopologyRefreshRateMsSetting;
   protected int failoverWriterReconnectIntervalMsSetting;
   protected int failoverReaderConnectTimeoutMsSetting;
+  protected int failoverCoordinationWindowMsSetting;
+  protected int failoverConnectParallelismSetting;
+  protected int failoverMaxConnectThreadsSetting;
   protected FailoverMode failoverMode;
   private boolean telemetryFailoverAdditionalTopTraceSetting;
 
@@ -113,6 +117,7 @@ public class FailoverConnectionPlugin extends AbstractConnectionPlugin {
   private final AuroraStaleDnsHelper staleDnsHelper;
   private Supplier<WriterFailoverHandler> writerFailoverHandlerSupplier;
   private Supplier<ReaderFailoverHandler> readerFailoverHandlerSupplier;
+  private ClusterFailoverCoordinator failoverCoordinator;
 
   public static final AwsWrapperProperty FAILOVER_CLUSTER_TOPOLOGY_REFRESH_RATE_MS =
       new AwsWrapperProperty(
@@ -142,6 +147,28 @@ public class FailoverConnectionPlugin extends AbstractConnectionPlugin {
           "30000",
           "Reader connection attempt timeout during a reader failover process.");
 
+  public static final AwsWrapperProperty FAILOVER_COORDINATION_WINDOW_MS =
+      new AwsWrapperProperty(
+          "failoverCoordinationWindowMs",
+          "5000",
+          "Connections to the same cluster that fail over within this time after another connection has "
+              + "completed failover reuse the result of that failover instead of probing the cluster themselves. "
+              + "Set to 0 to let every connection fail over on its own.");
+
+  public static final AwsWrapperProperty FAILOVER_CONNECT_PARALLELISM =
+      new AwsWrapperProperty(
+          "failoverConnectParallelism",
+          String.valueOf(FailoverExecutors.DEFAULT_CONNECT_PARALLELISM),
+          "Maximum number of reader connection attempts run at the same time during a reader failover process.");
+
+  public static final AwsWrapperProperty FAILOVER_MAX_CONNECT_THREADS =
+      new AwsWrapperProperty(
+          "failoverMaxConnectThreads",
+          String.valueOf(FailoverExecutors.DEFAULT_MAX_CONNECT_THREADS),
+          "Maximum number of threads shared by the reader failover processes of all connections to run their "
+              + "connection attempts. Connection attempts of failovers started beyond this limit wait for a free "
+              + "thread.");
+
   public static final AwsWrapperProperty ENABLE_CLUSTER_AWARE_FAILOVER =
       new AwsWrapperProperty(
           "enableClusterAwareFailover", "true",
@@ -291,7 +318,9 @@ public class FailoverConnectionPlugin extends AbstractConnectionPlugin {
                 this.properties,
                 this.failoverTimeoutMsSetting,
                 this.failoverReaderConnectTimeoutMsSetting,
-                this.failoverMode == FailoverMode.STRICT_READER),
+                this.failoverMode == FailoverMode.STRICT_READER,
+                this.failoverConnectParallelismSetting,
+                this.failoverMaxConnectThreadsSetting),
         () ->
             new ClusterAwareWriterFailoverHandler(
                 this.pluginService,
@@ -374,6 +403,9 @@ public class FailoverConnectionPlugin extends AbstractConnectionPlugin {
         FAILOVER_CLUSTER_TOPOLOGY_REFRESH_RATE_MS.getInteger(this.properties);
     this.failoverWriterReconnectIntervalMsSetting = FAILOVER_WRITER_RECONNECT_INTERVAL_MS.getInteger(this.properties);
     this.failoverReaderConnectTimeoutMsSetting = FAILOVER_READER_CONNECT_TIMEOUT_MS.getInteger(this.properties);
+    this.failoverCoordinationWindowMsSetting = FAILOVER_COORDINATION_WINDOW_MS.getInteger(this.properties);
+    this.failoverConnectParallelismSetting = FAILOVER_CONNECT_PARALLELISM.getInteger(this.properties);
+    this.failoverMaxConnectThreadsSetting = FAILOVER_MAX_CONNECT_THREADS.getInteger(this.properties);
     this.telemetryFailoverAdditionalTopTraceSetting =
         TELEMETRY_FAILOVER_ADDITIONAL_TOP_TRACE.getBoolean(this.properties);
     this.skipFailoverOnInterruptedThread = SKIP_FAILOVER_ON_INTERRUPTED_THREAD.getBoolean(this.properties);
@@ -612,7 +644,17 @@ public class FailoverConnectionPlugin extends AbstractConnectionPlugin {
         failedHost = failedHostSpec;
       }
 
-      final ReaderFailoverResult result = readerFailoverHandler.failover(this.pluginService.getHosts(), failedHost);
+      final ClusterFailoverCoordinator coordinator = this.getFailoverCoordinator();
+      final ReaderFailoverResult result = coordinator == null
+          ? readerFailoverHandler.failover(this.pluginService.getHosts(), failedHost)
+          : coordinator.failoverReader(
+              readerFailoverHandler,
+              this.pluginService.getHosts(),
+              failedHost,
+              this.pluginService,
+              this.properties,
+              this.failoverCoordinationWindowMsSetting,
+              this.failoverTimeoutMsSetting);
       if (result != null) {
         final SQLException exception = result.getException();
         if (exception != null) {
@@ -684,7 +726,17 @@ public class FailoverConnectionPlugin extends AbstractConnectionPlugin {
 
     try {
       LOGGER.info(() -> Messages.get("Failover.startWriterFailover"));
-      final WriterFailoverResult failoverResult = this.writerFailoverHandler.failover(this.pluginService.getAllHosts());
+      final ClusterFailoverCoordinator coordinator = this.getFailoverCoordinator();
+      final WriterFailoverResult failoverResult = coordinator == null
+          ? this.writerFailoverHandler.failover(this.pluginService.getAllHosts())
+          : coordinator.failoverWriter(
+              this.writerFailoverHandler,
+              this.pluginService.getAllHosts(),
+              this.pluginService.getCurrentHostSpec(),
+              this.pluginService,
+              this.properties,
+              this.failoverCoordinationWindowMsSetting,
+              this.failoverTimeoutMsSetting);
       if (failoverResult != null) {
         final SQLException exception = failoverResult.getException();
         if (exception != null) {
@@ -745,6 +797,24 @@ public class FailoverConnectionPlugin extends AbstractConnectionPlugin {
     }
   }
 
+  /**
+   * Returns the coordinator shared by the connections to the current cluster, or null if failover
+   * coordination is disabled or the cluster can't be identified.
+   */
+  private ClusterFailoverCoordinator getFailoverCoordinator() {
+    if (this.failoverCoordinator == null && this.failoverCoordinationWindowMsSetting > 0) {
+      try {
+        final String clusterId = this.pluginService.getHostListProvider().getClusterId();
+        if (!StringUtils.isNullOrEmpty(clusterId)) {
+          this.failoverCoordinator = ClusterFailoverCoordinator.getInstance(clusterId);
+        }
+      } catch (final UnsupportedOperationException | SQLException e) {
+        LOGGER.finest(() -> Messages.get("Failover.clusterIdUnavailable", new Object[] {e.getMessage()}));
+      }
+    }
+    return this.failoverCoordinator;
+  }
+
   protected void invalidateCurrentConnection() {
     final Connection conn = this.pluginService.getCurrentConnection();
     if (conn == null) {
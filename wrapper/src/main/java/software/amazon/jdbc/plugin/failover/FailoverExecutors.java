@@ -0,0 +1,133 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.plugin.failover;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import software.amazon.jdbc.util.ExecutorFactory;
+
+/**
+ * Thread pools shared by the failover handlers of all connections, so that threads aren't created
+ * and torn down every time a connection fails over.
+ */
+public final class FailoverExecutors {
+
+  public static final int DEFAULT_CONNECT_PARALLELISM = 4;
+  public static final int DEFAULT_MAX_CONNECT_THREADS = 32;
+  private static final int MAX_TASK_THREADS = 64;
+
+  // Runs the reader failover processes and the writer failover tasks. These tasks wait for the
+  // connection attempts submitted to the connect executor, so they can't share its pool. Tasks
+  // submitted while all the threads are busy wait in the queue.
+  private static final ExecutorService taskExecutor =
+      ExecutorFactory.newBoundedThreadPool(MAX_TASK_THREADS, "failover");
+
+  // Runs the connection attempts to the cluster hosts. Connection attempts don't wait for other tasks.
+  // The pool is sized to the threads reserved by the failovers in progress, up to the maximum number
+  // of connect threads.
+  private static final ThreadPoolExecutor connectExecutor =
+      (ThreadPoolExecutor) ExecutorFactory.newFixedThreadPool(DEFAULT_CONNECT_PARALLELISM, "failoverConnect");
+  private static int reservedConnectThreads;
+
+  private FailoverExecutors() {
+  }
+
+  static ExecutorService getTaskExecutor() {
+    return taskExecutor;
+  }
+
+  static ExecutorService getConnectExecutor() {
+    return connectExecutor;
+  }
+
+  /**
+   * Reserves threads of the connect executor for the connection attempts of one failover. The pool
+   * grows by the reserved threads, so the connection attempts of a failover don't wait for the
+   * attempts of other failovers. The pool doesn't grow past {@code maxConnectThreads}: once that many
+   * threads are reserved, the connection attempts of further failovers wait in the queue of the pool.
+   *
+   * @param parallelism the number of connection attempts the caller runs at the same time
+   * @param maxConnectThreads the maximum size of the connect executor pool
+   * @return the reservation, which must be closed when the failover ends
+   */
+  static synchronized ConnectReservation reserveConnectThreads(
+      final int parallelism, final int maxConnectThreads) {
+    final int threads = Math.max(0, Math.min(parallelism, maxConnectThreads - reservedConnectThreads));
+    resizeConnectExecutor(threads);
+    return new ConnectReservation(threads);
+  }
+
+  static synchronized int getReservedConnectThreads() {
+    return reservedConnectThreads;
+  }
+
+  private static synchronized void resizeConnectExecutor(final int reservedThreadsDelta) {
+    if (reservedThreadsDelta == 0) {
+      return;
+    }
+    reservedConnectThreads += reservedThreadsDelta;
+    final int poolSize = Math.max(DEFAULT_CONNECT_PARALLELISM, reservedConnectThreads);
+    if (poolSize > connectExecutor.getMaximumPoolSize()) {
+      connectExecutor.setMaximumPoolSize(poolSize);
+      connectExecutor.setCorePoolSize(poolSize);
+    } else if (poolSize < connectExecutor.getMaximumPoolSize()) {
+      connectExecutor.setCorePoolSize(poolSize);
+      connectExecutor.setMaximumPoolSize(poolSize);
+    }
+  }
+
+  /**
+   * Threads of the connect executor reserved by one failover. The threads are released when the
+   * failover has ended and none of its connection attempts is still running, so that attempts that
+   * keep running after they are cancelled don't use threads reserved by other failovers.
+   */
+  static final class ConnectReservation {
+    private final int threads;
+    private final AtomicInteger runningAttempts = new AtomicInteger();
+    private final AtomicBoolean released = new AtomicBoolean();
+    private volatile boolean closed;
+
+    private ConnectReservation(final int threads) {
+      this.threads = threads;
+    }
+
+    void attemptStarted() {
+      this.runningAttempts.incrementAndGet();
+    }
+
+    void attemptFinished() {
+      if (this.runningAttempts.decrementAndGet() == 0 && this.closed) {
+        this.release();
+      }
+    }
+
+    void close() {
+      this.closed = true;
+      if (this.runningAttempts.get() == 0) {
+        this.release();
+      }
+    }
+
+    private void release() {
+      if (this.released.compareAndSet(false, true)) {
+        resizeConnectExecutor(-this.threads);
+      }
+    }
+  }
+}
@@ -38,6 +38,21 @@ public interface ReaderFailoverHandler {
    */
   ReaderFailoverResult failover(List<HostSpec> hosts, HostSpec currentHost) throws SQLException;
 
+  /**
+   * Called to start Reader Failover Process that is limited to the given time. Implementations that
+   * can't limit the time of the process run it as {@link #failover(List, HostSpec)} does.
+   *
+   * @param hosts Cluster current topology.
+   * @param currentHost The currently connected host that has failed.
+   * @param timeoutMs The maximum time in milliseconds for the process.
+   * @return {@link ReaderFailoverResult} The results of this process.
+   * @throws SQLException indicating whether the failover attempt was successful.
+   */
+  default ReaderFailoverResult failover(List<HostSpec> hosts, HostSpec currentHost, long timeoutMs)
+      throws SQLException {
+    return this.failover(hosts, currentHost);
+  }
+
   /**
    * Called to get any available reader connection. If no reader is available then result of process
    * is unsuccessful. This process will not attempt to connect to the writer host.
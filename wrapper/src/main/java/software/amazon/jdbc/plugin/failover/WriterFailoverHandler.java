@@ -34,4 +34,17 @@ public interface WriterFailoverHandler {
    * @throws SQLException indicating whether the failover attempt was successful.
    */
   WriterFailoverResult failover(List<HostSpec> currentTopology) throws SQLException;
+
+  /**
+   * Called to start Writer Failover Process that is limited to the given time. Implementations that
+   * can't limit the time of the process run it as {@link #failover(List)} does.
+   *
+   * @param currentTopology Cluster current topology
+   * @param timeoutMs The maximum time in milliseconds for the process.
+   * @return {@link WriterFailoverResult} The results of this process.
+   * @throws SQLException indicating whether the failover attempt was successful.
+   */
+  default WriterFailoverResult failover(List<HostSpec> currentTopology, long timeoutMs) throws SQLException {
+    return this.failover(currentTopology);
+  }
 }
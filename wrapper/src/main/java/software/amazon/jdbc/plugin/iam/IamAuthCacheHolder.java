@@ -16,8 +16,11 @@
 
 package software.amazon.jdbc.plugin.iam;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import software.amazon.jdbc.plugin.TokenInfo;
+import software.amazon.jdbc.util.ExecutorFactory;
 
 /* The main plugin code IamAuthConnectionPlugin depends on AWS SDK. In order to avoid unnecessary dependencies,
  the plugin cache has been extracted into this IamAuthCacheHolder class. This cache holder class doesn't depend
@@ -26,7 +29,15 @@ import software.amazon.jdbc.plugin.TokenInfo;
 public class IamAuthCacheHolder {
   static final ConcurrentHashMap<String, TokenInfo> tokenCache = new ConcurrentHashMap<>();
 
+  // Tokens that are being generated, keyed by the same key as tokenCache. Connections that need a token
+  // while it is being generated wait for the same generation instead of signing their own token.
+  static final ConcurrentHashMap<String, CompletableFuture<TokenInfo>> pendingTokens = new ConcurrentHashMap<>();
+
+  // Generates the tokens that are refreshed before they expire.
+  static final ExecutorService tokenRefreshExecutor = ExecutorFactory.newCachedThreadPool("iamTokenRefresh");
+
   public static void clearCache() {
     tokenCache.clear();
+    pendingTokens.clear();
   }
 }
@@ -20,10 +20,17 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import software.amazon.awssdk.regions.Region;
@@ -43,6 +50,7 @@ import software.amazon.jdbc.util.StringUtils;
 import software.amazon.jdbc.util.telemetry.TelemetryCounter;
 import software.amazon.jdbc.util.telemetry.TelemetryFactory;
 import software.amazon.jdbc.util.telemetry.TelemetryGauge;
+import software.amazon.jdbc.util.telemetry.TelemetryHistogram;
 
 public class IamAuthConnectionPlugin extends AbstractConnectionPlugin {
 
@@ -72,6 +80,14 @@ public class IamAuthConnectionPlugin extends AbstractConnectionPlugin {
       "iamExpiration", String.valueOf(DEFAULT_TOKEN_EXPIRATION_SEC),
       "IAM token cache expiration in seconds");
 
+  public static final AwsWrapperProperty IAM_TOKEN_REFRESH_PERCENT = new AwsWrapperProperty(
+      "iamTokenRefreshPercent", "80",
+      "Percentage of the IAM token cache expiration after which a cached token is refreshed in the background. "
+          + "Set to 0 to disable background refresh.");
+
+  private static final List<Long> FETCH_TOKEN_LATENCY_BUCKETS_MILLIS = Collections.unmodifiableList(
+      Arrays.asList(5L, 10L, 25L, 50L, 100L, 250L, 500L, 1_000L, 2_500L, 5_000L, 10_000L));
+
   protected static final RegionUtils regionUtils = new RegionUtils();
   protected final PluginService pluginService;
   protected final RdsUtils rdsUtils = new RdsUtils();
@@ -83,6 +99,8 @@ public class IamAuthConnectionPlugin extends AbstractConnectionPlugin {
   private final TelemetryFactory telemetryFactory;
   private final TelemetryGauge cacheSizeGauge;
   private final TelemetryCounter fetchTokenCounter;
+  private final TelemetryCounter staleTokenCounter;
+  private final TelemetryHistogram fetchTokenLatencyHistogram;
 
   private final IamTokenUtility iamTokenUtility;
 
@@ -97,6 +115,9 @@ public class IamAuthConnectionPlugin extends AbstractConnectionPlugin {
     this.cacheSizeGauge = telemetryFactory.createGauge("iam.tokenCache.size",
         () -> (long) IamAuthCacheHolder.tokenCache.size());
     this.fetchTokenCounter = telemetryFactory.createCounter("iam.fetchToken.count");
+    this.staleTokenCounter = telemetryFactory.createCounter("iam.staleToken.count");
+    this.fetchTokenLatencyHistogram = telemetryFactory.createHistogram(
+        "iam.fetchToken.latency.ms", FETCH_TOKEN_LATENCY_BUCKETS_MILLIS);
   }
 
   @Override
@@ -136,27 +157,18 @@ public class IamAuthConnectionPlugin extends AbstractConnectionPlugin {
 
     final int tokenExpirationSec = IAM_EXPIRATION.getInteger(props);
 
+    final String user = PropertyDefinition.USER.getString(props);
     final String cacheKey = IamAuthUtils.getCacheKey(
-        PropertyDefinition.USER.getString(props),
+        user,
         host,
         port,
         region);
-    final TokenInfo tokenInfo = IamAuthCacheHolder.tokenCache.get(cacheKey);
-    final boolean isCachedToken = tokenInfo != null && !tokenInfo.isExpired();
-
-    if (isCachedToken) {
-      LOGGER.finest(
-          () -> Messages.get(
-              "AuthenticationToken.useCachedToken",
-              new Object[] {tokenInfo.getToken()}));
-      PropertyDefinition.PASSWORD.set(props, tokenInfo.getToken());
-    } else {
+    final Supplier<TokenInfo> tokenSupplier = () -> {
       final Instant tokenExpiry = Instant.now().plus(tokenExpirationSec, ChronoUnit.SECONDS);
-      this.fetchTokenCounter.inc();
       final String token = IamAuthUtils.generateAuthenticationToken(
           iamTokenUtility,
           pluginService,
-          PropertyDefinition.USER.getString(props),
+          user,
           host,
           port,
           region,
@@ -165,10 +177,26 @@ public class IamAuthConnectionPlugin extends AbstractConnectionPlugin {
           () -> Messages.get(
               "AuthenticationToken.generatedNewToken",
               new Object[] {token}));
-      PropertyDefinition.PASSWORD.set(props, token);
-      IamAuthCacheHolder.tokenCache.put(
-          cacheKey,
-          new TokenInfo(token, tokenExpiry));
+      return new TokenInfo(token, tokenExpiry);
+    };
+
+    final TokenInfo tokenInfo = IamAuthCacheHolder.tokenCache.get(cacheKey);
+    final boolean isCachedToken = tokenInfo != null && !tokenInfo.isExpired();
+
+    if (isCachedToken) {
+      LOGGER.finest(
+          () -> Messages.get(
+              "AuthenticationToken.useCachedToken",
+              new Object[] {tokenInfo.getToken()}));
+      PropertyDefinition.PASSWORD.set(props, tokenInfo.getToken());
+
+      final int refreshPercent = IAM_TOKEN_REFRESH_PERCENT.getInteger(props);
+      if (refreshPercent > 0 && isRefreshDue(tokenInfo, tokenExpirationSec, refreshPercent)) {
+        // The cached token is still valid. Connect with it while a new token is generated in the background.
+        this.fetchToken(cacheKey, tokenSupplier, true);
+      }
+    } else {
+      PropertyDefinition.PASSWORD.set(props, this.getToken(cacheKey, tokenSupplier).getToken());
     }
 
     try {
@@ -187,25 +215,7 @@ public class IamAuthConnectionPlugin extends AbstractConnectionPlugin {
 
       // Login unsuccessful with cached token
       // Try to generate a new token and try to connect again
-
-      final Instant tokenExpiry = Instant.now().plus(tokenExpirationSec, ChronoUnit.SECONDS);
-      this.fetchTokenCounter.inc();
-      final String token = IamAuthUtils.generateAuthenticationToken(
-          iamTokenUtility,
-          pluginService,
-          PropertyDefinition.USER.getString(props),
-          host,
-          port,
-          region,
-          AwsCredentialsManager.getProvider(hostSpec, props));
-      LOGGER.finest(
-          () -> Messages.get(
-              "AuthenticationToken.generatedNewToken",
-              new Object[] {token}));
-      PropertyDefinition.PASSWORD.set(props, token);
-      IamAuthCacheHolder.tokenCache.put(
-          cacheKey,
-          new TokenInfo(token, tokenExpiry));
+      PropertyDefinition.PASSWORD.set(props, this.getToken(cacheKey, tokenSupplier).getToken());
 
       return connectFunc.call();
 
@@ -218,6 +228,84 @@ public class IamAuthConnectionPlugin extends AbstractConnectionPlugin {
     }
   }
 
+  private static boolean isRefreshDue(
+      final TokenInfo tokenInfo, final int tokenExpirationSec, final int refreshPercent) {
+    final long refreshBeforeExpirationMillis = tokenExpirationSec * (100L - refreshPercent) * 10L;
+    return Instant.now().plusMillis(refreshBeforeExpirationMillis).isAfter(tokenInfo.getExpiration());
+  }
+
+  /**
+   * Generates a new token and waits for it. If the token is already being generated for the same cache
+   * key, waits for that generation instead.
+   */
+  private TokenInfo getToken(final String cacheKey, final Supplier<TokenInfo> tokenSupplier) {
+    try {
+      return this.fetchToken(cacheKey, tokenSupplier, false).join();
+    } catch (final CompletionException exception) {
+      if (exception.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) exception.getCause();
+      }
+      throw exception;
+    }
+  }
+
+  /**
+   * Starts generating a new token for the given cache key unless one is already being generated. The
+   * generated token is stored in the token cache.
+   *
+   * @param cacheKey      the token cache key
+   * @param tokenSupplier generates the token
+   * @param inBackground  whether the token should be generated by the token refresh executor instead of
+   *                      the calling thread
+   * @return a future that completes with the generated token
+   */
+  private CompletableFuture<TokenInfo> fetchToken(
+      final String cacheKey, final Supplier<TokenInfo> tokenSupplier, final boolean inBackground) {
+    final CompletableFuture<TokenInfo> future = new CompletableFuture<>();
+    final CompletableFuture<TokenInfo> pendingFuture = IamAuthCacheHolder.pendingTokens.putIfAbsent(cacheKey, future);
+    if (pendingFuture != null) {
+      return pendingFuture;
+    }
+    if (inBackground) {
+      // Only the connection that starts the refresh counts the stale token.
+      this.staleTokenCounter.inc();
+    }
+
+    final Runnable fetchTask = () -> {
+      final long startTimeNano = System.nanoTime();
+      try {
+        this.fetchTokenCounter.inc();
+        final TokenInfo tokenInfo = tokenSupplier.get();
+        IamAuthCacheHolder.tokenCache.put(cacheKey, tokenInfo);
+        IamAuthCacheHolder.pendingTokens.remove(cacheKey, future);
+        future.complete(tokenInfo);
+      } catch (final Throwable throwable) {
+        if (inBackground) {
+          LOGGER.fine(
+              () -> Messages.get(
+                  "IamAuthConnectionPlugin.tokenRefreshFailed",
+                  new Object[] {cacheKey, throwable}));
+        }
+        IamAuthCacheHolder.pendingTokens.remove(cacheKey, future);
+        future.completeExceptionally(throwable);
+      } finally {
+        this.fetchTokenLatencyHistogram.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTimeNano));
+      }
+    };
+
+    if (inBackground) {
+      try {
+        IamAuthCacheHolder.tokenRefreshExecutor.execute(fetchTask);
+      } catch (final RejectedExecutionException exception) {
+        IamAuthCacheHolder.pendingTokens.remove(cacheKey, future);
+        future.completeExceptionally(exception);
+      }
+    } else {
+      fetchTask.run();
+    }
+    return future;
+  }
+
   @Override
   public Connection forceConnect(
       final @NonNull String driverProtocol,
@@ -22,6 +22,7 @@ import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import java.util.logging.Logger;
@@ -41,6 +42,7 @@ import software.amazon.jdbc.cleanup.CanReleaseResources;
 import software.amazon.jdbc.plugin.AbstractConnectionPlugin;
 import software.amazon.jdbc.plugin.failover.FailoverSQLException;
 import software.amazon.jdbc.util.Messages;
+import software.amazon.jdbc.util.PropertyUtils;
 import software.amazon.jdbc.util.SqlState;
 import software.amazon.jdbc.util.Utils;
 import software.amazon.jdbc.util.WrapperUtils;
@@ -55,6 +57,7 @@ public class ReadWriteSplittingPlugin extends AbstractConnectionPlugin
           add("initHostProvider");
           add("connect");
           add("notifyConnectionChanged");
+          add("notifyNodeListChanged");
           add(METHOD_SET_READ_ONLY);
           add(METHOD_CLEAR_WARNINGS);
         }
@@ -62,10 +65,30 @@ public class ReadWriteSplittingPlugin extends AbstractConnectionPlugin
   static final String METHOD_SET_READ_ONLY = "Connection.setReadOnly";
   static final String METHOD_CLEAR_WARNINGS = "Connection.clearWarnings";
 
+  // The reader connection is prewarmed when the application creates a statement on the writer connection.
+  private static final Set<String> prewarmTriggerMethods =
+      Collections.unmodifiableSet(new HashSet<String>() {
+        {
+          add("Connection.createStatement");
+          add("Connection.prepareStatement");
+          add("Connection.prepareCall");
+        }
+      });
+  private static final Set<String> prewarmSubscribedMethods =
+      Collections.unmodifiableSet(new HashSet<String>() {
+        {
+          addAll(subscribedMethods);
+          addAll(prewarmTriggerMethods);
+        }
+      });
+
   private final PluginService pluginService;
   private final Properties properties;
   private final String readerSelectorStrategy;
+  private final boolean prewarmReaderConnection;
+  private final int prewarmReaderConnectTimeoutMs;
   private volatile boolean inReadWriteSplit = false;
+  private volatile boolean isReaderPrewarmNeeded = false;
   private HostListProviderService hostListProviderService;
   private Connection writerConnection;
   private Connection readerConnection;
@@ -79,6 +102,20 @@ public class ReadWriteSplittingPlugin extends AbstractConnectionPlugin
           "random",
           "The strategy that should be used to select a new reader host.");
 
+  public static final AwsWrapperProperty PREWARM_READER_CONNECTION =
+      new AwsWrapperProperty(
+          "prewarmReaderConnection",
+          "false",
+          "Set to true to open the reader connection when the first statement is created on the writer connection, "
+              + "so that switching to a reader doesn't need to connect.");
+
+  public static final AwsWrapperProperty PREWARM_READER_CONNECT_TIMEOUT_MS =
+      new AwsWrapperProperty(
+          "prewarmReaderConnectTimeoutMs",
+          "1000",
+          "Maximum time in milliseconds to wait for the socket connection to a reader when the reader connection "
+              + "is opened in advance. Only one reader is tried.");
+
   static {
     PropertyDefinition.registerPluginProperties(ReadWriteSplittingPlugin.class);
   }
@@ -87,6 +124,8 @@ public class ReadWriteSplittingPlugin extends AbstractConnectionPlugin
     this.pluginService = pluginService;
     this.properties = properties;
     this.readerSelectorStrategy = READER_HOST_SELECTOR_STRATEGY.getString(properties);
+    this.prewarmReaderConnection = PREWARM_READER_CONNECTION.getBoolean(properties);
+    this.prewarmReaderConnectTimeoutMs = PREWARM_READER_CONNECT_TIMEOUT_MS.getInteger(properties);
   }
 
   /**
@@ -106,7 +145,7 @@ public class ReadWriteSplittingPlugin extends AbstractConnectionPlugin
 
   @Override
   public Set<String> getSubscribedMethods() {
-    return subscribedMethods;
+    return this.prewarmReaderConnection ? prewarmSubscribedMethods : subscribedMethods;
   }
 
   @Override
@@ -149,6 +188,10 @@ public class ReadWriteSplittingPlugin extends AbstractConnectionPlugin
       return null;
     }
 
+    if (HostRole.WRITER.equals(currentRole)) {
+      this.isReaderPrewarmNeeded = this.prewarmReaderConnection;
+    }
+
     final HostSpec currentHost = this.pluginService.getInitialConnectionHostSpec();
     if (currentRole.equals(currentHost.getRole())) {
       return currentConnection;
@@ -174,6 +217,30 @@ public class ReadWriteSplittingPlugin extends AbstractConnectionPlugin
     return OldConnectionSuggestedAction.NO_OPINION;
   }
 
+  @Override
+  public void notifyNodeListChanged(final Map<String, EnumSet<NodeChangeOptions>> changes) {
+    if (!this.prewarmReaderConnection) {
+      return;
+    }
+
+    final HostSpec readerHost = this.readerHostSpec;
+    if (readerHost != null && isHostUnavailable(changes.get(readerHost.getUrl()))) {
+      LOGGER.finer(() -> Messages.get("ReadWriteSplittingPlugin.replacingReaderConnection",
+          new Object[] {readerHost.getUrl()}));
+      closeConnectionIfIdle(this.readerConnection);
+    }
+
+    final HostSpec currentHost = this.pluginService.getCurrentHostSpec();
+    if (currentHost != null && isWriter(currentHost) && this.readerConnection == null) {
+      this.isReaderPrewarmNeeded = true;
+    }
+  }
+
+  private boolean isHostUnavailable(final EnumSet<NodeChangeOptions> hostChanges) {
+    return hostChanges != null
+        && (hostChanges.contains(NodeChangeOptions.WENT_DOWN) || hostChanges.contains(NodeChangeOptions.NODE_DELETED));
+  }
+
   @Override
   public <T, E extends Exception> T execute(
       final Class<T> resultClass,
@@ -212,6 +279,10 @@ public class ReadWriteSplittingPlugin extends AbstractConnectionPlugin
       }
     }
 
+    if (this.isReaderPrewarmNeeded && prewarmTriggerMethods.contains(methodName)) {
+      prewarmReaderConnectionIfNeeded();
+    }
+
     try {
       return jdbcMethodFunc.call();
     } catch (final Exception e) {
@@ -472,15 +543,22 @@ public class ReadWriteSplittingPlugin extends AbstractConnectionPlugin
   }
 
   private void getNewReaderConnection() throws SQLException {
+    final ReaderConnection reader = connectToReader(this.pluginService.getHosts().size() * 2, this.properties);
+    this.isReaderConnFromInternalPool = reader.isFromInternalPool;
+    setReaderConnection(reader.connection, reader.hostSpec);
+    switchCurrentConnectionTo(this.readerConnection, this.readerHostSpec);
+  }
+
+  private ReaderConnection connectToReader(final int connAttempts, final Properties props) throws SQLException {
     Connection conn = null;
     HostSpec readerHost = null;
+    boolean isFromInternalPool = false;
 
-    int connAttempts = this.pluginService.getHosts().size() * 2;
     for (int i = 0; i < connAttempts; i++) {
       HostSpec hostSpec = this.pluginService.getHostSpecByStrategy(HostRole.READER, this.readerSelectorStrategy);
       try {
-        conn = this.pluginService.connect(hostSpec, this.properties, this);
-        this.isReaderConnFromInternalPool = this.pluginService.isPooledConnectionProvider(hostSpec, this.properties);
+        conn = this.pluginService.connect(hostSpec, props, this);
+        isFromInternalPool = this.pluginService.isPooledConnectionProvider(hostSpec, props);
         readerHost = hostSpec;
         break;
       } catch (final SQLException e) {
@@ -495,15 +573,59 @@ public class ReadWriteSplittingPlugin extends AbstractConnectionPlugin
     if (conn == null || readerHost == null) {
       logAndThrowException(Messages.get("ReadWriteSplittingPlugin.noReadersAvailable"),
           SqlState.CONNECTION_UNABLE_TO_CONNECT);
-      return;
+      return null;
     }
 
     final HostSpec finalReaderHost = readerHost;
     LOGGER.finest(
         () -> Messages.get("ReadWriteSplittingPlugin.successfullyConnectedToReader",
             new Object[] {finalReaderHost.getUrl()}));
-    setReaderConnection(conn, readerHost);
-    switchCurrentConnectionTo(this.readerConnection, this.readerHostSpec);
+    return new ReaderConnection(conn, readerHost, isFromInternalPool);
+  }
+
+  /**
+   * Opens the reader connection while the current connection is still the writer, so that switching to a reader
+   * doesn't need to connect. The reader connection is opened on the calling thread, through this connection's
+   * plugin pipeline. To keep the delay of the calling thread short, only one reader is tried, with the connect
+   * timeout limited to {@link #PREWARM_READER_CONNECT_TIMEOUT_MS}. If the reader connection can't be opened, it's
+   * opened when the application switches to a reader.
+   */
+  private void prewarmReaderConnectionIfNeeded() {
+    this.isReaderPrewarmNeeded = false;
+
+    final HostSpec currentHost = this.pluginService.getCurrentHostSpec();
+    if (this.readerConnection != null || currentHost == null || !isWriter(currentHost)) {
+      return;
+    }
+
+    final List<HostSpec> hosts = this.pluginService.getHosts();
+    if (Utils.isNullOrEmpty(hosts) || hosts.stream().noneMatch(this::isReader)) {
+      return;
+    }
+
+    LOGGER.finest(() -> Messages.get("ReadWriteSplittingPlugin.prewarmingReaderConnection"));
+    try {
+      final ReaderConnection reader = connectToReader(1, getPrewarmProperties());
+      this.isReaderConnFromInternalPool = reader.isFromInternalPool;
+      setReaderConnection(reader.connection, reader.hostSpec);
+      LOGGER.finest(() -> Messages.get("ReadWriteSplittingPlugin.prewarmedReaderConnection",
+          new Object[] {reader.hostSpec.getUrl()}));
+    } catch (final SQLException e) {
+      LOGGER.fine(() -> Messages.get("ReadWriteSplittingPlugin.errorPrewarmingReaderConnection",
+          new Object[] {e.getMessage()}));
+    }
+  }
+
+  private Properties getPrewarmProperties() {
+    final Integer connectTimeoutMs = PropertyUtils.getIntegerPropertyValue(
+        this.properties, PropertyDefinition.CONNECT_TIMEOUT);
+    if (connectTimeoutMs != null && connectTimeoutMs > 0 && connectTimeoutMs <= this.prewarmReaderConnectTimeoutMs) {
+      return this.properties;
+    }
+
+    final Properties prewarmProps = PropertyUtils.copyProperties(this.properties);
+    PropertyDefinition.CONNECT_TIMEOUT.set(prewarmProps, String.valueOf(this.prewarmReaderConnectTimeoutMs));
+    return prewarmProps;
   }
 
   private boolean isConnectionUsable(final Connection connection) throws SQLException {
@@ -552,4 +674,16 @@ public class ReadWriteSplittingPlugin extends AbstractConnectionPlugin
   Connection getReaderConnection() {
     return this.readerConnection;
   }
+
+  private static final class ReaderConnection {
+    final Connection connection;
+    final HostSpec hostSpec;
+    final boolean isFromInternalPool;
+
+    ReaderConnection(final Connection connection, final HostSpec hostSpec, final boolean isFromInternalPool) {
+      this.connection = connection;
+      this.hostSpec = hostSpec;
+      this.isFromInternalPool = isFromInternalPool;
+    }
+  }
 }
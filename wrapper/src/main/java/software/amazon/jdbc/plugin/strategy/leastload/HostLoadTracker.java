@@ -0,0 +1,148 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.plugin.strategy.leastload;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import software.amazon.jdbc.HostSpec;
+
+/**
+ * Keeps the load of each host observed by the connections of this application: the number of statements that
+ * are currently executed against the host, and an exponentially weighted moving average (EWMA) of their
+ * execution times. The load is shared by all connections and keyed by host URL.
+ */
+public class HostLoadTracker {
+
+  // Weight of the latest execution time in the moving average.
+  static final double LATENCY_EWMA_ALPHA = 0.3;
+
+  // An average that hasn't been updated for this long is ignored while the host is idle, so that a host that has
+  // been slow in the past gets picked and measured again.
+  static final long LATENCY_EXPIRATION_NANO = TimeUnit.SECONDS.toNanos(30);
+
+  protected static final Map<String, HostLoad> hostLoads = new ConcurrentHashMap<>();
+
+  private HostLoadTracker() {
+  }
+
+  public static @NonNull HostLoad getHostLoad(final @NonNull HostSpec hostSpec) {
+    return hostLoads.computeIfAbsent(hostSpec.getUrl(), (key) -> new HostLoad());
+  }
+
+  public static void clear() {
+    hostLoads.clear();
+  }
+
+  public static class HostLoad {
+    private static final long NO_LATENCY = -1;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicReference<LatencyAverage> latencyAverage = new AtomicReference<>();
+    // The time the host last went from idle to executing statements.
+    private volatile long busySinceNano;
+
+    /**
+     * Records the start of a statement execution against the host.
+     */
+    public void begin() {
+      if (this.inFlight.getAndIncrement() == 0) {
+        this.busySinceNano = System.nanoTime();
+      }
+    }
+
+    /**
+     * Records the end of a statement execution against the host. The execution time of failed executions is
+     * recorded as well, so that a host on which statements time out doesn't look idle.
+     *
+     * @param latencyNano the execution time in nanoseconds
+     */
+    public void end(final long latencyNano) {
+      this.inFlight.decrementAndGet();
+
+      final long now = System.nanoTime();
+      LatencyAverage current;
+      LatencyAverage updated;
+      do {
+        current = this.latencyAverage.get();
+        updated = new LatencyAverage(
+            current == null || now - current.updateNano > LATENCY_EXPIRATION_NANO
+                ? latencyNano
+                : Math.round(current.ewmaNano + LATENCY_EWMA_ALPHA * (latencyNano - current.ewmaNano)),
+            now);
+      } while (!this.latencyAverage.compareAndSet(current, updated));
+    }
+
+    public int getInFlight() {
+      return Math.max(this.inFlight.get(), 0);
+    }
+
+    /**
+     * Returns the moving average of the execution times.
+     *
+     * @return the average execution time in nanoseconds, or -1 if no recent execution time is known
+     */
+    public long getLatencyEwmaNano() {
+      final LatencyAverage average = this.latencyAverage.get();
+      if (average == null || System.nanoTime() - average.updateNano > LATENCY_EXPIRATION_NANO) {
+        return NO_LATENCY;
+      }
+      return average.ewmaNano;
+    }
+
+    /**
+     * Returns the load score of the host. The score is the estimated execution time multiplied by the number of
+     * executions in progress, counting the one that is about to start. Idle hosts without a recent execution
+     * time have a score of 0, so that they are measured as soon as they are picked.
+     *
+     * <p>While statements are executing, the average doesn't expire, and the execution time is estimated as at
+     * least the time since the host last completed a statement or became busy. A host whose statements hang
+     * therefore gets a growing score instead of looking idle.
+     *
+     * @return the load score, lower is better
+     */
+    public double getScore() {
+      final int inFlight = this.getInFlight();
+      if (inFlight == 0) {
+        final long latency = this.getLatencyEwmaNano();
+        return latency == NO_LATENCY ? 0 : latency;
+      }
+
+      final long now = System.nanoTime();
+      final LatencyAverage average = this.latencyAverage.get();
+      final long busySince = this.busySinceNano;
+      final long lastProgressNano = average == null || busySince - average.updateNano > 0
+          ? busySince
+          : average.updateNano;
+      final long latency = Math.max(average == null ? 0 : average.ewmaNano, now - lastProgressNano);
+      return (double) Math.max(latency, 0) * (inFlight + 1);
+    }
+  }
+
+  private static final class LatencyAverage {
+    final long ewmaNano;
+    final long updateNano;
+
+    LatencyAverage(final long ewmaNano, final long updateNano) {
+      this.ewmaNano = ewmaNano;
+      this.updateNano = updateNano;
+    }
+  }
+}
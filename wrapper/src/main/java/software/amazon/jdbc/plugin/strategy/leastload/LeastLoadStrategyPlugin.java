@@ -0,0 +1,125 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.plugin.strategy.leastload;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import software.amazon.jdbc.HostRole;
+import software.amazon.jdbc.HostSpec;
+import software.amazon.jdbc.JdbcCallable;
+import software.amazon.jdbc.PluginService;
+import software.amazon.jdbc.plugin.AbstractConnectionPlugin;
+
+/**
+ * Records the load of the hosts that statements are executed against, and provides the least load host selection
+ * strategy based on it. See {@link LeastLoadHostSelector}.
+ */
+public class LeastLoadStrategyPlugin extends AbstractConnectionPlugin {
+
+  public static final String LEAST_LOAD_STRATEGY_NAME = "leastLoad";
+
+  private static final Set<String> subscribedMethods =
+      Collections.unmodifiableSet(new HashSet<>(
+          Arrays.asList(
+              "acceptsStrategy",
+              "getHostSpecByStrategy",
+              "Statement.execute",
+              "Statement.executeQuery",
+              "Statement.executeUpdate",
+              "Statement.executeBatch",
+              "Statement.executeLargeUpdate",
+              "Statement.executeLargeBatch",
+              "PreparedStatement.execute",
+              "PreparedStatement.executeQuery",
+              "PreparedStatement.executeUpdate",
+              "PreparedStatement.executeBatch",
+              "PreparedStatement.executeLargeUpdate",
+              "CallableStatement.execute",
+              "CallableStatement.executeQuery",
+              "CallableStatement.executeUpdate",
+              "CallableStatement.executeBatch",
+              "CallableStatement.executeLargeUpdate")));
+
+  protected static final LeastLoadHostSelector leastLoadHostSelector = new LeastLoadHostSelector();
+
+  protected final @NonNull PluginService pluginService;
+  protected final @NonNull Properties properties;
+
+  public LeastLoadStrategyPlugin(final @NonNull PluginService pluginService, final @NonNull Properties properties) {
+    this.pluginService = pluginService;
+    this.properties = properties;
+  }
+
+  @Override
+  public Set<String> getSubscribedMethods() {
+    return subscribedMethods;
+  }
+
+  @Override
+  public <T, E extends Exception> T execute(
+      final Class<T> resultClass,
+      final Class<E> exceptionClass,
+      final Object methodInvokeOn,
+      final String methodName,
+      final JdbcCallable<T, E> jdbcMethodFunc,
+      final Object[] jdbcMethodArgs)
+      throws E {
+
+    final HostSpec currentHost = this.pluginService.getCurrentHostSpec();
+    if (currentHost == null) {
+      return jdbcMethodFunc.call();
+    }
+
+    final HostLoadTracker.HostLoad hostLoad = HostLoadTracker.getHostLoad(currentHost);
+    final long startTime = System.nanoTime();
+    hostLoad.begin();
+    try {
+      return jdbcMethodFunc.call();
+    } finally {
+      // Failed executions, timeouts in particular, count toward the latency of the host.
+      hostLoad.end(System.nanoTime() - startTime);
+    }
+  }
+
+  @Override
+  public boolean acceptsStrategy(final HostRole role, final String strategy) {
+    return LEAST_LOAD_STRATEGY_NAME.equalsIgnoreCase(strategy);
+  }
+
+  @Override
+  public HostSpec getHostSpecByStrategy(final HostRole role, final String strategy)
+      throws SQLException, UnsupportedOperationException {
+    return this.getHostSpecByStrategy(this.pluginService.getHosts(), role, strategy);
+  }
+
+  @Override
+  public HostSpec getHostSpecByStrategy(final List<HostSpec> hosts, final HostRole role, final String strategy)
+      throws SQLException, UnsupportedOperationException {
+
+    if (!acceptsStrategy(role, strategy)) {
+      return null;
+    }
+
+    return leastLoadHostSelector.getHost(hosts, role, this.properties);
+  }
+}
@@ -18,25 +18,38 @@ package software.amazon.jdbc.states;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Collections;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
-import java.util.concurrent.ExecutorService;
+import java.util.WeakHashMap;
+import java.util.concurrent.Executor;
 import java.util.logging.Logger;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import software.amazon.jdbc.Driver;
+import software.amazon.jdbc.JdbcRunnable;
 import software.amazon.jdbc.PluginService;
 import software.amazon.jdbc.PropertyDefinition;
-import software.amazon.jdbc.util.ExecutorFactory;
 import software.amazon.jdbc.util.StringUtils;
+import software.amazon.jdbc.util.SynchronousExecutor;
 
 public class SessionStateServiceImpl implements SessionStateService {
 
   private static final Logger LOGGER = Logger.getLogger(SessionStateServiceImpl.class.getName());
 
+  protected static final Executor networkTimeoutExecutor = new SynchronousExecutor();
+
   protected SessionState sessionState;
   protected SessionState copySessionState;
 
+  // The session state of the connections that were replaced by another connection but not closed, for example
+  // the cached writer and reader connections of the read/write splitting plugin. It's used to skip the settings
+  // that such a connection already has when it becomes the current connection again.
+  protected final Map<Connection, SessionState> knownConnectionStates =
+      Collections.synchronizedMap(new WeakHashMap<>());
+
   protected final PluginService pluginService;
   protected final Properties props;
 
@@ -376,6 +389,7 @@ public class SessionStateServiceImpl implements SessionStateService {
     this.sessionState.networkTimeout.reset();
     this.sessionState.transactionIsolation.reset();
     this.sessionState.typeMap.reset();
+    this.knownConnectionStates.clear();
   }
 
   @Override
@@ -391,6 +405,11 @@ public class SessionStateServiceImpl implements SessionStateService {
     }
 
     this.copySessionState = this.sessionState.copy();
+
+    final Connection currentConnection = this.pluginService.getCurrentConnection();
+    if (currentConnection != null && this.transferStateEnabledSetting()) {
+      this.knownConnectionStates.put(currentConnection, this.copySessionState.copy());
+    }
   }
 
   @Override
@@ -413,64 +432,112 @@ public class SessionStateServiceImpl implements SessionStateService {
       }
     }
 
-    if (this.sessionState.autoCommit.getValue().isPresent()) {
-      this.sessionState.autoCommit.resetPristineValue();
-      this.setupPristineAutoCommit();
-      newConnection.setAutoCommit(this.sessionState.autoCommit.getValue().get());
-    }
-
-    if (this.sessionState.readOnly.getValue().isPresent()) {
-      this.sessionState.readOnly.resetPristineValue();
-      this.setupPristineReadOnly();
-      newConnection.setReadOnly(this.sessionState.readOnly.getValue().get());
-    }
-
-    if (this.sessionState.catalog.getValue().isPresent()) {
-      this.sessionState.catalog.resetPristineValue();
-      this.setupPristineCatalog();
-      final String currentCatalog = this.sessionState.catalog.getValue().get();
-      if (!StringUtils.isNullOrEmpty(currentCatalog)) {
-        newConnection.setCatalog(currentCatalog);
+    // The settings that the new connection already has are skipped. The settings of a connection are known if
+    // it has been the current connection before, otherwise they are read as pristine values when needed.
+    final SessionState knownState = this.knownConnectionStates.get(newConnection);
+
+    this.applySessionStateField(
+        this.sessionState.autoCommit,
+        knownState == null ? null : knownState.autoCommit,
+        this::setupPristineAutoCommit,
+        newConnection::setAutoCommit);
+
+    this.applySessionStateField(
+        this.sessionState.readOnly,
+        knownState == null ? null : knownState.readOnly,
+        this::setupPristineReadOnly,
+        newConnection::setReadOnly);
+
+    this.applySessionStateField(
+        this.sessionState.catalog,
+        knownState == null ? null : knownState.catalog,
+        this::setupPristineCatalog,
+        (catalog) -> {
+          if (!StringUtils.isNullOrEmpty(catalog)) {
+            newConnection.setCatalog(catalog);
+          }
+        });
+
+    this.applySessionStateField(
+        this.sessionState.schema,
+        knownState == null ? null : knownState.schema,
+        this::setupPristineSchema,
+        newConnection::setSchema);
+
+    this.applySessionStateField(
+        this.sessionState.holdability,
+        knownState == null ? null : knownState.holdability,
+        this::setupPristineHoldability,
+        newConnection::setHoldability);
+
+    this.applySessionStateField(
+        this.sessionState.transactionIsolation,
+        knownState == null ? null : knownState.transactionIsolation,
+        this::setupPristineTransactionIsolation,
+        //noinspection MagicConstant
+        newConnection::setTransactionIsolation);
+
+    this.applySessionStateField(
+        this.sessionState.networkTimeout,
+        knownState == null ? null : knownState.networkTimeout,
+        this::setupPristineNetworkTimeout,
+        (timeout) -> newConnection.setNetworkTimeout(networkTimeoutExecutor, timeout));
+
+    this.applySessionStateField(
+        this.sessionState.typeMap,
+        knownState == null ? null : knownState.typeMap,
+        this::setupPristineTypeMap,
+        newConnection::setTypeMap);
+  }
+
+  /**
+   * Applies the value of a session state field to the new current connection, unless the connection already has
+   * this value.
+   *
+   * @param field              the session state field to apply
+   * @param knownField         the same field in the last known session state of the new connection, or null if the
+   *                           new connection hasn't been the current connection before
+   * @param setupPristineFunc  the function storing the value of the new connection as the pristine value of the field
+   * @param applyFunc          the function setting the value on the new connection
+   * @param <T>                the type of the field
+   * @throws SQLException if the value can't be read from or set on the new connection
+   */
+  protected <T> void applySessionStateField(
+      final SessionStateField<T> field,
+      final @Nullable SessionStateField<T> knownField,
+      final JdbcRunnable<SQLException> setupPristineFunc,
+      final SessionStateSetter<T> applyFunc) throws SQLException {
+
+    if (!field.getValue().isPresent()) {
+      return;
+    }
+
+    field.resetPristineValue();
+    Optional<T> connectionValue = Optional.empty();
+    if (knownField != null) {
+      connectionValue = knownField.getValue().isPresent() ? knownField.getValue() : knownField.getPristineValue();
+    }
+
+    if (connectionValue.isPresent()) {
+      if (this.resetStateEnabledSetting()) {
+        field.setPristineValue(connectionValue.get());
       }
+    } else {
+      setupPristineFunc.call();
+      connectionValue = field.getPristineValue();
     }
 
-    if (this.sessionState.schema.getValue().isPresent()) {
-      this.sessionState.schema.resetPristineValue();
-      this.setupPristineSchema();
-      newConnection.setSchema(this.sessionState.schema.getValue().get());
-    }
-
-    if (this.sessionState.holdability.getValue().isPresent()) {
-      this.sessionState.holdability.resetPristineValue();
-      this.setupPristineHoldability();
-      newConnection.setHoldability(this.sessionState.holdability.getValue().get());
-    }
-
-    if (this.sessionState.transactionIsolation.getValue().isPresent()) {
-      this.sessionState.transactionIsolation.resetPristineValue();
-      this.setupPristineTransactionIsolation();
-      //noinspection MagicConstant
-      newConnection.setTransactionIsolation(this.sessionState.transactionIsolation.getValue().get());
-    }
-
-    if (this.sessionState.networkTimeout.getValue().isPresent()) {
-      this.sessionState.networkTimeout.resetPristineValue();
-      this.setupPristineNetworkTimeout();
-      final ExecutorService executorService =
-          ExecutorFactory.newSingleThreadExecutor("session");
-      newConnection.setNetworkTimeout(executorService, this.sessionState.networkTimeout.getValue().get());
-      executorService.shutdown();
-    }
-
-    if (this.sessionState.typeMap.getValue().isPresent()) {
-      this.sessionState.typeMap.resetPristineValue();
-      this.setupPristineTypeMap();
-      newConnection.setTypeMap(this.sessionState.typeMap.getValue().get());
+    final T value = field.getValue().get();
+    if (connectionValue.isPresent() && Objects.equals(connectionValue.get(), value)) {
+      return;
     }
+    applyFunc.apply(value);
   }
 
   @Override
   public void applyPristineSessionState(Connection connection) throws SQLException {
+    this.knownConnectionStates.remove(connection);
+
     if (!this.resetStateEnabledSetting()) {
       return;
     }
@@ -544,12 +611,9 @@ public class SessionStateServiceImpl implements SessionStateService {
 
     if (this.copySessionState.networkTimeout.canRestorePristine()) {
       try {
-        final ExecutorService executorService =
-            ExecutorFactory.newSingleThreadExecutor("session");
         //noinspection OptionalGetWithoutIsPresent
-        connection.setNetworkTimeout(executorService,
+        connection.setNetworkTimeout(networkTimeoutExecutor,
             this.copySessionState.networkTimeout.getPristineValue().get());
-        executorService.shutdown();
       } catch (final SQLException e) {
         // Ignore any exception
       }
@@ -568,4 +632,8 @@ public class SessionStateServiceImpl implements SessionStateService {
   public void logCurrentState() {
     LOGGER.finest(() -> "Current session state:\n" + this.sessionState);
   }
+
+  protected interface SessionStateSetter<T> {
+    void apply(T value) throws SQLException;
+  }
 }
@@ -0,0 +1,271 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToLongFunction;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import software.amazon.jdbc.util.telemetry.TelemetryCounter;
+
+/**
+ * A cache that is bounded by the number of entries and by the total estimated size of its items.
+ * When a new item doesn't fit, the least recently used entries are evicted. Each item also has its
+ * own expiration time; expired entries are removed when they are requested or when room has to be
+ * made for a new item.
+ *
+ * <p>Reads don't take a lock. Adding items and changing the limits are serialized, so the cost of
+ * finding the least recently used entries is only paid when an item is added to a full cache.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the items
+ */
+public class BoundedCacheMap<K, V> {
+
+  protected final Map<K, CacheItem<V>> cache = new ConcurrentHashMap<>();
+  protected final ReentrantLock lock = new ReentrantLock();
+  protected final ToLongFunction<V> sizeEstimator;
+  protected final AtomicLong evictionCount = new AtomicLong();
+  protected final AtomicLong size = new AtomicLong();
+  // Advanced by 2 for every added item. Items read since the last addition are stamped with the
+  // odd value in between, so they rank after every added item without contending on the counter.
+  protected final AtomicLong accessClock = new AtomicLong();
+  protected volatile int maxEntries;
+  protected volatile long maxSize;
+
+  /**
+   * Creates a bounded cache.
+   *
+   * @param maxEntries    the maximum number of entries
+   * @param maxSize       the maximum total estimated size of the items, e.g. in bytes
+   * @param sizeEstimator a function that estimates the size of an item
+   */
+  public BoundedCacheMap(final int maxEntries, final long maxSize, final ToLongFunction<V> sizeEstimator) {
+    this.maxEntries = maxEntries;
+    this.maxSize = maxSize;
+    this.sizeEstimator = sizeEstimator;
+  }
+
+  public @Nullable V get(final K key) {
+    final CacheItem<V> cacheItem = this.cache.get(key);
+    if (cacheItem == null) {
+      return null;
+    }
+    if (cacheItem.isExpired(System.nanoTime())) {
+      this.removeItem(key, cacheItem);
+      return null;
+    }
+    final long accessStamp = this.accessClock.get() + 1;
+    if (cacheItem.lastAccessStamp != accessStamp) {
+      cacheItem.lastAccessStamp = accessStamp;
+    }
+    return cacheItem.item;
+  }
+
+  /**
+   * Adds an item to the cache, replacing any existing item with the same key. Least recently used
+   * entries are evicted as needed to stay within the limits of the cache.
+   *
+   * @param key                the key of the item
+   * @param item               the item to add
+   * @param itemExpirationNano the time to live of the item in nanoseconds, or 0 if the item
+   *                           shouldn't expire
+   * @return true if the item was added, or false if its estimated size exceeds the maximum size of
+   *     the cache
+   */
+  public boolean put(final K key, final V item, final long itemExpirationNano) {
+    return this.put(key, item, itemExpirationNano, null);
+  }
+
+  /**
+   * Adds an item to the cache, replacing any existing item with the same key. Least recently used
+   * entries are evicted as needed to stay within the limits of the cache.
+   *
+   * @param key                the key of the item
+   * @param item               the item to add
+   * @param itemExpirationNano the time to live of the item in nanoseconds, or 0 if the item
+   *                           shouldn't expire
+   * @param evictionCounter    a counter to add the number of evicted entries to, or null
+   * @return true if the item was added, or false if its estimated size exceeds the maximum size of
+   *     the cache
+   */
+  public boolean put(
+      final K key,
+      final V item,
+      final long itemExpirationNano,
+      final @Nullable TelemetryCounter evictionCounter) {
+    final long itemSize = this.sizeEstimator.applyAsLong(item);
+    if (itemSize > this.maxSize || this.maxEntries <= 0) {
+      return false;
+    }
+
+    final long currentTimeNano = System.nanoTime();
+    final CacheItem<V> cacheItem = new CacheItem<>(
+        item,
+        itemSize,
+        itemExpirationNano > 0 ? currentTimeNano + itemExpirationNano : 0);
+
+    final long evicted;
+    this.lock.lock();
+    try {
+      cacheItem.lastAccessStamp = this.accessClock.addAndGet(2);
+      final CacheItem<V> previousItem = this.cache.put(key, cacheItem);
+      this.size.addAndGet(previousItem == null ? itemSize : itemSize - previousItem.size);
+      evicted = this.evict(currentTimeNano);
+    } finally {
+      this.lock.unlock();
+    }
+    if (evictionCounter != null && evicted > 0) {
+      evictionCounter.add(evicted);
+    }
+    return true;
+  }
+
+  public void remove(final K key) {
+    final CacheItem<V> cacheItem = this.cache.remove(key);
+    if (cacheItem != null) {
+      this.size.addAndGet(-cacheItem.size);
+    }
+  }
+
+  public void clear() {
+    this.lock.lock();
+    try {
+      for (final K key : this.cache.keySet()) {
+        this.remove(key);
+      }
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  /**
+   * Changes the limits of the cache. Entries exceeding the new limits are evicted.
+   *
+   * @param maxEntries the maximum number of entries
+   * @param maxSize    the maximum total estimated size of the items
+   */
+  public void setLimits(final int maxEntries, final long maxSize) {
+    if (this.maxEntries == maxEntries && this.maxSize == maxSize) {
+      return;
+    }
+    this.lock.lock();
+    try {
+      this.maxEntries = maxEntries;
+      this.maxSize = maxSize;
+      this.evict(System.nanoTime());
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  public int size() {
+    return this.cache.size();
+  }
+
+  /**
+   * Returns the total estimated size of the cached items.
+   *
+   * @return the total estimated size of the cached items
+   */
+  public long getEstimatedSize() {
+    return this.size.get();
+  }
+
+  /**
+   * Returns the number of entries that were evicted to stay within the limits of the cache.
+   * Expired and explicitly removed entries aren't counted.
+   *
+   * @return the number of evicted entries
+   */
+  public long getEvictionCount() {
+    return this.evictionCount.get();
+  }
+
+  // Must be called while holding the lock.
+  protected long evict(final long currentTimeNano) {
+    if (this.cache.size() <= this.maxEntries && this.size.get() <= this.maxSize) {
+      return 0;
+    }
+
+    // Expired entries are removed first. The access stamps of the remaining entries are copied, as
+    // concurrent reads may change them while the entries are sorted.
+    final List<EvictionCandidate<K, V>> candidates = new ArrayList<>(this.cache.size());
+    for (final Map.Entry<K, CacheItem<V>> entry : this.cache.entrySet()) {
+      if (entry.getValue().isExpired(currentTimeNano)) {
+        this.removeItem(entry.getKey(), entry.getValue());
+      } else {
+        candidates.add(new EvictionCandidate<>(entry.getKey(), entry.getValue()));
+      }
+    }
+
+    candidates.sort(Comparator.comparingLong((candidate) -> candidate.lastAccessStamp));
+    long evicted = 0;
+    for (final EvictionCandidate<K, V> candidate : candidates) {
+      if (this.cache.size() <= this.maxEntries && this.size.get() <= this.maxSize) {
+        break;
+      }
+      if (this.removeItem(candidate.key, candidate.cacheItem)) {
+        evicted++;
+      }
+    }
+    this.evictionCount.addAndGet(evicted);
+    return evicted;
+  }
+
+  protected boolean removeItem(final K key, final CacheItem<V> cacheItem) {
+    if (this.cache.remove(key, cacheItem)) {
+      this.size.addAndGet(-cacheItem.size);
+      return true;
+    }
+    return false;
+  }
+
+  protected static class CacheItem<V> {
+    final V item;
+    final long size;
+    final long expirationTimeNano;
+    volatile long lastAccessStamp;
+
+    protected CacheItem(final V item, final long size, final long expirationTimeNano) {
+      this.item = item;
+      this.size = size;
+      this.expirationTimeNano = expirationTimeNano;
+    }
+
+    boolean isExpired(final long currentTimeNano) {
+      return this.expirationTimeNano != 0 && currentTimeNano - this.expirationTimeNano > 0;
+    }
+  }
+
+  private static class EvictionCandidate<K, V> {
+    final K key;
+    final CacheItem<V> cacheItem;
+    final long lastAccessStamp;
+
+    EvictionCandidate(final K key, final CacheItem<V> cacheItem) {
+      this.key = key;
+      this.cacheItem = cacheItem;
+      this.lastAccessStamp = cacheItem.lastAccessStamp;
+    }
+  }
+}
@@ -33,8 +33,16 @@ public class CacheMap<K, V> {
   }
 
   public @Nullable V get(final K key) {
-    final CacheItem<V> cacheItem = cache.computeIfPresent(key, (kk, vv) -> vv.isExpired() ? null : vv);
-    return cacheItem == null ? null : cacheItem.item;
+    // Plain reads don't lock, so the map is only updated when the item has expired.
+    final CacheItem<V> cacheItem = cache.get(key);
+    if (cacheItem == null) {
+      return null;
+    }
+    if (!cacheItem.isExpired()) {
+      return cacheItem.item;
+    }
+    final CacheItem<V> currentItem = cache.computeIfPresent(key, (kk, vv) -> vv.isExpired() ? null : vv);
+    return currentItem == null ? null : currentItem.item;
   }
 
   public V get(final K key, final V defaultItemValue, final long itemExpirationNano) {
@@ -19,7 +19,11 @@ package software.amazon.jdbc.util;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 public class ExecutorFactory {
@@ -33,10 +37,21 @@ public class ExecutorFactory {
     return Executors.newCachedThreadPool(getThreadFactory(threadName));
   }
 
+  public static ExecutorService newBoundedThreadPool(int maxThreadCount, String threadName) {
+    final ThreadPoolExecutor executor = new ThreadPoolExecutor(maxThreadCount, maxThreadCount,
+        60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), getThreadFactory(threadName));
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
   public static ExecutorService newFixedThreadPool(int threadCount, String threadName) {
     return Executors.newFixedThreadPool(threadCount, getThreadFactory(threadName));
   }
 
+  public static ScheduledExecutorService newScheduledThreadPool(int threadCount, String threadName) {
+    return Executors.newScheduledThreadPool(threadCount, getThreadFactory(threadName));
+  }
+
   private static ThreadFactory getThreadFactory(String threadName) {
     return THREAD_FACTORY_MAP.computeIfAbsent(threadName, ExecutorFactory::createThreadFactory);
   }
@@ -0,0 +1,316 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.util;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A timer that runs short tasks after a delay on a single background thread. Timeouts are kept in
+ * a wheel of buckets, one bucket per tick, so adding and cancelling a timeout takes constant time
+ * regardless of how many timeouts are pending. Tasks run on the timer thread at the first tick after
+ * their deadline, so the timer is only as precise as its tick duration, and tasks should hand any
+ * slow work off to another thread.
+ */
+public class HashedWheelTimer {
+
+  private static final Logger LOGGER = Logger.getLogger(HashedWheelTimer.class.getName());
+
+  private final String threadName;
+  private final long tickDurationNano;
+  private final Bucket[] wheel;
+  private final int mask;
+  private final long startTimeNano = System.nanoTime();
+  private final Queue<Timeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+  private final Queue<Timeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+  private final AtomicBoolean started = new AtomicBoolean(false);
+  private ExecutorService workerExecutor; // Guarded by this
+  private long tick; // Only accessed by the timer thread
+
+  /**
+   * Creates a timer. The timer thread is started when the first timeout is added, and stopped by
+   * {@link #shutdown()}.
+   *
+   * @param threadName    the name of the timer thread
+   * @param tickDuration  the duration of a tick
+   * @param unit          the time unit of the tick duration
+   * @param ticksPerWheel the number of buckets in the wheel, rounded up to a power of two
+   */
+  public HashedWheelTimer(
+      final String threadName,
+      final long tickDuration,
+      final TimeUnit unit,
+      final int ticksPerWheel) {
+    if (tickDuration <= 0) {
+      throw new IllegalArgumentException("tickDuration must be greater than 0");
+    }
+    if (ticksPerWheel <= 0 || ticksPerWheel > (1 << 30)) {
+      throw new IllegalArgumentException("ticksPerWheel must be between 1 and 2^30");
+    }
+    int wheelSize = 1;
+    while (wheelSize < ticksPerWheel) {
+      wheelSize <<= 1;
+    }
+    this.threadName = threadName;
+    this.tickDurationNano = unit.toNanos(tickDuration);
+    this.wheel = new Bucket[wheelSize];
+    for (int i = 0; i < wheelSize; i++) {
+      this.wheel[i] = new Bucket();
+    }
+    this.mask = wheelSize - 1;
+  }
+
+  /**
+   * Schedules a task to run once after the given delay.
+   *
+   * @param task  the task to run on the timer thread
+   * @param delay the delay after which the task runs
+   * @param unit  the time unit of the delay
+   * @return a handle that can be used to cancel the task
+   */
+  public Timeout newTimeout(final Runnable task, final long delay, final TimeUnit unit) {
+    if (!this.started.get()) {
+      this.start();
+    }
+    final long deadlineNano = System.nanoTime() - this.startTimeNano + unit.toNanos(Math.max(0, delay));
+    final Timeout timeout = new Timeout(this, task, deadlineNano);
+    this.pendingTimeouts.add(timeout);
+    return timeout;
+  }
+
+  private synchronized void start() {
+    if (this.started.get()) {
+      return;
+    }
+    // The wheel is empty, so the new timer thread starts from the current tick.
+    this.tick = (System.nanoTime() - this.startTimeNano) / this.tickDurationNano;
+    this.workerExecutor = ExecutorFactory.newSingleThreadExecutor(this.threadName);
+    this.workerExecutor.submit(this::runWorker);
+    this.workerExecutor.shutdown();
+    this.started.set(true);
+  }
+
+  /**
+   * Stops the timer thread and drops the tasks that haven't run yet. The timer thread is started
+   * again when a new timeout is added.
+   */
+  public synchronized void shutdown() {
+    if (!this.started.get()) {
+      return;
+    }
+    this.workerExecutor.shutdownNow();
+    try {
+      if (!this.workerExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+        LOGGER.fine(() -> Messages.get("HashedWheelTimer.shutdownTimeout", new Object[] {this.threadName}));
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    this.workerExecutor = null;
+
+    for (final Bucket bucket : this.wheel) {
+      bucket.clear();
+    }
+    this.pendingTimeouts.clear();
+    this.cancelledTimeouts.clear();
+    this.started.set(false);
+  }
+
+  private void runWorker() {
+    while (!Thread.currentThread().isInterrupted()) {
+      final long tickDeadlineNano = (this.tick + 1) * this.tickDurationNano;
+      final long sleepTimeNano = tickDeadlineNano - (System.nanoTime() - this.startTimeNano);
+      if (sleepTimeNano > 0) {
+        try {
+          TimeUnit.NANOSECONDS.sleep(sleepTimeNano);
+        } catch (final InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+        continue;
+      }
+
+      this.removeCancelledTimeouts();
+      this.transferPendingTimeouts();
+      this.wheel[(int) (this.tick & this.mask)].expireTimeouts(tickDeadlineNano);
+      this.tick++;
+    }
+  }
+
+  private void removeCancelledTimeouts() {
+    Timeout timeout;
+    while ((timeout = this.cancelledTimeouts.poll()) != null) {
+      if (timeout.bucket != null) {
+        timeout.bucket.remove(timeout);
+      }
+    }
+  }
+
+  private void transferPendingTimeouts() {
+    Timeout timeout;
+    while ((timeout = this.pendingTimeouts.poll()) != null) {
+      if (timeout.isCancelled()) {
+        continue;
+      }
+      final long expiryTick = timeout.deadlineNano / this.tickDurationNano;
+      timeout.remainingRounds = (expiryTick - this.tick) / this.wheel.length;
+      // Timeouts that are already due go to the current bucket.
+      final long bucketTick = Math.max(expiryTick, this.tick);
+      this.wheel[(int) (bucketTick & this.mask)].add(timeout);
+    }
+  }
+
+  /**
+   * A task scheduled on a {@link HashedWheelTimer}.
+   */
+  public static final class Timeout {
+
+    private static final int STATE_PENDING = 0;
+    private static final int STATE_CANCELLED = 1;
+    private static final int STATE_EXPIRED = 2;
+
+    private final HashedWheelTimer timer;
+    private final Runnable task;
+    private final long deadlineNano;
+    private final AtomicInteger state = new AtomicInteger(STATE_PENDING);
+
+    // Only accessed by the timer thread
+    private long remainingRounds;
+    private Bucket bucket;
+    private Timeout next;
+    private Timeout prev;
+
+    private Timeout(final HashedWheelTimer timer, final Runnable task, final long deadlineNano) {
+      this.timer = timer;
+      this.task = task;
+      this.deadlineNano = deadlineNano;
+    }
+
+    /**
+     * Cancels the task if it hasn't run yet.
+     *
+     * @return true if the task was cancelled; false if it has already run or been cancelled
+     */
+    public boolean cancel() {
+      if (!this.state.compareAndSet(STATE_PENDING, STATE_CANCELLED)) {
+        return false;
+      }
+      this.timer.cancelledTimeouts.add(this);
+      return true;
+    }
+
+    public boolean isCancelled() {
+      return this.state.get() == STATE_CANCELLED;
+    }
+
+    public boolean isExpired() {
+      return this.state.get() == STATE_EXPIRED;
+    }
+
+    private void expire() {
+      if (!this.state.compareAndSet(STATE_PENDING, STATE_EXPIRED)) {
+        return;
+      }
+      try {
+        this.task.run();
+      } catch (final Throwable t) {
+        LOGGER.log(
+            Level.WARNING,
+            Messages.get("HashedWheelTimer.taskException", new Object[] {this.timer.threadName}),
+            t);
+      }
+    }
+  }
+
+  /**
+   * The timeouts that expire on the same tick of the wheel, in a doubly-linked list so that
+   * cancelled timeouts can be removed in constant time.
+   */
+  private static final class Bucket {
+
+    private Timeout head;
+    private Timeout tail;
+
+    void add(final Timeout timeout) {
+      timeout.bucket = this;
+      if (this.head == null) {
+        this.head = timeout;
+        this.tail = timeout;
+      } else {
+        this.tail.next = timeout;
+        timeout.prev = this.tail;
+        this.tail = timeout;
+      }
+    }
+
+    void expireTimeouts(final long tickDeadlineNano) {
+      Timeout timeout = this.head;
+      while (timeout != null) {
+        final Timeout next = timeout.next;
+        if (timeout.isCancelled()) {
+          this.remove(timeout);
+        } else if (timeout.remainingRounds <= 0 && timeout.deadlineNano <= tickDeadlineNano) {
+          this.remove(timeout);
+          timeout.expire();
+        } else {
+          timeout.remainingRounds--;
+        }
+        timeout = next;
+      }
+    }
+
+    void clear() {
+      Timeout timeout = this.head;
+      while (timeout != null) {
+        final Timeout next = timeout.next;
+        timeout.prev = null;
+        timeout.next = null;
+        timeout.bucket = null;
+        timeout = next;
+      }
+      this.head = null;
+      this.tail = null;
+    }
+
+    void remove(final Timeout timeout) {
+      if (timeout.bucket != this) {
+        return;
+      }
+      if (timeout.prev != null) {
+        timeout.prev.next = timeout.next;
+      }
+      if (timeout.next != null) {
+        timeout.next.prev = timeout.prev;
+      }
+      if (timeout == this.head) {
+        this.head = timeout.next;
+      }
+      if (timeout == this.tail) {
+        this.tail = timeout.prev;
+      }
+      timeout.prev = null;
+      timeout.next = null;
+      timeout.bucket = null;
+    }
+  }
+}
@@ -18,21 +18,45 @@ package software.amazon.jdbc.util;
 
 import java.sql.Connection;
 import java.sql.SQLException;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
-import java.util.stream.Collectors;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 public class SqlMethodAnalyzer {
 
+  /**
+   * The kind of the first statement of a SQL string, as far as transaction and autocommit tracking
+   * is concerned.
+   */
+  public enum SqlStatementType {
+    EMPTY,
+    START_TRANSACTION,
+    CLOSE_TRANSACTION,
+    SET_AUTOCOMMIT_ON,
+    SET_AUTOCOMMIT_OFF,
+    SET_AUTOCOMMIT_UNKNOWN,
+    SET,
+    USE,
+    SHOW,
+    DML;
+
+    public boolean isSettingAutoCommit() {
+      return this == SET_AUTOCOMMIT_ON || this == SET_AUTOCOMMIT_OFF || this == SET_AUTOCOMMIT_UNKNOWN;
+    }
+  }
+
+  // The type of the last analyzed SQL string. The same string is usually analyzed several times for
+  // a single execute call, so the string is matched by reference rather than by content. Callers that
+  // analyze the statements of one connection should use their own analyzer. The field isn't volatile:
+  // AnalyzedStatement is immutable, so a thread that reads a stale value only classifies the string again.
+  private @Nullable AnalyzedStatement lastStatement;
+
   public boolean doesOpenTransaction(final Connection conn, final String methodName,
       final Object[] args) {
     if (!(methodName.contains("execute") && args != null && args.length >= 1)) {
       return false;
     }
 
-    final String statement = getFirstSqlStatement(String.valueOf(args[0]));
-    if (isStatementStartingTransaction(statement)) {
+    final SqlStatementType statementType = getStatementType(args[0]);
+    if (statementType == SqlStatementType.START_TRANSACTION) {
       return true;
     }
 
@@ -43,33 +67,7 @@ public class SqlMethodAnalyzer {
       return false;
     }
 
-    return !autocommit && isStatementDml(statement);
-  }
-
-  private String getFirstSqlStatement(final String sql) {
-    List<String> statementList = parseMultiStatementQueries(sql);
-    if (statementList.isEmpty()) {
-      return sql;
-    }
-    String statement = statementList.get(0);
-    statement = statement.toUpperCase();
-    statement = statement.replaceAll("\\s*/\\*(.*?)\\*/\\s*", " ").trim();
-    return statement;
-  }
-
-  private List<String> parseMultiStatementQueries(String query) {
-    if (StringUtils.isNullOrEmpty(query)) {
-      return new ArrayList<>();
-    }
-
-    query = query.replaceAll("\\s+", " ");
-
-    // Check to see if string only has blank spaces.
-    if (query.trim().isEmpty()) {
-      return new ArrayList<>();
-    }
-
-    return Arrays.stream(query.split(";")).collect(Collectors.toList());
+    return !autocommit && statementType == SqlStatementType.DML;
   }
 
   public boolean doesCloseTransaction(final Connection conn, final String methodName,
@@ -87,27 +85,19 @@ public class SqlMethodAnalyzer {
       return false;
     }
 
-    final String statement = getFirstSqlStatement(String.valueOf(args[0]));
-    return isStatementClosingTransaction(statement);
+    return getStatementType(args[0]) == SqlStatementType.CLOSE_TRANSACTION;
   }
 
   public boolean isStatementDml(final String statement) {
-    return !isStatementStartingTransaction(statement)
-        && !isStatementClosingTransaction(statement)
-        && !statement.startsWith("SET ")
-        && !statement.startsWith("USE ")
-        && !statement.startsWith("SHOW ");
+    return getStatementType(statement) == SqlStatementType.DML;
   }
 
   public boolean isStatementStartingTransaction(final String statement) {
-    return statement.startsWith("BEGIN") || statement.startsWith("START TRANSACTION");
+    return getStatementType(statement) == SqlStatementType.START_TRANSACTION;
   }
 
   public boolean isStatementClosingTransaction(final String statement) {
-    return statement.startsWith("COMMIT")
-        || statement.startsWith("ROLLBACK")
-        || statement.startsWith("END")
-        || statement.startsWith("ABORT");
+    return getStatementType(statement) == SqlStatementType.CLOSE_TRANSACTION;
   }
 
   public boolean isStatementSettingAutoCommit(final String methodName, final Object[] args) {
@@ -115,8 +105,7 @@ public class SqlMethodAnalyzer {
       return false;
     }
 
-    final String statement = getFirstSqlStatement(String.valueOf(args[0]));
-    return statement.startsWith("SET AUTOCOMMIT");
+    return getStatementType(args[0]).isSettingAutoCommit();
   }
 
   public boolean doesSwitchAutoCommitFalseTrue(final Connection conn, final String methodName,
@@ -149,38 +138,143 @@ public class SqlMethodAnalyzer {
       return null;
     }
 
-    String sql = getFirstSqlStatement(String.valueOf(args[0]));
+    switch (getStatementType(args[0])) {
+      case SET_AUTOCOMMIT_ON:
+        return true;
+      case SET_AUTOCOMMIT_OFF:
+        return false;
+      default:
+        return null;
+    }
+  }
 
-    final int valueIndex;
-    int separatorIndex = sql.indexOf("=");
+  public boolean isMethodClosingSqlObject(final String methodName) {
+    return methodName.endsWith(".close") || methodName.endsWith(".abort");
+  }
 
-    if (separatorIndex != -1) {
-      valueIndex = separatorIndex + 1;
+  /**
+   * Classifies the first statement of the given SQL string. Leading whitespace and comments are
+   * skipped and only the first few keywords are read, so the cost doesn't depend on the length of
+   * the SQL string.
+   *
+   * @param sql the SQL string
+   * @return the type of the first statement
+   */
+  public SqlStatementType getStatementType(final @Nullable Object sql) {
+    if (!(sql instanceof String)) {
+      return sql == null ? SqlStatementType.EMPTY : classify(sql.toString());
+    }
+
+    final AnalyzedStatement last = this.lastStatement;
+    if (last != null && last.sql == sql) {
+      return last.type;
+    }
+    final SqlStatementType type = classify((String) sql);
+    this.lastStatement = new AnalyzedStatement((String) sql, type);
+    return type;
+  }
+
+  static SqlStatementType classify(final String sql) {
+    int start = skipWhitespaceAndComments(sql, 0);
+    int end = wordEnd(sql, start);
+    if (end == start) {
+      return start >= sql.length() || sql.charAt(start) == ';' ? SqlStatementType.EMPTY : SqlStatementType.DML;
+    }
+
+    if (isKeyword(sql, start, end, "BEGIN")) {
+      return SqlStatementType.START_TRANSACTION;
+    } else if (isKeyword(sql, start, end, "COMMIT")
+        || isKeyword(sql, start, end, "ROLLBACK")
+        || isKeyword(sql, start, end, "END")
+        || isKeyword(sql, start, end, "ABORT")) {
+      return SqlStatementType.CLOSE_TRANSACTION;
+    } else if (isKeyword(sql, start, end, "USE")) {
+      return SqlStatementType.USE;
+    } else if (isKeyword(sql, start, end, "SHOW")) {
+      return SqlStatementType.SHOW;
+    } else if (isKeyword(sql, start, end, "START")) {
+      start = skipWhitespaceAndComments(sql, end);
+      end = wordEnd(sql, start);
+      return isKeyword(sql, start, end, "TRANSACTION") ? SqlStatementType.START_TRANSACTION : SqlStatementType.DML;
+    } else if (!isKeyword(sql, start, end, "SET")) {
+      return SqlStatementType.DML;
+    }
+
+    start = skipWhitespaceAndComments(sql, end);
+    end = wordEnd(sql, start);
+    if (!isKeyword(sql, start, end, "AUTOCOMMIT")) {
+      return SqlStatementType.SET;
+    }
+
+    // SET AUTOCOMMIT = <value> or SET AUTOCOMMIT TO <value>
+    start = skipWhitespaceAndComments(sql, end);
+    if (start < sql.length() && sql.charAt(start) == '=') {
+      start = skipWhitespaceAndComments(sql, start + 1);
     } else {
-      separatorIndex = sql.indexOf(" TO ");
-      if (separatorIndex == -1) {
-        return null;
-      } else {
-        valueIndex = separatorIndex + 3;
+      end = wordEnd(sql, start);
+      if (!isKeyword(sql, start, end, "TO")) {
+        return SqlStatementType.SET_AUTOCOMMIT_UNKNOWN;
       }
+      start = skipWhitespaceAndComments(sql, end);
     }
 
-    sql = sql.substring(valueIndex);
-    if (sql.contains(";")) {
-      sql = sql.substring(0, sql.indexOf(";"));
+    end = wordEnd(sql, start);
+    final int statementEnd = skipWhitespaceAndComments(sql, end);
+    if (end == start || (statementEnd < sql.length() && sql.charAt(statementEnd) != ';')) {
+      return SqlStatementType.SET_AUTOCOMMIT_UNKNOWN;
     }
+    if (isKeyword(sql, start, end, "TRUE") || isKeyword(sql, start, end, "1") || isKeyword(sql, start, end, "ON")) {
+      return SqlStatementType.SET_AUTOCOMMIT_ON;
+    } else if (isKeyword(sql, start, end, "FALSE") || isKeyword(sql, start, end, "0")
+        || isKeyword(sql, start, end, "OFF")) {
+      return SqlStatementType.SET_AUTOCOMMIT_OFF;
+    }
+    return SqlStatementType.SET_AUTOCOMMIT_UNKNOWN;
+  }
 
-    sql = sql.trim();
-    if ("FALSE".equals(sql) || "0".equals(sql) || "OFF".equals(sql)) {
-      return false;
-    } else if ("TRUE".equals(sql) || "1".equals(sql) || "ON".equals(sql)) {
-      return true;
-    } else {
-      return null;
+  private static int skipWhitespaceAndComments(final String sql, int pos) {
+    final int length = sql.length();
+    while (pos < length) {
+      final char c = sql.charAt(pos);
+      if (Character.isWhitespace(c)) {
+        pos++;
+      } else if (c == '/' && pos + 1 < length && sql.charAt(pos + 1) == '*') {
+        final int commentEnd = sql.indexOf("*/", pos + 2);
+        pos = commentEnd < 0 ? length : commentEnd + 2;
+      } else if (c == '-' && pos + 1 < length && sql.charAt(pos + 1) == '-') {
+        final int lineEnd = sql.indexOf('\n', pos + 2);
+        pos = lineEnd < 0 ? length : lineEnd + 1;
+      } else {
+        break;
+      }
     }
+    return pos;
   }
 
-  public boolean isMethodClosingSqlObject(final String methodName) {
-    return methodName.endsWith(".close") || methodName.endsWith(".abort");
+  // Returns the end of the keyword, number or quoted value starting at the given position.
+  private static int wordEnd(final String sql, int pos) {
+    final int length = sql.length();
+    if (pos < length && (sql.charAt(pos) == '\'' || sql.charAt(pos) == '"')) {
+      final int closingQuote = sql.indexOf(sql.charAt(pos), pos + 1);
+      return closingQuote < 0 ? length : closingQuote + 1;
+    }
+    while (pos < length && (Character.isLetterOrDigit(sql.charAt(pos)) || sql.charAt(pos) == '_')) {
+      pos++;
+    }
+    return pos;
+  }
+
+  private static boolean isKeyword(final String sql, final int start, final int end, final String keyword) {
+    return end - start == keyword.length() && sql.regionMatches(true, start, keyword, 0, keyword.length());
+  }
+
+  private static class AnalyzedStatement {
+    private final String sql;
+    private final SqlStatementType type;
+
+    AnalyzedStatement(final String sql, final SqlStatementType type) {
+      this.sql = sql;
+      this.type = type;
+    }
   }
 }
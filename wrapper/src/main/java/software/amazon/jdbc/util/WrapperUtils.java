@@ -54,6 +54,7 @@ import java.util.concurrent.locks.ReentrantLock;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import software.amazon.jdbc.ConnectionPluginManager;
 import software.amazon.jdbc.JdbcCallable;
+import software.amazon.jdbc.JdbcMethod;
 import software.amazon.jdbc.JdbcRunnable;
 import software.amazon.jdbc.util.telemetry.TelemetryContext;
 import software.amazon.jdbc.util.telemetry.TelemetryFactory;
@@ -62,6 +63,7 @@ import software.amazon.jdbc.wrapper.ArrayWrapper;
 import software.amazon.jdbc.wrapper.BlobWrapper;
 import software.amazon.jdbc.wrapper.CallableStatementWrapper;
 import software.amazon.jdbc.wrapper.ClobWrapper;
+import software.amazon.jdbc.wrapper.ConnectionEpochAware;
 import software.amazon.jdbc.wrapper.ConnectionWrapper;
 import software.amazon.jdbc.wrapper.DatabaseMetaDataWrapper;
 import software.amazon.jdbc.wrapper.NClobWrapper;
@@ -85,30 +87,46 @@ public class WrapperUtils {
   private static final ConcurrentMap<Class<?>, Boolean> isJdbcInterfaceCache =
       new ConcurrentHashMap<>();
 
-  private static final Map<Class<?>, Class<?>> availableWrappers =
-      new HashMap<Class<?>, Class<?>>() {
+  /**
+   * Creates a wrapper around a JDBC object returned by the target driver.
+   */
+  @FunctionalInterface
+  private interface WrapperFactory {
+    Object create(Object toProxy, ConnectionPluginManager pluginManager);
+  }
+
+  private static final Map<Class<?>, WrapperFactory> availableWrappers =
+      new HashMap<Class<?>, WrapperFactory>() {
         {
-          put(CallableStatement.class, CallableStatementWrapper.class);
-          put(PreparedStatement.class, PreparedStatementWrapper.class);
-          put(Statement.class, StatementWrapper.class);
-          put(ResultSet.class, ResultSetWrapper.class);
-          put(Array.class, ArrayWrapper.class);
-          put(Blob.class, BlobWrapper.class);
-          put(NClob.class, NClobWrapper.class);
-          put(Clob.class, ClobWrapper.class);
-          put(Ref.class, RefWrapper.class);
-          put(Struct.class, StructWrapper.class);
-          put(Savepoint.class, SavepointWrapper.class);
-          put(DatabaseMetaData.class, DatabaseMetaDataWrapper.class);
-          put(ParameterMetaData.class, ParameterMetaDataWrapper.class);
-          put(ResultSetMetaData.class, ResultSetMetaDataWrapper.class);
-          put(SQLData.class, SQLDataWrapper.class);
-          put(SQLInput.class, SQLInputWrapper.class);
-          put(SQLOutput.class, SQLOutputWrapper.class);
-          put(SQLType.class, SQLTypeWrapper.class);
+          put(CallableStatement.class, (obj, mgr) -> new CallableStatementWrapper((CallableStatement) obj, mgr));
+          put(PreparedStatement.class, (obj, mgr) -> new PreparedStatementWrapper((PreparedStatement) obj, mgr));
+          put(Statement.class, (obj, mgr) -> new StatementWrapper((Statement) obj, mgr));
+          put(ResultSet.class, (obj, mgr) -> new ResultSetWrapper((ResultSet) obj, mgr));
+          put(Array.class, (obj, mgr) -> new ArrayWrapper((Array) obj, mgr));
+          put(Blob.class, (obj, mgr) -> new BlobWrapper((Blob) obj, mgr));
+          put(NClob.class, (obj, mgr) -> new NClobWrapper((NClob) obj, mgr));
+          put(Clob.class, (obj, mgr) -> new ClobWrapper((Clob) obj, mgr));
+          put(Ref.class, (obj, mgr) -> new RefWrapper((Ref) obj, mgr));
+          put(Struct.class, (obj, mgr) -> new StructWrapper((Struct) obj, mgr));
+          put(Savepoint.class, (obj, mgr) -> new SavepointWrapper((Savepoint) obj, mgr));
+          put(DatabaseMetaData.class, (obj, mgr) -> new DatabaseMetaDataWrapper((DatabaseMetaData) obj, mgr));
+          put(ParameterMetaData.class, (obj, mgr) -> new ParameterMetaDataWrapper((ParameterMetaData) obj, mgr));
+          put(ResultSetMetaData.class, (obj, mgr) -> new ResultSetMetaDataWrapper((ResultSetMetaData) obj, mgr));
+          put(SQLData.class, (obj, mgr) -> new SQLDataWrapper((SQLData) obj, mgr));
+          put(SQLInput.class, (obj, mgr) -> new SQLInputWrapper((SQLInput) obj, mgr));
+          put(SQLOutput.class, (obj, mgr) -> new SQLOutputWrapper((SQLOutput) obj, mgr));
+          put(SQLType.class, (obj, mgr) -> new SQLTypeWrapper((SQLType) obj, mgr));
         }
       };
 
+  // Objects that don't need a wrapper are returned as is.
+  private static final WrapperFactory NO_WRAPPER = (obj, mgr) -> obj;
+
+  // Wrapper factories resolved from the implemented interfaces of target driver classes that don't
+  // match the requested result class, keyed by the target driver class.
+  private static final ConcurrentMap<Class<?>, WrapperFactory> resolvedWrappersCache =
+      new ConcurrentHashMap<>();
+
   private static final Set<Class<?>> allWrapperClasses = new HashSet<Class<?>>() {
     {
       add(ArrayWrapper.class);
@@ -136,16 +154,56 @@ public class WrapperUtils {
   public static void runWithPlugins(
       final ConnectionPluginManager pluginManager,
       final Object methodInvokeOn,
-      final String methodName,
+      final JdbcMethod jdbcMethod,
       final JdbcRunnable<RuntimeException> jdbcMethodFunc,
       final Object... jdbcMethodArgs) {
 
+    runWithPlugins(
+        RuntimeException.class,
+        pluginManager,
+        methodInvokeOn,
+        null,
+        jdbcMethod,
+        jdbcMethodFunc,
+        jdbcMethodArgs);
+  }
+
+  public static <E extends Exception> void runWithPlugins(
+      final Class<E> exceptionClass,
+      final ConnectionPluginManager pluginManager,
+      final Object methodInvokeOn,
+      final JdbcMethod jdbcMethod,
+      final JdbcRunnable<E> jdbcMethodFunc,
+      final Object... jdbcMethodArgs)
+      throws E {
+
+    runWithPlugins(
+        exceptionClass,
+        pluginManager,
+        methodInvokeOn,
+        null,
+        jdbcMethod,
+        jdbcMethodFunc,
+        jdbcMethodArgs);
+  }
+
+  public static <E extends Exception> void runWithPlugins(
+      final Class<E> exceptionClass,
+      final ConnectionPluginManager pluginManager,
+      final Object methodInvokeOn,
+      final @Nullable ConnectionEpochAware methodInvokeOnWrapper,
+      final JdbcMethod jdbcMethod,
+      final JdbcRunnable<E> jdbcMethodFunc,
+      final Object... jdbcMethodArgs)
+      throws E {
+
     executeWithPlugins(
         Void.TYPE,
-        RuntimeException.class,
+        exceptionClass,
         pluginManager,
         methodInvokeOn,
-        methodName,
+        methodInvokeOnWrapper,
+        jdbcMethod,
         () -> {
           jdbcMethodFunc.call();
           return null;
@@ -153,6 +211,89 @@ public class WrapperUtils {
         jdbcMethodArgs);
   }
 
+  public static <T> T executeWithPlugins(
+      final Class<T> resultClass,
+      final ConnectionPluginManager pluginManager,
+      final Object methodInvokeOn,
+      final JdbcMethod jdbcMethod,
+      final JdbcCallable<T, RuntimeException> jdbcMethodFunc,
+      final Object... jdbcMethodArgs) {
+
+    return executeWithPlugins(
+        resultClass,
+        RuntimeException.class,
+        pluginManager,
+        methodInvokeOn,
+        null,
+        jdbcMethod,
+        jdbcMethodFunc,
+        jdbcMethodArgs);
+  }
+
+  public static <T, E extends Exception> T executeWithPlugins(
+      final Class<T> resultClass,
+      final Class<E> exceptionClass,
+      final ConnectionPluginManager pluginManager,
+      final Object methodInvokeOn,
+      final JdbcMethod jdbcMethod,
+      final JdbcCallable<T, E> jdbcMethodFunc,
+      final Object... jdbcMethodArgs)
+      throws E {
+
+    return executeWithPlugins(
+        resultClass,
+        exceptionClass,
+        pluginManager,
+        methodInvokeOn,
+        null,
+        jdbcMethod,
+        jdbcMethodFunc,
+        jdbcMethodArgs);
+  }
+
+  public static <T, E extends Exception> T executeWithPlugins(
+      final Class<T> resultClass,
+      final Class<E> exceptionClass,
+      final ConnectionPluginManager pluginManager,
+      final Object methodInvokeOn,
+      final @Nullable ConnectionEpochAware methodInvokeOnWrapper,
+      final JdbcMethod jdbcMethod,
+      final JdbcCallable<T, E> jdbcMethodFunc,
+      final Object... jdbcMethodArgs)
+      throws E {
+
+    return executeWithPlugins(
+        resultClass,
+        exceptionClass,
+        pluginManager,
+        methodInvokeOn,
+        methodInvokeOnWrapper,
+        jdbcMethod.methodName,
+        jdbcMethod,
+        jdbcMethodFunc,
+        jdbcMethodArgs);
+  }
+
+  // The following overloads accept method names that may not be known to JdbcMethod, e.g. the names used by
+  // custom wrappers or plugins. Known method names are mapped to their JdbcMethod.
+
+  public static void runWithPlugins(
+      final ConnectionPluginManager pluginManager,
+      final Object methodInvokeOn,
+      final String methodName,
+      final JdbcRunnable<RuntimeException> jdbcMethodFunc,
+      final Object... jdbcMethodArgs) {
+
+    runWithPlugins(
+        RuntimeException.class,
+        pluginManager,
+        methodInvokeOn,
+        null,
+        methodName,
+        jdbcMethodFunc,
+        jdbcMethodArgs);
+  }
+
   public static <E extends Exception> void runWithPlugins(
       final Class<E> exceptionClass,
       final ConnectionPluginManager pluginManager,
@@ -162,11 +303,32 @@ public class WrapperUtils {
       final Object... jdbcMethodArgs)
       throws E {
 
+    runWithPlugins(
+        exceptionClass,
+        pluginManager,
+        methodInvokeOn,
+        null,
+        methodName,
+        jdbcMethodFunc,
+        jdbcMethodArgs);
+  }
+
+  public static <E extends Exception> void runWithPlugins(
+      final Class<E> exceptionClass,
+      final ConnectionPluginManager pluginManager,
+      final Object methodInvokeOn,
+      final @Nullable ConnectionEpochAware methodInvokeOnWrapper,
+      final String methodName,
+      final JdbcRunnable<E> jdbcMethodFunc,
+      final Object... jdbcMethodArgs)
+      throws E {
+
     executeWithPlugins(
         Void.TYPE,
         exceptionClass,
         pluginManager,
         methodInvokeOn,
+        methodInvokeOnWrapper,
         methodName,
         () -> {
           jdbcMethodFunc.call();
@@ -183,41 +345,36 @@ public class WrapperUtils {
       final JdbcCallable<T, RuntimeException> jdbcMethodFunc,
       final Object... jdbcMethodArgs) {
 
-    if (!AsynchronousMethodsHelper.ASYNCHRONOUS_METHODS.contains(methodName)) {
-      pluginManager.lock();
-    }
-    TelemetryFactory telemetryFactory = pluginManager.getTelemetryFactory();
-    TelemetryContext context = null;
-
-    try {
-      context = telemetryFactory.openTelemetryContext(methodName, TelemetryTraceLevel.TOP_LEVEL);
-      context.setAttribute("jdbcCall", methodName);
-
-      final T result =
-          pluginManager.execute(
-              resultClass,
-              RuntimeException.class,
-              methodInvokeOn,
-              methodName,
-              jdbcMethodFunc,
-              jdbcMethodArgs);
+    return executeWithPlugins(
+        resultClass,
+        RuntimeException.class,
+        pluginManager,
+        methodInvokeOn,
+        null,
+        methodName,
+        jdbcMethodFunc,
+        jdbcMethodArgs);
+  }
 
-      context.setSuccess(true);
+  public static <T, E extends Exception> T executeWithPlugins(
+      final Class<T> resultClass,
+      final Class<E> exceptionClass,
+      final ConnectionPluginManager pluginManager,
+      final Object methodInvokeOn,
+      final String methodName,
+      final JdbcCallable<T, E> jdbcMethodFunc,
+      final Object... jdbcMethodArgs)
+      throws E {
 
-      try {
-        return wrapWithProxyIfNeeded(resultClass, result, pluginManager);
-      } catch (final InstantiationException e) {
-        context.setSuccess(false);
-        throw new RuntimeException(e);
-      }
-    } finally {
-      if (pluginManager.isHeldByCurrentThread()) {
-        pluginManager.unlock();
-      }
-      if (context != null) {
-        context.closeContext();
-      }
-    }
+    return executeWithPlugins(
+        resultClass,
+        exceptionClass,
+        pluginManager,
+        methodInvokeOn,
+        null,
+        methodName,
+        jdbcMethodFunc,
+        jdbcMethodArgs);
   }
 
   public static <T, E extends Exception> T executeWithPlugins(
@@ -225,12 +382,40 @@ public class WrapperUtils {
       final Class<E> exceptionClass,
       final ConnectionPluginManager pluginManager,
       final Object methodInvokeOn,
+      final @Nullable ConnectionEpochAware methodInvokeOnWrapper,
       final String methodName,
       final JdbcCallable<T, E> jdbcMethodFunc,
       final Object... jdbcMethodArgs)
       throws E {
 
-    if (!AsynchronousMethodsHelper.ASYNCHRONOUS_METHODS.contains(methodName)) {
+    return executeWithPlugins(
+        resultClass,
+        exceptionClass,
+        pluginManager,
+        methodInvokeOn,
+        methodInvokeOnWrapper,
+        methodName,
+        JdbcMethod.fromMethodName(methodName),
+        jdbcMethodFunc,
+        jdbcMethodArgs);
+  }
+
+  private static <T, E extends Exception> T executeWithPlugins(
+      final Class<T> resultClass,
+      final Class<E> exceptionClass,
+      final ConnectionPluginManager pluginManager,
+      final Object methodInvokeOn,
+      final @Nullable ConnectionEpochAware methodInvokeOnWrapper,
+      final String methodName,
+      final @Nullable JdbcMethod jdbcMethod,
+      final JdbcCallable<T, E> jdbcMethodFunc,
+      final Object[] jdbcMethodArgs)
+      throws E {
+
+    final boolean isAsynchronous = jdbcMethod != null
+        ? jdbcMethod.isAsynchronous
+        : AsynchronousMethodsHelper.ASYNCHRONOUS_METHODS.contains(methodName);
+    if (!isAsynchronous) {
       pluginManager.lock();
     }
     TelemetryFactory telemetryFactory = pluginManager.getTelemetryFactory();
@@ -240,23 +425,37 @@ public class WrapperUtils {
       context = telemetryFactory.openTelemetryContext(methodName, TelemetryTraceLevel.TOP_LEVEL);
       context.setAttribute("jdbcCall", methodName);
 
-      final T result =
-          pluginManager.execute(resultClass,
-              exceptionClass,
-              methodInvokeOn,
-              methodName,
-              jdbcMethodFunc,
+      final int connectionEpoch = pluginManager.getConnectionEpoch();
+      final T result = jdbcMethod != null
+          ? pluginManager.execute(
+              resultClass, exceptionClass, methodInvokeOn, methodInvokeOnWrapper, jdbcMethod, jdbcMethodFunc,
+              jdbcMethodArgs)
+          : pluginManager.execute(
+              resultClass, exceptionClass, methodInvokeOn, methodInvokeOnWrapper, methodName, jdbcMethodFunc,
               jdbcMethodArgs);
 
       context.setSuccess(true);
 
+      final T wrappedResult;
       try {
-        return wrapWithProxyIfNeeded(resultClass, result, pluginManager);
+        wrappedResult = wrapWithProxyIfNeeded(resultClass, result, pluginManager);
       } catch (final InstantiationException e) {
         context.setSuccess(false);
         throw new RuntimeException(e);
       }
 
+      if (wrappedResult != result
+          && wrappedResult instanceof ConnectionEpochAware
+          && connectionEpoch == pluginManager.getConnectionEpoch()
+          && (methodInvokeOnWrapper != null
+              ? methodInvokeOnWrapper.getConnectionEpoch() == connectionEpoch
+              : pluginManager.isCurrentConnection(methodInvokeOn))) {
+        // The new object was created by an object that belongs to the current connection, and the current
+        // connection hasn't changed in the meantime.
+        ((ConnectionEpochAware) wrappedResult).setConnectionEpoch(connectionEpoch);
+      }
+      return wrappedResult;
+
     } finally {
       if (pluginManager.isHeldByCurrentThread()) {
         pluginManager.unlock();
@@ -298,39 +497,37 @@ public class WrapperUtils {
       }
     }
 
-    Class<?> wrapperClass = availableWrappers.get(effectiveResultClass);
+    WrapperFactory factory = availableWrappers.get(effectiveResultClass);
+    if (factory == null) {
+      factory = resolvedWrappersCache.computeIfAbsent(toProxy.getClass(), WrapperUtils::resolveWrapperFactory);
+    }
 
-    if (wrapperClass != null) {
-      return createInstance(
-          wrapperClass,
-          resultClass,
-          new Class<?>[] {effectiveResultClass, ConnectionPluginManager.class},
-          toProxy,
-          pluginManager);
+    if (factory == NO_WRAPPER) {
+      // The result class may be primitive, e.g. int.class for executeUpdate, so the result can't be cast to it.
+      return toProxy;
     }
 
-    for (final Class<?> iface : toProxy.getClass().getInterfaces()) {
+    return resultClass.cast(factory.create(toProxy, pluginManager));
+  }
+
+  private static WrapperFactory resolveWrapperFactory(final Class<?> toProxyClass) {
+    for (final Class<?> iface : toProxyClass.getInterfaces()) {
       if (isJdbcInterface(iface)) {
-        wrapperClass = availableWrappers.get(iface);
-        if (wrapperClass != null) {
-          return createInstance(
-              wrapperClass,
-              resultClass,
-              new Class<?>[] {iface, ConnectionPluginManager.class},
-              toProxy,
-              pluginManager);
+        final WrapperFactory factory = availableWrappers.get(iface);
+        if (factory != null) {
+          return factory;
         }
       }
     }
 
-    if (isJdbcInterface(toProxy.getClass())) {
+    if (isJdbcInterface(toProxyClass)) {
       throw new RuntimeException(
           Messages.get(
               "WrapperUtils.noWrapperClassExists",
-              new Object[] {toProxy.getClass().getName()}));
+              new Object[] {toProxyClass.getName()}));
     }
 
-    return toProxy;
+    return NO_WRAPPER;
   }
 
   /**
@@ -0,0 +1,96 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.util.telemetry;
+
+import java.util.concurrent.TimeUnit;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Telemetry context of a JDBC call made by the application. The call is traced if it has a trace
+ * context, and its latency is recorded if it has a latency histogram. While the call is running,
+ * the context tells whether the call executed by the current thread is traced.
+ */
+class CallTelemetryContext implements TelemetryContext {
+
+  private static final ThreadLocal<CallTelemetryContext> currentCall = new ThreadLocal<>();
+
+  private final String name;
+  private final @Nullable TelemetryContext traceContext;
+  private final @Nullable TelemetryHistogram latencyHistogram;
+  private final @Nullable CallTelemetryContext previousCall;
+  private final long startTimeNano;
+  private boolean closed;
+
+  CallTelemetryContext(
+      final String name,
+      final @Nullable TelemetryContext traceContext,
+      final @Nullable TelemetryHistogram latencyHistogram) {
+    this.name = name;
+    this.traceContext = traceContext;
+    this.latencyHistogram = latencyHistogram;
+    this.startTimeNano = latencyHistogram != null ? System.nanoTime() : 0;
+    this.previousCall = currentCall.get();
+    currentCall.set(this);
+  }
+
+  static boolean isCurrentCallUntraced() {
+    final CallTelemetryContext call = currentCall.get();
+    return call != null && call.traceContext == null;
+  }
+
+  @Override
+  public void setSuccess(boolean success) {
+    if (this.traceContext != null) {
+      this.traceContext.setSuccess(success);
+    }
+  }
+
+  @Override
+  public void setAttribute(String key, String value) {
+    if (this.traceContext != null) {
+      this.traceContext.setAttribute(key, value);
+    }
+  }
+
+  @Override
+  public void setException(Exception exception) {
+    if (this.traceContext != null) {
+      this.traceContext.setException(exception);
+    }
+  }
+
+  @Override
+  public String getName() {
+    return this.name;
+  }
+
+  @Override
+  public void closeContext() {
+    if (this.closed) {
+      return;
+    }
+    this.closed = true;
+
+    if (this.latencyHistogram != null) {
+      this.latencyHistogram.record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - this.startTimeNano));
+    }
+    if (this.traceContext != null) {
+      this.traceContext.closeContext();
+    }
+    currentCall.set(this.previousCall);
+  }
+}
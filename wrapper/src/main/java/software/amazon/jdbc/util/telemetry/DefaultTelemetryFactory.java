@@ -16,11 +16,21 @@
 
 package software.amazon.jdbc.util.telemetry;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Properties;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import software.amazon.jdbc.JdbcMethod;
 import software.amazon.jdbc.PropertyDefinition;
+import software.amazon.jdbc.util.telemetry.TelemetryTracingPolicy.CallCategory;
 
 public class DefaultTelemetryFactory implements TelemetryFactory {
 
+  private static final List<Long> CALL_LATENCY_BUCKETS_MICROS = Collections.unmodifiableList(Arrays.asList(
+      50L, 100L, 250L, 500L, 1_000L, 2_500L, 5_000L, 10_000L, 25_000L, 50_000L, 100_000L, 250_000L,
+      500_000L, 1_000_000L, 2_500_000L, 5_000_000L, 10_000_000L));
+
   private final boolean enableTelemetry;
   private final String telemetryTracesBackend;
   private final String telemetryMetricsBackend;
@@ -28,6 +38,10 @@ public class DefaultTelemetryFactory implements TelemetryFactory {
 
   private final TelemetryFactory tracesTelemetryFactory;
   private final TelemetryFactory metricsTelemetryFactory;
+  private final @Nullable TelemetryTracingPolicy tracingPolicy;
+  private final boolean recordCallLatency;
+  // Created up front, as the factory may be shared by connections opened with the same settings.
+  private final @Nullable TelemetryHistogram[] callLatencyHistograms;
 
   public DefaultTelemetryFactory(final Properties properties) {
     this.enableTelemetry = PropertyDefinition.ENABLE_TELEMETRY.getBoolean(properties);
@@ -62,17 +76,63 @@ public class DefaultTelemetryFactory implements TelemetryFactory {
     } else {
       this.metricsTelemetryFactory = new NullTelemetryFactory();
     }
+
+    if (enableTelemetry) {
+      this.tracingPolicy = new TelemetryTracingPolicy(properties);
+      this.recordCallLatency = PropertyDefinition.TELEMETRY_CALL_LATENCY_HISTOGRAMS.getBoolean(properties);
+    } else {
+      this.tracingPolicy = null;
+      this.recordCallLatency = false;
+    }
+
+    this.callLatencyHistograms = new TelemetryHistogram[CallCategory.values().length];
+    if (this.recordCallLatency) {
+      for (final CallCategory category : CallCategory.values()) {
+        this.callLatencyHistograms[category.ordinal()] = this.metricsTelemetryFactory.createHistogram(
+            "jdbcCall." + category.value + ".latency.us", CALL_LATENCY_BUCKETS_MICROS);
+      }
+    }
   }
 
   @Override
   public TelemetryContext openTelemetryContext(final String name, final TelemetryTraceLevel traceLevel) {
+    if (this.tracingPolicy != null
+        && traceLevel == TelemetryTraceLevel.TOP_LEVEL
+        && (this.recordCallLatency || this.isTracingEnabled())) {
+      final JdbcMethod jdbcMethod = JdbcMethod.fromMethodName(name);
+      if (jdbcMethod != null) {
+        return this.openCallTelemetryContext(jdbcMethod, this.tracingPolicy);
+      }
+    }
+    return this.openTraceContext(name, traceLevel);
+  }
+
+  private TelemetryContext openCallTelemetryContext(
+      final JdbcMethod jdbcMethod, final TelemetryTracingPolicy tracingPolicy) {
+    final CallCategory category = TelemetryTracingPolicy.getCategory(jdbcMethod);
+    final TelemetryContext traceContext = this.isTracingEnabled() && tracingPolicy.shouldTrace(category)
+        ? this.openTraceContext(jdbcMethod.methodName, TelemetryTraceLevel.TOP_LEVEL)
+        : null;
+    return new CallTelemetryContext(jdbcMethod.methodName, traceContext, this.getCallLatencyHistogram(category));
+  }
+
+  private TelemetryContext openTraceContext(final String name, final TelemetryTraceLevel traceLevel) {
     TelemetryTraceLevel effectiveTraceLevel = traceLevel;
-    if (!this.telemetrySubmitToplevel && traceLevel == TelemetryTraceLevel.TOP_LEVEL) {
+    if (traceLevel == TelemetryTraceLevel.NESTED && CallTelemetryContext.isCurrentCallUntraced()) {
+      // The JDBC call this context belongs to isn't traced. Contexts opened by plugins during the call, such as
+      // failover, are still traced on their own.
+      effectiveTraceLevel = TelemetryTraceLevel.TOP_LEVEL;
+    }
+    if (!this.telemetrySubmitToplevel && effectiveTraceLevel == TelemetryTraceLevel.TOP_LEVEL) {
       effectiveTraceLevel = TelemetryTraceLevel.NESTED;
     }
     return this.tracesTelemetryFactory.openTelemetryContext(name, effectiveTraceLevel);
   }
 
+  private @Nullable TelemetryHistogram getCallLatencyHistogram(final CallCategory category) {
+    return this.callLatencyHistograms[category.ordinal()];
+  }
+
   @Override
   public void postCopy(TelemetryContext telemetryContext, TelemetryTraceLevel traceLevel) {
     this.tracesTelemetryFactory.postCopy(telemetryContext, traceLevel);
@@ -87,4 +147,28 @@ public class DefaultTelemetryFactory implements TelemetryFactory {
   public TelemetryGauge createGauge(final String name, final GaugeCallable<Long> callback) {
     return this.metricsTelemetryFactory.createGauge(name, callback);
   }
+
+  @Override
+  public TelemetryHistogram createHistogram(final String name, final List<Long> bucketBoundaries) {
+    return this.metricsTelemetryFactory.createHistogram(name, bucketBoundaries);
+  }
+
+  @Override
+  public boolean isTracingEnabled() {
+    return this.enableTelemetry && this.tracesTelemetryFactory.isTracingEnabled();
+  }
+
+  @Override
+  public boolean isCallObserved(final String methodName) {
+    if (this.tracingPolicy == null) {
+      return false;
+    }
+    return this.recordCallLatency
+        || this.isTracingEnabled() && this.tracingPolicy.mayTrace(TelemetryTracingPolicy.getCategory(methodName));
+  }
+
+  @Override
+  public boolean isCurrentCallTraced() {
+    return this.isTracingEnabled() && !CallTelemetryContext.isCurrentCallUntraced();
+  }
 }
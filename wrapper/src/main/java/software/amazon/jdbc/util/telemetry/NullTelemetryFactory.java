@@ -16,11 +16,14 @@
 
 package software.amazon.jdbc.util.telemetry;
 
+import java.util.List;
+
 public class NullTelemetryFactory implements TelemetryFactory {
 
   private static final TelemetryContext NULL_TELEMETRY_CONTEXT = new NullTelemetryContext("null");
   private static final TelemetryCounter NULL_TELEMETRY_COUNTER = new NullTelemetryCounter("null");
   private static final TelemetryGauge NULL_TELEMETRY_GAUGE = new NullTelemetryGauge("null");
+  private static final TelemetryHistogram NULL_TELEMETRY_HISTOGRAM = new NullTelemetryHistogram("null");
 
   @Override
   public TelemetryContext openTelemetryContext(String name, TelemetryTraceLevel traceLevel) {
@@ -41,4 +44,14 @@ public class NullTelemetryFactory implements TelemetryFactory {
   public TelemetryGauge createGauge(String name, GaugeCallable<Long> callback) {
     return NULL_TELEMETRY_GAUGE;
   }
+
+  @Override
+  public TelemetryHistogram createHistogram(String name, List<Long> bucketBoundaries) {
+    return NULL_TELEMETRY_HISTOGRAM;
+  }
+
+  @Override
+  public boolean isTracingEnabled() {
+    return false;
+  }
 }
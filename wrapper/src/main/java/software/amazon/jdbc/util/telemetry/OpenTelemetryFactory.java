@@ -20,13 +20,14 @@ import io.opentelemetry.api.GlobalOpenTelemetry;
 import io.opentelemetry.api.OpenTelemetry;
 import io.opentelemetry.api.metrics.Meter;
 import io.opentelemetry.api.trace.Tracer;
+import java.util.List;
 
 public class OpenTelemetryFactory implements TelemetryFactory {
 
   private static final String INSTRUMENTATION_NAME = "aws-advanced-jdbc-wrapper";
 
   /**
-   * Max allowed name length for counters and gauges.
+   * Max allowed name length for counters, gauges and histograms.
    *
    * @see
    * <a href="https://opentelemetry.io/docs/specs/otel/metrics/api/#:~:text=It%20can%20have%20a%20maximum%20length%20of%2063%20characters">More details</a>
@@ -70,6 +71,19 @@ public class OpenTelemetryFactory implements TelemetryFactory {
     return new OpenTelemetryGauge(meter, trimName(name), callback);
   }
 
+  public TelemetryHistogram createHistogram(String name, List<Long> bucketBoundaries) {
+    if (name == null) {
+      throw new IllegalArgumentException("name");
+    }
+    meter = getOpenTelemetry().getMeter(INSTRUMENTATION_NAME);
+    return new OpenTelemetryHistogram(meter, trimName(name), bucketBoundaries);
+  }
+
+  @Override
+  public boolean isTracingEnabled() {
+    return true;
+  }
+
   private String trimName(final String name) {
     return (name.length() > NAME_MAX_LENGTH) ? name.substring(0, NAME_MAX_LENGTH) : name;
   }
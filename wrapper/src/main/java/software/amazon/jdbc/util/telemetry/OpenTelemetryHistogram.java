@@ -0,0 +1,50 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.util.telemetry;
+
+import io.opentelemetry.api.metrics.LongHistogram;
+import io.opentelemetry.api.metrics.Meter;
+import java.util.List;
+
+public class OpenTelemetryHistogram implements TelemetryHistogram {
+
+  private final LongHistogram histogram;
+
+  private final String name;
+
+  private final Meter meter;
+
+  OpenTelemetryHistogram(Meter meter, String name, List<Long> bucketBoundaries) {
+    this.name = name;
+    this.meter = meter;
+
+    this.histogram = this.meter.histogramBuilder(name)
+        .ofLongs()
+        .setExplicitBucketBoundariesAdvice(bucketBoundaries)
+        .build();
+  }
+
+  @Override
+  public void record(long value) {
+    histogram.record(value);
+  }
+
+  public String getName() {
+    return name;
+  }
+
+}
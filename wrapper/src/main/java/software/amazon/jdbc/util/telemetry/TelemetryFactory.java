@@ -16,6 +16,8 @@
 
 package software.amazon.jdbc.util.telemetry;
 
+import java.util.List;
+
 public interface TelemetryFactory {
 
   TelemetryContext openTelemetryContext(String name, TelemetryTraceLevel traceLevel);
@@ -26,4 +28,47 @@ public interface TelemetryFactory {
 
   TelemetryGauge createGauge(String name, GaugeCallable<Long> callback);
 
+  /**
+   * Creates a histogram that aggregates the recorded values into buckets. Factories that don't
+   * support histograms return a histogram that discards the recorded values.
+   *
+   * @param name             the name of the histogram
+   * @param bucketBoundaries the ascending upper boundaries of the buckets
+   * @return the histogram
+   */
+  default TelemetryHistogram createHistogram(final String name, final List<Long> bucketBoundaries) {
+    return new NullTelemetryHistogram(name);
+  }
+
+  /**
+   * Indicates whether trace contexts opened by this factory are recorded by a tracing backend.
+   * Factories that don't override this method are assumed to record every context.
+   *
+   * @return true if opened telemetry contexts are submitted to a tracing backend
+   */
+  default boolean isTracingEnabled() {
+    return true;
+  }
+
+  /**
+   * Indicates whether calls of the given JDBC method may be traced or measured. Calls that are never
+   * observed don't need a telemetry context.
+   *
+   * @param methodName the name of the JDBC method, e.g. "ResultSet.next"
+   * @return true if calls of the method may be traced or measured
+   */
+  default boolean isCallObserved(final String methodName) {
+    return this.isTracingEnabled();
+  }
+
+  /**
+   * Indicates whether the JDBC call currently executed by this thread is traced. The plugins that
+   * handle a call are only traced if the call itself is traced.
+   *
+   * @return true if the current call is traced
+   */
+  default boolean isCurrentCallTraced() {
+    return this.isTracingEnabled();
+  }
+
 }
@@ -0,0 +1,174 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.util.telemetry;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import software.amazon.jdbc.JdbcMethod;
+import software.amazon.jdbc.PropertyDefinition;
+import software.amazon.jdbc.util.Messages;
+import software.amazon.jdbc.util.StringUtils;
+
+/**
+ * Decides which JDBC calls made by the application are traced. JDBC calls are grouped into
+ * categories, and only the calls of the categories listed in
+ * {@link PropertyDefinition#TELEMETRY_TRACED_CALLS} are traced. A fraction of these calls, set by
+ * {@link PropertyDefinition#TELEMETRY_TRACES_SAMPLING_RATE}, is picked when the call starts, so that
+ * a call is either traced together with its plugins or not traced at all.
+ */
+public class TelemetryTracingPolicy {
+
+  public enum CallCategory {
+    CONNECTION("connection"),
+    EXECUTE("execute"),
+    TRANSACTION("transaction"),
+    RESULT_SET("resultSet"),
+    METADATA("metadata"),
+    OTHER("other");
+
+    public final String value;
+
+    CallCategory(final String value) {
+      this.value = value;
+    }
+
+    public static @Nullable CallCategory fromValue(final String value) {
+      for (final CallCategory category : values()) {
+        if (category.value.equalsIgnoreCase(value)) {
+          return category;
+        }
+      }
+      return null;
+    }
+  }
+
+  private static final Set<String> TRANSACTION_METHODS = new HashSet<>(Arrays.asList(
+      "commit", "rollback", "setAutoCommit", "setSavepoint", "releaseSavepoint", "setTransactionIsolation"));
+
+  private static final CallCategory[] jdbcMethodCategories = new CallCategory[JdbcMethod.values().length];
+
+  static {
+    for (final JdbcMethod jdbcMethod : JdbcMethod.values()) {
+      jdbcMethodCategories[jdbcMethod.ordinal()] = categorize(jdbcMethod.methodName);
+    }
+  }
+
+  private final double samplingRate;
+  private final EnumSet<CallCategory> tracedCategories;
+
+  public TelemetryTracingPolicy(final Properties props) {
+    final String samplingRateValue = PropertyDefinition.TELEMETRY_TRACES_SAMPLING_RATE.getString(props);
+    try {
+      this.samplingRate = Double.parseDouble(samplingRateValue);
+    } catch (final NumberFormatException | NullPointerException e) {
+      throw new RuntimeException(
+          Messages.get("TelemetryTracingPolicy.invalidSamplingRate", new Object[] {samplingRateValue}));
+    }
+    if (!(this.samplingRate >= 0 && this.samplingRate <= 1)) {
+      throw new RuntimeException(
+          Messages.get("TelemetryTracingPolicy.invalidSamplingRate", new Object[] {samplingRateValue}));
+    }
+
+    final String tracedCalls = PropertyDefinition.TELEMETRY_TRACED_CALLS.getString(props);
+    if (StringUtils.isNullOrEmpty(tracedCalls)) {
+      this.tracedCategories = EnumSet.allOf(CallCategory.class);
+    } else {
+      this.tracedCategories = EnumSet.noneOf(CallCategory.class);
+      for (final String value : StringUtils.split(tracedCalls, ",", true)) {
+        final CallCategory category = CallCategory.fromValue(value);
+        if (category == null) {
+          throw new RuntimeException(
+              Messages.get("TelemetryTracingPolicy.invalidCallCategory", new Object[] {value}));
+        }
+        this.tracedCategories.add(category);
+      }
+    }
+  }
+
+  /**
+   * Returns the category of a JDBC call.
+   *
+   * @param methodName the name of the JDBC method, e.g. "ResultSet.next"
+   * @return the category of the call
+   */
+  public static CallCategory getCategory(final String methodName) {
+    final JdbcMethod jdbcMethod = JdbcMethod.fromMethodName(methodName);
+    return jdbcMethod != null ? getCategory(jdbcMethod) : categorize(methodName);
+  }
+
+  /**
+   * Returns the category of a JDBC call.
+   *
+   * @param jdbcMethod the JDBC method
+   * @return the category of the call
+   */
+  public static CallCategory getCategory(final JdbcMethod jdbcMethod) {
+    return jdbcMethodCategories[jdbcMethod.ordinal()];
+  }
+
+  /**
+   * Indicates whether some calls of the given category may be traced.
+   *
+   * @param category the call category
+   * @return true if the calls of the category may be traced
+   */
+  public boolean mayTrace(final CallCategory category) {
+    return this.samplingRate > 0 && this.tracedCategories.contains(category);
+  }
+
+  /**
+   * Decides whether a call that is about to start should be traced.
+   *
+   * @param category the call category
+   * @return true if the call should be traced
+   */
+  public boolean shouldTrace(final CallCategory category) {
+    return this.mayTrace(category)
+        && (this.samplingRate >= 1 || ThreadLocalRandom.current().nextDouble() < this.samplingRate);
+  }
+
+  private static CallCategory categorize(final String methodName) {
+    final int dotIndex = methodName.indexOf('.');
+    if (dotIndex < 0) {
+      return CallCategory.OTHER;
+    }
+
+    final String interfaceName = methodName.substring(0, dotIndex);
+    final String name = methodName.substring(dotIndex + 1);
+    switch (interfaceName) {
+      case "Connection":
+        return TRANSACTION_METHODS.contains(name) ? CallCategory.TRANSACTION : CallCategory.CONNECTION;
+      case "Statement":
+      case "PreparedStatement":
+      case "CallableStatement":
+        return name.startsWith("execute") ? CallCategory.EXECUTE : CallCategory.OTHER;
+      case "ResultSet":
+        return CallCategory.RESULT_SET;
+      case "DatabaseMetaData":
+      case "ResultSetMetaData":
+      case "ParameterMetaData":
+        return CallCategory.METADATA;
+      default:
+        return CallCategory.OTHER;
+    }
+  }
+}
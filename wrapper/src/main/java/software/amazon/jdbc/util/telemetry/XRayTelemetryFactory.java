@@ -16,6 +16,8 @@
 
 package software.amazon.jdbc.util.telemetry;
 
+import java.util.List;
+
 public class XRayTelemetryFactory implements TelemetryFactory {
 
   @Override
@@ -44,4 +46,13 @@ public class XRayTelemetryFactory implements TelemetryFactory {
     throw new RuntimeException("XRay doesn't support metrics.");
   }
 
+  @Override
+  public TelemetryHistogram createHistogram(String name, List<Long> bucketBoundaries) {
+    throw new RuntimeException("XRay doesn't support metrics.");
+  }
+
+  @Override
+  public boolean isTracingEnabled() {
+    return true;
+  }
 }
@@ -22,6 +22,7 @@ import java.sql.SQLException;
 import java.util.Map;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import software.amazon.jdbc.ConnectionPluginManager;
+import software.amazon.jdbc.JdbcMethod;
 import software.amazon.jdbc.util.WrapperUtils;
 
 public class ArrayWrapper implements Array {
@@ -41,7 +42,7 @@ public class ArrayWrapper implements Array {
         SQLException.class,
         this.pluginManager,
         this.array,
-        "Array.getBaseTypeName",
+        JdbcMethod.ARRAY_GETBASETYPENAME,
         () -> this.array.getBaseTypeName());
   }
 
@@ -52,7 +53,7 @@ public class ArrayWrapper implements Array {
         SQLException.class,
         this.pluginManager,
         this.array,
-        "Array.getBaseType",
+        JdbcMethod.ARRAY_GETBASETYPE,
         () -> this.array.getBaseType());
   }
 
@@ -63,7 +64,7 @@ public class ArrayWrapper implements Array {
         SQLException.class,
         this.pluginManager,
         this.array,
-        "Array.getArray",
+        JdbcMethod.ARRAY_GETARRAY,
         () -> this.array.getArray());
   }
 
@@ -74,7 +75,7 @@ public class ArrayWrapper implements Array {
         SQLException.class,
         this.pluginManager,
         this.array,
-        "Array.getArray",
+        JdbcMethod.ARRAY_GETARRAY,
         () -> this.array.getArray(map),
         map);
   }
@@ -86,7 +87,7 @@ public class ArrayWrapper implements Array {
         SQLException.class,
         this.pluginManager,
         this.array,
-        "Array.getArray",
+        JdbcMethod.ARRAY_GETARRAY,
         () -> this.array.getArray(index, count),
         index,
         count);
@@ -99,7 +100,7 @@ public class ArrayWrapper implements Array {
         SQLException.class,
         this.pluginManager,
         this.array,
-        "Array.getArray",
+        JdbcMethod.ARRAY_GETARRAY,
         () -> this.array.getArray(index, count, map),
         index,
         count,
@@ -113,7 +114,7 @@ public class ArrayWrapper implements Array {
         SQLException.class,
         this.pluginManager,
         this.array,
-        "Array.getResultSet",
+        JdbcMethod.ARRAY_GETRESULTSET,
         () -> this.array.getResultSet());
   }
 
@@ -124,7 +125,7 @@ public class ArrayWrapper implements Array {
         SQLException.class,
         this.pluginManager,
         this.array,
-        "Array.getResultSet",
+        JdbcMethod.ARRAY_GETRESULTSET,
         () -> this.array.getResultSet(map),
         map);
   }
@@ -136,7 +137,7 @@ public class ArrayWrapper implements Array {
         SQLException.class,
         this.pluginManager,
         this.array,
-        "Array.getResultSet",
+        JdbcMethod.ARRAY_GETRESULTSET,
         () -> this.array.getResultSet(index, count),
         index,
         count);
@@ -150,7 +151,7 @@ public class ArrayWrapper implements Array {
         SQLException.class,
         this.pluginManager,
         this.array,
-        "Array.getResultSet",
+        JdbcMethod.ARRAY_GETRESULTSET,
         () -> this.array.getResultSet(index, count, map),
         index,
         count,
@@ -160,7 +161,7 @@ public class ArrayWrapper implements Array {
   @Override
   public void free() throws SQLException {
     WrapperUtils.runWithPlugins(
-        SQLException.class, this.pluginManager, this.array, "Array.free", () -> this.array.free());
+        SQLException.class, this.pluginManager, this.array, JdbcMethod.ARRAY_FREE, () -> this.array.free());
   }
 
   @Override
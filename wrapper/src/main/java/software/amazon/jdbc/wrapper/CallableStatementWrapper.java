@@ -42,12 +42,14 @@ import java.util.Calendar;
 import java.util.Map;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import software.amazon.jdbc.ConnectionPluginManager;
+import software.amazon.jdbc.JdbcMethod;
 import software.amazon.jdbc.util.WrapperUtils;
 
-public class CallableStatementWrapper implements CallableStatement {
+public class CallableStatementWrapper implements CallableStatement, ConnectionEpochAware {
 
   protected CallableStatement statement;
   protected ConnectionPluginManager pluginManager;
+  protected volatile int connectionEpoch = UNKNOWN_CONNECTION_EPOCH;
 
   public CallableStatementWrapper(
       @NonNull CallableStatement statement, @NonNull ConnectionPluginManager pluginManager) {
@@ -61,7 +63,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.addBatch",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_ADDBATCH,
         () -> this.statement.addBatch());
   }
 
@@ -71,7 +74,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.addBatch",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_ADDBATCH,
         () -> this.statement.addBatch(sql),
         sql);
   }
@@ -82,7 +86,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.cancel",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_CANCEL,
         () -> this.statement.cancel());
   }
 
@@ -92,7 +97,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.clearBatch",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_CLEARBATCH,
         () -> this.statement.clearBatch());
   }
 
@@ -102,7 +108,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.clearParameters",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_CLEARPARAMETERS,
         () -> this.statement.clearParameters());
   }
 
@@ -112,7 +119,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.clearWarnings",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_CLEARWARNINGS,
         () -> this.statement.clearWarnings());
   }
 
@@ -122,7 +130,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.close",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_CLOSE,
         () -> this.statement.close());
   }
 
@@ -132,7 +141,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.closeOnCompletion",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_CLOSEONCOMPLETION,
         () -> this.statement.closeOnCompletion());
   }
 
@@ -143,7 +153,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.execute",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_EXECUTE,
         () -> this.statement.execute());
   }
 
@@ -154,7 +165,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.execute",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_EXECUTE,
         () -> this.statement.execute(sql),
         sql);
   }
@@ -166,7 +178,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.execute",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_EXECUTE,
         () -> this.statement.execute(sql, autoGeneratedKeys),
         sql,
         autoGeneratedKeys);
@@ -179,7 +192,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.execute",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_EXECUTE,
         () -> this.statement.execute(sql, columnIndexes),
         sql,
         columnIndexes);
@@ -192,7 +206,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.execute",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_EXECUTE,
         () -> this.statement.execute(sql, columnNames),
         sql,
         columnNames);
@@ -205,7 +220,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.executeBatch",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_EXECUTEBATCH,
         () -> this.statement.executeBatch());
   }
 
@@ -216,7 +232,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.executeLargeUpdate",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_EXECUTELARGEUPDATE,
         () -> this.statement.executeLargeUpdate());
   }
 
@@ -227,7 +244,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.executeQuery",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_EXECUTEQUERY,
         () -> this.statement.executeQuery());
   }
 
@@ -238,7 +256,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.executeQuery",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_EXECUTEQUERY,
         () -> this.statement.executeQuery(sql),
         sql);
   }
@@ -250,7 +269,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.executeUpdate",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_EXECUTEUPDATE,
         () -> this.statement.executeUpdate());
   }
 
@@ -261,7 +281,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.executeUpdate",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_EXECUTEUPDATE,
         () -> this.statement.executeUpdate(sql),
         sql);
   }
@@ -273,7 +294,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.executeUpdate",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_EXECUTEUPDATE,
         () -> this.statement.executeUpdate(sql, autoGeneratedKeys),
         sql,
         autoGeneratedKeys);
@@ -286,7 +308,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.executeUpdate",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_EXECUTEUPDATE,
         () -> this.statement.executeUpdate(sql, columnIndexes),
         sql,
         columnIndexes);
@@ -299,7 +322,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.executeUpdate",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_EXECUTEUPDATE,
         () -> this.statement.executeUpdate(sql, columnNames),
         sql,
         columnNames);
@@ -312,7 +336,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getArray",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETARRAY,
         () -> this.statement.getArray(parameterIndex),
         parameterIndex);
   }
@@ -324,7 +349,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getArray",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETARRAY,
         () -> this.statement.getArray(parameterName),
         parameterName);
   }
@@ -337,7 +363,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getBigDecimal",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETBIGDECIMAL,
         () -> this.statement.getBigDecimal(parameterIndex, scale),
         parameterIndex,
         scale);
@@ -350,7 +377,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getBigDecimal",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETBIGDECIMAL,
         () -> this.statement.getBigDecimal(parameterIndex),
         parameterIndex);
   }
@@ -362,7 +390,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getBigDecimal",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETBIGDECIMAL,
         () -> this.statement.getBigDecimal(parameterName),
         parameterName);
   }
@@ -374,7 +403,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getBlob",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETBLOB,
         () -> this.statement.getBlob(parameterIndex),
         parameterIndex);
   }
@@ -386,7 +416,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getBlob",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETBLOB,
         () -> this.statement.getBlob(parameterName),
         parameterName);
   }
@@ -398,7 +429,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getBoolean",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETBOOLEAN,
         () -> this.statement.getBoolean(parameterIndex),
         parameterIndex);
   }
@@ -410,7 +442,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getBoolean",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETBOOLEAN,
         () -> this.statement.getBoolean(parameterName),
         parameterName);
   }
@@ -422,7 +455,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getByte",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETBYTE,
         () -> this.statement.getByte(parameterIndex),
         parameterIndex);
   }
@@ -434,7 +468,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getByte",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETBYTE,
         () -> this.statement.getByte(parameterName),
         parameterName);
   }
@@ -446,7 +481,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getBytes",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETBYTES,
         () -> this.statement.getBytes(parameterIndex),
         parameterIndex);
   }
@@ -458,7 +494,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getBytes",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETBYTES,
         () -> this.statement.getBytes(parameterName),
         parameterName);
   }
@@ -470,7 +507,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getCharacterStream",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETCHARACTERSTREAM,
         () -> this.statement.getCharacterStream(parameterIndex),
         parameterIndex);
   }
@@ -482,7 +520,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getCharacterStream",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETCHARACTERSTREAM,
         () -> this.statement.getCharacterStream(parameterName),
         parameterName);
   }
@@ -494,7 +533,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getClob",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETCLOB,
         () -> this.statement.getClob(parameterIndex),
         parameterIndex);
   }
@@ -506,7 +546,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getClob",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETCLOB,
         () -> this.statement.getClob(parameterName),
         parameterName);
   }
@@ -518,7 +559,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getConnection",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETCONNECTION,
         () -> this.pluginManager.getConnectionWrapper());
   }
 
@@ -529,7 +571,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getDate",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETDATE,
         () -> this.statement.getDate(parameterIndex),
         parameterIndex);
   }
@@ -541,7 +584,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getDate",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETDATE,
         () -> this.statement.getDate(parameterIndex, cal),
         parameterIndex,
         cal);
@@ -554,7 +598,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getDate",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETDATE,
         () -> this.statement.getDate(parameterName),
         parameterName);
   }
@@ -566,7 +611,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getDate",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETDATE,
         () -> this.statement.getDate(parameterName, cal),
         parameterName,
         cal);
@@ -579,7 +625,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getDouble",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETDOUBLE,
         () -> this.statement.getDouble(parameterIndex),
         parameterIndex);
   }
@@ -591,7 +638,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getDouble",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETDOUBLE,
         () -> this.statement.getDouble(parameterName),
         parameterName);
   }
@@ -604,7 +652,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getFetchDirection",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETFETCHDIRECTION,
         () -> this.statement.getFetchDirection());
   }
 
@@ -615,7 +664,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getFetchSize",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETFETCHSIZE,
         () -> this.statement.getFetchSize());
   }
 
@@ -626,7 +676,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getFloat",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETFLOAT,
         () -> this.statement.getFloat(parameterIndex),
         parameterIndex);
   }
@@ -638,7 +689,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getFloat",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETFLOAT,
         () -> this.statement.getFloat(parameterName),
         parameterName);
   }
@@ -650,7 +702,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getGeneratedKeys",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETGENERATEDKEYS,
         () -> this.statement.getGeneratedKeys());
   }
 
@@ -661,7 +714,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getInt",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETINT,
         () -> this.statement.getInt(parameterIndex),
         parameterIndex);
   }
@@ -673,7 +727,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getInt",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETINT,
         () -> this.statement.getInt(parameterName),
         parameterName);
   }
@@ -685,7 +740,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getLong",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETLONG,
         () -> this.statement.getLong(parameterIndex),
         parameterIndex);
   }
@@ -697,7 +753,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getLong",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETLONG,
         () -> this.statement.getLong(parameterName),
         parameterName);
   }
@@ -709,7 +766,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getMaxFieldSize",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETMAXFIELDSIZE,
         () -> this.statement.getMaxFieldSize());
   }
 
@@ -720,7 +778,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getMaxRows",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETMAXROWS,
         () -> this.statement.getMaxRows());
   }
 
@@ -731,7 +790,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getMetaData",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETMETADATA,
         () -> this.statement.getMetaData());
   }
 
@@ -742,7 +802,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getMoreResults",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETMORERESULTS,
         () -> this.statement.getMoreResults());
   }
 
@@ -753,7 +814,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getMoreResults",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETMORERESULTS,
         () -> this.statement.getMoreResults(current),
         current);
   }
@@ -765,7 +827,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getNCharacterStream",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETNCHARACTERSTREAM,
         () -> this.statement.getNCharacterStream(parameterIndex),
         parameterIndex);
   }
@@ -777,7 +840,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getNCharacterStream",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETNCHARACTERSTREAM,
         () -> this.statement.getNCharacterStream(parameterName),
         parameterName);
   }
@@ -789,7 +853,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getNClob",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETNCLOB,
         () -> this.statement.getNClob(parameterIndex),
         parameterIndex);
   }
@@ -801,7 +866,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getNClob",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETNCLOB,
         () -> this.statement.getNClob(parameterName),
         parameterName);
   }
@@ -813,7 +879,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getNString",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETNSTRING,
         () -> this.statement.getNString(parameterIndex),
         parameterIndex);
   }
@@ -825,7 +892,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getNString",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETNSTRING,
         () -> this.statement.getNString(parameterName),
         parameterName);
   }
@@ -837,7 +905,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getObject",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETOBJECT,
         () -> this.statement.getObject(parameterIndex),
         parameterIndex);
   }
@@ -849,7 +918,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getObject",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETOBJECT,
         () -> this.statement.getObject(parameterIndex, map),
         parameterIndex,
         map);
@@ -862,7 +932,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getObject",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETOBJECT,
         () -> this.statement.getObject(parameterName),
         parameterName);
   }
@@ -874,7 +945,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getObject",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETOBJECT,
         () -> this.statement.getObject(parameterName, map),
         parameterName,
         map);
@@ -887,7 +959,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getObject",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETOBJECT,
         () -> this.statement.getObject(parameterIndex, type),
         parameterIndex,
         type);
@@ -900,7 +973,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getObject",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETOBJECT,
         () -> this.statement.getObject(parameterName, type),
         parameterName,
         type);
@@ -913,7 +987,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getParameterMetaData",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETPARAMETERMETADATA,
         () -> this.statement.getParameterMetaData());
   }
 
@@ -924,7 +999,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getQueryTimeout",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETQUERYTIMEOUT,
         () -> this.statement.getQueryTimeout());
   }
 
@@ -935,7 +1011,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getRef",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETREF,
         () -> this.statement.getRef(parameterIndex),
         parameterIndex);
   }
@@ -947,7 +1024,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getRef",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETREF,
         () -> this.statement.getRef(parameterName),
         parameterName);
   }
@@ -959,7 +1037,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getResultSet",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETRESULTSET,
         () -> this.statement.getResultSet());
   }
 
@@ -971,7 +1050,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getResultSetConcurrency",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETRESULTSETCONCURRENCY,
         () -> this.statement.getResultSetConcurrency());
   }
 
@@ -982,7 +1062,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getResultSetHoldability",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETRESULTSETHOLDABILITY,
         () -> this.statement.getResultSetHoldability());
   }
 
@@ -994,7 +1075,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getResultSetType",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETRESULTSETTYPE,
         () -> this.statement.getResultSetType());
   }
 
@@ -1005,7 +1087,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getRowId",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETROWID,
         () -> this.statement.getRowId(parameterIndex),
         parameterIndex);
   }
@@ -1017,7 +1100,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getRowId",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETROWID,
         () -> this.statement.getRowId(parameterName),
         parameterName);
   }
@@ -1030,7 +1114,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getSQLXML",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETSQLXML,
         () -> this.statement.getSQLXML(parameterIndex),
         parameterIndex);
   }
@@ -1043,7 +1128,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getSQLXML",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETSQLXML,
         () -> this.statement.getSQLXML(parameterName),
         parameterName);
   }
@@ -1055,7 +1141,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getShort",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETSHORT,
         () -> this.statement.getShort(parameterIndex),
         parameterIndex);
   }
@@ -1067,7 +1154,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getShort",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETSHORT,
         () -> this.statement.getShort(parameterName),
         parameterName);
   }
@@ -1079,7 +1167,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getString",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETSTRING,
         () -> this.statement.getString(parameterIndex),
         parameterIndex);
   }
@@ -1091,7 +1180,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getString",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETSTRING,
         () -> this.statement.getString(parameterName),
         parameterName);
   }
@@ -1103,7 +1193,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getTime",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETTIME,
         () -> this.statement.getTime(parameterIndex),
         parameterIndex);
   }
@@ -1115,7 +1206,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getTime",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETTIME,
         () -> this.statement.getTime(parameterIndex, cal),
         parameterIndex,
         cal);
@@ -1128,7 +1220,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getTime",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETTIME,
         () -> this.statement.getTime(parameterName),
         parameterName);
   }
@@ -1140,7 +1233,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getTime",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETTIME,
         () -> this.statement.getTime(parameterName, cal),
         parameterName,
         cal);
@@ -1153,7 +1247,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getTimestamp",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETTIMESTAMP,
         () -> this.statement.getTimestamp(parameterIndex),
         parameterIndex);
   }
@@ -1165,7 +1260,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getTimestamp",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETTIMESTAMP,
         () -> this.statement.getTimestamp(parameterIndex, cal),
         parameterIndex,
         cal);
@@ -1178,7 +1274,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getTimestamp",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETTIMESTAMP,
         () -> this.statement.getTimestamp(parameterName),
         parameterName);
   }
@@ -1190,7 +1287,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getTimestamp",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETTIMESTAMP,
         () -> this.statement.getTimestamp(parameterName, cal),
         parameterName,
         cal);
@@ -1203,7 +1301,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getURL",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETURL,
         () -> this.statement.getURL(parameterIndex),
         parameterIndex);
   }
@@ -1215,7 +1314,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getURL",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETURL,
         () -> this.statement.getURL(parameterName),
         parameterName);
   }
@@ -1227,7 +1327,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getUpdateCount",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETUPDATECOUNT,
         () -> this.statement.getUpdateCount());
   }
 
@@ -1238,7 +1339,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.getWarnings",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_GETWARNINGS,
         () -> this.statement.getWarnings());
   }
 
@@ -1249,7 +1351,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.isCloseOnCompletion",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_ISCLOSEONCOMPLETION,
         () -> this.statement.isCloseOnCompletion());
   }
 
@@ -1260,7 +1363,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.isClosed",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_ISCLOSED,
         () -> this.statement.isClosed());
   }
 
@@ -1272,7 +1376,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.isPoolable",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_ISPOOLABLE,
         () -> this.statement.isPoolable());
   }
 
@@ -1287,7 +1392,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.registerOutParameter",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_REGISTEROUTPARAMETER,
         () -> this.statement.registerOutParameter(parameterIndex, sqlType),
         parameterIndex,
         sqlType);
@@ -1299,7 +1405,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.registerOutParameter",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_REGISTEROUTPARAMETER,
         () -> this.statement.registerOutParameter(parameterIndex, sqlType, scale),
         parameterIndex,
         sqlType,
@@ -1313,7 +1420,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.registerOutParameter",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_REGISTEROUTPARAMETER,
         () -> this.statement.registerOutParameter(parameterIndex, sqlType, typeName),
         parameterIndex,
         sqlType,
@@ -1326,7 +1434,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.registerOutParameter",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_REGISTEROUTPARAMETER,
         () -> this.statement.registerOutParameter(parameterName, sqlType),
         parameterName,
         sqlType);
@@ -1339,7 +1448,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.registerOutParameter",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_REGISTEROUTPARAMETER,
         () -> this.statement.registerOutParameter(parameterName, sqlType, scale),
         parameterName,
         sqlType,
@@ -1353,7 +1463,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.registerOutParameter",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_REGISTEROUTPARAMETER,
         () -> this.statement.registerOutParameter(parameterName, sqlType, typeName),
         parameterName,
         sqlType,
@@ -1366,7 +1477,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.registerOutParameter",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_REGISTEROUTPARAMETER,
         () -> this.statement.registerOutParameter(parameterIndex, sqlType),
         parameterIndex,
         sqlType);
@@ -1379,7 +1491,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.registerOutParameter",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_REGISTEROUTPARAMETER,
         () -> this.statement.registerOutParameter(parameterIndex, sqlType, scale),
         parameterIndex,
         sqlType,
@@ -1393,7 +1506,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.registerOutParameter",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_REGISTEROUTPARAMETER,
         () -> this.statement.registerOutParameter(parameterIndex, sqlType, typeName),
         parameterIndex,
         sqlType,
@@ -1406,7 +1520,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.registerOutParameter",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_REGISTEROUTPARAMETER,
         () -> this.statement.registerOutParameter(parameterName, sqlType),
         parameterName,
         sqlType);
@@ -1419,7 +1534,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.registerOutParameter",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_REGISTEROUTPARAMETER,
         () -> this.statement.registerOutParameter(parameterName, sqlType, scale),
         parameterName,
         sqlType,
@@ -1433,7 +1549,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.registerOutParameter",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_REGISTEROUTPARAMETER,
         () -> this.statement.registerOutParameter(parameterName, sqlType, typeName),
         parameterName,
         sqlType,
@@ -1446,7 +1563,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setArray",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETARRAY,
         () -> this.statement.setArray(parameterIndex, x),
         parameterIndex,
         x);
@@ -1458,7 +1576,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setAsciiStream",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETASCIISTREAM,
         () -> this.statement.setAsciiStream(parameterName, x, length),
         parameterName,
         x,
@@ -1471,7 +1590,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setAsciiStream",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETASCIISTREAM,
         () -> this.statement.setAsciiStream(parameterName, x, length),
         parameterName,
         x,
@@ -1484,7 +1604,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setAsciiStream",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETASCIISTREAM,
         () -> this.statement.setAsciiStream(parameterName, x),
         parameterName,
         x);
@@ -1496,7 +1617,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setAsciiStream",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETASCIISTREAM,
         () -> this.statement.setAsciiStream(parameterIndex, x, length),
         parameterIndex,
         x,
@@ -1509,7 +1631,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setAsciiStream",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETASCIISTREAM,
         () -> this.statement.setAsciiStream(parameterIndex, x, length),
         parameterIndex,
         x,
@@ -1522,7 +1645,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setAsciiStream",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETASCIISTREAM,
         () -> this.statement.setAsciiStream(parameterIndex, x),
         parameterIndex,
         x);
@@ -1534,7 +1658,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setBigDecimal",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETBIGDECIMAL,
         () -> this.statement.setBigDecimal(parameterName, x),
         parameterName,
         x);
@@ -1546,7 +1671,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setBigDecimal",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETBIGDECIMAL,
         () -> this.statement.setBigDecimal(parameterIndex, x),
         parameterIndex,
         x);
@@ -1558,7 +1684,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setBinaryStream",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETBINARYSTREAM,
         () -> this.statement.setBinaryStream(parameterName, x, length),
         parameterName,
         x,
@@ -1572,7 +1699,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setBinaryStream",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETBINARYSTREAM,
         () -> this.statement.setBinaryStream(parameterName, x, length),
         parameterName,
         x,
@@ -1585,7 +1713,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setBinaryStream",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETBINARYSTREAM,
         () -> this.statement.setBinaryStream(parameterName, x),
         parameterName,
         x);
@@ -1597,7 +1726,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setBinaryStream",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETBINARYSTREAM,
         () -> this.statement.setBinaryStream(parameterIndex, x, length),
         parameterIndex,
         x,
@@ -1610,7 +1740,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setBinaryStream",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETBINARYSTREAM,
         () -> this.statement.setBinaryStream(parameterIndex, x, length),
         parameterIndex,
         x,
@@ -1623,7 +1754,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setBinaryStream",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETBINARYSTREAM,
         () -> this.statement.setBinaryStream(parameterIndex, x),
         parameterIndex,
         x);
@@ -1636,7 +1768,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setBlob",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETBLOB,
         () -> this.statement.setBlob(parameterName, inputStream, length),
         parameterName,
         inputStream,
@@ -1649,7 +1782,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setBlob",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETBLOB,
         () -> this.statement.setBlob(parameterName, x),
         parameterName,
         x);
@@ -1661,7 +1795,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setBlob",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETBLOB,
         () -> this.statement.setBlob(parameterName, inputStream),
         parameterName,
         inputStream);
@@ -1673,7 +1808,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setBlob",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETBLOB,
         () -> this.statement.setBlob(parameterIndex, x),
         parameterIndex,
         x);
@@ -1686,7 +1822,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setBlob",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETBLOB,
         () -> this.statement.setBlob(parameterIndex, inputStream, length),
         parameterIndex,
         inputStream,
@@ -1699,7 +1836,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setBlob",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETBLOB,
         () -> this.statement.setBlob(parameterIndex, inputStream),
         parameterIndex,
         inputStream);
@@ -1711,7 +1849,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setBoolean",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETBOOLEAN,
         () -> this.statement.setBoolean(parameterName, x),
         parameterName,
         x);
@@ -1723,7 +1862,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setBoolean",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETBOOLEAN,
         () -> this.statement.setBoolean(parameterIndex, x),
         parameterIndex,
         x);
@@ -1735,7 +1875,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setByte",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETBYTE,
         () -> this.statement.setByte(parameterName, x),
         parameterName,
         x);
@@ -1747,7 +1888,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setByte",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETBYTE,
         () -> this.statement.setByte(parameterIndex, x),
         parameterIndex,
         x);
@@ -1759,7 +1901,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setBytes",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETBYTES,
         () -> this.statement.setBytes(parameterName, x),
         parameterName,
         x);
@@ -1771,7 +1914,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setBytes",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETBYTES,
         () -> this.statement.setBytes(parameterIndex, x),
         parameterIndex,
         x);
@@ -1784,7 +1928,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setCharacterStream",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETCHARACTERSTREAM,
         () -> this.statement.setCharacterStream(parameterName, reader, length),
         parameterName,
         reader,
@@ -1798,7 +1943,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setCharacterStream",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETCHARACTERSTREAM,
         () -> this.statement.setCharacterStream(parameterName, reader, length),
         parameterName,
         reader,
@@ -1811,7 +1957,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setCharacterStream",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETCHARACTERSTREAM,
         () -> this.statement.setCharacterStream(parameterName, reader),
         parameterName,
         reader);
@@ -1824,7 +1971,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setCharacterStream",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETCHARACTERSTREAM,
         () -> this.statement.setCharacterStream(parameterIndex, reader, length),
         parameterIndex,
         reader,
@@ -1838,7 +1986,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setCharacterStream",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETCHARACTERSTREAM,
         () -> this.statement.setCharacterStream(parameterIndex, reader, length),
         parameterIndex,
         reader,
@@ -1851,7 +2000,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setCharacterStream",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETCHARACTERSTREAM,
         () -> this.statement.setCharacterStream(parameterIndex, reader),
         parameterIndex,
         reader);
@@ -1863,7 +2013,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setClob",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETCLOB,
         () -> this.statement.setClob(parameterName, reader, length),
         parameterName,
         reader,
@@ -1876,7 +2027,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setClob",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETCLOB,
         () -> this.statement.setClob(parameterName, x),
         parameterName,
         x);
@@ -1888,7 +2040,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setClob",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETCLOB,
         () -> this.statement.setClob(parameterName, reader),
         parameterName,
         reader);
@@ -1900,7 +2053,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setClob",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETCLOB,
         () -> this.statement.setClob(parameterIndex, x),
         parameterIndex,
         x);
@@ -1912,7 +2066,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setClob",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETCLOB,
         () -> this.statement.setClob(parameterIndex, reader, length),
         parameterIndex,
         reader,
@@ -1925,7 +2080,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setClob",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETCLOB,
         () -> this.statement.setClob(parameterIndex, reader),
         parameterIndex,
         reader);
@@ -1937,7 +2093,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setCursorName",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETCURSORNAME,
         () -> this.statement.setCursorName(name),
         name);
   }
@@ -1948,7 +2105,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setDate",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETDATE,
         () -> this.statement.setDate(parameterName, x),
         parameterName,
         x);
@@ -1960,7 +2118,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setDate",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETDATE,
         () -> this.statement.setDate(parameterName, x, cal),
         parameterName,
         x,
@@ -1973,7 +2132,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setDate",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETDATE,
         () -> this.statement.setDate(parameterIndex, x),
         parameterIndex,
         x);
@@ -1985,7 +2145,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setDate",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETDATE,
         () -> this.statement.setDate(parameterIndex, x, cal),
         parameterIndex,
         x,
@@ -1998,7 +2159,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setDouble",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETDOUBLE,
         () -> this.statement.setDouble(parameterName, x),
         parameterName,
         x);
@@ -2010,7 +2172,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setDouble",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETDOUBLE,
         () -> this.statement.setDouble(parameterIndex, x),
         parameterIndex,
         x);
@@ -2022,7 +2185,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setEscapeProcessing",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETESCAPEPROCESSING,
         () -> this.statement.setEscapeProcessing(enable),
         enable);
   }
@@ -2033,7 +2197,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setFetchDirection",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETFETCHDIRECTION,
         () -> this.statement.setFetchDirection(direction),
         direction);
   }
@@ -2044,7 +2209,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setFetchSize",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETFETCHSIZE,
         () -> this.statement.setFetchSize(rows),
         rows);
   }
@@ -2055,7 +2221,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setFloat",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETFLOAT,
         () -> this.statement.setFloat(parameterName, x),
         parameterName,
         x);
@@ -2067,7 +2234,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setFloat",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETFLOAT,
         () -> this.statement.setFloat(parameterIndex, x),
         parameterIndex,
         x);
@@ -2079,7 +2247,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setInt",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETINT,
         () -> this.statement.setInt(parameterName, x),
         parameterName,
         x);
@@ -2091,7 +2260,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setInt",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETINT,
         () -> this.statement.setInt(parameterIndex, x),
         parameterIndex,
         x);
@@ -2103,7 +2273,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setLong",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETLONG,
         () -> this.statement.setLong(parameterName, x),
         parameterName,
         x);
@@ -2115,7 +2286,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setLong",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETLONG,
         () -> this.statement.setLong(parameterIndex, x),
         parameterIndex,
         x);
@@ -2127,7 +2299,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setMaxFieldSize",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETMAXFIELDSIZE,
         () -> this.statement.setMaxFieldSize(max),
         max);
   }
@@ -2138,7 +2311,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setMaxRows",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETMAXROWS,
         () -> this.statement.setMaxRows(max),
         max);
   }
@@ -2150,7 +2324,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setNCharacterStream",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETNCHARACTERSTREAM,
         () -> this.statement.setNCharacterStream(parameterName, value, length),
         parameterName,
         value,
@@ -2163,7 +2338,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setNCharacterStream",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETNCHARACTERSTREAM,
         () -> this.statement.setNCharacterStream(parameterName, value),
         parameterName,
         value);
@@ -2176,7 +2352,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setNCharacterStream",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETNCHARACTERSTREAM,
         () -> this.statement.setNCharacterStream(parameterIndex, value, length),
         parameterIndex,
         value,
@@ -2189,7 +2366,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setNCharacterStream",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETNCHARACTERSTREAM,
         () -> this.statement.setNCharacterStream(parameterIndex, value),
         parameterIndex,
         value);
@@ -2201,7 +2379,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setNClob",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETNCLOB,
         () -> this.statement.setNClob(parameterName, value),
         parameterName,
         value);
@@ -2213,7 +2392,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setNClob",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETNCLOB,
         () -> this.statement.setNClob(parameterName, reader, length),
         parameterName,
         reader,
@@ -2226,7 +2406,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setNClob",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETNCLOB,
         () -> this.statement.setNClob(parameterName, reader),
         parameterName,
         reader);
@@ -2238,7 +2419,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setNClob",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETNCLOB,
         () -> this.statement.setNClob(parameterIndex, value),
         parameterIndex,
         value);
@@ -2250,7 +2432,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setNClob",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETNCLOB,
         () -> this.statement.setNClob(parameterIndex, reader, length),
         parameterIndex,
         reader,
@@ -2263,7 +2446,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setNClob",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETNCLOB,
         () -> this.statement.setNClob(parameterIndex, reader),
         parameterIndex,
         reader);
@@ -2275,7 +2459,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setNString",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETNSTRING,
         () -> this.statement.setNString(parameterName, value),
         parameterName,
         value);
@@ -2287,7 +2472,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setNString",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETNSTRING,
         () -> this.statement.setNString(parameterIndex, value),
         parameterIndex,
         value);
@@ -2299,7 +2485,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setNull",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETNULL,
         () -> this.statement.setNull(parameterName, sqlType),
         parameterName,
         sqlType);
@@ -2311,7 +2498,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setNull",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETNULL,
         () -> this.statement.setNull(parameterName, sqlType, typeName),
         parameterName,
         sqlType,
@@ -2324,7 +2512,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setNull",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETNULL,
         () -> this.statement.setNull(parameterIndex, sqlType),
         parameterIndex,
         sqlType);
@@ -2336,7 +2525,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setNull",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETNULL,
         () -> this.statement.setNull(parameterIndex, sqlType, typeName),
         parameterIndex,
         sqlType,
@@ -2350,7 +2540,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setObject",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETOBJECT,
         () -> this.statement.setObject(parameterName, x, targetSqlType, scale),
         parameterName,
         x,
@@ -2364,7 +2555,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setObject",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETOBJECT,
         () -> this.statement.setObject(parameterName, x, targetSqlType),
         parameterName,
         x,
@@ -2377,7 +2569,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setObject",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETOBJECT,
         () -> this.statement.setObject(parameterName, x),
         parameterName,
         x);
@@ -2390,7 +2583,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setObject",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETOBJECT,
         () -> this.statement.setObject(parameterName, x, targetSqlType, scaleOrLength),
         parameterName,
         x,
@@ -2404,7 +2598,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setObject",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETOBJECT,
         () -> this.statement.setObject(parameterName, x, targetSqlType),
         parameterName,
         x,
@@ -2417,7 +2612,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setObject",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETOBJECT,
         () -> this.statement.setObject(parameterIndex, x, targetSqlType),
         parameterIndex,
         x,
@@ -2430,7 +2626,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setObject",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETOBJECT,
         () -> this.statement.setObject(parameterIndex, x),
         parameterIndex,
         x);
@@ -2443,7 +2640,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setObject",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETOBJECT,
         () -> this.statement.setObject(parameterIndex, x, targetSqlType, scaleOrLength),
         parameterIndex,
         x,
@@ -2458,7 +2656,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setObject",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETOBJECT,
         () -> this.statement.setObject(parameterIndex, x, targetSqlType, scaleOrLength),
         parameterIndex,
         x,
@@ -2472,7 +2671,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setObject",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETOBJECT,
         () -> this.statement.setObject(parameterIndex, x, targetSqlType),
         parameterIndex,
         x,
@@ -2486,7 +2686,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setPoolable",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETPOOLABLE,
         () -> this.statement.setPoolable(poolable),
         poolable);
   }
@@ -2497,7 +2698,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setQueryTimeout",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETQUERYTIMEOUT,
         () -> this.statement.setQueryTimeout(seconds),
         seconds);
   }
@@ -2508,7 +2710,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setRef",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETREF,
         () -> this.statement.setRef(parameterIndex, x),
         parameterIndex,
         x);
@@ -2520,7 +2723,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setRowId",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETROWID,
         () -> this.statement.setRowId(parameterName, x),
         parameterName,
         x);
@@ -2532,7 +2736,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setRowId",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETROWID,
         () -> this.statement.setRowId(parameterIndex, x),
         parameterIndex,
         x);
@@ -2545,7 +2750,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setSQLXML",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETSQLXML,
         () -> this.statement.setSQLXML(parameterName, xmlObject),
         parameterName,
         xmlObject);
@@ -2558,7 +2764,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setSQLXML",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETSQLXML,
         () -> this.statement.setSQLXML(parameterIndex, xmlObject),
         parameterIndex,
         xmlObject);
@@ -2570,7 +2777,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setShort",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETSHORT,
         () -> this.statement.setShort(parameterName, x),
         parameterName,
         x);
@@ -2582,7 +2790,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setShort",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETSHORT,
         () -> this.statement.setShort(parameterIndex, x),
         parameterIndex,
         x);
@@ -2594,7 +2803,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setString",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETSTRING,
         () -> this.statement.setString(parameterName, x),
         parameterName,
         x);
@@ -2606,7 +2816,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setString",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETSTRING,
         () -> this.statement.setString(parameterIndex, x),
         parameterIndex,
         x);
@@ -2618,7 +2829,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setTime",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETTIME,
         () -> this.statement.setTime(parameterName, x),
         parameterName,
         x);
@@ -2630,7 +2842,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setTime",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETTIME,
         () -> this.statement.setTime(parameterName, x, cal),
         parameterName,
         x,
@@ -2643,7 +2856,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setTime",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETTIME,
         () -> this.statement.setTime(parameterIndex, x),
         parameterIndex,
         x);
@@ -2655,7 +2869,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setTime",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETTIME,
         () -> this.statement.setTime(parameterIndex, x, cal),
         parameterIndex,
         x,
@@ -2668,7 +2883,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setTimestamp",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETTIMESTAMP,
         () -> this.statement.setTimestamp(parameterName, x),
         parameterName,
         x);
@@ -2680,7 +2896,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setTimestamp",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETTIMESTAMP,
         () -> this.statement.setTimestamp(parameterName, x, cal),
         parameterName,
         x,
@@ -2693,7 +2910,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setTimestamp",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETTIMESTAMP,
         () -> this.statement.setTimestamp(parameterIndex, x),
         parameterIndex,
         x);
@@ -2705,7 +2923,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setTimestamp",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETTIMESTAMP,
         () -> this.statement.setTimestamp(parameterIndex, x, cal),
         parameterIndex,
         x,
@@ -2718,7 +2937,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setURL",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETURL,
         () -> this.statement.setURL(parameterName, val),
         parameterName,
         val);
@@ -2730,7 +2950,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setURL",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETURL,
         () -> this.statement.setURL(parameterIndex, x),
         parameterIndex,
         x);
@@ -2743,7 +2964,8 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.setUnicodeStream",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_SETUNICODESTREAM,
         () -> this.statement.setUnicodeStream(parameterIndex, x, length),
         parameterIndex,
         x,
@@ -2762,10 +2984,21 @@ public class CallableStatementWrapper implements CallableStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "CallableStatement.wasNull",
+        this,
+        JdbcMethod.CALLABLESTATEMENT_WASNULL,
         () -> this.statement.wasNull());
   }
 
+  @Override
+  public int getConnectionEpoch() {
+    return this.connectionEpoch;
+  }
+
+  @Override
+  public void setConnectionEpoch(final int connectionEpoch) {
+    this.connectionEpoch = connectionEpoch;
+  }
+
   @Override
   public String toString() {
     return super.toString() + " - " + this.statement;
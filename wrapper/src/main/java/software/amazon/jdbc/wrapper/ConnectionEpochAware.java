@@ -0,0 +1,32 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.wrapper;
+
+/**
+ * A wrapper of a JDBC object that belongs to a connection, such as a {@link java.sql.Statement} or a
+ * {@link java.sql.ResultSet}. The wrapper remembers the {@link software.amazon.jdbc.PluginService}
+ * connection epoch at which the wrapped object was last known to belong to the current connection, so
+ * checking whether it is invoked against an old connection doesn't require calls to the target driver.
+ */
+public interface ConnectionEpochAware {
+
+  int UNKNOWN_CONNECTION_EPOCH = -1;
+
+  int getConnectionEpoch();
+
+  void setConnectionEpoch(int connectionEpoch);
+}
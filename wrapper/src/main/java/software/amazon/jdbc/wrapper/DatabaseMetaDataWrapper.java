@@ -24,6 +24,7 @@ import java.sql.SQLException;
 import java.util.StringJoiner;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import software.amazon.jdbc.ConnectionPluginManager;
+import software.amazon.jdbc.JdbcMethod;
 import software.amazon.jdbc.util.DriverInfo;
 import software.amazon.jdbc.util.WrapperUtils;
 
@@ -45,7 +46,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.allProceduresAreCallable",
+        JdbcMethod.DATABASEMETADATA_ALLPROCEDURESARECALLABLE,
         () -> this.databaseMetaData.allProceduresAreCallable());
   }
 
@@ -56,7 +57,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.allTablesAreSelectable",
+        JdbcMethod.DATABASEMETADATA_ALLTABLESARESELECTABLE,
         () -> this.databaseMetaData.allTablesAreSelectable());
   }
 
@@ -67,7 +68,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getURL",
+        JdbcMethod.DATABASEMETADATA_GETURL,
         () -> this.databaseMetaData.getURL());
   }
 
@@ -78,7 +79,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getUserName",
+        JdbcMethod.DATABASEMETADATA_GETUSERNAME,
         () -> this.databaseMetaData.getUserName());
   }
 
@@ -89,7 +90,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.isReadOnly",
+        JdbcMethod.DATABASEMETADATA_ISREADONLY,
         () -> this.databaseMetaData.isReadOnly());
   }
 
@@ -100,7 +101,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.nullsAreSortedHigh",
+        JdbcMethod.DATABASEMETADATA_NULLSARESORTEDHIGH,
         () -> this.databaseMetaData.nullsAreSortedHigh());
   }
 
@@ -111,7 +112,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.nullsAreSortedLow",
+        JdbcMethod.DATABASEMETADATA_NULLSARESORTEDLOW,
         () -> this.databaseMetaData.nullsAreSortedLow());
   }
 
@@ -122,7 +123,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.nullsAreSortedAtStart",
+        JdbcMethod.DATABASEMETADATA_NULLSARESORTEDATSTART,
         () -> this.databaseMetaData.nullsAreSortedAtStart());
   }
 
@@ -133,7 +134,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.nullsAreSortedAtEnd",
+        JdbcMethod.DATABASEMETADATA_NULLSARESORTEDATEND,
         () -> this.databaseMetaData.nullsAreSortedAtEnd());
   }
 
@@ -144,7 +145,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getDatabaseProductName",
+        JdbcMethod.DATABASEMETADATA_GETDATABASEPRODUCTNAME,
         () -> this.databaseMetaData.getDatabaseProductName());
   }
 
@@ -155,7 +156,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getDatabaseProductVersion",
+        JdbcMethod.DATABASEMETADATA_GETDATABASEPRODUCTVERSION,
         () -> this.databaseMetaData.getDatabaseProductVersion());
   }
 
@@ -166,7 +167,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getDriverName",
+        JdbcMethod.DATABASEMETADATA_GETDRIVERNAME,
         () -> DriverInfo.DRIVER_NAME);
   }
 
@@ -197,7 +198,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.usesLocalFiles",
+        JdbcMethod.DATABASEMETADATA_USESLOCALFILES,
         () -> this.databaseMetaData.usesLocalFiles());
   }
 
@@ -208,7 +209,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.usesLocalFilePerTable",
+        JdbcMethod.DATABASEMETADATA_USESLOCALFILEPERTABLE,
         () -> this.databaseMetaData.usesLocalFilePerTable());
   }
 
@@ -219,7 +220,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsMixedCaseIdentifiers",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSMIXEDCASEIDENTIFIERS,
         () -> this.databaseMetaData.supportsMixedCaseIdentifiers());
   }
 
@@ -230,7 +231,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.storesUpperCaseIdentifiers",
+        JdbcMethod.DATABASEMETADATA_STORESUPPERCASEIDENTIFIERS,
         () -> this.databaseMetaData.storesUpperCaseIdentifiers());
   }
 
@@ -241,7 +242,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.storesLowerCaseIdentifiers",
+        JdbcMethod.DATABASEMETADATA_STORESLOWERCASEIDENTIFIERS,
         () -> this.databaseMetaData.storesLowerCaseIdentifiers());
   }
 
@@ -252,7 +253,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.storesMixedCaseIdentifiers",
+        JdbcMethod.DATABASEMETADATA_STORESMIXEDCASEIDENTIFIERS,
         () -> this.databaseMetaData.storesMixedCaseIdentifiers());
   }
 
@@ -263,7 +264,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsMixedCaseQuotedIdentifiers",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSMIXEDCASEQUOTEDIDENTIFIERS,
         () -> this.databaseMetaData.supportsMixedCaseQuotedIdentifiers());
   }
 
@@ -274,7 +275,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.storesUpperCaseQuotedIdentifiers",
+        JdbcMethod.DATABASEMETADATA_STORESUPPERCASEQUOTEDIDENTIFIERS,
         () -> this.databaseMetaData.storesUpperCaseQuotedIdentifiers());
   }
 
@@ -285,7 +286,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.storesLowerCaseQuotedIdentifiers",
+        JdbcMethod.DATABASEMETADATA_STORESLOWERCASEQUOTEDIDENTIFIERS,
         () -> this.databaseMetaData.storesLowerCaseQuotedIdentifiers());
   }
 
@@ -296,7 +297,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.storesMixedCaseQuotedIdentifiers",
+        JdbcMethod.DATABASEMETADATA_STORESMIXEDCASEQUOTEDIDENTIFIERS,
         () -> this.databaseMetaData.storesMixedCaseQuotedIdentifiers());
   }
 
@@ -307,7 +308,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getIdentifierQuoteString",
+        JdbcMethod.DATABASEMETADATA_GETIDENTIFIERQUOTESTRING,
         () -> this.databaseMetaData.getIdentifierQuoteString());
   }
 
@@ -318,7 +319,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getSQLKeywords",
+        JdbcMethod.DATABASEMETADATA_GETSQLKEYWORDS,
         () -> this.databaseMetaData.getSQLKeywords());
   }
 
@@ -329,7 +330,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getNumericFunctions",
+        JdbcMethod.DATABASEMETADATA_GETNUMERICFUNCTIONS,
         () -> this.databaseMetaData.getNumericFunctions());
   }
 
@@ -340,7 +341,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getStringFunctions",
+        JdbcMethod.DATABASEMETADATA_GETSTRINGFUNCTIONS,
         () -> this.databaseMetaData.getStringFunctions());
   }
 
@@ -351,7 +352,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getSystemFunctions",
+        JdbcMethod.DATABASEMETADATA_GETSYSTEMFUNCTIONS,
         () -> this.databaseMetaData.getSystemFunctions());
   }
 
@@ -362,7 +363,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getTimeDateFunctions",
+        JdbcMethod.DATABASEMETADATA_GETTIMEDATEFUNCTIONS,
         () -> this.databaseMetaData.getTimeDateFunctions());
   }
 
@@ -373,7 +374,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getSearchStringEscape",
+        JdbcMethod.DATABASEMETADATA_GETSEARCHSTRINGESCAPE,
         () -> this.databaseMetaData.getSearchStringEscape());
   }
 
@@ -384,7 +385,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getExtraNameCharacters",
+        JdbcMethod.DATABASEMETADATA_GETEXTRANAMECHARACTERS,
         () -> this.databaseMetaData.getExtraNameCharacters());
   }
 
@@ -395,7 +396,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsAlterTableWithAddColumn",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSALTERTABLEWITHADDCOLUMN,
         () -> this.databaseMetaData.supportsAlterTableWithAddColumn());
   }
 
@@ -406,7 +407,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsAlterTableWithDropColumn",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSALTERTABLEWITHDROPCOLUMN,
         () -> this.databaseMetaData.supportsAlterTableWithDropColumn());
   }
 
@@ -417,7 +418,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsColumnAliasing",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSCOLUMNALIASING,
         () -> this.databaseMetaData.supportsColumnAliasing());
   }
 
@@ -428,7 +429,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.nullPlusNonNullIsNull",
+        JdbcMethod.DATABASEMETADATA_NULLPLUSNONNULLISNULL,
         () -> this.databaseMetaData.nullPlusNonNullIsNull());
   }
 
@@ -439,7 +440,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsConvert",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSCONVERT,
         () -> this.databaseMetaData.supportsConvert());
   }
 
@@ -450,7 +451,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsConvert",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSCONVERT,
         () -> this.databaseMetaData.supportsConvert(fromType, toType),
         fromType,
         toType);
@@ -463,7 +464,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsTableCorrelationNames",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSTABLECORRELATIONNAMES,
         () -> this.databaseMetaData.supportsTableCorrelationNames());
   }
 
@@ -474,7 +475,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsDifferentTableCorrelationNames",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSDIFFERENTTABLECORRELATIONNAMES,
         () -> this.databaseMetaData.supportsDifferentTableCorrelationNames());
   }
 
@@ -485,7 +486,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsExpressionsInOrderBy",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSEXPRESSIONSINORDERBY,
         () -> this.databaseMetaData.supportsExpressionsInOrderBy());
   }
 
@@ -496,7 +497,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsOrderByUnrelated",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSORDERBYUNRELATED,
         () -> this.databaseMetaData.supportsOrderByUnrelated());
   }
 
@@ -507,7 +508,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsGroupBy",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSGROUPBY,
         () -> this.databaseMetaData.supportsGroupBy());
   }
 
@@ -518,7 +519,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsGroupByUnrelated",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSGROUPBYUNRELATED,
         () -> this.databaseMetaData.supportsGroupByUnrelated());
   }
 
@@ -529,7 +530,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsGroupByBeyondSelect",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSGROUPBYBEYONDSELECT,
         () -> this.databaseMetaData.supportsGroupByBeyondSelect());
   }
 
@@ -540,7 +541,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsLikeEscapeClause",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSLIKEESCAPECLAUSE,
         () -> this.databaseMetaData.supportsLikeEscapeClause());
   }
 
@@ -551,7 +552,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsMultipleResultSets",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSMULTIPLERESULTSETS,
         () -> this.databaseMetaData.supportsMultipleResultSets());
   }
 
@@ -562,7 +563,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsMultipleTransactions",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSMULTIPLETRANSACTIONS,
         () -> this.databaseMetaData.supportsMultipleTransactions());
   }
 
@@ -573,7 +574,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsNonNullableColumns",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSNONNULLABLECOLUMNS,
         () -> this.databaseMetaData.supportsNonNullableColumns());
   }
 
@@ -584,7 +585,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsMinimumSQLGrammar",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSMINIMUMSQLGRAMMAR,
         () -> this.databaseMetaData.supportsMinimumSQLGrammar());
   }
 
@@ -595,7 +596,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsCoreSQLGrammar",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSCORESQLGRAMMAR,
         () -> this.databaseMetaData.supportsCoreSQLGrammar());
   }
 
@@ -606,7 +607,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsExtendedSQLGrammar",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSEXTENDEDSQLGRAMMAR,
         () -> this.databaseMetaData.supportsExtendedSQLGrammar());
   }
 
@@ -650,7 +651,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsIntegrityEnhancementFacility",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSINTEGRITYENHANCEMENTFACILITY,
         () -> this.databaseMetaData.supportsIntegrityEnhancementFacility());
   }
 
@@ -661,7 +662,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsOuterJoins",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSOUTERJOINS,
         () -> this.databaseMetaData.supportsOuterJoins());
   }
 
@@ -672,7 +673,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsFullOuterJoins",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSFULLOUTERJOINS,
         () -> this.databaseMetaData.supportsFullOuterJoins());
   }
 
@@ -683,7 +684,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsLimitedOuterJoins",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSLIMITEDOUTERJOINS,
         () -> this.databaseMetaData.supportsLimitedOuterJoins());
   }
 
@@ -694,7 +695,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getSchemaTerm",
+        JdbcMethod.DATABASEMETADATA_GETSCHEMATERM,
         () -> this.databaseMetaData.getSchemaTerm());
   }
 
@@ -705,7 +706,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getProcedureTerm",
+        JdbcMethod.DATABASEMETADATA_GETPROCEDURETERM,
         () -> this.databaseMetaData.getProcedureTerm());
   }
 
@@ -716,7 +717,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getCatalogTerm",
+        JdbcMethod.DATABASEMETADATA_GETCATALOGTERM,
         () -> this.databaseMetaData.getCatalogTerm());
   }
 
@@ -727,7 +728,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.isCatalogAtStart",
+        JdbcMethod.DATABASEMETADATA_ISCATALOGATSTART,
         () -> this.databaseMetaData.isCatalogAtStart());
   }
 
@@ -738,7 +739,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getCatalogSeparator",
+        JdbcMethod.DATABASEMETADATA_GETCATALOGSEPARATOR,
         () -> this.databaseMetaData.getCatalogSeparator());
   }
 
@@ -749,7 +750,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsSchemasInDataManipulation",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSSCHEMASINDATAMANIPULATION,
         () -> this.databaseMetaData.supportsSchemasInDataManipulation());
   }
 
@@ -760,7 +761,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsSchemasInProcedureCalls",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSSCHEMASINPROCEDURECALLS,
         () -> this.databaseMetaData.supportsSchemasInProcedureCalls());
   }
 
@@ -771,7 +772,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsSchemasInTableDefinitions",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSSCHEMASINTABLEDEFINITIONS,
         () -> this.databaseMetaData.supportsSchemasInTableDefinitions());
   }
 
@@ -782,7 +783,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsSchemasInIndexDefinitions",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSSCHEMASININDEXDEFINITIONS,
         () -> this.databaseMetaData.supportsSchemasInIndexDefinitions());
   }
 
@@ -793,7 +794,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsSchemasInPrivilegeDefinitions",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSSCHEMASINPRIVILEGEDEFINITIONS,
         () -> this.databaseMetaData.supportsSchemasInPrivilegeDefinitions());
   }
 
@@ -804,7 +805,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsCatalogsInDataManipulation",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSCATALOGSINDATAMANIPULATION,
         () -> this.databaseMetaData.supportsCatalogsInDataManipulation());
   }
 
@@ -815,7 +816,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsCatalogsInProcedureCalls",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSCATALOGSINPROCEDURECALLS,
         () -> this.databaseMetaData.supportsCatalogsInProcedureCalls());
   }
 
@@ -826,7 +827,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsCatalogsInTableDefinitions",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSCATALOGSINTABLEDEFINITIONS,
         () -> this.databaseMetaData.supportsCatalogsInTableDefinitions());
   }
 
@@ -837,7 +838,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsCatalogsInIndexDefinitions",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSCATALOGSININDEXDEFINITIONS,
         () -> this.databaseMetaData.supportsCatalogsInIndexDefinitions());
   }
 
@@ -848,7 +849,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsCatalogsInPrivilegeDefinitions",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSCATALOGSINPRIVILEGEDEFINITIONS,
         () -> this.databaseMetaData.supportsCatalogsInPrivilegeDefinitions());
   }
 
@@ -859,7 +860,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsPositionedDelete",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSPOSITIONEDDELETE,
         () -> this.databaseMetaData.supportsPositionedDelete());
   }
 
@@ -870,7 +871,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsPositionedUpdate",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSPOSITIONEDUPDATE,
         () -> this.databaseMetaData.supportsPositionedUpdate());
   }
 
@@ -881,7 +882,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsSelectForUpdate",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSSELECTFORUPDATE,
         () -> this.databaseMetaData.supportsSelectForUpdate());
   }
 
@@ -892,7 +893,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsStoredProcedures",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSSTOREDPROCEDURES,
         () -> this.databaseMetaData.supportsStoredProcedures());
   }
 
@@ -904,7 +905,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsSubqueriesInComparisons",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSSUBQUERIESINCOMPARISONS,
         () -> this.databaseMetaData.supportsSubqueriesInComparisons());
   }
 
@@ -916,7 +917,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsSubqueriesInExists",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSSUBQUERIESINEXISTS,
         () -> this.databaseMetaData.supportsSubqueriesInExists());
   }
 
@@ -928,7 +929,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsSubqueriesInIns",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSSUBQUERIESININS,
         () -> this.databaseMetaData.supportsSubqueriesInIns());
   }
 
@@ -940,7 +941,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsSubqueriesInQuantifieds",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSSUBQUERIESINQUANTIFIEDS,
         () -> this.databaseMetaData.supportsSubqueriesInQuantifieds());
   }
 
@@ -952,7 +953,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsCorrelatedSubqueries",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSCORRELATEDSUBQUERIES,
         () -> this.databaseMetaData.supportsCorrelatedSubqueries());
   }
 
@@ -963,7 +964,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsUnion",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSUNION,
         () -> this.databaseMetaData.supportsUnion());
   }
 
@@ -974,7 +975,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsUnionAll",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSUNIONALL,
         () -> this.databaseMetaData.supportsUnionAll());
   }
 
@@ -985,7 +986,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsOpenCursorsAcrossCommit",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSOPENCURSORSACROSSCOMMIT,
         () -> this.databaseMetaData.supportsOpenCursorsAcrossCommit());
   }
 
@@ -996,7 +997,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsOpenCursorsAcrossRollback",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSOPENCURSORSACROSSROLLBACK,
         () -> this.databaseMetaData.supportsOpenCursorsAcrossRollback());
   }
 
@@ -1007,7 +1008,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsOpenStatementsAcrossCommit",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSOPENSTATEMENTSACROSSCOMMIT,
         () -> this.databaseMetaData.supportsOpenStatementsAcrossCommit());
   }
 
@@ -1018,7 +1019,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsOpenStatementsAcrossRollback",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSOPENSTATEMENTSACROSSROLLBACK,
         () -> this.databaseMetaData.supportsOpenStatementsAcrossRollback());
   }
 
@@ -1029,7 +1030,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getMaxBinaryLiteralLength",
+        JdbcMethod.DATABASEMETADATA_GETMAXBINARYLITERALLENGTH,
         () -> this.databaseMetaData.getMaxBinaryLiteralLength());
   }
 
@@ -1040,7 +1041,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getMaxCharLiteralLength",
+        JdbcMethod.DATABASEMETADATA_GETMAXCHARLITERALLENGTH,
         () -> this.databaseMetaData.getMaxCharLiteralLength());
   }
 
@@ -1051,7 +1052,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getMaxColumnNameLength",
+        JdbcMethod.DATABASEMETADATA_GETMAXCOLUMNNAMELENGTH,
         () -> this.databaseMetaData.getMaxColumnNameLength());
   }
 
@@ -1062,7 +1063,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getMaxColumnsInGroupBy",
+        JdbcMethod.DATABASEMETADATA_GETMAXCOLUMNSINGROUPBY,
         () -> this.databaseMetaData.getMaxColumnsInGroupBy());
   }
 
@@ -1073,7 +1074,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getMaxColumnsInIndex",
+        JdbcMethod.DATABASEMETADATA_GETMAXCOLUMNSININDEX,
         () -> this.databaseMetaData.getMaxColumnsInIndex());
   }
 
@@ -1084,7 +1085,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getMaxColumnsInOrderBy",
+        JdbcMethod.DATABASEMETADATA_GETMAXCOLUMNSINORDERBY,
         () -> this.databaseMetaData.getMaxColumnsInOrderBy());
   }
 
@@ -1095,7 +1096,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getMaxColumnsInSelect",
+        JdbcMethod.DATABASEMETADATA_GETMAXCOLUMNSINSELECT,
         () -> this.databaseMetaData.getMaxColumnsInSelect());
   }
 
@@ -1106,7 +1107,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getMaxColumnsInTable",
+        JdbcMethod.DATABASEMETADATA_GETMAXCOLUMNSINTABLE,
         () -> this.databaseMetaData.getMaxColumnsInTable());
   }
 
@@ -1117,7 +1118,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getMaxConnections",
+        JdbcMethod.DATABASEMETADATA_GETMAXCONNECTIONS,
         () -> this.databaseMetaData.getMaxConnections());
   }
 
@@ -1128,7 +1129,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getMaxCursorNameLength",
+        JdbcMethod.DATABASEMETADATA_GETMAXCURSORNAMELENGTH,
         () -> this.databaseMetaData.getMaxCursorNameLength());
   }
 
@@ -1139,7 +1140,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getMaxIndexLength",
+        JdbcMethod.DATABASEMETADATA_GETMAXINDEXLENGTH,
         () -> this.databaseMetaData.getMaxIndexLength());
   }
 
@@ -1150,7 +1151,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getMaxSchemaNameLength",
+        JdbcMethod.DATABASEMETADATA_GETMAXSCHEMANAMELENGTH,
         () -> this.databaseMetaData.getMaxSchemaNameLength());
   }
 
@@ -1161,7 +1162,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getMaxProcedureNameLength",
+        JdbcMethod.DATABASEMETADATA_GETMAXPROCEDURENAMELENGTH,
         () -> this.databaseMetaData.getMaxProcedureNameLength());
   }
 
@@ -1172,7 +1173,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getMaxCatalogNameLength",
+        JdbcMethod.DATABASEMETADATA_GETMAXCATALOGNAMELENGTH,
         () -> this.databaseMetaData.getMaxCatalogNameLength());
   }
 
@@ -1183,7 +1184,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getMaxRowSize",
+        JdbcMethod.DATABASEMETADATA_GETMAXROWSIZE,
         () -> this.databaseMetaData.getMaxRowSize());
   }
 
@@ -1194,7 +1195,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.doesMaxRowSizeIncludeBlobs",
+        JdbcMethod.DATABASEMETADATA_DOESMAXROWSIZEINCLUDEBLOBS,
         () -> this.databaseMetaData.doesMaxRowSizeIncludeBlobs());
   }
 
@@ -1205,7 +1206,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getMaxStatementLength",
+        JdbcMethod.DATABASEMETADATA_GETMAXSTATEMENTLENGTH,
         () -> this.databaseMetaData.getMaxStatementLength());
   }
 
@@ -1216,7 +1217,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getMaxStatements",
+        JdbcMethod.DATABASEMETADATA_GETMAXSTATEMENTS,
         () -> this.databaseMetaData.getMaxStatements());
   }
 
@@ -1227,7 +1228,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getMaxTableNameLength",
+        JdbcMethod.DATABASEMETADATA_GETMAXTABLENAMELENGTH,
         () -> this.databaseMetaData.getMaxTableNameLength());
   }
 
@@ -1238,7 +1239,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getMaxTablesInSelect",
+        JdbcMethod.DATABASEMETADATA_GETMAXTABLESINSELECT,
         () -> this.databaseMetaData.getMaxTablesInSelect());
   }
 
@@ -1249,7 +1250,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getMaxUserNameLength",
+        JdbcMethod.DATABASEMETADATA_GETMAXUSERNAMELENGTH,
         () -> this.databaseMetaData.getMaxUserNameLength());
   }
 
@@ -1260,7 +1261,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getDefaultTransactionIsolation",
+        JdbcMethod.DATABASEMETADATA_GETDEFAULTTRANSACTIONISOLATION,
         () -> this.databaseMetaData.getDefaultTransactionIsolation());
   }
 
@@ -1271,7 +1272,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsTransactions",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSTRANSACTIONS,
         () -> this.databaseMetaData.supportsTransactions());
   }
 
@@ -1282,7 +1283,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsTransactionIsolationLevel",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSTRANSACTIONISOLATIONLEVEL,
         () -> this.databaseMetaData.supportsTransactionIsolationLevel(level),
         level);
   }
@@ -1294,7 +1295,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsDataDefinitionAndDataManipulationTransactions",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSDATADEFINITIONANDDATAMANIPULATIONTRANSACTIONS,
         () -> this.databaseMetaData.supportsDataDefinitionAndDataManipulationTransactions());
   }
 
@@ -1305,7 +1306,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsDataManipulationTransactionsOnly",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSDATAMANIPULATIONTRANSACTIONSONLY,
         () -> this.databaseMetaData.supportsDataManipulationTransactionsOnly());
   }
 
@@ -1316,7 +1317,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.dataDefinitionCausesTransactionCommit",
+        JdbcMethod.DATABASEMETADATA_DATADEFINITIONCAUSESTRANSACTIONCOMMIT,
         () -> this.databaseMetaData.dataDefinitionCausesTransactionCommit());
   }
 
@@ -1327,7 +1328,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.dataDefinitionIgnoredInTransactions",
+        JdbcMethod.DATABASEMETADATA_DATADEFINITIONIGNOREDINTRANSACTIONS,
         () -> this.databaseMetaData.dataDefinitionIgnoredInTransactions());
   }
 
@@ -1339,7 +1340,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getProcedures",
+        JdbcMethod.DATABASEMETADATA_GETPROCEDURES,
         () -> this.databaseMetaData.getProcedures(catalog, schemaPattern, procedureNamePattern),
         catalog,
         schemaPattern,
@@ -1355,7 +1356,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getProcedureColumns",
+        JdbcMethod.DATABASEMETADATA_GETPROCEDURECOLUMNS,
         () ->
             this.databaseMetaData.getProcedureColumns(
                 catalog, schemaPattern, procedureNamePattern, columnNamePattern),
@@ -1374,7 +1375,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getTables",
+        JdbcMethod.DATABASEMETADATA_GETTABLES,
         () -> this.databaseMetaData.getTables(catalog, schemaPattern, tableNamePattern, types),
         catalog,
         schemaPattern,
@@ -1389,7 +1390,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getSchemas",
+        JdbcMethod.DATABASEMETADATA_GETSCHEMAS,
         () -> this.databaseMetaData.getSchemas());
   }
 
@@ -1400,7 +1401,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getSchemas",
+        JdbcMethod.DATABASEMETADATA_GETSCHEMAS,
         () -> this.databaseMetaData.getSchemas(catalog, schemaPattern),
         catalog,
         schemaPattern);
@@ -1413,7 +1414,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getCatalogs",
+        JdbcMethod.DATABASEMETADATA_GETCATALOGS,
         () -> this.databaseMetaData.getCatalogs());
   }
 
@@ -1424,7 +1425,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getTableTypes",
+        JdbcMethod.DATABASEMETADATA_GETTABLETYPES,
         () -> this.databaseMetaData.getTableTypes());
   }
 
@@ -1437,7 +1438,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getColumns",
+        JdbcMethod.DATABASEMETADATA_GETCOLUMNS,
         () ->
             this.databaseMetaData.getColumns(
                 catalog, schemaPattern, tableNamePattern, columnNamePattern),
@@ -1455,7 +1456,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getColumnPrivileges",
+        JdbcMethod.DATABASEMETADATA_GETCOLUMNPRIVILEGES,
         () -> this.databaseMetaData.getColumnPrivileges(catalog, schema, table, columnNamePattern),
         catalog,
         schema,
@@ -1471,7 +1472,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getTablePrivileges",
+        JdbcMethod.DATABASEMETADATA_GETTABLEPRIVILEGES,
         () -> this.databaseMetaData.getTablePrivileges(catalog, schemaPattern, tableNamePattern),
         catalog,
         schemaPattern,
@@ -1487,7 +1488,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getBestRowIdentifier",
+        JdbcMethod.DATABASEMETADATA_GETBESTROWIDENTIFIER,
         () -> this.databaseMetaData.getBestRowIdentifier(catalog, schema, table, scope, nullable),
         catalog,
         schema,
@@ -1504,7 +1505,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getVersionColumns",
+        JdbcMethod.DATABASEMETADATA_GETVERSIONCOLUMNS,
         () -> this.databaseMetaData.getVersionColumns(catalog, schema, table),
         catalog,
         schema,
@@ -1518,7 +1519,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getPrimaryKeys",
+        JdbcMethod.DATABASEMETADATA_GETPRIMARYKEYS,
         () -> this.databaseMetaData.getPrimaryKeys(catalog, schema, table),
         catalog,
         schema,
@@ -1533,7 +1534,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getImportedKeys",
+        JdbcMethod.DATABASEMETADATA_GETIMPORTEDKEYS,
         () -> this.databaseMetaData.getImportedKeys(catalog, schema, table),
         catalog,
         schema,
@@ -1548,7 +1549,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getExportedKeys",
+        JdbcMethod.DATABASEMETADATA_GETEXPORTEDKEYS,
         () -> this.databaseMetaData.getExportedKeys(catalog, schema, table),
         catalog,
         schema,
@@ -1569,7 +1570,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getCrossReference",
+        JdbcMethod.DATABASEMETADATA_GETCROSSREFERENCE,
         () ->
             this.databaseMetaData.getCrossReference(
                 parentCatalog,
@@ -1593,7 +1594,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getTypeInfo",
+        JdbcMethod.DATABASEMETADATA_GETTYPEINFO,
         () -> this.databaseMetaData.getTypeInfo());
   }
 
@@ -1606,7 +1607,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getIndexInfo",
+        JdbcMethod.DATABASEMETADATA_GETINDEXINFO,
         () -> this.databaseMetaData.getIndexInfo(catalog, schema, table, unique, approximate),
         catalog,
         schema,
@@ -1622,7 +1623,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsResultSetType",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSRESULTSETTYPE,
         () -> this.databaseMetaData.supportsResultSetType(type),
         type);
   }
@@ -1634,7 +1635,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsResultSetConcurrency",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSRESULTSETCONCURRENCY,
         () -> this.databaseMetaData.supportsResultSetConcurrency(type, concurrency),
         type,
         concurrency);
@@ -1647,7 +1648,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.ownUpdatesAreVisible",
+        JdbcMethod.DATABASEMETADATA_OWNUPDATESAREVISIBLE,
         () -> this.databaseMetaData.ownUpdatesAreVisible(type),
         type);
   }
@@ -1659,7 +1660,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.ownDeletesAreVisible",
+        JdbcMethod.DATABASEMETADATA_OWNDELETESAREVISIBLE,
         () -> this.databaseMetaData.ownDeletesAreVisible(type),
         type);
   }
@@ -1671,7 +1672,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.ownInsertsAreVisible",
+        JdbcMethod.DATABASEMETADATA_OWNINSERTSAREVISIBLE,
         () -> this.databaseMetaData.ownInsertsAreVisible(type),
         type);
   }
@@ -1683,7 +1684,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.othersUpdatesAreVisible",
+        JdbcMethod.DATABASEMETADATA_OTHERSUPDATESAREVISIBLE,
         () -> this.databaseMetaData.othersUpdatesAreVisible(type),
         type);
   }
@@ -1695,7 +1696,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.othersDeletesAreVisible",
+        JdbcMethod.DATABASEMETADATA_OTHERSDELETESAREVISIBLE,
         () -> this.databaseMetaData.othersDeletesAreVisible(type),
         type);
   }
@@ -1707,7 +1708,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.othersInsertsAreVisible",
+        JdbcMethod.DATABASEMETADATA_OTHERSINSERTSAREVISIBLE,
         () -> this.databaseMetaData.othersInsertsAreVisible(type),
         type);
   }
@@ -1719,7 +1720,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.updatesAreDetected",
+        JdbcMethod.DATABASEMETADATA_UPDATESAREDETECTED,
         () -> this.databaseMetaData.updatesAreDetected(type),
         type);
   }
@@ -1731,7 +1732,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.deletesAreDetected",
+        JdbcMethod.DATABASEMETADATA_DELETESAREDETECTED,
         () -> this.databaseMetaData.deletesAreDetected(type),
         type);
   }
@@ -1743,7 +1744,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.insertsAreDetected",
+        JdbcMethod.DATABASEMETADATA_INSERTSAREDETECTED,
         () -> this.databaseMetaData.insertsAreDetected(type),
         type);
   }
@@ -1755,7 +1756,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsBatchUpdates",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSBATCHUPDATES,
         () -> this.databaseMetaData.supportsBatchUpdates());
   }
 
@@ -1768,7 +1769,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getUDTs",
+        JdbcMethod.DATABASEMETADATA_GETUDTS,
         () -> this.databaseMetaData.getUDTs(catalog, schemaPattern, typeNamePattern, types),
         catalog,
         schemaPattern,
@@ -1783,7 +1784,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getConnection",
+        JdbcMethod.DATABASEMETADATA_GETCONNECTION,
         () -> this.pluginManager.getConnectionWrapper());
   }
 
@@ -1795,7 +1796,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsSavepoints",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSSAVEPOINTS,
         () -> this.databaseMetaData.supportsSavepoints());
   }
 
@@ -1806,7 +1807,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsNamedParameters",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSNAMEDPARAMETERS,
         () -> this.databaseMetaData.supportsNamedParameters());
   }
 
@@ -1817,7 +1818,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsMultipleOpenResults",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSMULTIPLEOPENRESULTS,
         () -> this.databaseMetaData.supportsMultipleOpenResults());
   }
 
@@ -1828,7 +1829,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsGetGeneratedKeys",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSGETGENERATEDKEYS,
         () -> this.databaseMetaData.supportsGetGeneratedKeys());
   }
 
@@ -1840,7 +1841,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getSuperTypes",
+        JdbcMethod.DATABASEMETADATA_GETSUPERTYPES,
         () -> this.databaseMetaData.getSuperTypes(catalog, schemaPattern, typeNamePattern),
         catalog,
         schemaPattern,
@@ -1855,7 +1856,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getSuperTables",
+        JdbcMethod.DATABASEMETADATA_GETSUPERTABLES,
         () -> this.databaseMetaData.getSuperTables(catalog, schemaPattern, tableNamePattern),
         catalog,
         schemaPattern,
@@ -1871,7 +1872,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getAttributes",
+        JdbcMethod.DATABASEMETADATA_GETATTRIBUTES,
         () ->
             this.databaseMetaData.getAttributes(
                 catalog, schemaPattern, typeNamePattern, attributeNamePattern),
@@ -1888,7 +1889,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsResultSetHoldability",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSRESULTSETHOLDABILITY,
         () -> this.databaseMetaData.supportsResultSetHoldability(holdability),
         holdability);
   }
@@ -1900,7 +1901,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getResultSetHoldability",
+        JdbcMethod.DATABASEMETADATA_GETRESULTSETHOLDABILITY,
         () -> this.databaseMetaData.getResultSetHoldability());
   }
 
@@ -1911,7 +1912,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getDatabaseMajorVersion",
+        JdbcMethod.DATABASEMETADATA_GETDATABASEMAJORVERSION,
         () -> this.databaseMetaData.getDatabaseMajorVersion());
   }
 
@@ -1922,7 +1923,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getDatabaseMinorVersion",
+        JdbcMethod.DATABASEMETADATA_GETDATABASEMINORVERSION,
         () -> this.databaseMetaData.getDatabaseMinorVersion());
   }
 
@@ -1933,7 +1934,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getJDBCMajorVersion",
+        JdbcMethod.DATABASEMETADATA_GETJDBCMAJORVERSION,
         () -> this.databaseMetaData.getJDBCMajorVersion());
   }
 
@@ -1944,7 +1945,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getJDBCMinorVersion",
+        JdbcMethod.DATABASEMETADATA_GETJDBCMINORVERSION,
         () -> this.databaseMetaData.getJDBCMinorVersion());
   }
 
@@ -1956,7 +1957,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getSQLStateType",
+        JdbcMethod.DATABASEMETADATA_GETSQLSTATETYPE,
         () -> this.databaseMetaData.getSQLStateType());
   }
 
@@ -1967,7 +1968,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.locatorsUpdateCopy",
+        JdbcMethod.DATABASEMETADATA_LOCATORSUPDATECOPY,
         () -> this.databaseMetaData.locatorsUpdateCopy());
   }
 
@@ -1978,7 +1979,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsStatementPooling",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSSTATEMENTPOOLING,
         () -> this.databaseMetaData.supportsStatementPooling());
   }
 
@@ -1989,7 +1990,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getRowIdLifetime",
+        JdbcMethod.DATABASEMETADATA_GETROWIDLIFETIME,
         () -> this.databaseMetaData.getRowIdLifetime());
   }
 
@@ -2000,7 +2001,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsStoredFunctionsUsingCallSyntax",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSSTOREDFUNCTIONSUSINGCALLSYNTAX,
         () -> this.databaseMetaData.supportsStoredFunctionsUsingCallSyntax());
   }
 
@@ -2011,7 +2012,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.autoCommitFailureClosesAllResultSets",
+        JdbcMethod.DATABASEMETADATA_AUTOCOMMITFAILURECLOSESALLRESULTSETS,
         () -> this.databaseMetaData.autoCommitFailureClosesAllResultSets());
   }
 
@@ -2022,7 +2023,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getClientInfoProperties",
+        JdbcMethod.DATABASEMETADATA_GETCLIENTINFOPROPERTIES,
         () -> this.databaseMetaData.getClientInfoProperties());
   }
 
@@ -2034,7 +2035,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getFunctions",
+        JdbcMethod.DATABASEMETADATA_GETFUNCTIONS,
         () -> this.databaseMetaData.getFunctions(catalog, schemaPattern, functionNamePattern),
         catalog,
         schemaPattern,
@@ -2050,7 +2051,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getFunctionColumns",
+        JdbcMethod.DATABASEMETADATA_GETFUNCTIONCOLUMNS,
         () ->
             this.databaseMetaData.getFunctionColumns(
                 catalog, schemaPattern, functionNamePattern, columnNamePattern),
@@ -2069,7 +2070,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getPseudoColumns",
+        JdbcMethod.DATABASEMETADATA_GETPSEUDOCOLUMNS,
         () ->
             this.databaseMetaData.getPseudoColumns(
                 catalog, schemaPattern, tableNamePattern, columnNamePattern),
@@ -2086,7 +2087,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.generatedKeyAlwaysReturned",
+        JdbcMethod.DATABASEMETADATA_GENERATEDKEYALWAYSRETURNED,
         () -> this.databaseMetaData.generatedKeyAlwaysReturned());
   }
 
@@ -2097,7 +2098,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.getMaxLogicalLobSize",
+        JdbcMethod.DATABASEMETADATA_GETMAXLOGICALLOBSIZE,
         () -> this.databaseMetaData.getMaxLogicalLobSize());
   }
 
@@ -2108,7 +2109,7 @@ public class DatabaseMetaDataWrapper implements DatabaseMetaData {
         SQLException.class,
         this.pluginManager,
         this.databaseMetaData,
-        "DatabaseMetaData.supportsRefCursors",
+        JdbcMethod.DATABASEMETADATA_SUPPORTSREFCURSORS,
         () -> this.databaseMetaData.supportsRefCursors());
   }
 
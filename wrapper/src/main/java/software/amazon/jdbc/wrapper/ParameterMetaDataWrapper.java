@@ -20,6 +20,7 @@ import java.sql.ParameterMetaData;
 import java.sql.SQLException;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import software.amazon.jdbc.ConnectionPluginManager;
+import software.amazon.jdbc.JdbcMethod;
 import software.amazon.jdbc.util.WrapperUtils;
 
 public class ParameterMetaDataWrapper implements ParameterMetaData {
@@ -41,7 +42,7 @@ public class ParameterMetaDataWrapper implements ParameterMetaData {
         SQLException.class,
         this.pluginManager,
         this.parameterMetaData,
-        "ParameterMetaData.getParameterCount",
+        JdbcMethod.PARAMETERMETADATA_GETPARAMETERCOUNT,
         () -> this.parameterMetaData.getParameterCount());
   }
 
@@ -53,7 +54,7 @@ public class ParameterMetaDataWrapper implements ParameterMetaData {
         SQLException.class,
         this.pluginManager,
         this.parameterMetaData,
-        "ParameterMetaData.isNullable",
+        JdbcMethod.PARAMETERMETADATA_ISNULLABLE,
         () -> this.parameterMetaData.isNullable(param),
         param);
   }
@@ -65,7 +66,7 @@ public class ParameterMetaDataWrapper implements ParameterMetaData {
         SQLException.class,
         this.pluginManager,
         this.parameterMetaData,
-        "ParameterMetaData.isSigned",
+        JdbcMethod.PARAMETERMETADATA_ISSIGNED,
         () -> this.parameterMetaData.isSigned(param),
         param);
   }
@@ -77,7 +78,7 @@ public class ParameterMetaDataWrapper implements ParameterMetaData {
         SQLException.class,
         this.pluginManager,
         this.parameterMetaData,
-        "ParameterMetaData.getPrecision",
+        JdbcMethod.PARAMETERMETADATA_GETPRECISION,
         () -> this.parameterMetaData.getPrecision(param),
         param);
   }
@@ -89,7 +90,7 @@ public class ParameterMetaDataWrapper implements ParameterMetaData {
         SQLException.class,
         this.pluginManager,
         this.parameterMetaData,
-        "ParameterMetaData.getScale",
+        JdbcMethod.PARAMETERMETADATA_GETSCALE,
         () -> this.parameterMetaData.getScale(param),
         param);
   }
@@ -101,7 +102,7 @@ public class ParameterMetaDataWrapper implements ParameterMetaData {
         SQLException.class,
         this.pluginManager,
         this.parameterMetaData,
-        "ParameterMetaData.getParameterType",
+        JdbcMethod.PARAMETERMETADATA_GETPARAMETERTYPE,
         () -> this.parameterMetaData.getParameterType(param),
         param);
   }
@@ -113,7 +114,7 @@ public class ParameterMetaDataWrapper implements ParameterMetaData {
         SQLException.class,
         this.pluginManager,
         this.parameterMetaData,
-        "ParameterMetaData.getParameterTypeName",
+        JdbcMethod.PARAMETERMETADATA_GETPARAMETERTYPENAME,
         () -> this.parameterMetaData.getParameterTypeName(param),
         param);
   }
@@ -125,7 +126,7 @@ public class ParameterMetaDataWrapper implements ParameterMetaData {
         SQLException.class,
         this.pluginManager,
         this.parameterMetaData,
-        "ParameterMetaData.getParameterClassName",
+        JdbcMethod.PARAMETERMETADATA_GETPARAMETERCLASSNAME,
         () -> this.parameterMetaData.getParameterClassName(param),
         param);
   }
@@ -138,7 +139,7 @@ public class ParameterMetaDataWrapper implements ParameterMetaData {
         SQLException.class,
         this.pluginManager,
         this.parameterMetaData,
-        "ParameterMetaData.getParameterMode",
+        JdbcMethod.PARAMETERMETADATA_GETPARAMETERMODE,
         () -> this.parameterMetaData.getParameterMode(param),
         param);
   }
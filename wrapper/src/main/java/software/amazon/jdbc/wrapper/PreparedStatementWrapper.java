@@ -41,12 +41,14 @@ import java.sql.Timestamp;
 import java.util.Calendar;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import software.amazon.jdbc.ConnectionPluginManager;
+import software.amazon.jdbc.JdbcMethod;
 import software.amazon.jdbc.util.WrapperUtils;
 
-public class PreparedStatementWrapper implements PreparedStatement {
+public class PreparedStatementWrapper implements PreparedStatement, ConnectionEpochAware {
 
   protected PreparedStatement statement;
   protected ConnectionPluginManager pluginManager;
+  protected volatile int connectionEpoch = UNKNOWN_CONNECTION_EPOCH;
 
   public PreparedStatementWrapper(
       @NonNull PreparedStatement statement, @NonNull ConnectionPluginManager pluginManager) {
@@ -60,7 +62,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.addBatch",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_ADDBATCH,
         () -> this.statement.addBatch());
   }
 
@@ -70,7 +73,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.addBatch",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_ADDBATCH,
         () -> this.statement.addBatch(sql),
         sql);
   }
@@ -81,7 +85,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.cancel",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_CANCEL,
         () -> this.statement.cancel());
   }
 
@@ -91,7 +96,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.clearBatch",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_CLEARBATCH,
         () -> this.statement.clearBatch());
   }
 
@@ -101,7 +107,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.clearParameters",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_CLEARPARAMETERS,
         () -> this.statement.clearParameters());
   }
 
@@ -111,7 +118,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.clearWarnings",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_CLEARWARNINGS,
         () -> this.statement.clearWarnings());
   }
 
@@ -121,7 +129,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.close",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_CLOSE,
         () -> this.statement.close());
   }
 
@@ -131,7 +140,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.closeOnCompletion",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_CLOSEONCOMPLETION,
         () -> this.statement.closeOnCompletion());
   }
 
@@ -142,7 +152,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.execute",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_EXECUTE,
         () -> this.statement.execute());
   }
 
@@ -153,7 +164,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.execute",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_EXECUTE,
         () -> this.statement.execute(sql),
         sql);
   }
@@ -165,7 +177,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.execute",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_EXECUTE,
         () -> this.statement.execute(sql, autoGeneratedKeys),
         sql,
         autoGeneratedKeys);
@@ -178,7 +191,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.execute",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_EXECUTE,
         () -> this.statement.execute(sql, columnIndexes),
         sql,
         columnIndexes);
@@ -191,7 +205,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.execute",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_EXECUTE,
         () -> this.statement.execute(sql, columnNames),
         sql,
         columnNames);
@@ -204,7 +219,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.executeBatch",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_EXECUTEBATCH,
         () -> this.statement.executeBatch());
   }
 
@@ -215,7 +231,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.executeLargeUpdate",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_EXECUTELARGEUPDATE,
         () -> this.statement.executeLargeUpdate());
   }
 
@@ -226,7 +243,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.executeQuery",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_EXECUTEQUERY,
         () -> this.statement.executeQuery());
   }
 
@@ -237,7 +255,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.executeQuery",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_EXECUTEQUERY,
         () -> this.statement.executeQuery(sql),
         sql);
   }
@@ -249,7 +268,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.executeUpdate",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_EXECUTEUPDATE,
         () -> this.statement.executeUpdate());
   }
 
@@ -260,7 +280,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.executeUpdate",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_EXECUTEUPDATE,
         () -> this.statement.executeUpdate(sql),
         sql);
   }
@@ -272,7 +293,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.executeUpdate",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_EXECUTEUPDATE,
         () -> this.statement.executeUpdate(sql, autoGeneratedKeys),
         sql,
         autoGeneratedKeys);
@@ -285,7 +307,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.executeUpdate",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_EXECUTEUPDATE,
         () -> this.statement.executeUpdate(sql, columnIndexes),
         sql,
         columnIndexes);
@@ -298,7 +321,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.executeUpdate",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_EXECUTEUPDATE,
         () -> this.statement.executeUpdate(sql, columnNames),
         sql,
         columnNames);
@@ -311,7 +335,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.getConnection",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_GETCONNECTION,
         () -> this.pluginManager.getConnectionWrapper());
   }
 
@@ -323,7 +348,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.getFetchDirection",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_GETFETCHDIRECTION,
         () -> this.statement.getFetchDirection());
   }
 
@@ -334,7 +360,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.getFetchSize",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_GETFETCHSIZE,
         () -> this.statement.getFetchSize());
   }
 
@@ -345,7 +372,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.getGeneratedKeys",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_GETGENERATEDKEYS,
         () -> this.statement.getGeneratedKeys());
   }
 
@@ -356,7 +384,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.getMaxFieldSize",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_GETMAXFIELDSIZE,
         () -> this.statement.getMaxFieldSize());
   }
 
@@ -367,7 +396,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.getMaxRows",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_GETMAXROWS,
         () -> this.statement.getMaxRows());
   }
 
@@ -378,7 +408,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.getMetaData",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_GETMETADATA,
         () -> this.statement.getMetaData());
   }
 
@@ -389,7 +420,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.getMoreResults",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_GETMORERESULTS,
         () -> this.statement.getMoreResults());
   }
 
@@ -400,7 +432,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.getMoreResults",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_GETMORERESULTS,
         () -> this.statement.getMoreResults(current),
         current);
   }
@@ -412,7 +445,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.getParameterMetaData",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_GETPARAMETERMETADATA,
         () -> this.statement.getParameterMetaData());
   }
 
@@ -423,7 +457,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.getQueryTimeout",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_GETQUERYTIMEOUT,
         () -> this.statement.getQueryTimeout());
   }
 
@@ -434,7 +469,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.getResultSet",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_GETRESULTSET,
         () -> this.statement.getResultSet());
   }
 
@@ -446,7 +482,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.getResultSetConcurrency",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_GETRESULTSETCONCURRENCY,
         () -> this.statement.getResultSetConcurrency());
   }
 
@@ -457,7 +494,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.getResultSetHoldability",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_GETRESULTSETHOLDABILITY,
         () -> this.statement.getResultSetHoldability());
   }
 
@@ -469,7 +507,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.getResultSetType",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_GETRESULTSETTYPE,
         () -> this.statement.getResultSetType());
   }
 
@@ -480,7 +519,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.getUpdateCount",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_GETUPDATECOUNT,
         () -> this.statement.getUpdateCount());
   }
 
@@ -491,7 +531,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.getWarnings",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_GETWARNINGS,
         () -> this.statement.getWarnings());
   }
 
@@ -502,7 +543,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.isCloseOnCompletion",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_ISCLOSEONCOMPLETION,
         () -> this.statement.isCloseOnCompletion());
   }
 
@@ -513,7 +555,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.isClosed",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_ISCLOSED,
         () -> this.statement.isClosed());
   }
 
@@ -525,7 +568,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.isPoolable",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_ISPOOLABLE,
         () -> this.statement.isPoolable());
   }
 
@@ -540,7 +584,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setArray",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_SETARRAY,
         () -> this.statement.setArray(parameterIndex, x),
         parameterIndex,
         x);
@@ -552,7 +597,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setAsciiStream",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_SETASCIISTREAM,
         () -> this.statement.setAsciiStream(parameterIndex, x, length),
         parameterIndex,
         x,
@@ -565,7 +611,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setAsciiStream",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_SETASCIISTREAM,
         () -> this.statement.setAsciiStream(parameterIndex, x, length),
         parameterIndex,
         x,
@@ -578,7 +625,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setAsciiStream",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_SETASCIISTREAM,
         () -> this.statement.setAsciiStream(parameterIndex, x),
         parameterIndex,
         x);
@@ -590,7 +638,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setBigDecimal",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_SETBIGDECIMAL,
         () -> this.statement.setBigDecimal(parameterIndex, x),
         parameterIndex,
         x);
@@ -602,7 +651,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setBinaryStream",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_SETBINARYSTREAM,
         () -> this.statement.setBinaryStream(parameterIndex, x, length),
         parameterIndex,
         x,
@@ -615,7 +665,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setBinaryStream",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_SETBINARYSTREAM,
         () -> this.statement.setBinaryStream(parameterIndex, x, length),
         parameterIndex,
         x,
@@ -628,7 +679,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setBinaryStream",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_SETBINARYSTREAM,
         () -> this.statement.setBinaryStream(parameterIndex, x),
         parameterIndex,
         x);
@@ -640,7 +692,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setBlob",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_SETBLOB,
         () -> this.statement.setBlob(parameterIndex, x),
         parameterIndex,
         x);
@@ -653,7 +706,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setBlob",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_SETBLOB,
         () -> this.statement.setBlob(parameterIndex, inputStream, length),
         parameterIndex,
         inputStream,
@@ -666,7 +720,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setBlob",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_SETBLOB,
         () -> this.statement.setBlob(parameterIndex, inputStream),
         parameterIndex,
         inputStream);
@@ -678,7 +733,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setBoolean",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_SETBOOLEAN,
         () -> this.statement.setBoolean(parameterIndex, x),
         parameterIndex,
         x);
@@ -690,7 +746,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setByte",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_SETBYTE,
         () -> this.statement.setByte(parameterIndex, x),
         parameterIndex,
         x);
@@ -702,7 +759,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setBytes",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_SETBYTES,
         () -> this.statement.setBytes(parameterIndex, x),
         parameterIndex,
         x);
@@ -715,7 +773,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setCharacterStream",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_SETCHARACTERSTREAM,
         () -> this.statement.setCharacterStream(parameterIndex, reader, length),
         parameterIndex,
         reader,
@@ -729,7 +788,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setCharacterStream",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_SETCHARACTERSTREAM,
         () -> this.statement.setCharacterStream(parameterIndex, reader, length),
         parameterIndex,
         reader,
@@ -742,7 +802,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setCharacterStream",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_SETCHARACTERSTREAM,
         () -> this.statement.setCharacterStream(parameterIndex, reader),
         parameterIndex,
         reader);
@@ -754,7 +815,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setClob",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_SETCLOB,
         () -> this.statement.setClob(parameterIndex, x),
         parameterIndex,
         x);
@@ -766,7 +828,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setClob",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_SETCLOB,
         () -> this.statement.setClob(parameterIndex, reader, length),
         parameterIndex,
         reader,
@@ -779,7 +842,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setClob",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_SETCLOB,
         () -> this.statement.setClob(parameterIndex, reader),
         parameterIndex,
         reader);
@@ -791,7 +855,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setCursorName",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_SETCURSORNAME,
         () -> this.statement.setCursorName(name),
         name);
   }
@@ -802,7 +867,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setDate",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_SETDATE,
         () -> this.statement.setDate(parameterIndex, x),
         parameterIndex,
         x);
@@ -814,7 +880,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setDate",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_SETDATE,
         () -> this.statement.setDate(parameterIndex, x, cal),
         parameterIndex,
         x,
@@ -827,7 +894,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setDouble",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_SETDOUBLE,
         () -> this.statement.setDouble(parameterIndex, x),
         parameterIndex,
         x);
@@ -839,7 +907,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setEscapeProcessing",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_SETESCAPEPROCESSING,
         () -> this.statement.setEscapeProcessing(enable),
         enable);
   }
@@ -850,7 +919,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setFetchDirection",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_SETFETCHDIRECTION,
         () -> this.statement.setFetchDirection(direction),
         direction);
   }
@@ -861,7 +931,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setFetchSize",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_SETFETCHSIZE,
         () -> this.statement.setFetchSize(rows),
         rows);
   }
@@ -872,7 +943,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setFloat",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_SETFLOAT,
         () -> this.statement.setFloat(parameterIndex, x),
         parameterIndex,
         x);
@@ -884,7 +956,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setInt",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_SETINT,
         () -> this.statement.setInt(parameterIndex, x),
         parameterIndex,
         x);
@@ -896,7 +969,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setLong",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_SETLONG,
         () -> this.statement.setLong(parameterIndex, x),
         parameterIndex,
         x);
@@ -908,7 +982,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setMaxFieldSize",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_SETMAXFIELDSIZE,
         () -> this.statement.setMaxFieldSize(max),
         max);
   }
@@ -919,7 +994,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setMaxRows",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_SETMAXROWS,
         () -> this.statement.setMaxRows(max),
         max);
   }
@@ -931,7 +1007,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setNCharacterStream",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_SETNCHARACTERSTREAM,
         () -> this.statement.setNCharacterStream(parameterIndex, value, length),
         parameterIndex,
         value,
@@ -944,7 +1021,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setNCharacterStream",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_SETNCHARACTERSTREAM,
         () -> this.statement.setNCharacterStream(parameterIndex, value),
         parameterIndex,
         value);
@@ -956,7 +1034,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setNClob",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_SETNCLOB,
         () -> this.statement.setNClob(parameterIndex, value),
         parameterIndex,
         value);
@@ -968,7 +1047,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setNClob",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_SETNCLOB,
         () -> this.statement.setNClob(parameterIndex, reader, length),
         parameterIndex,
         reader,
@@ -981,7 +1061,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setNClob",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_SETNCLOB,
         () -> this.statement.setNClob(parameterIndex, reader),
         parameterIndex,
         reader);
@@ -993,7 +1074,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setNString",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_SETNSTRING,
         () -> this.statement.setNString(parameterIndex, value),
         parameterIndex,
         value);
@@ -1005,7 +1087,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setNull",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_SETNULL,
         () -> this.statement.setNull(parameterIndex, sqlType),
         parameterIndex,
         sqlType);
@@ -1017,7 +1100,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setNull",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_SETNULL,
         () -> this.statement.setNull(parameterIndex, sqlType, typeName),
         parameterIndex,
         sqlType,
@@ -1030,7 +1114,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setObject",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_SETOBJECT,
         () -> this.statement.setObject(parameterIndex, x, targetSqlType),
         parameterIndex,
         x,
@@ -1043,7 +1128,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setObject",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_SETOBJECT,
         () -> this.statement.setObject(parameterIndex, x),
         parameterIndex,
         x);
@@ -1056,7 +1142,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setObject",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_SETOBJECT,
         () -> this.statement.setObject(parameterIndex, x, targetSqlType, scaleOrLength),
         parameterIndex,
         x,
@@ -1071,7 +1158,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setObject",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_SETOBJECT,
         () -> this.statement.setObject(parameterIndex, x, targetSqlType, scaleOrLength),
         parameterIndex,
         x,
@@ -1085,7 +1173,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setObject",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_SETOBJECT,
         () -> this.statement.setObject(parameterIndex, x, targetSqlType),
         parameterIndex,
         x,
@@ -1099,7 +1188,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setPoolable",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_SETPOOLABLE,
         () -> this.statement.setPoolable(poolable),
         poolable);
   }
@@ -1110,7 +1200,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setQueryTimeout",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_SETQUERYTIMEOUT,
         () -> this.statement.setQueryTimeout(seconds),
         seconds);
   }
@@ -1121,7 +1212,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setRef",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_SETREF,
         () -> this.statement.setRef(parameterIndex, x),
         parameterIndex,
         x);
@@ -1133,7 +1225,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setRowId",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_SETROWID,
         () -> this.statement.setRowId(parameterIndex, x),
         parameterIndex,
         x);
@@ -1146,7 +1239,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setSQLXML",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_SETSQLXML,
         () -> this.statement.setSQLXML(parameterIndex, xmlObject),
         parameterIndex,
         xmlObject);
@@ -1158,7 +1252,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setShort",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_SETSHORT,
         () -> this.statement.setShort(parameterIndex, x),
         parameterIndex,
         x);
@@ -1170,7 +1265,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setString",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_SETSTRING,
         () -> this.statement.setString(parameterIndex, x),
         parameterIndex,
         x);
@@ -1182,7 +1278,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setTime",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_SETTIME,
         () -> this.statement.setTime(parameterIndex, x),
         parameterIndex,
         x);
@@ -1194,7 +1291,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setTime",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_SETTIME,
         () -> this.statement.setTime(parameterIndex, x, cal),
         parameterIndex,
         x,
@@ -1207,7 +1305,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setTimestamp",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_SETTIMESTAMP,
         () -> this.statement.setTimestamp(parameterIndex, x),
         parameterIndex,
         x);
@@ -1219,7 +1318,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setTimestamp",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_SETTIMESTAMP,
         () -> this.statement.setTimestamp(parameterIndex, x, cal),
         parameterIndex,
         x,
@@ -1232,7 +1332,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setURL",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_SETURL,
         () -> this.statement.setURL(parameterIndex, x),
         parameterIndex,
         x);
@@ -1245,7 +1346,8 @@ public class PreparedStatementWrapper implements PreparedStatement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "PreparedStatement.setUnicodeStream",
+        this,
+        JdbcMethod.PREPAREDSTATEMENT_SETUNICODESTREAM,
         () -> this.statement.setUnicodeStream(parameterIndex, x, length),
         parameterIndex,
         x,
@@ -1257,6 +1359,16 @@ public class PreparedStatementWrapper implements PreparedStatement {
     return this.statement.unwrap(iface);
   }
 
+  @Override
+  public int getConnectionEpoch() {
+    return this.connectionEpoch;
+  }
+
+  @Override
+  public void setConnectionEpoch(final int connectionEpoch) {
+    this.connectionEpoch = connectionEpoch;
+  }
+
   @Override
   public String toString() {
     return super.toString() + " - " + this.statement;
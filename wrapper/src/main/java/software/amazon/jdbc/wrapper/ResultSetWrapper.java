@@ -40,12 +40,14 @@ import java.util.Calendar;
 import java.util.Map;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import software.amazon.jdbc.ConnectionPluginManager;
+import software.amazon.jdbc.JdbcMethod;
 import software.amazon.jdbc.util.WrapperUtils;
 
-public class ResultSetWrapper implements ResultSet {
+public class ResultSetWrapper implements ResultSet, ConnectionEpochAware {
 
   protected ResultSet resultSet;
   protected ConnectionPluginManager pluginManager;
+  protected volatile int connectionEpoch = UNKNOWN_CONNECTION_EPOCH;
 
   public ResultSetWrapper(
       @NonNull ResultSet resultSet, @NonNull ConnectionPluginManager pluginManager) {
@@ -60,7 +62,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.absolute",
+        this,
+        JdbcMethod.RESULTSET_ABSOLUTE,
         () -> this.resultSet.absolute(row),
         row);
   }
@@ -71,7 +74,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.afterLast",
+        this,
+        JdbcMethod.RESULTSET_AFTERLAST,
         () -> this.resultSet.afterLast());
   }
 
@@ -81,7 +85,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.beforeFirst",
+        this,
+        JdbcMethod.RESULTSET_BEFOREFIRST,
         () -> this.resultSet.beforeFirst());
   }
 
@@ -91,7 +96,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.cancelRowUpdates",
+        this,
+        JdbcMethod.RESULTSET_CANCELROWUPDATES,
         () -> this.resultSet.cancelRowUpdates());
   }
 
@@ -101,7 +107,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.clearWarnings",
+        this,
+        JdbcMethod.RESULTSET_CLEARWARNINGS,
         () -> this.resultSet.clearWarnings());
   }
 
@@ -111,7 +118,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.close",
+        this,
+        JdbcMethod.RESULTSET_CLOSE,
         () -> this.resultSet.close());
   }
 
@@ -121,20 +129,25 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.deleteRow",
+        this,
+        JdbcMethod.RESULTSET_DELETEROW,
         () -> this.resultSet.deleteRow());
   }
 
   @Override
   public int findColumn(String columnLabel) throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        int.class,
-        SQLException.class,
-        this.pluginManager,
-        this.resultSet,
-        "ResultSet.findColumn",
-        () -> this.resultSet.findColumn(columnLabel),
-        columnLabel);
+    if (this.pluginManager.mustUsePipeline(this.resultSet, this, JdbcMethod.RESULTSET_FINDCOLUMN)) {
+      return WrapperUtils.executeWithPlugins(
+          int.class,
+          SQLException.class,
+          this.pluginManager,
+          this.resultSet,
+          this,
+          JdbcMethod.RESULTSET_FINDCOLUMN,
+          () -> this.resultSet.findColumn(columnLabel),
+          columnLabel);
+    }
+    return this.resultSet.findColumn(columnLabel);
   }
 
   @Override
@@ -144,7 +157,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.first",
+        this,
+        JdbcMethod.RESULTSET_FIRST,
         () -> this.resultSet.first());
   }
 
@@ -155,7 +169,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getArray",
+        this,
+        JdbcMethod.RESULTSET_GETARRAY,
         () -> this.resultSet.getArray(columnIndex),
         columnIndex);
   }
@@ -167,7 +182,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getArray",
+        this,
+        JdbcMethod.RESULTSET_GETARRAY,
         () -> this.resultSet.getArray(columnLabel),
         columnLabel);
   }
@@ -179,7 +195,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getAsciiStream",
+        this,
+        JdbcMethod.RESULTSET_GETASCIISTREAM,
         () -> this.resultSet.getAsciiStream(columnIndex),
         columnIndex);
   }
@@ -191,7 +208,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getAsciiStream",
+        this,
+        JdbcMethod.RESULTSET_GETASCIISTREAM,
         () -> this.resultSet.getAsciiStream(columnLabel),
         columnLabel);
   }
@@ -199,53 +217,69 @@ public class ResultSetWrapper implements ResultSet {
   @Override
   @Deprecated
   public BigDecimal getBigDecimal(int columnIndex, int scale) throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        BigDecimal.class,
-        SQLException.class,
-        this.pluginManager,
-        this.resultSet,
-        "ResultSet.getBigDecimal",
-        () -> this.resultSet.getBigDecimal(columnIndex, scale),
-        columnIndex,
-        scale);
+    if (this.pluginManager.mustUsePipeline(this.resultSet, this, JdbcMethod.RESULTSET_GETBIGDECIMAL)) {
+      return WrapperUtils.executeWithPlugins(
+          BigDecimal.class,
+          SQLException.class,
+          this.pluginManager,
+          this.resultSet,
+          this,
+          JdbcMethod.RESULTSET_GETBIGDECIMAL,
+          () -> this.resultSet.getBigDecimal(columnIndex, scale),
+          columnIndex,
+          scale);
+    }
+    return this.resultSet.getBigDecimal(columnIndex, scale);
   }
 
   @Override
   @Deprecated
   public BigDecimal getBigDecimal(String columnLabel, int scale) throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        BigDecimal.class,
-        SQLException.class,
-        this.pluginManager,
-        this.resultSet,
-        "ResultSet.getBigDecimal",
-        () -> this.resultSet.getBigDecimal(columnLabel, scale),
-        columnLabel,
-        scale);
+    if (this.pluginManager.mustUsePipeline(this.resultSet, this, JdbcMethod.RESULTSET_GETBIGDECIMAL)) {
+      return WrapperUtils.executeWithPlugins(
+          BigDecimal.class,
+          SQLException.class,
+          this.pluginManager,
+          this.resultSet,
+          this,
+          JdbcMethod.RESULTSET_GETBIGDECIMAL,
+          () -> this.resultSet.getBigDecimal(columnLabel, scale),
+          columnLabel,
+          scale);
+    }
+    return this.resultSet.getBigDecimal(columnLabel, scale);
   }
 
   @Override
   public BigDecimal getBigDecimal(int columnIndex) throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        BigDecimal.class,
-        SQLException.class,
-        this.pluginManager,
-        this.resultSet,
-        "ResultSet.getBigDecimal",
-        () -> this.resultSet.getBigDecimal(columnIndex),
-        columnIndex);
+    if (this.pluginManager.mustUsePipeline(this.resultSet, this, JdbcMethod.RESULTSET_GETBIGDECIMAL)) {
+      return WrapperUtils.executeWithPlugins(
+          BigDecimal.class,
+          SQLException.class,
+          this.pluginManager,
+          this.resultSet,
+          this,
+          JdbcMethod.RESULTSET_GETBIGDECIMAL,
+          () -> this.resultSet.getBigDecimal(columnIndex),
+          columnIndex);
+    }
+    return this.resultSet.getBigDecimal(columnIndex);
   }
 
   @Override
   public BigDecimal getBigDecimal(String columnLabel) throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        BigDecimal.class,
-        SQLException.class,
-        this.pluginManager,
-        this.resultSet,
-        "ResultSet.getBigDecimal",
-        () -> this.resultSet.getBigDecimal(columnLabel),
-        columnLabel);
+    if (this.pluginManager.mustUsePipeline(this.resultSet, this, JdbcMethod.RESULTSET_GETBIGDECIMAL)) {
+      return WrapperUtils.executeWithPlugins(
+          BigDecimal.class,
+          SQLException.class,
+          this.pluginManager,
+          this.resultSet,
+          this,
+          JdbcMethod.RESULTSET_GETBIGDECIMAL,
+          () -> this.resultSet.getBigDecimal(columnLabel),
+          columnLabel);
+    }
+    return this.resultSet.getBigDecimal(columnLabel);
   }
 
   @Override
@@ -255,7 +289,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getBinaryStream",
+        this,
+        JdbcMethod.RESULTSET_GETBINARYSTREAM,
         () -> this.resultSet.getBinaryStream(columnIndex),
         columnIndex);
   }
@@ -267,7 +302,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getBinaryStream",
+        this,
+        JdbcMethod.RESULTSET_GETBINARYSTREAM,
         () -> this.resultSet.getBinaryStream(columnLabel),
         columnLabel);
   }
@@ -279,7 +315,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getBlob",
+        this,
+        JdbcMethod.RESULTSET_GETBLOB,
         () -> this.resultSet.getBlob(columnIndex),
         columnIndex);
   }
@@ -291,81 +328,106 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getBlob",
+        this,
+        JdbcMethod.RESULTSET_GETBLOB,
         () -> this.resultSet.getBlob(columnLabel),
         columnLabel);
   }
 
   @Override
   public boolean getBoolean(int columnIndex) throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        boolean.class,
-        SQLException.class,
-        this.pluginManager,
-        this.resultSet,
-        "ResultSet.getBoolean",
-        () -> this.resultSet.getBoolean(columnIndex),
-        columnIndex);
+    if (this.pluginManager.mustUsePipeline(this.resultSet, this, JdbcMethod.RESULTSET_GETBOOLEAN)) {
+      return WrapperUtils.executeWithPlugins(
+          boolean.class,
+          SQLException.class,
+          this.pluginManager,
+          this.resultSet,
+          this,
+          JdbcMethod.RESULTSET_GETBOOLEAN,
+          () -> this.resultSet.getBoolean(columnIndex),
+          columnIndex);
+    }
+    return this.resultSet.getBoolean(columnIndex);
   }
 
   @Override
   public boolean getBoolean(String columnLabel) throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        boolean.class,
-        SQLException.class,
-        this.pluginManager,
-        this.resultSet,
-        "ResultSet.getBoolean",
-        () -> this.resultSet.getBoolean(columnLabel),
-        columnLabel);
+    if (this.pluginManager.mustUsePipeline(this.resultSet, this, JdbcMethod.RESULTSET_GETBOOLEAN)) {
+      return WrapperUtils.executeWithPlugins(
+          boolean.class,
+          SQLException.class,
+          this.pluginManager,
+          this.resultSet,
+          this,
+          JdbcMethod.RESULTSET_GETBOOLEAN,
+          () -> this.resultSet.getBoolean(columnLabel),
+          columnLabel);
+    }
+    return this.resultSet.getBoolean(columnLabel);
   }
 
   @Override
   public byte getByte(int columnIndex) throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        byte.class,
-        SQLException.class,
-        this.pluginManager,
-        this.resultSet,
-        "ResultSet.getByte",
-        () -> this.resultSet.getByte(columnIndex),
-        columnIndex);
+    if (this.pluginManager.mustUsePipeline(this.resultSet, this, JdbcMethod.RESULTSET_GETBYTE)) {
+      return WrapperUtils.executeWithPlugins(
+          byte.class,
+          SQLException.class,
+          this.pluginManager,
+          this.resultSet,
+          this,
+          JdbcMethod.RESULTSET_GETBYTE,
+          () -> this.resultSet.getByte(columnIndex),
+          columnIndex);
+    }
+    return this.resultSet.getByte(columnIndex);
   }
 
   @Override
   public byte getByte(String columnLabel) throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        byte.class,
-        SQLException.class,
-        this.pluginManager,
-        this.resultSet,
-        "ResultSet.getByte",
-        () -> this.resultSet.getByte(columnLabel),
-        columnLabel);
+    if (this.pluginManager.mustUsePipeline(this.resultSet, this, JdbcMethod.RESULTSET_GETBYTE)) {
+      return WrapperUtils.executeWithPlugins(
+          byte.class,
+          SQLException.class,
+          this.pluginManager,
+          this.resultSet,
+          this,
+          JdbcMethod.RESULTSET_GETBYTE,
+          () -> this.resultSet.getByte(columnLabel),
+          columnLabel);
+    }
+    return this.resultSet.getByte(columnLabel);
   }
 
   @Override
   public byte[] getBytes(int columnIndex) throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        byte[].class,
-        SQLException.class,
-        this.pluginManager,
-        this.resultSet,
-        "ResultSet.getBytes",
-        () -> this.resultSet.getBytes(columnIndex),
-        columnIndex);
+    if (this.pluginManager.mustUsePipeline(this.resultSet, this, JdbcMethod.RESULTSET_GETBYTES)) {
+      return WrapperUtils.executeWithPlugins(
+          byte[].class,
+          SQLException.class,
+          this.pluginManager,
+          this.resultSet,
+          this,
+          JdbcMethod.RESULTSET_GETBYTES,
+          () -> this.resultSet.getBytes(columnIndex),
+          columnIndex);
+    }
+    return this.resultSet.getBytes(columnIndex);
   }
 
   @Override
   public byte[] getBytes(String columnLabel) throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        byte[].class,
-        SQLException.class,
-        this.pluginManager,
-        this.resultSet,
-        "ResultSet.getBytes",
-        () -> this.resultSet.getBytes(columnLabel),
-        columnLabel);
+    if (this.pluginManager.mustUsePipeline(this.resultSet, this, JdbcMethod.RESULTSET_GETBYTES)) {
+      return WrapperUtils.executeWithPlugins(
+          byte[].class,
+          SQLException.class,
+          this.pluginManager,
+          this.resultSet,
+          this,
+          JdbcMethod.RESULTSET_GETBYTES,
+          () -> this.resultSet.getBytes(columnLabel),
+          columnLabel);
+    }
+    return this.resultSet.getBytes(columnLabel);
   }
 
   @Override
@@ -375,7 +437,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getCharacterStream",
+        this,
+        JdbcMethod.RESULTSET_GETCHARACTERSTREAM,
         () -> this.resultSet.getCharacterStream(columnIndex),
         columnIndex);
   }
@@ -387,7 +450,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getCharacterStream",
+        this,
+        JdbcMethod.RESULTSET_GETCHARACTERSTREAM,
         () -> this.resultSet.getCharacterStream(columnLabel),
         columnLabel);
   }
@@ -399,7 +463,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getClob",
+        this,
+        JdbcMethod.RESULTSET_GETCLOB,
         () -> this.resultSet.getClob(columnIndex),
         columnIndex);
   }
@@ -411,7 +476,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getClob",
+        this,
+        JdbcMethod.RESULTSET_GETCLOB,
         () -> this.resultSet.getClob(columnLabel),
         columnLabel);
   }
@@ -424,7 +490,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getConcurrency",
+        this,
+        JdbcMethod.RESULTSET_GETCONCURRENCY,
         () -> this.resultSet.getConcurrency());
   }
 
@@ -435,82 +502,107 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getCursorName",
+        this,
+        JdbcMethod.RESULTSET_GETCURSORNAME,
         () -> this.resultSet.getCursorName());
   }
 
   @Override
   public Date getDate(int columnIndex) throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        Date.class,
-        SQLException.class,
-        this.pluginManager,
-        this.resultSet,
-        "ResultSet.getDate",
-        () -> this.resultSet.getDate(columnIndex),
-        columnIndex);
+    if (this.pluginManager.mustUsePipeline(this.resultSet, this, JdbcMethod.RESULTSET_GETDATE)) {
+      return WrapperUtils.executeWithPlugins(
+          Date.class,
+          SQLException.class,
+          this.pluginManager,
+          this.resultSet,
+          this,
+          JdbcMethod.RESULTSET_GETDATE,
+          () -> this.resultSet.getDate(columnIndex),
+          columnIndex);
+    }
+    return this.resultSet.getDate(columnIndex);
   }
 
   @Override
   public Date getDate(String columnLabel) throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        Date.class,
-        SQLException.class,
-        this.pluginManager,
-        this.resultSet,
-        "ResultSet.getDate",
-        () -> this.resultSet.getDate(columnLabel),
-        columnLabel);
+    if (this.pluginManager.mustUsePipeline(this.resultSet, this, JdbcMethod.RESULTSET_GETDATE)) {
+      return WrapperUtils.executeWithPlugins(
+          Date.class,
+          SQLException.class,
+          this.pluginManager,
+          this.resultSet,
+          this,
+          JdbcMethod.RESULTSET_GETDATE,
+          () -> this.resultSet.getDate(columnLabel),
+          columnLabel);
+    }
+    return this.resultSet.getDate(columnLabel);
   }
 
   @Override
   public Date getDate(int columnIndex, Calendar cal) throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        Date.class,
-        SQLException.class,
-        this.pluginManager,
-        this.resultSet,
-        "ResultSet.getDate",
-        () -> this.resultSet.getDate(columnIndex, cal),
-        columnIndex,
-        cal);
+    if (this.pluginManager.mustUsePipeline(this.resultSet, this, JdbcMethod.RESULTSET_GETDATE)) {
+      return WrapperUtils.executeWithPlugins(
+          Date.class,
+          SQLException.class,
+          this.pluginManager,
+          this.resultSet,
+          this,
+          JdbcMethod.RESULTSET_GETDATE,
+          () -> this.resultSet.getDate(columnIndex, cal),
+          columnIndex,
+          cal);
+    }
+    return this.resultSet.getDate(columnIndex, cal);
   }
 
   @Override
   public Date getDate(String columnLabel, Calendar cal) throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        Date.class,
-        SQLException.class,
-        this.pluginManager,
-        this.resultSet,
-        "ResultSet.getDate",
-        () -> this.resultSet.getDate(columnLabel, cal),
-        columnLabel,
-        cal);
+    if (this.pluginManager.mustUsePipeline(this.resultSet, this, JdbcMethod.RESULTSET_GETDATE)) {
+      return WrapperUtils.executeWithPlugins(
+          Date.class,
+          SQLException.class,
+          this.pluginManager,
+          this.resultSet,
+          this,
+          JdbcMethod.RESULTSET_GETDATE,
+          () -> this.resultSet.getDate(columnLabel, cal),
+          columnLabel,
+          cal);
+    }
+    return this.resultSet.getDate(columnLabel, cal);
   }
 
   @Override
   public double getDouble(int columnIndex) throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        double.class,
-        SQLException.class,
-        this.pluginManager,
-        this.resultSet,
-        "ResultSet.getDouble",
-        () -> this.resultSet.getDouble(columnIndex),
-        columnIndex);
+    if (this.pluginManager.mustUsePipeline(this.resultSet, this, JdbcMethod.RESULTSET_GETDOUBLE)) {
+      return WrapperUtils.executeWithPlugins(
+          double.class,
+          SQLException.class,
+          this.pluginManager,
+          this.resultSet,
+          this,
+          JdbcMethod.RESULTSET_GETDOUBLE,
+          () -> this.resultSet.getDouble(columnIndex),
+          columnIndex);
+    }
+    return this.resultSet.getDouble(columnIndex);
   }
 
   @Override
   public double getDouble(String columnLabel) throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        double.class,
-        SQLException.class,
-        this.pluginManager,
-        this.resultSet,
-        "ResultSet.getDouble",
-        () -> this.resultSet.getDouble(columnLabel),
-        columnLabel);
+    if (this.pluginManager.mustUsePipeline(this.resultSet, this, JdbcMethod.RESULTSET_GETDOUBLE)) {
+      return WrapperUtils.executeWithPlugins(
+          double.class,
+          SQLException.class,
+          this.pluginManager,
+          this.resultSet,
+          this,
+          JdbcMethod.RESULTSET_GETDOUBLE,
+          () -> this.resultSet.getDouble(columnLabel),
+          columnLabel);
+    }
+    return this.resultSet.getDouble(columnLabel);
   }
 
   @Override
@@ -521,7 +613,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getFetchDirection",
+        this,
+        JdbcMethod.RESULTSET_GETFETCHDIRECTION,
         () -> this.resultSet.getFetchDirection());
   }
 
@@ -532,32 +625,41 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getFetchSize",
+        this,
+        JdbcMethod.RESULTSET_GETFETCHSIZE,
         () -> this.resultSet.getFetchSize());
   }
 
   @Override
   public float getFloat(int columnIndex) throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        float.class,
-        SQLException.class,
-        this.pluginManager,
-        this.resultSet,
-        "ResultSet.getFloat",
-        () -> this.resultSet.getFloat(columnIndex),
-        columnIndex);
+    if (this.pluginManager.mustUsePipeline(this.resultSet, this, JdbcMethod.RESULTSET_GETFLOAT)) {
+      return WrapperUtils.executeWithPlugins(
+          float.class,
+          SQLException.class,
+          this.pluginManager,
+          this.resultSet,
+          this,
+          JdbcMethod.RESULTSET_GETFLOAT,
+          () -> this.resultSet.getFloat(columnIndex),
+          columnIndex);
+    }
+    return this.resultSet.getFloat(columnIndex);
   }
 
   @Override
   public float getFloat(String columnLabel) throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        float.class,
-        SQLException.class,
-        this.pluginManager,
-        this.resultSet,
-        "ResultSet.getFloat",
-        () -> this.resultSet.getFloat(columnLabel),
-        columnLabel);
+    if (this.pluginManager.mustUsePipeline(this.resultSet, this, JdbcMethod.RESULTSET_GETFLOAT)) {
+      return WrapperUtils.executeWithPlugins(
+          float.class,
+          SQLException.class,
+          this.pluginManager,
+          this.resultSet,
+          this,
+          JdbcMethod.RESULTSET_GETFLOAT,
+          () -> this.resultSet.getFloat(columnLabel),
+          columnLabel);
+    }
+    return this.resultSet.getFloat(columnLabel);
   }
 
   @Override
@@ -568,56 +670,73 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getHoldability",
+        this,
+        JdbcMethod.RESULTSET_GETHOLDABILITY,
         () -> this.resultSet.getHoldability());
   }
 
   @Override
   public int getInt(int columnIndex) throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        int.class,
-        SQLException.class,
-        this.pluginManager,
-        this.resultSet,
-        "ResultSet.getInt",
-        () -> this.resultSet.getInt(columnIndex),
-        columnIndex);
+    if (this.pluginManager.mustUsePipeline(this.resultSet, this, JdbcMethod.RESULTSET_GETINT)) {
+      return WrapperUtils.executeWithPlugins(
+          int.class,
+          SQLException.class,
+          this.pluginManager,
+          this.resultSet,
+          this,
+          JdbcMethod.RESULTSET_GETINT,
+          () -> this.resultSet.getInt(columnIndex),
+          columnIndex);
+    }
+    return this.resultSet.getInt(columnIndex);
   }
 
   @Override
   public int getInt(String columnLabel) throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        int.class,
-        SQLException.class,
-        this.pluginManager,
-        this.resultSet,
-        "ResultSet.getInt",
-        () -> this.resultSet.getInt(columnLabel),
-        columnLabel);
+    if (this.pluginManager.mustUsePipeline(this.resultSet, this, JdbcMethod.RESULTSET_GETINT)) {
+      return WrapperUtils.executeWithPlugins(
+          int.class,
+          SQLException.class,
+          this.pluginManager,
+          this.resultSet,
+          this,
+          JdbcMethod.RESULTSET_GETINT,
+          () -> this.resultSet.getInt(columnLabel),
+          columnLabel);
+    }
+    return this.resultSet.getInt(columnLabel);
   }
 
   @Override
   public long getLong(int columnIndex) throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        long.class,
-        SQLException.class,
-        this.pluginManager,
-        this.resultSet,
-        "ResultSet.getLong",
-        () -> this.resultSet.getLong(columnIndex),
-        columnIndex);
+    if (this.pluginManager.mustUsePipeline(this.resultSet, this, JdbcMethod.RESULTSET_GETLONG)) {
+      return WrapperUtils.executeWithPlugins(
+          long.class,
+          SQLException.class,
+          this.pluginManager,
+          this.resultSet,
+          this,
+          JdbcMethod.RESULTSET_GETLONG,
+          () -> this.resultSet.getLong(columnIndex),
+          columnIndex);
+    }
+    return this.resultSet.getLong(columnIndex);
   }
 
   @Override
   public long getLong(String columnLabel) throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        long.class,
-        SQLException.class,
-        this.pluginManager,
-        this.resultSet,
-        "ResultSet.getLong",
-        () -> this.resultSet.getLong(columnLabel),
-        columnLabel);
+    if (this.pluginManager.mustUsePipeline(this.resultSet, this, JdbcMethod.RESULTSET_GETLONG)) {
+      return WrapperUtils.executeWithPlugins(
+          long.class,
+          SQLException.class,
+          this.pluginManager,
+          this.resultSet,
+          this,
+          JdbcMethod.RESULTSET_GETLONG,
+          () -> this.resultSet.getLong(columnLabel),
+          columnLabel);
+    }
+    return this.resultSet.getLong(columnLabel);
   }
 
   @Override
@@ -627,7 +746,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getMetaData",
+        this,
+        JdbcMethod.RESULTSET_GETMETADATA,
         () -> this.resultSet.getMetaData());
   }
 
@@ -638,7 +758,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getNCharacterStream",
+        this,
+        JdbcMethod.RESULTSET_GETNCHARACTERSTREAM,
         () -> this.resultSet.getNCharacterStream(columnIndex),
         columnIndex);
   }
@@ -650,7 +771,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getNCharacterStream",
+        this,
+        JdbcMethod.RESULTSET_GETNCHARACTERSTREAM,
         () -> this.resultSet.getNCharacterStream(columnLabel),
         columnLabel);
   }
@@ -662,7 +784,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getNClob",
+        this,
+        JdbcMethod.RESULTSET_GETNCLOB,
         () -> this.resultSet.getNClob(columnIndex),
         columnIndex);
   }
@@ -674,33 +797,42 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getNClob",
+        this,
+        JdbcMethod.RESULTSET_GETNCLOB,
         () -> this.resultSet.getNClob(columnLabel),
         columnLabel);
   }
 
   @Override
   public String getNString(int columnIndex) throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        String.class,
-        SQLException.class,
-        this.pluginManager,
-        this.resultSet,
-        "ResultSet.getNString",
-        () -> this.resultSet.getNString(columnIndex),
-        columnIndex);
+    if (this.pluginManager.mustUsePipeline(this.resultSet, this, JdbcMethod.RESULTSET_GETNSTRING)) {
+      return WrapperUtils.executeWithPlugins(
+          String.class,
+          SQLException.class,
+          this.pluginManager,
+          this.resultSet,
+          this,
+          JdbcMethod.RESULTSET_GETNSTRING,
+          () -> this.resultSet.getNString(columnIndex),
+          columnIndex);
+    }
+    return this.resultSet.getNString(columnIndex);
   }
 
   @Override
   public String getNString(String columnLabel) throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        String.class,
-        SQLException.class,
-        this.pluginManager,
-        this.resultSet,
-        "ResultSet.getNString",
-        () -> this.resultSet.getNString(columnLabel),
-        columnLabel);
+    if (this.pluginManager.mustUsePipeline(this.resultSet, this, JdbcMethod.RESULTSET_GETNSTRING)) {
+      return WrapperUtils.executeWithPlugins(
+          String.class,
+          SQLException.class,
+          this.pluginManager,
+          this.resultSet,
+          this,
+          JdbcMethod.RESULTSET_GETNSTRING,
+          () -> this.resultSet.getNString(columnLabel),
+          columnLabel);
+    }
+    return this.resultSet.getNString(columnLabel);
   }
 
   @Override
@@ -710,7 +842,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getObject",
+        this,
+        JdbcMethod.RESULTSET_GETOBJECT,
         () -> this.resultSet.getObject(columnIndex),
         columnIndex);
   }
@@ -722,7 +855,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getObject",
+        this,
+        JdbcMethod.RESULTSET_GETOBJECT,
         () -> this.resultSet.getObject(columnLabel),
         columnLabel);
   }
@@ -734,7 +868,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getObject",
+        this,
+        JdbcMethod.RESULTSET_GETOBJECT,
         () -> this.resultSet.getObject(columnIndex, map),
         columnIndex,
         map);
@@ -747,7 +882,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getObject",
+        this,
+        JdbcMethod.RESULTSET_GETOBJECT,
         () -> this.resultSet.getObject(columnLabel, map),
         columnLabel,
         map);
@@ -760,7 +896,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getObject",
+        this,
+        JdbcMethod.RESULTSET_GETOBJECT,
         () -> this.resultSet.getObject(columnIndex, type),
         columnIndex,
         type);
@@ -773,7 +910,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getObject",
+        this,
+        JdbcMethod.RESULTSET_GETOBJECT,
         () -> this.resultSet.getObject(columnLabel, type),
         columnLabel,
         type);
@@ -786,7 +924,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getRef",
+        this,
+        JdbcMethod.RESULTSET_GETREF,
         () -> this.resultSet.getRef(columnIndex),
         columnIndex);
   }
@@ -798,20 +937,25 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getRef",
+        this,
+        JdbcMethod.RESULTSET_GETREF,
         () -> this.resultSet.getRef(columnLabel),
         columnLabel);
   }
 
   @Override
   public int getRow() throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        int.class,
-        SQLException.class,
-        this.pluginManager,
-        this.resultSet,
-        "ResultSet.getRow",
-        () -> this.resultSet.getRow());
+    if (this.pluginManager.mustUsePipeline(this.resultSet, this, JdbcMethod.RESULTSET_GETROW)) {
+      return WrapperUtils.executeWithPlugins(
+          int.class,
+          SQLException.class,
+          this.pluginManager,
+          this.resultSet,
+          this,
+          JdbcMethod.RESULTSET_GETROW,
+          () -> this.resultSet.getRow());
+    }
+    return this.resultSet.getRow();
   }
 
   @Override
@@ -821,7 +965,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getRowId",
+        this,
+        JdbcMethod.RESULTSET_GETROWID,
         () -> this.resultSet.getRowId(columnIndex),
         columnIndex);
   }
@@ -833,7 +978,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getRowId",
+        this,
+        JdbcMethod.RESULTSET_GETROWID,
         () -> this.resultSet.getRowId(columnLabel),
         columnLabel);
   }
@@ -846,7 +992,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getSQLXML",
+        this,
+        JdbcMethod.RESULTSET_GETSQLXML,
         () -> this.resultSet.getSQLXML(columnIndex),
         columnIndex);
   }
@@ -859,33 +1006,42 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getSQLXML",
+        this,
+        JdbcMethod.RESULTSET_GETSQLXML,
         () -> this.resultSet.getSQLXML(columnLabel),
         columnLabel);
   }
 
   @Override
   public short getShort(int columnIndex) throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        short.class,
-        SQLException.class,
-        this.pluginManager,
-        this.resultSet,
-        "ResultSet.getShort",
-        () -> this.resultSet.getShort(columnIndex),
-        columnIndex);
+    if (this.pluginManager.mustUsePipeline(this.resultSet, this, JdbcMethod.RESULTSET_GETSHORT)) {
+      return WrapperUtils.executeWithPlugins(
+          short.class,
+          SQLException.class,
+          this.pluginManager,
+          this.resultSet,
+          this,
+          JdbcMethod.RESULTSET_GETSHORT,
+          () -> this.resultSet.getShort(columnIndex),
+          columnIndex);
+    }
+    return this.resultSet.getShort(columnIndex);
   }
 
   @Override
   public short getShort(String columnLabel) throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        short.class,
-        SQLException.class,
-        this.pluginManager,
-        this.resultSet,
-        "ResultSet.getShort",
-        () -> this.resultSet.getShort(columnLabel),
-        columnLabel);
+    if (this.pluginManager.mustUsePipeline(this.resultSet, this, JdbcMethod.RESULTSET_GETSHORT)) {
+      return WrapperUtils.executeWithPlugins(
+          short.class,
+          SQLException.class,
+          this.pluginManager,
+          this.resultSet,
+          this,
+          JdbcMethod.RESULTSET_GETSHORT,
+          () -> this.resultSet.getShort(columnLabel),
+          columnLabel);
+    }
+    return this.resultSet.getShort(columnLabel);
   }
 
   @Override
@@ -895,132 +1051,173 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getStatement",
+        this,
+        JdbcMethod.RESULTSET_GETSTATEMENT,
         () -> this.resultSet.getStatement());
   }
 
   @Override
   public String getString(int columnIndex) throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        String.class,
-        SQLException.class,
-        this.pluginManager,
-        this.resultSet,
-        "ResultSet.getString",
-        () -> this.resultSet.getString(columnIndex),
-        columnIndex);
+    if (this.pluginManager.mustUsePipeline(this.resultSet, this, JdbcMethod.RESULTSET_GETSTRING)) {
+      return WrapperUtils.executeWithPlugins(
+          String.class,
+          SQLException.class,
+          this.pluginManager,
+          this.resultSet,
+          this,
+          JdbcMethod.RESULTSET_GETSTRING,
+          () -> this.resultSet.getString(columnIndex),
+          columnIndex);
+    }
+    return this.resultSet.getString(columnIndex);
   }
 
   @Override
   public String getString(String columnLabel) throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        String.class,
-        SQLException.class,
-        this.pluginManager,
-        this.resultSet,
-        "ResultSet.getString",
-        () -> this.resultSet.getString(columnLabel),
-        columnLabel);
+    if (this.pluginManager.mustUsePipeline(this.resultSet, this, JdbcMethod.RESULTSET_GETSTRING)) {
+      return WrapperUtils.executeWithPlugins(
+          String.class,
+          SQLException.class,
+          this.pluginManager,
+          this.resultSet,
+          this,
+          JdbcMethod.RESULTSET_GETSTRING,
+          () -> this.resultSet.getString(columnLabel),
+          columnLabel);
+    }
+    return this.resultSet.getString(columnLabel);
   }
 
   @Override
   public Time getTime(int columnIndex) throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        Time.class,
-        SQLException.class,
-        this.pluginManager,
-        this.resultSet,
-        "ResultSet.getTime",
-        () -> this.resultSet.getTime(columnIndex),
-        columnIndex);
+    if (this.pluginManager.mustUsePipeline(this.resultSet, this, JdbcMethod.RESULTSET_GETTIME)) {
+      return WrapperUtils.executeWithPlugins(
+          Time.class,
+          SQLException.class,
+          this.pluginManager,
+          this.resultSet,
+          this,
+          JdbcMethod.RESULTSET_GETTIME,
+          () -> this.resultSet.getTime(columnIndex),
+          columnIndex);
+    }
+    return this.resultSet.getTime(columnIndex);
   }
 
   @Override
   public Time getTime(String columnLabel) throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        Time.class,
-        SQLException.class,
-        this.pluginManager,
-        this.resultSet,
-        "ResultSet.getTime",
-        () -> this.resultSet.getTime(columnLabel),
-        columnLabel);
+    if (this.pluginManager.mustUsePipeline(this.resultSet, this, JdbcMethod.RESULTSET_GETTIME)) {
+      return WrapperUtils.executeWithPlugins(
+          Time.class,
+          SQLException.class,
+          this.pluginManager,
+          this.resultSet,
+          this,
+          JdbcMethod.RESULTSET_GETTIME,
+          () -> this.resultSet.getTime(columnLabel),
+          columnLabel);
+    }
+    return this.resultSet.getTime(columnLabel);
   }
 
   @Override
   public Time getTime(int columnIndex, Calendar cal) throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        Time.class,
-        SQLException.class,
-        this.pluginManager,
-        this.resultSet,
-        "ResultSet.getTime",
-        () -> this.resultSet.getTime(columnIndex, cal),
-        columnIndex,
-        cal);
+    if (this.pluginManager.mustUsePipeline(this.resultSet, this, JdbcMethod.RESULTSET_GETTIME)) {
+      return WrapperUtils.executeWithPlugins(
+          Time.class,
+          SQLException.class,
+          this.pluginManager,
+          this.resultSet,
+          this,
+          JdbcMethod.RESULTSET_GETTIME,
+          () -> this.resultSet.getTime(columnIndex, cal),
+          columnIndex,
+          cal);
+    }
+    return this.resultSet.getTime(columnIndex, cal);
   }
 
   @Override
   public Time getTime(String columnLabel, Calendar cal) throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        Time.class,
-        SQLException.class,
-        this.pluginManager,
-        this.resultSet,
-        "ResultSet.getTime",
-        () -> this.resultSet.getTime(columnLabel, cal),
-        columnLabel,
-        cal);
+    if (this.pluginManager.mustUsePipeline(this.resultSet, this, JdbcMethod.RESULTSET_GETTIME)) {
+      return WrapperUtils.executeWithPlugins(
+          Time.class,
+          SQLException.class,
+          this.pluginManager,
+          this.resultSet,
+          this,
+          JdbcMethod.RESULTSET_GETTIME,
+          () -> this.resultSet.getTime(columnLabel, cal),
+          columnLabel,
+          cal);
+    }
+    return this.resultSet.getTime(columnLabel, cal);
   }
 
   @Override
   public Timestamp getTimestamp(int columnIndex) throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        Timestamp.class,
-        SQLException.class,
-        this.pluginManager,
-        this.resultSet,
-        "ResultSet.getTimestamp",
-        () -> this.resultSet.getTimestamp(columnIndex),
-        columnIndex);
+    if (this.pluginManager.mustUsePipeline(this.resultSet, this, JdbcMethod.RESULTSET_GETTIMESTAMP)) {
+      return WrapperUtils.executeWithPlugins(
+          Timestamp.class,
+          SQLException.class,
+          this.pluginManager,
+          this.resultSet,
+          this,
+          JdbcMethod.RESULTSET_GETTIMESTAMP,
+          () -> this.resultSet.getTimestamp(columnIndex),
+          columnIndex);
+    }
+    return this.resultSet.getTimestamp(columnIndex);
   }
 
   @Override
   public Timestamp getTimestamp(String columnLabel) throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        Timestamp.class,
-        SQLException.class,
-        this.pluginManager,
-        this.resultSet,
-        "ResultSet.getTimestamp",
-        () -> this.resultSet.getTimestamp(columnLabel),
-        columnLabel);
+    if (this.pluginManager.mustUsePipeline(this.resultSet, this, JdbcMethod.RESULTSET_GETTIMESTAMP)) {
+      return WrapperUtils.executeWithPlugins(
+          Timestamp.class,
+          SQLException.class,
+          this.pluginManager,
+          this.resultSet,
+          this,
+          JdbcMethod.RESULTSET_GETTIMESTAMP,
+          () -> this.resultSet.getTimestamp(columnLabel),
+          columnLabel);
+    }
+    return this.resultSet.getTimestamp(columnLabel);
   }
 
   @Override
   public Timestamp getTimestamp(int columnIndex, Calendar cal) throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        Timestamp.class,
-        SQLException.class,
-        this.pluginManager,
-        this.resultSet,
-        "ResultSet.getTimestamp",
-        () -> this.resultSet.getTimestamp(columnIndex, cal),
-        columnIndex,
-        cal);
+    if (this.pluginManager.mustUsePipeline(this.resultSet, this, JdbcMethod.RESULTSET_GETTIMESTAMP)) {
+      return WrapperUtils.executeWithPlugins(
+          Timestamp.class,
+          SQLException.class,
+          this.pluginManager,
+          this.resultSet,
+          this,
+          JdbcMethod.RESULTSET_GETTIMESTAMP,
+          () -> this.resultSet.getTimestamp(columnIndex, cal),
+          columnIndex,
+          cal);
+    }
+    return this.resultSet.getTimestamp(columnIndex, cal);
   }
 
   @Override
   public Timestamp getTimestamp(String columnLabel, Calendar cal) throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        Timestamp.class,
-        SQLException.class,
-        this.pluginManager,
-        this.resultSet,
-        "ResultSet.getTimestamp",
-        () -> this.resultSet.getTimestamp(columnLabel, cal),
-        columnLabel,
-        cal);
+    if (this.pluginManager.mustUsePipeline(this.resultSet, this, JdbcMethod.RESULTSET_GETTIMESTAMP)) {
+      return WrapperUtils.executeWithPlugins(
+          Timestamp.class,
+          SQLException.class,
+          this.pluginManager,
+          this.resultSet,
+          this,
+          JdbcMethod.RESULTSET_GETTIMESTAMP,
+          () -> this.resultSet.getTimestamp(columnLabel, cal),
+          columnLabel,
+          cal);
+    }
+    return this.resultSet.getTimestamp(columnLabel, cal);
   }
 
   @Override
@@ -1031,7 +1228,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getType",
+        this,
+        JdbcMethod.RESULTSET_GETTYPE,
         () -> this.resultSet.getType());
   }
 
@@ -1042,7 +1240,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getURL",
+        this,
+        JdbcMethod.RESULTSET_GETURL,
         () -> this.resultSet.getURL(columnIndex),
         columnIndex);
   }
@@ -1054,7 +1253,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getURL",
+        this,
+        JdbcMethod.RESULTSET_GETURL,
         () -> this.resultSet.getURL(columnLabel),
         columnLabel);
   }
@@ -1067,7 +1267,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getUnicodeStream",
+        this,
+        JdbcMethod.RESULTSET_GETUNICODESTREAM,
         () -> this.resultSet.getUnicodeStream(columnIndex),
         columnIndex);
   }
@@ -1080,7 +1281,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getUnicodeStream",
+        this,
+        JdbcMethod.RESULTSET_GETUNICODESTREAM,
         () -> this.resultSet.getUnicodeStream(columnLabel),
         columnLabel);
   }
@@ -1092,7 +1294,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.getWarnings",
+        this,
+        JdbcMethod.RESULTSET_GETWARNINGS,
         () -> this.resultSet.getWarnings());
   }
 
@@ -1102,7 +1305,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.insertRow",
+        this,
+        JdbcMethod.RESULTSET_INSERTROW,
         () -> this.resultSet.insertRow());
   }
 
@@ -1113,7 +1317,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.isAfterLast",
+        this,
+        JdbcMethod.RESULTSET_ISAFTERLAST,
         () -> this.resultSet.isAfterLast());
   }
 
@@ -1124,7 +1329,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.isBeforeFirst",
+        this,
+        JdbcMethod.RESULTSET_ISBEFOREFIRST,
         () -> this.resultSet.isBeforeFirst());
   }
 
@@ -1135,7 +1341,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.isClosed",
+        this,
+        JdbcMethod.RESULTSET_ISCLOSED,
         () -> this.resultSet.isClosed());
   }
 
@@ -1146,7 +1353,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.isFirst",
+        this,
+        JdbcMethod.RESULTSET_ISFIRST,
         () -> this.resultSet.isFirst());
   }
 
@@ -1157,7 +1365,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.isLast",
+        this,
+        JdbcMethod.RESULTSET_ISLAST,
         () -> this.resultSet.isLast());
   }
 
@@ -1173,7 +1382,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.last",
+        this,
+        JdbcMethod.RESULTSET_LAST,
         () -> this.resultSet.last());
   }
 
@@ -1183,7 +1393,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.moveToCurrentRow",
+        this,
+        JdbcMethod.RESULTSET_MOVETOCURRENTROW,
         () -> this.resultSet.moveToCurrentRow());
   }
 
@@ -1193,19 +1404,24 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.moveToInsertRow",
+        this,
+        JdbcMethod.RESULTSET_MOVETOINSERTROW,
         () -> this.resultSet.moveToInsertRow());
   }
 
   @Override
   public boolean next() throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        boolean.class,
-        SQLException.class,
-        this.pluginManager,
-        this.resultSet,
-        "ResultSet.next",
-        () -> this.resultSet.next());
+    if (this.pluginManager.mustUsePipeline(this.resultSet, this, JdbcMethod.RESULTSET_NEXT)) {
+      return WrapperUtils.executeWithPlugins(
+          boolean.class,
+          SQLException.class,
+          this.pluginManager,
+          this.resultSet,
+          this,
+          JdbcMethod.RESULTSET_NEXT,
+          () -> this.resultSet.next());
+    }
+    return this.resultSet.next();
   }
 
   @Override
@@ -1215,7 +1431,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.previous",
+        this,
+        JdbcMethod.RESULTSET_PREVIOUS,
         () -> this.resultSet.previous());
   }
 
@@ -1225,7 +1442,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.refreshRow",
+        this,
+        JdbcMethod.RESULTSET_REFRESHROW,
         () -> this.resultSet.refreshRow());
   }
 
@@ -1236,7 +1454,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.relative",
+        this,
+        JdbcMethod.RESULTSET_RELATIVE,
         () -> this.resultSet.relative(rows),
         rows);
   }
@@ -1248,7 +1467,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.rowDeleted",
+        this,
+        JdbcMethod.RESULTSET_ROWDELETED,
         () -> this.resultSet.rowDeleted());
   }
 
@@ -1259,7 +1479,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.rowInserted",
+        this,
+        JdbcMethod.RESULTSET_ROWINSERTED,
         () -> this.resultSet.rowInserted());
   }
 
@@ -1270,7 +1491,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.rowUpdated",
+        this,
+        JdbcMethod.RESULTSET_ROWUPDATED,
         () -> this.resultSet.rowUpdated());
   }
 
@@ -1280,7 +1502,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.setFetchDirection",
+        this,
+        JdbcMethod.RESULTSET_SETFETCHDIRECTION,
         () -> this.resultSet.setFetchDirection(direction),
         direction);
   }
@@ -1291,7 +1514,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.setFetchSize",
+        this,
+        JdbcMethod.RESULTSET_SETFETCHSIZE,
         () -> this.resultSet.setFetchSize(rows),
         rows);
   }
@@ -1307,7 +1531,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateArray",
+        this,
+        JdbcMethod.RESULTSET_UPDATEARRAY,
         () -> this.resultSet.updateArray(columnIndex, x),
         columnIndex,
         x);
@@ -1319,7 +1544,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateArray",
+        this,
+        JdbcMethod.RESULTSET_UPDATEARRAY,
         () -> this.resultSet.updateArray(columnLabel, x),
         columnLabel,
         x);
@@ -1331,7 +1557,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateAsciiStream",
+        this,
+        JdbcMethod.RESULTSET_UPDATEASCIISTREAM,
         () -> this.resultSet.updateAsciiStream(columnIndex, x, length),
         columnIndex,
         x,
@@ -1344,7 +1571,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateAsciiStream",
+        this,
+        JdbcMethod.RESULTSET_UPDATEASCIISTREAM,
         () -> this.resultSet.updateAsciiStream(columnLabel, x, length),
         columnLabel,
         x,
@@ -1357,7 +1585,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateAsciiStream",
+        this,
+        JdbcMethod.RESULTSET_UPDATEASCIISTREAM,
         () -> this.resultSet.updateAsciiStream(columnIndex, x, length),
         columnIndex,
         x,
@@ -1371,7 +1600,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateAsciiStream",
+        this,
+        JdbcMethod.RESULTSET_UPDATEASCIISTREAM,
         () -> this.resultSet.updateAsciiStream(columnLabel, x, length),
         columnLabel,
         x,
@@ -1384,7 +1614,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateAsciiStream",
+        this,
+        JdbcMethod.RESULTSET_UPDATEASCIISTREAM,
         () -> this.resultSet.updateAsciiStream(columnIndex, x),
         columnIndex,
         x);
@@ -1396,7 +1627,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateAsciiStream",
+        this,
+        JdbcMethod.RESULTSET_UPDATEASCIISTREAM,
         () -> this.resultSet.updateAsciiStream(columnLabel, x),
         columnLabel,
         x);
@@ -1408,7 +1640,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateBigDecimal",
+        this,
+        JdbcMethod.RESULTSET_UPDATEBIGDECIMAL,
         () -> this.resultSet.updateBigDecimal(columnIndex, x),
         columnIndex,
         x);
@@ -1420,7 +1653,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateBigDecimal",
+        this,
+        JdbcMethod.RESULTSET_UPDATEBIGDECIMAL,
         () -> this.resultSet.updateBigDecimal(columnLabel, x),
         columnLabel,
         x);
@@ -1432,7 +1666,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateBinaryStream",
+        this,
+        JdbcMethod.RESULTSET_UPDATEBINARYSTREAM,
         () -> this.resultSet.updateBinaryStream(columnIndex, x, length),
         columnIndex,
         x,
@@ -1446,7 +1681,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateBinaryStream",
+        this,
+        JdbcMethod.RESULTSET_UPDATEBINARYSTREAM,
         () -> this.resultSet.updateBinaryStream(columnLabel, x, length),
         columnLabel,
         x,
@@ -1459,7 +1695,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateBinaryStream",
+        this,
+        JdbcMethod.RESULTSET_UPDATEBINARYSTREAM,
         () -> this.resultSet.updateBinaryStream(columnIndex, x, length),
         columnIndex,
         x,
@@ -1473,7 +1710,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateBinaryStream",
+        this,
+        JdbcMethod.RESULTSET_UPDATEBINARYSTREAM,
         () -> this.resultSet.updateBinaryStream(columnLabel, x, length),
         columnLabel,
         x,
@@ -1486,7 +1724,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateBinaryStream",
+        this,
+        JdbcMethod.RESULTSET_UPDATEBINARYSTREAM,
         () -> this.resultSet.updateBinaryStream(columnIndex, x),
         columnIndex,
         x);
@@ -1498,7 +1737,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateBinaryStream",
+        this,
+        JdbcMethod.RESULTSET_UPDATEBINARYSTREAM,
         () -> this.resultSet.updateBinaryStream(columnLabel, x),
         columnLabel,
         x);
@@ -1510,7 +1750,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateBlob",
+        this,
+        JdbcMethod.RESULTSET_UPDATEBLOB,
         () -> this.resultSet.updateBlob(columnIndex, x),
         columnIndex,
         x);
@@ -1522,7 +1763,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateBlob",
+        this,
+        JdbcMethod.RESULTSET_UPDATEBLOB,
         () -> this.resultSet.updateBlob(columnLabel, x),
         columnLabel,
         x);
@@ -1535,7 +1777,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateBlob",
+        this,
+        JdbcMethod.RESULTSET_UPDATEBLOB,
         () -> this.resultSet.updateBlob(columnIndex, inputStream, length),
         columnIndex,
         inputStream,
@@ -1549,7 +1792,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateBlob",
+        this,
+        JdbcMethod.RESULTSET_UPDATEBLOB,
         () -> this.resultSet.updateBlob(columnLabel, inputStream, length),
         columnLabel,
         inputStream,
@@ -1562,7 +1806,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateBlob",
+        this,
+        JdbcMethod.RESULTSET_UPDATEBLOB,
         () -> this.resultSet.updateBlob(columnIndex, inputStream),
         columnIndex,
         inputStream);
@@ -1574,7 +1819,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateBlob",
+        this,
+        JdbcMethod.RESULTSET_UPDATEBLOB,
         () -> this.resultSet.updateBlob(columnLabel, inputStream),
         columnLabel,
         inputStream);
@@ -1586,7 +1832,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateBoolean",
+        this,
+        JdbcMethod.RESULTSET_UPDATEBOOLEAN,
         () -> this.resultSet.updateBoolean(columnIndex, x),
         columnIndex,
         x);
@@ -1598,7 +1845,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateBoolean",
+        this,
+        JdbcMethod.RESULTSET_UPDATEBOOLEAN,
         () -> this.resultSet.updateBoolean(columnLabel, x),
         columnLabel,
         x);
@@ -1610,7 +1858,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateByte",
+        this,
+        JdbcMethod.RESULTSET_UPDATEBYTE,
         () -> this.resultSet.updateByte(columnIndex, x),
         columnIndex,
         x);
@@ -1622,7 +1871,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateByte",
+        this,
+        JdbcMethod.RESULTSET_UPDATEBYTE,
         () -> this.resultSet.updateByte(columnLabel, x),
         columnLabel,
         x);
@@ -1634,7 +1884,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateBytes",
+        this,
+        JdbcMethod.RESULTSET_UPDATEBYTES,
         () -> this.resultSet.updateBytes(columnIndex, x),
         columnIndex,
         x);
@@ -1646,7 +1897,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateBytes",
+        this,
+        JdbcMethod.RESULTSET_UPDATEBYTES,
         () -> this.resultSet.updateBytes(columnLabel, x),
         columnLabel,
         x);
@@ -1658,7 +1910,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateCharacterStream",
+        this,
+        JdbcMethod.RESULTSET_UPDATECHARACTERSTREAM,
         () -> this.resultSet.updateCharacterStream(columnIndex, x, length),
         columnIndex,
         x,
@@ -1672,7 +1925,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateCharacterStream",
+        this,
+        JdbcMethod.RESULTSET_UPDATECHARACTERSTREAM,
         () -> this.resultSet.updateCharacterStream(columnLabel, reader, length),
         columnLabel,
         reader,
@@ -1685,7 +1939,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateCharacterStream",
+        this,
+        JdbcMethod.RESULTSET_UPDATECHARACTERSTREAM,
         () -> this.resultSet.updateCharacterStream(columnIndex, x, length),
         columnIndex,
         x,
@@ -1699,7 +1954,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateCharacterStream",
+        this,
+        JdbcMethod.RESULTSET_UPDATECHARACTERSTREAM,
         () -> this.resultSet.updateCharacterStream(columnLabel, reader, length),
         columnLabel,
         reader,
@@ -1712,7 +1968,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateCharacterStream",
+        this,
+        JdbcMethod.RESULTSET_UPDATECHARACTERSTREAM,
         () -> this.resultSet.updateCharacterStream(columnIndex, x),
         columnIndex,
         x);
@@ -1724,7 +1981,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateCharacterStream",
+        this,
+        JdbcMethod.RESULTSET_UPDATECHARACTERSTREAM,
         () -> this.resultSet.updateCharacterStream(columnLabel, reader),
         columnLabel,
         reader);
@@ -1736,7 +1994,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateClob",
+        this,
+        JdbcMethod.RESULTSET_UPDATECLOB,
         () -> this.resultSet.updateClob(columnIndex, x),
         columnIndex,
         x);
@@ -1748,7 +2007,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateClob",
+        this,
+        JdbcMethod.RESULTSET_UPDATECLOB,
         () -> this.resultSet.updateClob(columnLabel, x),
         columnLabel,
         x);
@@ -1760,7 +2020,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateClob",
+        this,
+        JdbcMethod.RESULTSET_UPDATECLOB,
         () -> this.resultSet.updateClob(columnIndex, reader, length),
         columnIndex,
         reader,
@@ -1773,7 +2034,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateClob",
+        this,
+        JdbcMethod.RESULTSET_UPDATECLOB,
         () -> this.resultSet.updateClob(columnLabel, reader, length),
         columnLabel,
         reader,
@@ -1786,7 +2048,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateClob",
+        this,
+        JdbcMethod.RESULTSET_UPDATECLOB,
         () -> this.resultSet.updateClob(columnIndex, reader),
         columnIndex,
         reader);
@@ -1798,7 +2061,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateClob",
+        this,
+        JdbcMethod.RESULTSET_UPDATECLOB,
         () -> this.resultSet.updateClob(columnLabel, reader),
         columnLabel,
         reader);
@@ -1810,7 +2074,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateDate",
+        this,
+        JdbcMethod.RESULTSET_UPDATEDATE,
         () -> this.resultSet.updateDate(columnIndex, x),
         columnIndex,
         x);
@@ -1822,7 +2087,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateDate",
+        this,
+        JdbcMethod.RESULTSET_UPDATEDATE,
         () -> this.resultSet.updateDate(columnLabel, x),
         columnLabel,
         x);
@@ -1834,7 +2100,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateDouble",
+        this,
+        JdbcMethod.RESULTSET_UPDATEDOUBLE,
         () -> this.resultSet.updateDouble(columnIndex, x),
         columnIndex,
         x);
@@ -1846,7 +2113,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateDouble",
+        this,
+        JdbcMethod.RESULTSET_UPDATEDOUBLE,
         () -> this.resultSet.updateDouble(columnLabel, x),
         columnLabel,
         x);
@@ -1858,7 +2126,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateFloat",
+        this,
+        JdbcMethod.RESULTSET_UPDATEFLOAT,
         () -> this.resultSet.updateFloat(columnIndex, x),
         columnIndex,
         x);
@@ -1870,7 +2139,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateFloat",
+        this,
+        JdbcMethod.RESULTSET_UPDATEFLOAT,
         () -> this.resultSet.updateFloat(columnLabel, x),
         columnLabel,
         x);
@@ -1882,7 +2152,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateInt",
+        this,
+        JdbcMethod.RESULTSET_UPDATEINT,
         () -> this.resultSet.updateInt(columnIndex, x),
         columnIndex,
         x);
@@ -1894,7 +2165,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateInt",
+        this,
+        JdbcMethod.RESULTSET_UPDATEINT,
         () -> this.resultSet.updateInt(columnLabel, x),
         columnLabel,
         x);
@@ -1906,7 +2178,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateLong",
+        this,
+        JdbcMethod.RESULTSET_UPDATELONG,
         () -> this.resultSet.updateLong(columnIndex, x),
         columnIndex,
         x);
@@ -1918,7 +2191,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateLong",
+        this,
+        JdbcMethod.RESULTSET_UPDATELONG,
         () -> this.resultSet.updateLong(columnLabel, x),
         columnLabel,
         x);
@@ -1930,7 +2204,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateNCharacterStream",
+        this,
+        JdbcMethod.RESULTSET_UPDATENCHARACTERSTREAM,
         () -> this.resultSet.updateNCharacterStream(columnIndex, x, length),
         columnIndex,
         x,
@@ -1944,7 +2219,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateNCharacterStream",
+        this,
+        JdbcMethod.RESULTSET_UPDATENCHARACTERSTREAM,
         () -> this.resultSet.updateNCharacterStream(columnLabel, reader, length),
         columnLabel,
         reader,
@@ -1957,7 +2233,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateNCharacterStream",
+        this,
+        JdbcMethod.RESULTSET_UPDATENCHARACTERSTREAM,
         () -> this.resultSet.updateNCharacterStream(columnIndex, x),
         columnIndex,
         x);
@@ -1969,7 +2246,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateNCharacterStream",
+        this,
+        JdbcMethod.RESULTSET_UPDATENCHARACTERSTREAM,
         () -> this.resultSet.updateNCharacterStream(columnLabel, reader),
         columnLabel,
         reader);
@@ -1982,7 +2260,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateNClob",
+        this,
+        JdbcMethod.RESULTSET_UPDATENCLOB,
         () -> this.resultSet.updateNClob(columnIndex, nClob),
         columnIndex,
         nClob);
@@ -1995,7 +2274,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateNClob",
+        this,
+        JdbcMethod.RESULTSET_UPDATENCLOB,
         () -> this.resultSet.updateNClob(columnLabel, nClob),
         columnLabel,
         nClob);
@@ -2007,7 +2287,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateNClob",
+        this,
+        JdbcMethod.RESULTSET_UPDATENCLOB,
         () -> this.resultSet.updateNClob(columnIndex, reader, length),
         columnIndex,
         reader,
@@ -2020,7 +2301,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateNClob",
+        this,
+        JdbcMethod.RESULTSET_UPDATENCLOB,
         () -> this.resultSet.updateNClob(columnLabel, reader, length),
         columnLabel,
         reader,
@@ -2033,7 +2315,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateNClob",
+        this,
+        JdbcMethod.RESULTSET_UPDATENCLOB,
         () -> this.resultSet.updateNClob(columnIndex, reader),
         columnIndex,
         reader);
@@ -2045,7 +2328,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateNClob",
+        this,
+        JdbcMethod.RESULTSET_UPDATENCLOB,
         () -> this.resultSet.updateNClob(columnLabel, reader),
         columnLabel,
         reader);
@@ -2058,7 +2342,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateNString",
+        this,
+        JdbcMethod.RESULTSET_UPDATENSTRING,
         () -> this.resultSet.updateNString(columnIndex, nString),
         columnIndex,
         nString);
@@ -2071,7 +2356,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateNString",
+        this,
+        JdbcMethod.RESULTSET_UPDATENSTRING,
         () -> this.resultSet.updateNString(columnLabel, nString),
         columnLabel,
         nString);
@@ -2083,7 +2369,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateNull",
+        this,
+        JdbcMethod.RESULTSET_UPDATENULL,
         () -> this.resultSet.updateNull(columnIndex),
         columnIndex);
   }
@@ -2094,7 +2381,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateNull",
+        this,
+        JdbcMethod.RESULTSET_UPDATENULL,
         () -> this.resultSet.updateNull(columnLabel),
         columnLabel);
   }
@@ -2105,7 +2393,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateObject",
+        this,
+        JdbcMethod.RESULTSET_UPDATEOBJECT,
         () -> this.resultSet.updateObject(columnIndex, x, scaleOrLength),
         columnIndex,
         x,
@@ -2118,7 +2407,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateObject",
+        this,
+        JdbcMethod.RESULTSET_UPDATEOBJECT,
         () -> this.resultSet.updateObject(columnIndex, x),
         columnIndex,
         x);
@@ -2130,7 +2420,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateObject",
+        this,
+        JdbcMethod.RESULTSET_UPDATEOBJECT,
         () -> this.resultSet.updateObject(columnLabel, x, scaleOrLength),
         columnLabel,
         x,
@@ -2143,7 +2434,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateObject",
+        this,
+        JdbcMethod.RESULTSET_UPDATEOBJECT,
         () -> this.resultSet.updateObject(columnLabel, x),
         columnLabel,
         x);
@@ -2156,7 +2448,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateObject",
+        this,
+        JdbcMethod.RESULTSET_UPDATEOBJECT,
         () -> this.resultSet.updateObject(columnIndex, x, targetSqlType, scaleOrLength),
         columnIndex,
         x,
@@ -2171,7 +2464,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateObject",
+        this,
+        JdbcMethod.RESULTSET_UPDATEOBJECT,
         () -> this.resultSet.updateObject(columnLabel, x, targetSqlType, scaleOrLength),
         columnLabel,
         x,
@@ -2185,7 +2479,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateObject",
+        this,
+        JdbcMethod.RESULTSET_UPDATEOBJECT,
         () -> this.resultSet.updateObject(columnIndex, x, targetSqlType),
         columnIndex,
         x,
@@ -2199,7 +2494,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateObject",
+        this,
+        JdbcMethod.RESULTSET_UPDATEOBJECT,
         () -> this.resultSet.updateObject(columnLabel, x, targetSqlType),
         columnLabel,
         x,
@@ -2212,7 +2508,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateRef",
+        this,
+        JdbcMethod.RESULTSET_UPDATEREF,
         () -> this.resultSet.updateRef(columnIndex, x),
         columnIndex,
         x);
@@ -2224,7 +2521,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateRef",
+        this,
+        JdbcMethod.RESULTSET_UPDATEREF,
         () -> this.resultSet.updateRef(columnLabel, x),
         columnLabel,
         x);
@@ -2236,7 +2534,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateRow",
+        this,
+        JdbcMethod.RESULTSET_UPDATEROW,
         () -> this.resultSet.updateRow());
   }
 
@@ -2246,7 +2545,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateRowId",
+        this,
+        JdbcMethod.RESULTSET_UPDATEROWID,
         () -> this.resultSet.updateRowId(columnIndex, x),
         columnIndex,
         x);
@@ -2258,7 +2558,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateRowId",
+        this,
+        JdbcMethod.RESULTSET_UPDATEROWID,
         () -> this.resultSet.updateRowId(columnLabel, x),
         columnLabel,
         x);
@@ -2270,7 +2571,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateSQLXML",
+        this,
+        JdbcMethod.RESULTSET_UPDATESQLXML,
         () -> this.resultSet.updateSQLXML(columnIndex, xmlObject),
         columnIndex,
         xmlObject);
@@ -2282,7 +2584,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateSQLXML",
+        this,
+        JdbcMethod.RESULTSET_UPDATESQLXML,
         () -> this.resultSet.updateSQLXML(columnLabel, xmlObject),
         columnLabel,
         xmlObject);
@@ -2294,7 +2597,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateShort",
+        this,
+        JdbcMethod.RESULTSET_UPDATESHORT,
         () -> this.resultSet.updateShort(columnIndex, x),
         columnIndex,
         x);
@@ -2306,7 +2610,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateShort",
+        this,
+        JdbcMethod.RESULTSET_UPDATESHORT,
         () -> this.resultSet.updateShort(columnLabel, x),
         columnLabel,
         x);
@@ -2318,7 +2623,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateString",
+        this,
+        JdbcMethod.RESULTSET_UPDATESTRING,
         () -> this.resultSet.updateString(columnIndex, x),
         columnIndex,
         x);
@@ -2330,7 +2636,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateString",
+        this,
+        JdbcMethod.RESULTSET_UPDATESTRING,
         () -> this.resultSet.updateString(columnLabel, x),
         columnLabel,
         x);
@@ -2342,7 +2649,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateTime",
+        this,
+        JdbcMethod.RESULTSET_UPDATETIME,
         () -> this.resultSet.updateTime(columnIndex, x),
         columnIndex,
         x);
@@ -2354,7 +2662,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateTime",
+        this,
+        JdbcMethod.RESULTSET_UPDATETIME,
         () -> this.resultSet.updateTime(columnLabel, x),
         columnLabel,
         x);
@@ -2366,7 +2675,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateTimestamp",
+        this,
+        JdbcMethod.RESULTSET_UPDATETIMESTAMP,
         () -> this.resultSet.updateTimestamp(columnIndex, x),
         columnIndex,
         x);
@@ -2378,7 +2688,8 @@ public class ResultSetWrapper implements ResultSet {
         SQLException.class,
         this.pluginManager,
         this.resultSet,
-        "ResultSet.updateTimestamp",
+        this,
+        JdbcMethod.RESULTSET_UPDATETIMESTAMP,
         () -> this.resultSet.updateTimestamp(columnLabel, x),
         columnLabel,
         x);
@@ -2386,13 +2697,27 @@ public class ResultSetWrapper implements ResultSet {
 
   @Override
   public boolean wasNull() throws SQLException {
-    return WrapperUtils.executeWithPlugins(
-        boolean.class,
-        SQLException.class,
-        this.pluginManager,
-        this.resultSet,
-        "ResultSet.wasNull",
-        () -> this.resultSet.wasNull());
+    if (this.pluginManager.mustUsePipeline(this.resultSet, this, JdbcMethod.RESULTSET_WASNULL)) {
+      return WrapperUtils.executeWithPlugins(
+          boolean.class,
+          SQLException.class,
+          this.pluginManager,
+          this.resultSet,
+          this,
+          JdbcMethod.RESULTSET_WASNULL,
+          () -> this.resultSet.wasNull());
+    }
+    return this.resultSet.wasNull();
+  }
+
+  @Override
+  public int getConnectionEpoch() {
+    return this.connectionEpoch;
+  }
+
+  @Override
+  public void setConnectionEpoch(final int connectionEpoch) {
+    this.connectionEpoch = connectionEpoch;
   }
 
   @Override
@@ -34,6 +34,7 @@ import java.sql.Time;
 import java.sql.Timestamp;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import software.amazon.jdbc.ConnectionPluginManager;
+import software.amazon.jdbc.JdbcMethod;
 import software.amazon.jdbc.util.WrapperUtils;
 
 public class SQLInputWrapper implements SQLInput {
@@ -54,7 +55,7 @@ public class SQLInputWrapper implements SQLInput {
         SQLException.class,
         this.pluginManager,
         this.sqlInput,
-        "SQLInput.readString",
+        JdbcMethod.SQLINPUT_READSTRING,
         () -> this.sqlInput.readString());
   }
 
@@ -65,7 +66,7 @@ public class SQLInputWrapper implements SQLInput {
         SQLException.class,
         this.pluginManager,
         this.sqlInput,
-        "SQLInput.readBoolean",
+        JdbcMethod.SQLINPUT_READBOOLEAN,
         () -> this.sqlInput.readBoolean());
   }
 
@@ -76,7 +77,7 @@ public class SQLInputWrapper implements SQLInput {
         SQLException.class,
         this.pluginManager,
         this.sqlInput,
-        "SQLInput.readByte",
+        JdbcMethod.SQLINPUT_READBYTE,
         () -> this.sqlInput.readByte());
   }
 
@@ -87,7 +88,7 @@ public class SQLInputWrapper implements SQLInput {
         SQLException.class,
         this.pluginManager,
         this.sqlInput,
-        "SQLInput.readShort",
+        JdbcMethod.SQLINPUT_READSHORT,
         () -> this.sqlInput.readShort());
   }
 
@@ -98,7 +99,7 @@ public class SQLInputWrapper implements SQLInput {
         SQLException.class,
         this.pluginManager,
         this.sqlInput,
-        "SQLInput.readInt",
+        JdbcMethod.SQLINPUT_READINT,
         () -> this.sqlInput.readInt());
   }
 
@@ -109,7 +110,7 @@ public class SQLInputWrapper implements SQLInput {
         SQLException.class,
         this.pluginManager,
         this.sqlInput,
-        "SQLInput.readLong",
+        JdbcMethod.SQLINPUT_READLONG,
         () -> this.sqlInput.readLong());
   }
 
@@ -120,7 +121,7 @@ public class SQLInputWrapper implements SQLInput {
         SQLException.class,
         this.pluginManager,
         this.sqlInput,
-        "SQLInput.readFloat",
+        JdbcMethod.SQLINPUT_READFLOAT,
         () -> this.sqlInput.readFloat());
   }
 
@@ -131,7 +132,7 @@ public class SQLInputWrapper implements SQLInput {
         SQLException.class,
         this.pluginManager,
         this.sqlInput,
-        "SQLInput.readDouble",
+        JdbcMethod.SQLINPUT_READDOUBLE,
         () -> this.sqlInput.readDouble());
   }
 
@@ -142,7 +143,7 @@ public class SQLInputWrapper implements SQLInput {
         SQLException.class,
         this.pluginManager,
         this.sqlInput,
-        "SQLInput.readBigDecimal",
+        JdbcMethod.SQLINPUT_READBIGDECIMAL,
         () -> this.sqlInput.readBigDecimal());
   }
 
@@ -153,7 +154,7 @@ public class SQLInputWrapper implements SQLInput {
         SQLException.class,
         this.pluginManager,
         this.sqlInput,
-        "SQLInput.readBytes",
+        JdbcMethod.SQLINPUT_READBYTES,
         () -> this.sqlInput.readBytes());
   }
 
@@ -164,7 +165,7 @@ public class SQLInputWrapper implements SQLInput {
         SQLException.class,
         this.pluginManager,
         this.sqlInput,
-        "SQLInput.readDate",
+        JdbcMethod.SQLINPUT_READDATE,
         () -> this.sqlInput.readDate());
   }
 
@@ -175,7 +176,7 @@ public class SQLInputWrapper implements SQLInput {
         SQLException.class,
         this.pluginManager,
         this.sqlInput,
-        "SQLInput.readTime",
+        JdbcMethod.SQLINPUT_READTIME,
         () -> this.sqlInput.readTime());
   }
 
@@ -186,7 +187,7 @@ public class SQLInputWrapper implements SQLInput {
         SQLException.class,
         this.pluginManager,
         this.sqlInput,
-        "SQLInput.readTimestamp",
+        JdbcMethod.SQLINPUT_READTIMESTAMP,
         () -> this.sqlInput.readTimestamp());
   }
 
@@ -197,7 +198,7 @@ public class SQLInputWrapper implements SQLInput {
         SQLException.class,
         this.pluginManager,
         this.sqlInput,
-        "SQLInput.readCharacterStream",
+        JdbcMethod.SQLINPUT_READCHARACTERSTREAM,
         () -> this.sqlInput.readCharacterStream());
   }
 
@@ -208,7 +209,7 @@ public class SQLInputWrapper implements SQLInput {
         SQLException.class,
         this.pluginManager,
         this.sqlInput,
-        "SQLInput.readAsciiStream",
+        JdbcMethod.SQLINPUT_READASCIISTREAM,
         () -> this.sqlInput.readAsciiStream());
   }
 
@@ -219,7 +220,7 @@ public class SQLInputWrapper implements SQLInput {
         SQLException.class,
         this.pluginManager,
         this.sqlInput,
-        "SQLInput.readBinaryStream",
+        JdbcMethod.SQLINPUT_READBINARYSTREAM,
         () -> this.sqlInput.readBinaryStream());
   }
 
@@ -230,7 +231,7 @@ public class SQLInputWrapper implements SQLInput {
         SQLException.class,
         this.pluginManager,
         this.sqlInput,
-        "SQLInput.readObject",
+        JdbcMethod.SQLINPUT_READOBJECT,
         () -> this.sqlInput.readObject());
   }
 
@@ -241,7 +242,7 @@ public class SQLInputWrapper implements SQLInput {
         SQLException.class,
         this.pluginManager,
         this.sqlInput,
-        "SQLInput.readString",
+        JdbcMethod.SQLINPUT_READSTRING,
         () -> this.sqlInput.readObject(type),
         type);
   }
@@ -253,7 +254,7 @@ public class SQLInputWrapper implements SQLInput {
         SQLException.class,
         this.pluginManager,
         this.sqlInput,
-        "SQLInput.readRef",
+        JdbcMethod.SQLINPUT_READREF,
         () -> this.sqlInput.readRef());
   }
 
@@ -264,7 +265,7 @@ public class SQLInputWrapper implements SQLInput {
         SQLException.class,
         this.pluginManager,
         this.sqlInput,
-        "SQLInput.readBlob",
+        JdbcMethod.SQLINPUT_READBLOB,
         () -> this.sqlInput.readBlob());
   }
 
@@ -275,7 +276,7 @@ public class SQLInputWrapper implements SQLInput {
         SQLException.class,
         this.pluginManager,
         this.sqlInput,
-        "SQLInput.readClob",
+        JdbcMethod.SQLINPUT_READCLOB,
         () -> this.sqlInput.readClob());
   }
 
@@ -286,7 +287,7 @@ public class SQLInputWrapper implements SQLInput {
         SQLException.class,
         this.pluginManager,
         this.sqlInput,
-        "SQLInput.readArray",
+        JdbcMethod.SQLINPUT_READARRAY,
         () -> this.sqlInput.readArray());
   }
 
@@ -297,7 +298,7 @@ public class SQLInputWrapper implements SQLInput {
         SQLException.class,
         this.pluginManager,
         this.sqlInput,
-        "SQLInput.wasNull",
+        JdbcMethod.SQLINPUT_WASNULL,
         () -> this.sqlInput.wasNull());
   }
 
@@ -308,7 +309,7 @@ public class SQLInputWrapper implements SQLInput {
         SQLException.class,
         this.pluginManager,
         this.sqlInput,
-        "SQLInput.readURL",
+        JdbcMethod.SQLINPUT_READURL,
         () -> this.sqlInput.readURL());
   }
 
@@ -319,7 +320,7 @@ public class SQLInputWrapper implements SQLInput {
         SQLException.class,
         this.pluginManager,
         this.sqlInput,
-        "SQLInput.readNClob",
+        JdbcMethod.SQLINPUT_READNCLOB,
         () -> this.sqlInput.readNClob());
   }
 
@@ -330,7 +331,7 @@ public class SQLInputWrapper implements SQLInput {
         SQLException.class,
         this.pluginManager,
         this.sqlInput,
-        "SQLInput.readNString",
+        JdbcMethod.SQLINPUT_READNSTRING,
         () -> this.sqlInput.readNString());
   }
 
@@ -341,7 +342,7 @@ public class SQLInputWrapper implements SQLInput {
         SQLException.class,
         this.pluginManager,
         this.sqlInput,
-        "SQLInput.readSQLXML",
+        JdbcMethod.SQLINPUT_READSQLXML,
         () -> this.sqlInput.readSQLXML());
   }
 
@@ -352,7 +353,7 @@ public class SQLInputWrapper implements SQLInput {
         SQLException.class,
         this.pluginManager,
         this.sqlInput,
-        "SQLInput.readRowId",
+        JdbcMethod.SQLINPUT_READROWID,
         () -> this.sqlInput.readRowId());
   }
 
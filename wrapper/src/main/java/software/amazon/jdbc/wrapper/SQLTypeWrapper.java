@@ -19,6 +19,7 @@ package software.amazon.jdbc.wrapper;
 import java.sql.SQLType;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import software.amazon.jdbc.ConnectionPluginManager;
+import software.amazon.jdbc.JdbcMethod;
 import software.amazon.jdbc.util.WrapperUtils;
 
 public class SQLTypeWrapper implements SQLType {
@@ -37,7 +38,7 @@ public class SQLTypeWrapper implements SQLType {
         String.class,
         this.pluginManager,
         this.sqlType,
-        "SQLType.getName",
+        JdbcMethod.SQLTYPE_GETNAME,
         () -> this.sqlType.getName());
   }
 
@@ -47,7 +48,7 @@ public class SQLTypeWrapper implements SQLType {
         String.class,
         this.pluginManager,
         this.sqlType,
-        "SQLType.getVendor",
+        JdbcMethod.SQLTYPE_GETVENDOR,
         () -> this.sqlType.getVendor());
   }
 
@@ -57,7 +58,7 @@ public class SQLTypeWrapper implements SQLType {
         Integer.class,
         this.pluginManager,
         this.sqlType,
-        "SQLType.getVendorTypeNumber",
+        JdbcMethod.SQLTYPE_GETVENDORTYPENUMBER,
         () -> this.sqlType.getVendorTypeNumber());
   }
 
@@ -20,6 +20,7 @@ import java.sql.SQLException;
 import java.sql.Savepoint;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import software.amazon.jdbc.ConnectionPluginManager;
+import software.amazon.jdbc.JdbcMethod;
 import software.amazon.jdbc.util.WrapperUtils;
 
 public class SavepointWrapper implements Savepoint {
@@ -40,7 +41,7 @@ public class SavepointWrapper implements Savepoint {
         SQLException.class,
         this.pluginManager,
         this.savepoint,
-        "Savepoint.getSavepointId",
+        JdbcMethod.SAVEPOINT_GETSAVEPOINTID,
         () -> this.savepoint.getSavepointId());
   }
 
@@ -51,7 +52,7 @@ public class SavepointWrapper implements Savepoint {
         SQLException.class,
         this.pluginManager,
         this.savepoint,
-        "Savepoint.getSavepointName",
+        JdbcMethod.SAVEPOINT_GETSAVEPOINTNAME,
         () -> this.savepoint.getSavepointName());
   }
 
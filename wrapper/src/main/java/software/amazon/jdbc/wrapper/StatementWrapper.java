@@ -23,12 +23,14 @@ import java.sql.SQLWarning;
 import java.sql.Statement;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import software.amazon.jdbc.ConnectionPluginManager;
+import software.amazon.jdbc.JdbcMethod;
 import software.amazon.jdbc.util.WrapperUtils;
 
-public class StatementWrapper implements Statement {
+public class StatementWrapper implements Statement, ConnectionEpochAware {
 
   protected Statement statement;
   protected ConnectionPluginManager pluginManager;
+  protected volatile int connectionEpoch = UNKNOWN_CONNECTION_EPOCH;
 
   public StatementWrapper(
       @NonNull Statement statement, @NonNull ConnectionPluginManager pluginManager) {
@@ -43,7 +45,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.executeQuery",
+        this,
+        JdbcMethod.STATEMENT_EXECUTEQUERY,
         () -> this.statement.executeQuery(sql),
         sql);
   }
@@ -55,7 +58,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.executeUpdate",
+        this,
+        JdbcMethod.STATEMENT_EXECUTEUPDATE,
         () -> this.statement.executeUpdate(sql),
         sql);
   }
@@ -67,7 +71,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.executeUpdate",
+        this,
+        JdbcMethod.STATEMENT_EXECUTEUPDATE,
         () -> this.statement.executeUpdate(sql, autoGeneratedKeys),
         sql,
         autoGeneratedKeys);
@@ -80,7 +85,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.executeUpdate",
+        this,
+        JdbcMethod.STATEMENT_EXECUTEUPDATE,
         () -> this.statement.executeUpdate(sql, columnIndexes),
         sql,
         columnIndexes);
@@ -93,7 +99,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.executeUpdate",
+        this,
+        JdbcMethod.STATEMENT_EXECUTEUPDATE,
         () -> this.statement.executeUpdate(sql, columnNames),
         sql,
         columnNames);
@@ -105,7 +112,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.close",
+        this,
+        JdbcMethod.STATEMENT_CLOSE,
         () -> this.statement.close());
   }
 
@@ -116,7 +124,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.getMaxFieldSize",
+        this,
+        JdbcMethod.STATEMENT_GETMAXFIELDSIZE,
         () -> this.statement.getMaxFieldSize());
   }
 
@@ -126,7 +135,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.setMaxFieldSize",
+        this,
+        JdbcMethod.STATEMENT_SETMAXFIELDSIZE,
         () -> this.statement.setMaxFieldSize(max),
         max);
   }
@@ -138,7 +148,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.getMaxRows",
+        this,
+        JdbcMethod.STATEMENT_GETMAXROWS,
         () -> this.statement.getMaxRows());
   }
 
@@ -148,7 +159,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.setMaxRows",
+        this,
+        JdbcMethod.STATEMENT_SETMAXROWS,
         () -> this.statement.setMaxRows(max),
         max);
   }
@@ -159,7 +171,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.setEscapeProcessing",
+        this,
+        JdbcMethod.STATEMENT_SETESCAPEPROCESSING,
         () -> this.statement.setEscapeProcessing(enable),
         enable);
   }
@@ -171,7 +184,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.getQueryTimeout",
+        this,
+        JdbcMethod.STATEMENT_GETQUERYTIMEOUT,
         () -> this.statement.getQueryTimeout());
   }
 
@@ -181,7 +195,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.setQueryTimeout",
+        this,
+        JdbcMethod.STATEMENT_SETQUERYTIMEOUT,
         () -> this.statement.setQueryTimeout(seconds),
         seconds);
   }
@@ -192,7 +207,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.cancel",
+        this,
+        JdbcMethod.STATEMENT_CANCEL,
         () -> this.statement.cancel());
   }
 
@@ -203,7 +219,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.getWarnings",
+        this,
+        JdbcMethod.STATEMENT_GETWARNINGS,
         () -> this.statement.getWarnings());
   }
 
@@ -213,7 +230,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.clearWarnings",
+        this,
+        JdbcMethod.STATEMENT_CLEARWARNINGS,
         () -> this.statement.clearWarnings());
   }
 
@@ -223,7 +241,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.setCursorName",
+        this,
+        JdbcMethod.STATEMENT_SETCURSORNAME,
         () -> this.statement.setCursorName(name),
         name);
   }
@@ -235,7 +254,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.execute",
+        this,
+        JdbcMethod.STATEMENT_EXECUTE,
         () -> this.statement.execute(sql),
         sql);
   }
@@ -247,7 +267,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.execute",
+        this,
+        JdbcMethod.STATEMENT_EXECUTE,
         () -> this.statement.execute(sql, autoGeneratedKeys),
         sql,
         autoGeneratedKeys);
@@ -260,7 +281,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.execute",
+        this,
+        JdbcMethod.STATEMENT_EXECUTE,
         () -> this.statement.execute(sql, columnIndexes),
         sql,
         columnIndexes);
@@ -273,7 +295,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.execute",
+        this,
+        JdbcMethod.STATEMENT_EXECUTE,
         () -> this.statement.execute(sql, columnNames),
         sql,
         columnNames);
@@ -286,7 +309,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.getResultSet",
+        this,
+        JdbcMethod.STATEMENT_GETRESULTSET,
         () -> this.statement.getResultSet());
   }
 
@@ -297,7 +321,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.getUpdateCount",
+        this,
+        JdbcMethod.STATEMENT_GETUPDATECOUNT,
         () -> this.statement.getUpdateCount());
   }
 
@@ -308,7 +333,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.getMoreResults",
+        this,
+        JdbcMethod.STATEMENT_GETMORERESULTS,
         () -> this.statement.getMoreResults());
   }
 
@@ -319,7 +345,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.getMoreResults",
+        this,
+        JdbcMethod.STATEMENT_GETMORERESULTS,
         () -> this.statement.getMoreResults(current),
         current);
   }
@@ -332,7 +359,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.getFetchDirection",
+        this,
+        JdbcMethod.STATEMENT_GETFETCHDIRECTION,
         () -> this.statement.getFetchDirection());
   }
 
@@ -342,7 +370,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.setFetchDirection",
+        this,
+        JdbcMethod.STATEMENT_SETFETCHDIRECTION,
         () -> this.statement.setFetchDirection(direction),
         direction);
   }
@@ -354,7 +383,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.getFetchSize",
+        this,
+        JdbcMethod.STATEMENT_GETFETCHSIZE,
         () -> this.statement.getFetchSize());
   }
 
@@ -364,7 +394,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.setFetchSize",
+        this,
+        JdbcMethod.STATEMENT_SETFETCHSIZE,
         () -> this.statement.setFetchSize(rows),
         rows);
   }
@@ -377,7 +408,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.getResultSetConcurrency",
+        this,
+        JdbcMethod.STATEMENT_GETRESULTSETCONCURRENCY,
         () -> this.statement.getResultSetConcurrency());
   }
 
@@ -389,7 +421,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.getResultSetType",
+        this,
+        JdbcMethod.STATEMENT_GETRESULTSETTYPE,
         () -> this.statement.getResultSetType());
   }
 
@@ -399,7 +432,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.addBatch",
+        this,
+        JdbcMethod.STATEMENT_ADDBATCH,
         () -> this.statement.addBatch(sql),
         sql);
   }
@@ -410,7 +444,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.clearBatch",
+        this,
+        JdbcMethod.STATEMENT_CLEARBATCH,
         () -> this.statement.clearBatch());
   }
 
@@ -421,7 +456,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.executeBatch",
+        this,
+        JdbcMethod.STATEMENT_EXECUTEBATCH,
         () -> this.statement.executeBatch());
   }
 
@@ -432,7 +468,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.getConnection",
+        this,
+        JdbcMethod.STATEMENT_GETCONNECTION,
         () -> this.pluginManager.getConnectionWrapper());
   }
 
@@ -443,7 +480,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.getGeneratedKeys",
+        this,
+        JdbcMethod.STATEMENT_GETGENERATEDKEYS,
         () -> this.statement.getGeneratedKeys());
   }
 
@@ -454,7 +492,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.getResultSetHoldability",
+        this,
+        JdbcMethod.STATEMENT_GETRESULTSETHOLDABILITY,
         () -> this.statement.getResultSetHoldability());
   }
 
@@ -465,7 +504,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.isClosed",
+        this,
+        JdbcMethod.STATEMENT_ISCLOSED,
         () -> this.statement.isClosed());
   }
 
@@ -477,7 +517,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.isPoolable",
+        this,
+        JdbcMethod.STATEMENT_ISPOOLABLE,
         () -> this.statement.isPoolable());
   }
 
@@ -488,7 +529,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.setPoolable",
+        this,
+        JdbcMethod.STATEMENT_SETPOOLABLE,
         () -> this.statement.setPoolable(poolable),
         poolable);
   }
@@ -499,7 +541,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.closeOnCompletion",
+        this,
+        JdbcMethod.STATEMENT_CLOSEONCOMPLETION,
         () -> this.statement.closeOnCompletion());
   }
 
@@ -510,7 +553,8 @@ public class StatementWrapper implements Statement {
         SQLException.class,
         this.pluginManager,
         this.statement,
-        "Statement.isCloseOnCompletion",
+        this,
+        JdbcMethod.STATEMENT_ISCLOSEONCOMPLETION,
         () -> this.statement.isCloseOnCompletion());
   }
 
@@ -524,6 +568,16 @@ public class StatementWrapper implements Statement {
     return this.statement.isWrapperFor(iface);
   }
 
+  @Override
+  public int getConnectionEpoch() {
+    return this.connectionEpoch;
+  }
+
+  @Override
+  public void setConnectionEpoch(final int connectionEpoch) {
+    this.connectionEpoch = connectionEpoch;
+  }
+
   @Override
   public String toString() {
     return super.toString() + " - " + this.statement;
@@ -0,0 +1,105 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Properties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.jdbc.targetdriverdialect.GenericTargetDriverDialect;
+import software.amazon.jdbc.util.telemetry.NullTelemetryFactory;
+
+public class ConnectionBlueprintTests {
+
+  private static final String URL = "jdbc:postgresql://instance-0.XYZ.us-east-2.rds.amazonaws.com/db";
+
+  @AfterEach
+  void tearDown() {
+    ConnectionBlueprint.clearCache();
+  }
+
+  @Test
+  public void testKeyIgnoresPassword() {
+    final Properties props = getProps();
+    final Properties propsWithOtherPassword = getProps();
+    propsWithOtherPassword.setProperty(PropertyDefinition.PASSWORD.name, "otherPassword");
+
+    assertEquals(
+        ConnectionBlueprint.getKey(URL, props, null),
+        ConnectionBlueprint.getKey(URL, propsWithOtherPassword, null));
+  }
+
+  @Test
+  public void testKeyDependsOnUrlAndProperties() {
+    final Properties props = getProps();
+    final Properties otherProps = getProps();
+    otherProps.setProperty(PropertyDefinition.PLUGINS.name, "failover");
+
+    final ConnectionBlueprint.Key key = ConnectionBlueprint.getKey(URL, props, null);
+    assertNotEquals(key, ConnectionBlueprint.getKey(URL, otherProps, null));
+    assertNotEquals(key, ConnectionBlueprint.getKey(URL + "2", props, null));
+  }
+
+  @Test
+  public void testKeyDoesNotKeepSensitiveValues() throws IllegalAccessException {
+    final Properties props = getProps();
+    props.setProperty("trustCertificateKeyStorePassword", "keystoreSecret");
+    final ConnectionBlueprint.Key key = ConnectionBlueprint.getKey(URL + "?sslpassword=urlSecret", props, null);
+
+    final Properties otherProps = getProps();
+    otherProps.setProperty("trustCertificateKeyStorePassword", "otherKeystoreSecret");
+    assertNotEquals(key, ConnectionBlueprint.getKey(URL + "?sslpassword=urlSecret", otherProps, null));
+
+    for (final Field field : ConnectionBlueprint.Key.class.getDeclaredFields()) {
+      if (Modifier.isStatic(field.getModifiers())) {
+        continue;
+      }
+      field.setAccessible(true);
+      final String value = String.valueOf(field.get(key));
+      assertFalse(value.contains("keystoreSecret"), field.getName());
+      assertFalse(value.contains("urlSecret"), field.getName());
+    }
+  }
+
+  @Test
+  public void testGetAndClear() {
+    final ConnectionBlueprint.Key key = ConnectionBlueprint.getKey(URL, getProps(), null);
+    assertNull(ConnectionBlueprint.get(key));
+
+    final ConnectionBlueprint blueprint =
+        new ConnectionBlueprint(null, new GenericTargetDriverDialect(), new NullTelemetryFactory());
+    ConnectionBlueprint.put(key, blueprint);
+    assertSame(blueprint, ConnectionBlueprint.get(ConnectionBlueprint.getKey(URL, getProps(), null)));
+
+    ConnectionBlueprint.clearCache();
+    assertNull(ConnectionBlueprint.get(key));
+  }
+
+  private Properties getProps() {
+    final Properties props = new Properties();
+    props.setProperty(PropertyDefinition.USER.name, "user");
+    props.setProperty(PropertyDefinition.PASSWORD.name, "password");
+    return props;
+  }
+}
@@ -18,6 +18,7 @@ package software.amazon.jdbc;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -67,7 +68,9 @@ import software.amazon.jdbc.profile.ConfigurationProfileBuilder;
 import software.amazon.jdbc.util.WrapperUtils;
 import software.amazon.jdbc.util.telemetry.TelemetryContext;
 import software.amazon.jdbc.util.telemetry.TelemetryFactory;
+import software.amazon.jdbc.wrapper.ConnectionEpochAware;
 import software.amazon.jdbc.wrapper.ConnectionWrapper;
+import software.amazon.jdbc.wrapper.ResultSetWrapper;
 
 public class ConnectionPluginManagerTests {
 
@@ -498,6 +501,71 @@ public class ConnectionPluginManagerTests {
     assertEquals("TestPluginOne:after", calls.get(6));
   }
 
+  @Test
+  public void testExecuteCachedJdbcMethod() throws Exception {
+
+    final ArrayList<String> calls = new ArrayList<>();
+
+    final ArrayList<ConnectionPlugin> testPlugins = new ArrayList<>();
+    testPlugins.add(new TestPluginOne(calls));
+    testPlugins.add(new TestPluginTwo(calls));
+    testPlugins.add(new TestPluginThree(calls));
+
+    final Properties testProperties = new Properties();
+
+    final Object[] testArgs = new Object[] {1};
+
+    final ConnectionPluginManager target = Mockito.spy(
+        new ConnectionPluginManager(mockConnectionProvider,
+            null, testProperties, testPlugins, mockConnectionWrapper, mockTelemetryFactory));
+
+    Object result =
+        target.execute(
+            Integer.class,
+            Exception.class,
+            Connection.class,
+            null,
+            JdbcMethod.RESULTSET_GETINT,
+            () -> {
+              calls.add("targetCall");
+              return 10;
+            },
+            testArgs);
+
+    assertEquals(10, result);
+
+    // The method has been called just once to generate a final lambda and cache it.
+    verify(target, times(1)).makePluginChainFunc(eq("ResultSet.getInt"));
+
+    assertEquals(3, calls.size());
+    assertEquals("TestPluginOne:before", calls.get(0));
+    assertEquals("targetCall", calls.get(1));
+    assertEquals("TestPluginOne:after", calls.get(2));
+
+    calls.clear();
+
+    // The string based API uses the same cached lambda.
+    result =
+        target.execute(
+            Integer.class,
+            Exception.class,
+            Connection.class,
+            "ResultSet.getInt",
+            () -> {
+              calls.add("targetCall");
+              return 20;
+            },
+            testArgs);
+
+    assertEquals(20, result);
+    verify(target, times(1)).makePluginChainFunc(eq("ResultSet.getInt"));
+
+    assertEquals(3, calls.size());
+    assertEquals("TestPluginOne:before", calls.get(0));
+    assertEquals("targetCall", calls.get(1));
+    assertEquals("TestPluginOne:after", calls.get(2));
+  }
+
   @Test
   public void testForceConnectCachedJdbcCallForceConnect() throws Exception {
 
@@ -602,6 +670,89 @@ public class ConnectionPluginManagerTests {
             null));
   }
 
+  @Test
+  public void testExecuteWithConnectionEpoch() throws Exception {
+    final ArrayList<String> calls = new ArrayList<>();
+
+    final ArrayList<ConnectionPlugin> testPlugins = new ArrayList<>();
+    testPlugins.add(new TestPluginOne(calls));
+
+    final Connection mockOldConnection = mock(Connection.class);
+    final Connection mockCurrentConnection = mock(Connection.class);
+    final Statement mockStatement = mock(Statement.class);
+    final ResultSet mockResultSet = mock(ResultSet.class);
+
+    when(mockPluginService.getCurrentConnection()).thenReturn(mockCurrentConnection);
+    when(mockPluginService.getConnectionEpoch()).thenReturn(1);
+    when(mockStatement.getConnection()).thenReturn(mockCurrentConnection);
+    when(mockResultSet.getStatement()).thenReturn(mockStatement);
+
+    final ConnectionPluginManager target =
+        new ConnectionPluginManager(mockConnectionProvider,
+            null, new Properties(), testPlugins, mockConnectionWrapper,
+            mockPluginService, mockTelemetryFactory);
+    final ResultSetWrapper resultSetWrapper = new ResultSetWrapper(mockResultSet, target);
+
+    assertEquals(ConnectionEpochAware.UNKNOWN_CONNECTION_EPOCH, resultSetWrapper.getConnectionEpoch());
+    target.execute(
+        String.class, Exception.class, mockResultSet, resultSetWrapper, "ResultSet.getString", () -> "a", null);
+    assertEquals(1, resultSetWrapper.getConnectionEpoch());
+
+    // The stamped epoch matches, so the target driver isn't asked for the owning connection again.
+    target.execute(
+        String.class, Exception.class, mockResultSet, resultSetWrapper, "ResultSet.getString", () -> "b", null);
+    verify(mockResultSet, times(1)).getStatement();
+
+    // The current connection has changed.
+    when(mockPluginService.getConnectionEpoch()).thenReturn(2);
+    when(mockStatement.getConnection()).thenReturn(mockOldConnection);
+    assertThrows(SQLException.class,
+        () -> target.execute(
+            String.class, Exception.class, mockResultSet, resultSetWrapper, "ResultSet.getString", () -> "c", null));
+    assertEquals(1, resultSetWrapper.getConnectionEpoch());
+  }
+
+  @Test
+  public void testMustUsePipeline() throws Exception {
+    final ArrayList<String> calls = new ArrayList<>();
+
+    final ArrayList<ConnectionPlugin> testPlugins = new ArrayList<>();
+    testPlugins.add(new TestPluginTwo(calls));
+    testPlugins.add(new DefaultConnectionPlugin(
+        mockPluginService, mockConnectionProvider, null, mockPluginManagerService));
+
+    final Connection mockOldConnection = mock(Connection.class);
+    final Connection mockCurrentConnection = mock(Connection.class);
+    final Statement mockStatement = mock(Statement.class);
+    final ResultSet mockResultSet = mock(ResultSet.class);
+
+    when(mockPluginService.getCurrentConnection()).thenReturn(mockCurrentConnection);
+    when(mockStatement.getConnection()).thenReturn(mockCurrentConnection);
+    when(mockResultSet.getStatement()).thenReturn(mockStatement);
+
+    final ConnectionPluginManager target =
+        new ConnectionPluginManager(mockConnectionProvider,
+            null, new Properties(), testPlugins, mockConnectionWrapper,
+            mockPluginService, mockTelemetryFactory);
+
+    assertTrue(target.mustUsePipeline(mockResultSet, "testJdbcCall_A"));
+    assertFalse(target.mustUsePipeline(mockResultSet, "ResultSet.getInt"));
+
+    assertFalse(target.mustUsePipeline(mockResultSet, JdbcMethod.RESULTSET_GETINT));
+
+    when(mockStatement.getConnection()).thenReturn(mockOldConnection);
+    assertTrue(target.mustUsePipeline(mockResultSet, "ResultSet.getInt"));
+    assertTrue(target.mustUsePipeline(mockResultSet, JdbcMethod.RESULTSET_GETINT));
+
+    when(mockTelemetryFactory.isCallObserved(anyString())).thenReturn(true);
+    final ConnectionPluginManager tracingTarget =
+        new ConnectionPluginManager(mockConnectionProvider,
+            null, new Properties(), testPlugins, mockConnectionWrapper,
+            mockPluginService, mockTelemetryFactory);
+    assertTrue(tracingTarget.mustUsePipeline(mock(ResultSet.class), "ResultSet.getInt"));
+    assertTrue(tracingTarget.mustUsePipeline(mock(ResultSet.class), JdbcMethod.RESULTSET_GETINT));
+  }
+
   @Test
   public void testDefaultPlugins() throws SQLException {
     final Properties testProperties = new Properties();
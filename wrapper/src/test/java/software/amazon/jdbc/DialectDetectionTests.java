@@ -17,10 +17,20 @@
 package software.amazon.jdbc;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
@@ -33,6 +43,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -272,4 +283,107 @@ public class DialectDetectionTests {
     target.updateDialect(mockConnection);
     assertEquals(AuroraMysqlDialect.class, target.dialect.getClass());
   }
+
+  @Test
+  void testUpdateDialectMysqlToAuroraWithProbe() throws SQLException {
+    when(mockStatement.executeQuery(any())).thenReturn(failResultSet);
+    when(mockStatement.executeQuery(startsWith("SELECT @@version_comment"))).thenReturn(successResultSet);
+    when(successResultSet.next()).thenReturn(true, false);
+    when(successResultSet.getString("version_comment")).thenReturn("Source distribution");
+    when(successResultSet.getInt("aurora_version")).thenReturn(1);
+    when(successResultSet.getInt("rds_topology")).thenReturn(0);
+    final PluginServiceImpl target = getPluginService(LOCALHOST, MYSQL_PROTOCOL);
+    target.setInitialConnectionHostSpec(mockHost);
+    target.updateDialect(mockConnection);
+    assertEquals(AuroraMysqlDialect.class, target.dialect.getClass());
+    verify(mockStatement, times(1)).executeQuery(anyString());
+  }
+
+  @Test
+  void testUpdateDialectMysqlToAuroraWithoutPerformanceSchema() throws SQLException {
+    when(mockStatement.executeQuery(any())).thenReturn(failResultSet);
+    when(mockStatement.executeQuery(startsWith("SELECT @@version_comment"))).thenReturn(successResultSet);
+    when(mockStatement.executeQuery("SHOW VARIABLES LIKE 'aurora_version'")).thenReturn(successResultSet);
+    when(successResultSet.next()).thenReturn(true, true, false);
+    when(successResultSet.getString("version_comment")).thenReturn("Source distribution");
+    // aurora_version isn't listed in performance_schema.global_variables when performance_schema is disabled
+    when(successResultSet.getInt("aurora_version")).thenReturn(0);
+    when(successResultSet.getInt("rds_topology")).thenReturn(0);
+    final PluginServiceImpl target = getPluginService(LOCALHOST, MYSQL_PROTOCOL);
+    target.setInitialConnectionHostSpec(mockHost);
+    target.updateDialect(mockConnection);
+    assertEquals(AuroraMysqlDialect.class, target.dialect.getClass());
+    verify(mockStatement, times(2)).executeQuery(anyString());
+  }
+
+  @Test
+  void testUpdateDialectPgToAuroraWithProbe() throws SQLException {
+    when(mockStatement.executeQuery(any())).thenReturn(successResultSet);
+    when(successResultSet.next()).thenReturn(true, false);
+    when(successResultSet.getBoolean(any())).thenReturn(false);
+    when(successResultSet.getBoolean("aurora_stat_utils")).thenReturn(true);
+    when(successResultSet.getBoolean("aurora_replica_status")).thenReturn(true);
+    final PluginServiceImpl target = getPluginService(LOCALHOST, PG_PROTOCOL);
+    target.setInitialConnectionHostSpec(mockHost);
+    target.updateDialect(mockConnection);
+    assertEquals(AuroraPgDialect.class, target.dialect.getClass());
+    verify(mockStatement, times(1)).executeQuery(anyString());
+  }
+
+  @Test
+  void testDialectCacheFile(@TempDir Path tempDir) throws SQLException {
+    props.setProperty(DialectManager.DIALECT_CACHE_FILE.name, tempDir.resolve("dialects").toString());
+    when(mockStatement.executeQuery(any())).thenReturn(failResultSet);
+    when(mockStatement.executeQuery("SHOW VARIABLES LIKE 'aurora_version'")).thenReturn(successResultSet);
+    when(successResultSet.next()).thenReturn(true, false);
+    PluginServiceImpl target = getPluginService(LOCALHOST, MYSQL_PROTOCOL);
+    target.setInitialConnectionHostSpec(mockHost);
+    target.updateDialect(mockConnection);
+    assertEquals(AuroraMysqlDialect.class, target.dialect.getClass());
+
+    // The dialect is read from the file after the in-memory cache is lost.
+    DialectManager.resetEndpointCache();
+    target = getPluginService(LOCALHOST, MYSQL_PROTOCOL);
+    assertEquals(AuroraMysqlDialect.class, target.dialect.getClass());
+  }
+
+  @Test
+  void testDialectCacheFileOmitsCredentials(@TempDir Path tempDir) throws SQLException, IOException {
+    final Path cacheFile = tempDir.resolve("dialects");
+    props.setProperty(DialectManager.DIALECT_CACHE_FILE.name, cacheFile.toString());
+    when(mockStatement.executeQuery(any())).thenReturn(failResultSet);
+    when(mockStatement.executeQuery("SHOW VARIABLES LIKE 'aurora_version'")).thenReturn(successResultSet);
+    when(successResultSet.next()).thenReturn(true, false);
+    final String host = LOCALHOST + "/db?user=admin&password=secret";
+    PluginServiceImpl target = getPluginService(host, MYSQL_PROTOCOL);
+    target.setInitialConnectionHostSpec(mockHost);
+    target.updateDialect(mockConnection);
+    assertEquals(AuroraMysqlDialect.class, target.dialect.getClass());
+
+    final String content = new String(Files.readAllBytes(cacheFile), StandardCharsets.UTF_8);
+    assertFalse(content.contains("secret"));
+    assertFalse(content.contains("admin"));
+
+    // The url is found in the file without its query string.
+    DialectManager.resetEndpointCache();
+    target = getPluginService(host, MYSQL_PROTOCOL);
+    assertEquals(AuroraMysqlDialect.class, target.dialect.getClass());
+  }
+
+  @Test
+  void testDialectCacheFileRemovesExpiredEntries(@TempDir Path tempDir) throws SQLException, IOException {
+    final Path cacheFile = tempDir.resolve("dialects");
+    Files.write(cacheFile, "expired-host/=aurora-mysql,1\n".getBytes(StandardCharsets.UTF_8));
+    props.setProperty(DialectManager.DIALECT_CACHE_FILE.name, cacheFile.toString());
+    when(mockStatement.executeQuery(any())).thenReturn(failResultSet);
+    when(mockStatement.executeQuery("SHOW VARIABLES LIKE 'aurora_version'")).thenReturn(successResultSet);
+    when(successResultSet.next()).thenReturn(true, false);
+    final PluginServiceImpl target = getPluginService(LOCALHOST, MYSQL_PROTOCOL);
+    target.setInitialConnectionHostSpec(mockHost);
+    target.updateDialect(mockConnection);
+
+    final String content = new String(Files.readAllBytes(cacheFile), StandardCharsets.UTF_8);
+    assertFalse(content.contains("expired-host"));
+    assertTrue(content.contains("aurora-mysql"));
+  }
 }
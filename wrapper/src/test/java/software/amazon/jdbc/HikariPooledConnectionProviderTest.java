@@ -31,6 +31,7 @@ import static org.mockito.Mockito.when;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 import com.zaxxer.hikari.HikariPoolMXBean;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
@@ -208,6 +209,44 @@ class HikariPooledConnectionProviderTest {
     assertEquals(readerUrl1Connection, selectedHost.getHost());
   }
 
+  @Test
+  public void testLeastConnectionsStrategyWithTrackedPools() throws SQLException {
+    provider = new HikariPooledConnectionProvider((hostSpec, properties) -> mockConfig);
+    final IMetricsTracker reader1Tracker = new ActiveConnectionsTrackerFactory(
+        HikariPoolsHolder.getActiveConnectionsCounter(readerHost1Connection.getUrl()), null)
+        .create("reader1", null);
+    final IMetricsTracker reader2Tracker = new ActiveConnectionsTrackerFactory(
+        HikariPoolsHolder.getActiveConnectionsCounter(readerHost2Connection.getUrl()), null)
+        .create("reader2", null);
+
+    reader1Tracker.recordConnectionAcquiredNanos(1);
+    reader1Tracker.recordConnectionAcquiredNanos(1);
+    reader2Tracker.recordConnectionAcquiredNanos(1);
+    HostSpec selectedHost = provider.getHostSpecByStrategy(testHosts, HostRole.READER, LEAST_CONNECTIONS, defaultProps);
+    assertEquals(readerUrl2Connection, selectedHost.getHost());
+
+    // Returning both connections leaves reader 1 with fewer connections than reader 2.
+    reader1Tracker.recordConnectionUsageMillis(1);
+    reader1Tracker.recordConnectionUsageMillis(1);
+    reader1Tracker.recordConnectionUsageMillis(1);
+    selectedHost = provider.getHostSpecByStrategy(testHosts, HostRole.READER, LEAST_CONNECTIONS, defaultProps);
+    assertEquals(readerUrl1Connection, selectedHost.getHost());
+
+    // Closing a pool releases the connections still borrowed from it.
+    reader1Tracker.recordConnectionAcquiredNanos(1);
+    reader2Tracker.close();
+    selectedHost = provider.getHostSpecByStrategy(testHosts, HostRole.READER, LEAST_CONNECTIONS, defaultProps);
+    assertEquals(readerUrl2Connection, selectedHost.getHost());
+  }
+
+  @Test
+  public void testTrackActiveConnections() {
+    provider = new HikariPooledConnectionProvider((hostSpec, properties) -> mockConfig);
+
+    provider.trackActiveConnections(mockConfig, readerHost1Connection);
+    verify(mockConfig).setMetricsTrackerFactory(any(ActiveConnectionsTrackerFactory.class));
+  }
+
   private SlidingExpirationCache<Pair, AutoCloseable> getTestPoolMap() {
     SlidingExpirationCache<Pair, AutoCloseable> map = new SlidingExpirationCache<>();
     map.computeIfAbsent(Pair.create(readerHost2Connection.getUrl(), user1),
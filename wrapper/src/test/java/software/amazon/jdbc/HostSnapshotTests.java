@@ -0,0 +1,123 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import software.amazon.jdbc.hostavailability.SimpleHostAvailabilityStrategy;
+
+public class HostSnapshotTests {
+
+  private final HostSpec writer = new HostSpecBuilder(new SimpleHostAvailabilityStrategy())
+      .host("writer").hostId("writer").role(HostRole.WRITER).build();
+  private final HostSpec readerA = new HostSpecBuilder(new SimpleHostAvailabilityStrategy())
+      .host("readerA").hostId("readerA").role(HostRole.READER).build();
+  private final HostSpec readerB = new HostSpecBuilder(new SimpleHostAvailabilityStrategy())
+      .host("readerB").hostId("readerB").role(HostRole.READER).build();
+  private final List<HostSpec> hosts = Arrays.asList(readerA, writer, readerB);
+
+  @Test
+  public void testIndexes() {
+    final HostSnapshot snapshot = HostSnapshot.EMPTY.withAllHosts(hosts);
+
+    assertEquals(1, snapshot.getVersion());
+    assertEquals(hosts, snapshot.getAllHosts());
+    assertEquals(hosts, snapshot.getHosts());
+    assertSame(writer, snapshot.getWriter());
+    assertEquals(Collections.singletonList(writer), snapshot.getHostsByRole(HostRole.WRITER));
+    assertEquals(Arrays.asList(readerA, readerB), snapshot.getHostsByRole(HostRole.READER));
+    assertTrue(snapshot.getHostsByRole(HostRole.UNKNOWN).isEmpty());
+    assertSame(readerB, snapshot.getHostById("readerB"));
+    assertSame(readerA, snapshot.getHostByUrl(readerA.getUrl()));
+    assertNull(snapshot.getHostById("unknown"));
+    assertThrows(UnsupportedOperationException.class, () -> snapshot.getHosts().remove(0));
+  }
+
+  @Test
+  public void testAllowedAndBlockedHosts() {
+    final HostSnapshot snapshot = HostSnapshot.EMPTY.withAllHosts(hosts);
+
+    final HostSnapshot allowedSnapshot = snapshot.withAllowedAndBlockedHosts(
+        new AllowedAndBlockedHosts(new HashSet<>(Arrays.asList("readerA", "readerB")), null));
+    assertEquals(2, allowedSnapshot.getVersion());
+    assertSame(snapshot.getAllHosts(), allowedSnapshot.getAllHosts());
+    assertEquals(Arrays.asList(readerA, readerB), allowedSnapshot.getHosts());
+    assertTrue(allowedSnapshot.getHostsByRole(HostRole.WRITER).isEmpty());
+    assertNull(allowedSnapshot.getHostById("writer"));
+    // The writer and the URL index cover all hosts.
+    assertSame(writer, allowedSnapshot.getWriter());
+    assertSame(writer, allowedSnapshot.getHostByUrl(writer.getUrl()));
+
+    final HostSnapshot blockedSnapshot = allowedSnapshot.withAllowedAndBlockedHosts(
+        new AllowedAndBlockedHosts(null, Collections.singleton("readerA")));
+    assertEquals(Arrays.asList(writer, readerB), blockedSnapshot.getHosts());
+
+    final HostSnapshot updatedSnapshot = blockedSnapshot.withAllHosts(Arrays.asList(writer, readerA));
+    assertEquals(4, updatedSnapshot.getVersion());
+    assertEquals(Collections.singletonList(writer), updatedSnapshot.getHosts());
+  }
+
+  @Test
+  public void testHasSameHosts() {
+    final HostSnapshot snapshot = HostSnapshot.EMPTY.withAllHosts(hosts);
+
+    assertTrue(snapshot.hasSameHosts(hosts));
+    assertTrue(snapshot.hasSameHosts(new ArrayList<>(hosts)));
+    assertFalse(snapshot.hasSameHosts(Arrays.asList(writer, readerA)));
+    assertFalse(snapshot.hasSameHosts(null));
+    assertTrue(HostSnapshot.EMPTY.hasSameHosts(new ArrayList<>()));
+
+    final HostSpec laggingReaderB = new HostSpecBuilder(new SimpleHostAvailabilityStrategy())
+        .host("readerB").hostId("readerB").role(HostRole.READER).replicaLagMs(500).build();
+    assertFalse(snapshot.hasSameHosts(Arrays.asList(readerA, writer, laggingReaderB)));
+  }
+
+  @Test
+  public void testWithAllHostsCopiesHosts() {
+    final List<HostSpec> sourceHosts = new ArrayList<>(hosts);
+    final HostSnapshot snapshot = HostSnapshot.EMPTY.withAllHosts(sourceHosts);
+
+    sourceHosts.remove(writer);
+
+    assertEquals(hosts, snapshot.getAllHosts());
+    assertSame(writer, snapshot.getWriter());
+    assertFalse(snapshot.hasSameHosts(sourceHosts));
+  }
+
+  @Test
+  public void testOf() {
+    final HostSnapshot snapshot = HostSnapshot.of(hosts, Arrays.asList(writer, readerB));
+
+    assertEquals(0, snapshot.getVersion());
+    assertEquals(hosts, snapshot.getAllHosts());
+    assertEquals(Arrays.asList(writer, readerB), snapshot.getHosts());
+    assertEquals(Collections.singletonList(readerB), snapshot.getHostsByRole(HostRole.READER));
+    assertSame(readerA, snapshot.getHostByUrl(readerA.getUrl()));
+    assertNull(snapshot.getHostById("readerA"));
+  }
+}
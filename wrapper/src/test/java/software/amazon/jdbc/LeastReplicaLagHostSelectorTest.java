@@ -0,0 +1,115 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import software.amazon.jdbc.hostavailability.HostAvailability;
+import software.amazon.jdbc.hostavailability.SimpleHostAvailabilityStrategy;
+
+public class LeastReplicaLagHostSelectorTest {
+  private static final int TEST_PORT = 5432;
+
+  private final LeastReplicaLagHostSelector selector = new LeastReplicaLagHostSelector();
+
+  private final HostSpec writerHostSpec = new HostSpecBuilder(new SimpleHostAvailabilityStrategy())
+      .host("instance-0").port(TEST_PORT).replicaLagMs(0).build();
+
+  private HostSpec createReader(final String host, final long replicaLagMs) {
+    return new HostSpecBuilder(new SimpleHostAvailabilityStrategy())
+        .host(host).port(TEST_PORT).role(HostRole.READER).replicaLagMs(replicaLagMs).build();
+  }
+
+  @Test
+  void testGetHost_leastLaggingReader() throws SQLException {
+    final HostSpec reader1 = createReader("instance-1", 500);
+    final HostSpec reader2 = createReader("instance-2", 10);
+    final HostSpec reader3 = createReader("instance-3", 200);
+    final List<HostSpec> hosts = Arrays.asList(writerHostSpec, reader1, reader2, reader3);
+
+    for (int i = 0; i < 10; i++) {
+      assertEquals(reader2, selector.getHost(hosts, HostRole.READER, new Properties()));
+    }
+  }
+
+  @Test
+  void testGetHost_readersWithinTolerance() throws SQLException {
+    final HostSpec reader1 = createReader("instance-1", 10);
+    final HostSpec reader2 = createReader("instance-2", 25);
+    final HostSpec reader3 = createReader("instance-3", 100);
+    final List<HostSpec> hosts = Arrays.asList(writerHostSpec, reader1, reader2, reader3);
+
+    final Set<HostSpec> selectedHosts = new HashSet<>();
+    for (int i = 0; i < 100; i++) {
+      selectedHosts.add(selector.getHost(hosts, HostRole.READER, new Properties()));
+    }
+    assertEquals(new HashSet<>(Arrays.asList(reader1, reader2)), selectedHosts);
+  }
+
+  @Test
+  void testGetHost_ignoreUnavailableAndUnknownLagReaders() throws SQLException {
+    final HostSpec reader1 = createReader("instance-1", 0);
+    reader1.setAvailability(HostAvailability.NOT_AVAILABLE);
+    final HostSpec reader2 = createReader("instance-2", HostSpec.UNKNOWN_REPLICA_LAG);
+    final HostSpec reader3 = createReader("instance-3", 300);
+    final List<HostSpec> hosts = Arrays.asList(writerHostSpec, reader1, reader2, reader3);
+
+    assertEquals(reader3, selector.getHost(hosts, HostRole.READER, new Properties()));
+  }
+
+  @Test
+  void testGetHost_fallbackToWriter() throws SQLException {
+    final Properties props = new Properties();
+    props.setProperty(LeastReplicaLagHostSelector.MAX_REPLICA_LAG_MS.name, "100");
+    final HostSpec reader1 = createReader("instance-1", 150);
+    final HostSpec reader2 = createReader("instance-2", HostSpec.UNKNOWN_REPLICA_LAG);
+    final List<HostSpec> hosts = Arrays.asList(writerHostSpec, reader1, reader2);
+
+    assertEquals(writerHostSpec, selector.getHost(hosts, HostRole.READER, props));
+    assertEquals(writerHostSpec, selector.getHost(hosts, HostRole.WRITER, props));
+
+    final List<HostSpec> readersOnly = Arrays.asList(reader1, reader2);
+    assertThrows(SQLException.class, () -> selector.getHost(readersOnly, HostRole.READER, props));
+  }
+
+  @Test
+  void testGetHost_invalidMaxReplicaLag() {
+    final Properties props = new Properties();
+    props.setProperty(LeastReplicaLagHostSelector.MAX_REPLICA_LAG_MS.name, "-1");
+    final List<HostSpec> hosts = Arrays.asList(writerHostSpec, createReader("instance-1", 0));
+
+    assertThrows(SQLException.class, () -> selector.getHost(hosts, HostRole.READER, props));
+  }
+
+  @Test
+  void testReplicaLagIsCopied() {
+    final HostSpec reader = createReader("instance-1", 42);
+    final HostSpec copy = new HostSpecBuilder(new SimpleHostAvailabilityStrategy()).copyFrom(reader).build();
+
+    assertEquals(42, copy.getReplicaLagMs());
+    assertEquals(HostSpec.UNKNOWN_REPLICA_LAG,
+        new HostSpecBuilder(new SimpleHostAvailabilityStrategy()).host("instance-2").build().getReplicaLagMs());
+  }
+}
@@ -389,7 +389,7 @@ public class PluginServiceImplTests {
             mockTargetDriverDialect,
             configurationProfile,
             sessionStateService));
-    target.allHosts = new ArrayList<>();
+    target.hostSnapshot.set(HostSnapshot.EMPTY.withAllHosts(new ArrayList<>()));
     target.hostListProvider = hostListProvider;
 
     target.refreshHostList();
@@ -423,9 +423,9 @@ public class PluginServiceImplTests {
             mockTargetDriverDialect,
             configurationProfile,
             sessionStateService));
-    target.allHosts = Arrays.asList(
+    target.hostSnapshot.set(HostSnapshot.EMPTY.withAllHosts(Arrays.asList(
         new HostSpecBuilder(new SimpleHostAvailabilityStrategy()).host("hostA").build(),
-        new HostSpecBuilder(new SimpleHostAvailabilityStrategy()).host("hostB").build());
+        new HostSpecBuilder(new SimpleHostAvailabilityStrategy()).host("hostB").build())));
     target.hostListProvider = hostListProvider;
 
     target.refreshHostList();
@@ -460,8 +460,9 @@ public class PluginServiceImplTests {
             mockTargetDriverDialect,
             configurationProfile,
             sessionStateService));
-    target.allHosts = Collections.singletonList(new HostSpecBuilder(new SimpleHostAvailabilityStrategy())
-        .host("hostA").port(HostSpec.NO_PORT).role(HostRole.WRITER).build());
+    target.hostSnapshot.set(HostSnapshot.EMPTY.withAllHosts(Collections.singletonList(
+        new HostSpecBuilder(new SimpleHostAvailabilityStrategy())
+            .host("hostA").port(HostSpec.NO_PORT).role(HostRole.WRITER).build())));
     target.hostListProvider = hostListProvider;
 
     target.refreshHostList();
@@ -478,6 +479,47 @@ public class PluginServiceImplTests {
     assertTrue(hostAChanges.contains(NodeChangeOptions.PROMOTED_TO_READER));
   }
 
+  @Test
+  public void testSetNodeListReplicaLagChanged() throws SQLException {
+    doNothing().when(pluginManager).notifyNodeListChanged(any());
+
+    when(hostListProvider.refresh()).thenReturn(
+        Arrays.asList(
+            new HostSpecBuilder(new SimpleHostAvailabilityStrategy())
+                .host("hostA").role(HostRole.WRITER).build(),
+            new HostSpecBuilder(new SimpleHostAvailabilityStrategy())
+                .host("hostB").role(HostRole.READER).replicaLagMs(10).build()),
+        Arrays.asList(
+            new HostSpecBuilder(new SimpleHostAvailabilityStrategy())
+                .host("hostA").role(HostRole.WRITER).build(),
+            new HostSpecBuilder(new SimpleHostAvailabilityStrategy())
+                .host("hostB").role(HostRole.READER).replicaLagMs(500).build()));
+
+    PluginServiceImpl target = spy(
+        new PluginServiceImpl(
+            pluginManager,
+            new ExceptionManager(),
+            PROPERTIES,
+            URL,
+            DRIVER_PROTOCOL,
+            dialectManager,
+            mockTargetDriverDialect,
+            configurationProfile,
+            sessionStateService));
+    target.hostSnapshot.set(HostSnapshot.EMPTY.withAllHosts(new ArrayList<>()));
+    target.hostListProvider = hostListProvider;
+
+    target.refreshHostList();
+    assertEquals(10, target.getHostSnapshot().getHostByUrl("hostB/").getReplicaLagMs());
+    verify(pluginManager, times(1)).notifyNodeListChanged(any());
+
+    target.refreshHostList();
+    assertEquals(500, target.getHostSnapshot().getHostByUrl("hostB/").getReplicaLagMs());
+    assertEquals(500, target.getHosts().get(1).getReplicaLagMs());
+    // A change of the replica lag alone doesn't notify the plugins.
+    verify(pluginManager, times(1)).notifyNodeListChanged(any());
+  }
+
   @Test
   public void testSetNodeListNoChanges() throws SQLException {
     doNothing().when(pluginManager).notifyNodeListChanged(any());
@@ -497,8 +539,9 @@ public class PluginServiceImplTests {
             mockTargetDriverDialect,
             configurationProfile,
             sessionStateService));
-    target.allHosts = Collections.singletonList(new HostSpecBuilder(new SimpleHostAvailabilityStrategy())
-        .host("hostA").port(HostSpec.NO_PORT).role(HostRole.READER).build());
+    target.hostSnapshot.set(HostSnapshot.EMPTY.withAllHosts(Collections.singletonList(
+        new HostSpecBuilder(new SimpleHostAvailabilityStrategy())
+            .host("hostA").port(HostSpec.NO_PORT).role(HostRole.READER).build())));
     target.hostListProvider = hostListProvider;
 
     target.refreshHostList();
@@ -523,10 +566,10 @@ public class PluginServiceImplTests {
             mockTargetDriverDialect,
             configurationProfile,
             sessionStateService));
-    target.allHosts = Collections.singletonList(
+    target.hostSnapshot.set(HostSnapshot.EMPTY.withAllHosts(Collections.singletonList(
         new HostSpecBuilder(new SimpleHostAvailabilityStrategy())
             .host("hostA").port(HostSpec.NO_PORT).role(HostRole.READER).availability(HostAvailability.AVAILABLE)
-            .build());
+            .build())));
 
     Set<String> aliases = new HashSet<>();
     aliases.add("hostA");
@@ -552,10 +595,10 @@ public class PluginServiceImplTests {
             mockTargetDriverDialect,
             configurationProfile,
             sessionStateService));
-    target.allHosts = Collections.singletonList(
+    target.hostSnapshot.set(HostSnapshot.EMPTY.withAllHosts(Collections.singletonList(
         new HostSpecBuilder(new SimpleHostAvailabilityStrategy())
             .host("hostA").port(HostSpec.NO_PORT).role(HostRole.READER).availability(HostAvailability.AVAILABLE)
-            .build());
+            .build())));
 
     Set<String> aliases = new HashSet<>();
     aliases.add("hostA");
@@ -588,10 +631,10 @@ public class PluginServiceImplTests {
             mockTargetDriverDialect,
             configurationProfile,
             sessionStateService));
-    target.allHosts = Collections.singletonList(
+    target.hostSnapshot.set(HostSnapshot.EMPTY.withAllHosts(Collections.singletonList(
         new HostSpecBuilder(new SimpleHostAvailabilityStrategy())
             .host("hostA").port(HostSpec.NO_PORT).role(HostRole.READER).availability(HostAvailability.NOT_AVAILABLE)
-            .build());
+            .build())));
 
     Set<String> aliases = new HashSet<>();
     aliases.add("hostA");
@@ -636,7 +679,7 @@ public class PluginServiceImplTests {
             configurationProfile,
             sessionStateService));
 
-    target.allHosts = Arrays.asList(hostA, hostB);
+    target.hostSnapshot.set(HostSnapshot.EMPTY.withAllHosts(Arrays.asList(hostA, hostB)));
 
     Set<String> aliases = new HashSet<>();
     aliases.add("hostA.custom.domain.com");
@@ -681,7 +724,7 @@ public class PluginServiceImplTests {
             configurationProfile,
             sessionStateService));
 
-    target.allHosts = Arrays.asList(hostA, hostB);
+    target.hostSnapshot.set(HostSnapshot.EMPTY.withAllHosts(Arrays.asList(hostA, hostB)));
 
     Set<String> aliases = new HashSet<>();
     aliases.add("ip-10-10-10-10");
@@ -20,10 +20,18 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -525,6 +533,37 @@ public class RoundRobinHostSelectorTest {
         roundRobinHostSelector.getHost(hostsList14, HostRole.READER, defaultProps).getHost());
   }
 
+  @Test
+  void testGetHost_Concurrent() throws Exception {
+    final int threads = 8;
+    final int selectionsPerThread = 600;
+    final Map<String, AtomicInteger> selections = new ConcurrentHashMap<>();
+    final ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      final List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < threads; i++) {
+        futures.add(executor.submit(() -> {
+          for (int j = 0; j < selectionsPerThread; j++) {
+            final HostSpec host = roundRobinHostSelector.getHost(hostsList123, HostRole.READER, weightedProps);
+            selections.computeIfAbsent(host.getHost(), h -> new AtomicInteger()).incrementAndGet();
+          }
+          return null;
+        }));
+      }
+      for (final Future<?> future : futures) {
+        future.get(10, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    // Weights are 3, 2 and 1, and every round of 6 selections is shared by all threads.
+    final int rounds = threads * selectionsPerThread / 6;
+    assertEquals(3 * rounds, selections.get(readerHostSpec1.getHost()).get());
+    assertEquals(2 * rounds, selections.get(readerHostSpec2.getHost()).get());
+    assertEquals(rounds, selections.get(readerHostSpec3.getHost()).get());
+  }
+
   @Test
   void testSetRoundRobinHostWeightPairsProperty() {
     final String expectedPropertyValue = "instance-1-id:2,instance-2-id:1,instance-3-id:0";
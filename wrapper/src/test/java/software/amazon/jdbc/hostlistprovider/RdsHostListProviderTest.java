@@ -47,6 +47,10 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -669,4 +673,84 @@ class RdsHostListProviderTest {
     assertEquals(mockTopology, provider2.getCachedTopology());
     verify(provider2, never()).queryForTopology(mockConnection);
   }
+
+  @Test
+  void testGetTopology_refreshInProgress_returnsLastFetchedTopology() throws Exception {
+    rdsHostListProvider = Mockito.spy(
+        getRdsHostListProvider(mockHostListProviderService, "jdbc:someprotocol://url"));
+    doReturn(hosts).when(rdsHostListProvider).queryForTopology(mockConnection);
+    rdsHostListProvider.getTopology(mockConnection, false);
+    RdsHostListProvider.topologyCache.remove(rdsHostListProvider.clusterId);
+
+    final List<HostSpec> newHosts = Collections.singletonList(
+        new HostSpecBuilder(new SimpleHostAvailabilityStrategy()).host("newHost").build());
+    final CountDownLatch queryStarted = new CountDownLatch(1);
+    final CountDownLatch releaseQuery = new CountDownLatch(1);
+    doAnswer(invocation -> {
+      queryStarted.countDown();
+      releaseQuery.await();
+      return newHosts;
+    }).when(rdsHostListProvider).queryForTopology(mockConnection);
+
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      final Future<FetchTopologyResult> refreshing =
+          executor.submit(() -> rdsHostListProvider.getTopology(mockConnection, false));
+      assertTrue(queryStarted.await(5, TimeUnit.SECONDS));
+
+      final FetchTopologyResult result = rdsHostListProvider.getTopology(mockConnection, false);
+      assertTrue(result.isCachedData);
+      assertEquals(hosts, result.hosts);
+
+      releaseQuery.countDown();
+      assertEquals(newHosts, refreshing.get(5, TimeUnit.SECONDS).hosts);
+    } finally {
+      releaseQuery.countDown();
+      executor.shutdownNow();
+    }
+    verify(rdsHostListProvider, times(2)).queryForTopology(mockConnection);
+  }
+
+  @Test
+  void testGetTopology_refreshInProgressWithoutTopology_waitsForRefresh() throws Exception {
+    rdsHostListProvider = Mockito.spy(
+        getRdsHostListProvider(mockHostListProviderService, "jdbc:someprotocol://url"));
+
+    final CountDownLatch queryStarted = new CountDownLatch(1);
+    final CountDownLatch releaseQuery = new CountDownLatch(1);
+    doAnswer(invocation -> {
+      queryStarted.countDown();
+      releaseQuery.await();
+      return hosts;
+    }).when(rdsHostListProvider).queryForTopology(mockConnection);
+
+    final ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      final Future<FetchTopologyResult> refreshing =
+          executor.submit(() -> rdsHostListProvider.getTopology(mockConnection, false));
+      assertTrue(queryStarted.await(5, TimeUnit.SECONDS));
+      final Future<FetchTopologyResult> waiting =
+          executor.submit(() -> rdsHostListProvider.getTopology(mockConnection, false));
+
+      TimeUnit.MILLISECONDS.sleep(100);
+      releaseQuery.countDown();
+      assertEquals(hosts, refreshing.get(5, TimeUnit.SECONDS).hosts);
+      assertEquals(hosts, waiting.get(5, TimeUnit.SECONDS).hosts);
+    } finally {
+      releaseQuery.countDown();
+      executor.shutdownNow();
+    }
+    verify(rdsHostListProvider, times(1)).queryForTopology(mockConnection);
+  }
+
+  @Test
+  void testGetJitteredRefreshRate() {
+    final long refreshRateNano = TimeUnit.SECONDS.toNanos(30);
+    for (int i = 0; i < 100; i++) {
+      final long jitteredRefreshRateNano = TopologyRefreshCoordinator.getJitteredRefreshRateNano(refreshRateNano);
+      assertTrue(jitteredRefreshRateNano >= TimeUnit.SECONDS.toNanos(27));
+      assertTrue(jitteredRefreshRateNano <= TimeUnit.SECONDS.toNanos(33));
+    }
+    assertEquals(1, TopologyRefreshCoordinator.getJitteredRefreshRateNano(1));
+  }
 }
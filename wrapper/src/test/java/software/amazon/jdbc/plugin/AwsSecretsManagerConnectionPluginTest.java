@@ -17,6 +17,7 @@
 package software.amazon.jdbc.plugin;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
@@ -25,16 +26,19 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static software.amazon.jdbc.plugin.AwsSecretsManagerConnectionPlugin.REGION_PROPERTY;
 import static software.amazon.jdbc.plugin.AwsSecretsManagerConnectionPlugin.SECRET_ID_PROPERTY;
+import static software.amazon.jdbc.plugin.AwsSecretsManagerConnectionPlugin.SECRET_TTL_PROPERTY;
 
 import com.mysql.cj.exceptions.CJException;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Properties;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -76,6 +80,7 @@ import software.amazon.jdbc.util.telemetry.TelemetryContext;
 import software.amazon.jdbc.util.telemetry.TelemetryCounter;
 import software.amazon.jdbc.util.telemetry.TelemetryFactory;
 import software.amazon.jdbc.util.telemetry.TelemetryGauge;
+import software.amazon.jdbc.util.telemetry.TelemetryHistogram;
 
 public class AwsSecretsManagerConnectionPluginTest {
 
@@ -117,6 +122,7 @@ public class AwsSecretsManagerConnectionPluginTest {
   @Mock TelemetryContext mockTelemetryContext;
   @Mock TelemetryCounter mockTelemetryCounter;
   @Mock TelemetryGauge mockTelemetryGauge;
+  @Mock TelemetryHistogram mockTelemetryHistogram;
   @Mock TargetDriverDialect mockTargetDriverDialect;
   ConfigurationProfile configurationProfile = ConfigurationProfileBuilder.get().withName("test").build();
 
@@ -137,6 +143,7 @@ public class AwsSecretsManagerConnectionPluginTest {
     when(mockTelemetryFactory.openTelemetryContext(anyString(), any())).thenReturn(mockTelemetryContext);
     when(mockTelemetryFactory.openTelemetryContext(eq(null), any())).thenReturn(mockTelemetryContext);
     when(mockTelemetryFactory.createCounter(anyString())).thenReturn(mockTelemetryCounter);
+    when(mockTelemetryFactory.createHistogram(anyString(), any())).thenReturn(mockTelemetryHistogram);
     // noinspection unchecked
     when(mockTelemetryFactory.createGauge(anyString(), any(GaugeCallable.class))).thenReturn(mockTelemetryGauge);
 
@@ -194,6 +201,117 @@ public class AwsSecretsManagerConnectionPluginTest {
     assertEquals(TEST_PASSWORD, TEST_PROPS.get(PropertyDefinition.PASSWORD.name));
   }
 
+  /**
+   * The plugin will open a connection with a cached secret that is close to the end of its time-to-live, and will
+   * refresh the secret in the background.
+   */
+  @Test
+  public void testConnectRefreshesSecretInBackground() throws Exception {
+    SECRET_TTL_PROPERTY.set(TEST_PROPS, "100");
+    this.plugin = new AwsSecretsManagerConnectionPlugin(
+        mockService,
+        TEST_PROPS,
+        (host, r) -> mockSecretsManagerClient,
+        (id) -> mockGetValueRequest);
+    AwsSecretsManagerCacheHolder.secretsCache.put(
+        SECRET_CACHE_KEY,
+        new AwsSecretsManagerConnectionPlugin.Secret(
+            "cachedUser", "cachedPassword", System.nanoTime() - TimeUnit.SECONDS.toNanos(90)));
+    when(this.mockSecretsManagerClient.getSecretValue(this.mockGetValueRequest))
+        .thenReturn(VALID_GET_SECRET_VALUE_RESPONSE);
+
+    this.plugin.connect(TEST_PG_PROTOCOL, TEST_HOSTSPEC, TEST_PROPS, true, this.connectFunc);
+
+    assertEquals("cachedUser", TEST_PROPS.get(PropertyDefinition.USER.name));
+    assertEquals("cachedPassword", TEST_PROPS.get(PropertyDefinition.PASSWORD.name));
+    verify(this.mockSecretsManagerClient, timeout(5000)).getSecretValue(this.mockGetValueRequest);
+    final long deadline = System.currentTimeMillis() + 5000;
+    while (!AwsSecretsManagerCacheHolder.pendingSecrets.isEmpty() && System.currentTimeMillis() < deadline) {
+      TimeUnit.MILLISECONDS.sleep(10);
+    }
+    assertEquals(TEST_USERNAME, AwsSecretsManagerCacheHolder.secretsCache.get(SECRET_CACHE_KEY).getUsername());
+    assertEquals(TEST_PASSWORD, AwsSecretsManagerCacheHolder.secretsCache.get(SECRET_CACHE_KEY).getPassword());
+  }
+
+  /**
+   * The plugin will fetch the secret before opening a connection when the cached secret has outlived its time-to-live.
+   */
+  @Test
+  public void testConnectWithExpiredSecret() throws SQLException {
+    SECRET_TTL_PROPERTY.set(TEST_PROPS, "100");
+    this.plugin = new AwsSecretsManagerConnectionPlugin(
+        mockService,
+        TEST_PROPS,
+        (host, r) -> mockSecretsManagerClient,
+        (id) -> mockGetValueRequest);
+    AwsSecretsManagerCacheHolder.secretsCache.put(
+        SECRET_CACHE_KEY,
+        new AwsSecretsManagerConnectionPlugin.Secret(
+            "cachedUser", "cachedPassword", System.nanoTime() - TimeUnit.SECONDS.toNanos(200)));
+    when(this.mockSecretsManagerClient.getSecretValue(this.mockGetValueRequest))
+        .thenReturn(VALID_GET_SECRET_VALUE_RESPONSE);
+
+    this.plugin.connect(TEST_PG_PROTOCOL, TEST_HOSTSPEC, TEST_PROPS, true, this.connectFunc);
+
+    verify(this.mockSecretsManagerClient).getSecretValue(this.mockGetValueRequest);
+    verify(this.connectFunc).call();
+    assertEquals(TEST_USERNAME, TEST_PROPS.get(PropertyDefinition.USER.name));
+    assertEquals(TEST_PASSWORD, TEST_PROPS.get(PropertyDefinition.PASSWORD.name));
+  }
+
+  /**
+   * The plugin will wait for a secret that is already being fetched instead of fetching it again.
+   */
+  @Test
+  public void testConnectWaitsForPendingSecretFetch() throws SQLException {
+    final AwsSecretsManagerCacheHolder.PendingSecret pendingSecret =
+        new AwsSecretsManagerCacheHolder.PendingSecret(System.nanoTime());
+    pendingSecret.complete(TEST_SECRET);
+    AwsSecretsManagerCacheHolder.pendingSecrets.put(SECRET_CACHE_KEY, pendingSecret);
+
+    this.plugin.connect(TEST_PG_PROTOCOL, TEST_HOSTSPEC, TEST_PROPS, true, this.connectFunc);
+
+    verify(this.mockSecretsManagerClient, never()).getSecretValue(this.mockGetValueRequest);
+    verify(this.connectFunc).call();
+    assertEquals(TEST_USERNAME, TEST_PROPS.get(PropertyDefinition.USER.name));
+    assertEquals(TEST_PASSWORD, TEST_PROPS.get(PropertyDefinition.PASSWORD.name));
+  }
+
+  /**
+   * The plugin will fetch the secret again after a login failure, even if the cache holds a copy of the rejected
+   * credentials that was stored in the meantime, and won't wait for a fetch that was sent before the failure.
+   */
+  @Test
+  public void testConnectRefetchesRotatedSecretAfterLoginFailure() throws SQLException {
+    final long staleFetchTimeNano = System.nanoTime() - TimeUnit.SECONDS.toNanos(10);
+    AwsSecretsManagerCacheHolder.secretsCache.put(
+        SECRET_CACHE_KEY, new AwsSecretsManagerConnectionPlugin.Secret("oldUser", "oldPassword", staleFetchTimeNano));
+    final AwsSecretsManagerCacheHolder.PendingSecret stalePendingSecret =
+        new AwsSecretsManagerCacheHolder.PendingSecret(staleFetchTimeNano);
+    when(mockService.isLoginException(any(Throwable.class), any())).thenReturn(true);
+    when(this.mockSecretsManagerClient.getSecretValue(this.mockGetValueRequest))
+        .thenReturn(VALID_GET_SECRET_VALUE_RESPONSE);
+    when(this.connectFunc.call())
+        .thenAnswer(invocation -> {
+          // A refresh that was sent before the rotation stores the old credentials and is still pending.
+          AwsSecretsManagerCacheHolder.secretsCache.put(
+              SECRET_CACHE_KEY,
+              new AwsSecretsManagerConnectionPlugin.Secret("oldUser", "oldPassword", staleFetchTimeNano));
+          AwsSecretsManagerCacheHolder.pendingSecrets.put(SECRET_CACHE_KEY, stalePendingSecret);
+          throw new SQLException(TEST_SQL_ERROR, "28P01");
+        })
+        .thenReturn(null);
+
+    this.plugin.connect(TEST_PG_PROTOCOL, TEST_HOSTSPEC, TEST_PROPS, true, this.connectFunc);
+
+    verify(this.mockSecretsManagerClient).getSecretValue(this.mockGetValueRequest);
+    verify(this.connectFunc, times(2)).call();
+    assertFalse(stalePendingSecret.isDone());
+    assertEquals(TEST_USERNAME, TEST_PROPS.get(PropertyDefinition.USER.name));
+    assertEquals(TEST_PASSWORD, TEST_PROPS.get(PropertyDefinition.PASSWORD.name));
+    assertEquals(TEST_USERNAME, AwsSecretsManagerCacheHolder.secretsCache.get(SECRET_CACHE_KEY).getUsername());
+  }
+
   @ParameterizedTest
   @MethodSource("missingArguments")
   public void testMissingRequiredParameters(final Properties properties) {
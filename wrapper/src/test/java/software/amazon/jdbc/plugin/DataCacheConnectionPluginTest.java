@@ -17,15 +17,27 @@
 package software.amazon.jdbc.plugin;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.math.BigDecimal;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -33,6 +45,9 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import software.amazon.jdbc.JdbcCallable;
 import software.amazon.jdbc.PluginService;
+import software.amazon.jdbc.PropertyDefinition;
+import software.amazon.jdbc.plugin.DataCacheConnectionPlugin.CachedResultData;
+import software.amazon.jdbc.plugin.DataCacheConnectionPlugin.CachedResultSet;
 import software.amazon.jdbc.util.telemetry.TelemetryCounter;
 import software.amazon.jdbc.util.telemetry.TelemetryFactory;
 
@@ -125,6 +140,252 @@ class DataCacheConnectionPluginTest {
     verify(mockCallable).call();
   }
 
+  @Test
+  void test_isCacheable_verdictsSharedByConnectionsWithSameCondition() {
+    final Properties otherConditionProps = new Properties();
+    otherConditionProps.putAll(props);
+    otherConditionProps.setProperty(DataCacheConnectionPlugin.DATA_CACHE_TRIGGER_CONDITION.name, "bar");
+    final DataCacheConnectionPlugin plugin1 = new DataCacheConnectionPlugin(mockPluginService, props);
+    final DataCacheConnectionPlugin plugin2 = new DataCacheConnectionPlugin(mockPluginService, props);
+    final DataCacheConnectionPlugin otherConditionPlugin =
+        new DataCacheConnectionPlugin(mockPluginService, otherConditionProps);
+
+    assertTrue(plugin1.isCacheable("foo"));
+    assertTrue(plugin2.isCacheable("foo"));
+    assertEquals(1, DataCacheConnectionPlugin.triggerVerdicts.size());
+
+    assertFalse(otherConditionPlugin.isCacheable("foo"));
+    assertEquals(2, DataCacheConnectionPlugin.triggerVerdicts.size());
+  }
+
+  @Test
+  void test_execute_withCacheOfDifferentDatabase() throws Exception {
+    final String methodName = "Statement.executeQuery";
+
+    final Properties otherProps = new Properties();
+    otherProps.putAll(props);
+    otherProps.setProperty(PropertyDefinition.DATABASE.name, "otherDb");
+    final DataCacheConnectionPlugin plugin = new DataCacheConnectionPlugin(mockPluginService, props);
+    final DataCacheConnectionPlugin otherPlugin = new DataCacheConnectionPlugin(mockPluginService, otherProps);
+
+    when(mockCallable.call()).thenReturn(mockResult1, mockResult2);
+
+    ResultSet rs = plugin.execute(
+        ResultSet.class,
+        SQLException.class,
+        mockStatement, methodName,
+        mockCallable,
+        new String[]{"foo"}
+    );
+    compareResults(mockResult1, rs);
+
+    // The same query against another database isn't served from the cache.
+    rs = otherPlugin.execute(
+        ResultSet.class,
+        SQLException.class,
+        mockStatement, methodName,
+        mockCallable,
+        new String[]{"foo"}
+    );
+
+    compareResults(mockResult2, rs);
+    verify(mockCallable, times(2)).call();
+  }
+
+  @Test
+  void test_execute_withExpiredCache() throws Exception {
+    final String methodName = "Statement.executeQuery";
+
+    final Properties expiringProps = new Properties();
+    expiringProps.putAll(props);
+    expiringProps.setProperty(DataCacheConnectionPlugin.DATA_CACHE_EXPIRATION_TIME_MS.name, "1");
+    final DataCacheConnectionPlugin plugin = new DataCacheConnectionPlugin(mockPluginService, expiringProps);
+
+    when(mockCallable.call()).thenReturn(mockResult1, mockResult2);
+
+    ResultSet rs = plugin.execute(
+        ResultSet.class,
+        SQLException.class,
+        mockStatement, methodName,
+        mockCallable,
+        new String[]{"foo"}
+    );
+    compareResults(mockResult1, rs);
+
+    TimeUnit.MILLISECONDS.sleep(10);
+    rs = plugin.execute(
+        ResultSet.class,
+        SQLException.class,
+        mockStatement, methodName,
+        mockCallable,
+        new String[]{"foo"}
+    );
+
+    compareResults(mockResult2, rs);
+    verify(mockCallable, times(2)).call();
+  }
+
+  @Test
+  void test_execute_singleLoadForConcurrentMisses() throws Exception {
+    final String methodName = "Statement.executeQuery";
+
+    final DataCacheConnectionPlugin plugin1 = new DataCacheConnectionPlugin(mockPluginService, props);
+    final DataCacheConnectionPlugin plugin2 = new DataCacheConnectionPlugin(mockPluginService, props);
+
+    final CountDownLatch loadStarted = new CountDownLatch(1);
+    final CountDownLatch releaseLoad = new CountDownLatch(1);
+    final ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      final Future<ResultSet> rs1 = executor.submit(() -> plugin1.execute(
+          ResultSet.class,
+          SQLException.class,
+          mockStatement, methodName,
+          () -> {
+            loadStarted.countDown();
+            try {
+              releaseLoad.await();
+            } catch (final InterruptedException ex) {
+              throw new SQLException(ex);
+            }
+            return mockResult1;
+          },
+          new String[]{"foo"}
+      ));
+      assertTrue(loadStarted.await(5, TimeUnit.SECONDS));
+
+      // The second execution waits for the first one instead of querying the database.
+      final Future<ResultSet> rs2 = executor.submit(() -> plugin2.execute(
+          ResultSet.class,
+          SQLException.class,
+          mockStatement, methodName,
+          mockCallable,
+          new String[]{"foo"}
+      ));
+      releaseLoad.countDown();
+
+      final ResultSet result1 = rs1.get(5, TimeUnit.SECONDS);
+      final ResultSet result2 = rs2.get(5, TimeUnit.SECONDS);
+      assertTrue(result1.next());
+      assertTrue(result2.next());
+      assertEquals("bar1", result1.getObject(1));
+      assertEquals("bar1", result2.getObject(1));
+      verify(mockCallable, never()).call();
+      assertTrue(DataCacheConnectionPlugin.pendingLoads.isEmpty());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void test_execute_pendingLoadTimesOut() throws Exception {
+    final String methodName = "Statement.executeQuery";
+    when(mockStatement.getQueryTimeout()).thenReturn(1);
+    when(mockCallable.call()).thenReturn(mockResult2);
+
+    final DataCacheConnectionPlugin plugin1 = new DataCacheConnectionPlugin(mockPluginService, props);
+    final DataCacheConnectionPlugin plugin2 = new DataCacheConnectionPlugin(mockPluginService, props);
+
+    final CountDownLatch loadStarted = new CountDownLatch(1);
+    final CountDownLatch releaseLoad = new CountDownLatch(1);
+    final ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      final Future<ResultSet> rs1 = executor.submit(() -> plugin1.execute(
+          ResultSet.class,
+          SQLException.class,
+          mockStatement, methodName,
+          () -> {
+            loadStarted.countDown();
+            try {
+              releaseLoad.await();
+            } catch (final InterruptedException ex) {
+              throw new SQLException(ex);
+            }
+            return mockResult1;
+          },
+          new String[]{"foo"}
+      ));
+      assertTrue(loadStarted.await(5, TimeUnit.SECONDS));
+
+      // The second execution stops waiting after the query timeout and queries the database itself.
+      final ResultSet result2 = plugin2.execute(
+          ResultSet.class,
+          SQLException.class,
+          mockStatement, methodName,
+          mockCallable,
+          new String[]{"foo"}
+      );
+      verify(mockCallable, times(1)).call();
+      assertTrue(result2.next());
+      assertEquals("bar2", result2.getObject(1));
+
+      releaseLoad.countDown();
+      rs1.get(5, TimeUnit.SECONDS);
+    } finally {
+      releaseLoad.countDown();
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void test_cachedResultSet_typedGetters() throws SQLException {
+    when(mockMetaData.getColumnCount()).thenReturn(3);
+    when(mockMetaData.getColumnName(2)).thenReturn("count");
+    when(mockMetaData.getColumnName(3)).thenReturn("price");
+    when(mockResult1.next()).thenReturn(true, true, false);
+    when(mockResult1.getObject(1)).thenReturn("bar1", null);
+    when(mockResult1.getObject(2)).thenReturn(10, null);
+    when(mockResult1.getObject(3)).thenReturn(new BigDecimal("1.5"), 2L);
+
+    final CachedResultSet rs = new CachedResultSet(mockResult1);
+
+    assertTrue(rs.next());
+    assertEquals("bar1", rs.getString("fooName"));
+    assertEquals(10, rs.getInt(2));
+    assertEquals(10L, rs.getLong("COUNT"));
+    assertEquals(10, rs.getObject(2));
+    assertFalse(rs.wasNull());
+    assertEquals(new BigDecimal("1.5"), rs.getBigDecimal(3));
+    assertEquals(1.5, rs.getDouble(3));
+
+    assertTrue(rs.next());
+    assertNull(rs.getString(1));
+    assertTrue(rs.wasNull());
+    assertEquals(0, rs.getInt("count"));
+    assertTrue(rs.wasNull());
+    assertNull(rs.getObject(2));
+    assertEquals(2, rs.getInt(3));
+    assertFalse(rs.wasNull());
+
+    assertFalse(rs.next());
+    assertEquals(3, rs.findColumn("price"));
+    assertThrows(SQLException.class, () -> rs.findColumn("unknown"));
+    assertThrows(SQLException.class, () -> rs.getString("unknown"));
+    assertThrows(SQLException.class, () -> rs.getInt("unknown"));
+    assertThrows(SQLException.class, () -> rs.getObject("unknown"));
+    assertThrows(SQLException.class, () -> rs.getString(0));
+    assertThrows(SQLException.class, () -> rs.getInt(4));
+    assertThrows(SQLException.class, () -> rs.getObject(4));
+  }
+
+  @Test
+  void test_cachedResultSet_independentCursors() throws SQLException {
+    when(mockResult1.next()).thenReturn(true, true, false);
+    when(mockResult1.getObject(1)).thenReturn(1, 2);
+
+    final CachedResultData data = new CachedResultData(mockResult1);
+    final CachedResultSet rs1 = new CachedResultSet(data);
+    final CachedResultSet rs2 = new CachedResultSet(data);
+
+    assertEquals(2, data.getRowCount());
+    assertTrue(rs1.next());
+    assertTrue(rs1.next());
+    assertEquals(2, rs1.getInt(1));
+    assertFalse(rs1.next());
+
+    assertTrue(rs2.next());
+    assertEquals(1, rs2.getInt(1));
+  }
+
   void compareResults(final ResultSet expected, final ResultSet actual) throws SQLException {
     int i = 1;
     while (expected.next() && actual.next()) {
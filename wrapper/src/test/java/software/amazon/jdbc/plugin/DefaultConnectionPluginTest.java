@@ -29,6 +29,7 @@ import static org.mockito.Mockito.when;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -54,6 +55,7 @@ import software.amazon.jdbc.util.telemetry.TelemetryContext;
 import software.amazon.jdbc.util.telemetry.TelemetryCounter;
 import software.amazon.jdbc.util.telemetry.TelemetryFactory;
 import software.amazon.jdbc.util.telemetry.TelemetryGauge;
+import software.amazon.jdbc.wrapper.ConnectionEpochAware;
 
 class DefaultConnectionPluginTest {
 
@@ -72,6 +74,8 @@ class DefaultConnectionPluginTest {
   @Mock TelemetryGauge mockTelemetryGauge;
   @Mock ConnectionProviderManager mockConnectionProviderManager;
   @Mock HostSpec mockHostSpec;
+  @Mock Statement mockStatement;
+  @Mock ConnectionEpochAware mockStatementWrapper;
 
 
   private AutoCloseable closeable;
@@ -119,6 +123,28 @@ class DefaultConnectionPluginTest {
     verify(pluginManagerService, never()).setInTransaction(anyBoolean());
   }
 
+  @Test
+  void testExecute_statementOfCurrentConnectionEpoch() throws SQLException {
+    when(this.pluginService.getCurrentConnection()).thenReturn(conn);
+    when(this.pluginService.getConnectionEpoch()).thenReturn(3);
+    when(this.mockStatementWrapper.getConnectionEpoch()).thenReturn(3);
+    plugin.execute(Void.class, SQLException.class, mockStatement, mockStatementWrapper, "Statement.execute",
+        mockSqlFunction, new Object[]{"COMMIT"});
+    verify(pluginManagerService, times(1)).setInTransaction(false);
+    verify(mockStatement, never()).getConnection();
+  }
+
+  @Test
+  void testExecute_statementOfOldConnectionEpoch() throws SQLException {
+    when(this.pluginService.getCurrentConnection()).thenReturn(conn);
+    when(this.pluginService.getConnectionEpoch()).thenReturn(3);
+    when(this.mockStatementWrapper.getConnectionEpoch()).thenReturn(2);
+    when(this.mockStatement.getConnection()).thenReturn(oldConn);
+    plugin.execute(Void.class, SQLException.class, mockStatement, mockStatementWrapper, "Statement.execute",
+        mockSqlFunction, new Object[]{"COMMIT"});
+    verify(pluginManagerService, never()).setInTransaction(anyBoolean());
+  }
+
   @Test
   void testConnect() throws SQLException {
     plugin.connect("anyProtocol", mockHostSpec, new Properties(), true, mockConnectFunction);
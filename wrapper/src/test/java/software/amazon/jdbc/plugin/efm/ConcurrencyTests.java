@@ -468,6 +468,11 @@ public class ConcurrencyTests {
       return this.hostSpec;
     }
 
+    @Override
+    public int getConnectionEpoch() {
+      return 0;
+    }
+
     @Override
     public void setCurrentConnection(@NonNull Connection connection, @NonNull HostSpec hostSpec)
         throws SQLException {
@@ -52,6 +52,7 @@ import software.amazon.jdbc.PluginService;
 import software.amazon.jdbc.util.telemetry.TelemetryContext;
 import software.amazon.jdbc.util.telemetry.TelemetryCounter;
 import software.amazon.jdbc.util.telemetry.TelemetryFactory;
+import software.amazon.jdbc.util.telemetry.TelemetryHistogram;
 
 class MonitorImplTest {
 
@@ -70,6 +71,7 @@ class MonitorImplTest {
   @Mock TelemetryFactory telemetryFactory;
   @Mock TelemetryContext telemetryContext;
   @Mock TelemetryCounter telemetryCounter;
+  @Mock TelemetryHistogram telemetryHistogram;
 
   private static final long SHORT_INTERVAL_MILLIS = 30;
   private static final long SHORT_INTERVAL_SECONDS = TimeUnit.MILLISECONDS.toSeconds(SHORT_INTERVAL_MILLIS);
@@ -94,6 +96,7 @@ class MonitorImplTest {
     when(telemetryFactory.openTelemetryContext(anyString(), any())).thenReturn(telemetryContext);
     when(telemetryFactory.openTelemetryContext(eq(null), any())).thenReturn(telemetryContext);
     when(telemetryFactory.createCounter(anyString())).thenReturn(telemetryCounter);
+    when(telemetryFactory.createHistogram(anyString(), any())).thenReturn(telemetryHistogram);
     when(executorServiceInitializer.createExecutorService()).thenReturn(executorService);
     threadContainer = MonitorThreadContainer.getInstance(executorServiceInitializer);
 
@@ -240,4 +243,39 @@ class MonitorImplTest {
     // Clean-up
     MonitorThreadContainer.releaseInstance();
   }
+
+  @Test
+  void test_11_contextIsActivatedAfterGracePeriod() throws InterruptedException {
+    final MonitorConnectionContext context =
+        new MonitorConnectionContext(monitor, connection, 200, SHORT_INTERVAL_MILLIS, 3, telemetryCounter);
+
+    monitor.startMonitoring(context);
+    assertFalse(monitor.activeContexts.contains(context));
+
+    final long deadlineNano = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (!monitor.activeContexts.contains(context) && System.nanoTime() < deadlineNano) {
+      TimeUnit.MILLISECONDS.sleep(10);
+    }
+    assertTrue(monitor.activeContexts.contains(context));
+    assertTrue(System.nanoTime() >= context.getExpectedActiveMonitoringStartTimeNano());
+    verify(telemetryHistogram).record(anyLong());
+  }
+
+  @Test
+  void test_12_contextStoppedDuringGracePeriodIsNotActivated() throws InterruptedException {
+    final MonitorConnectionContext context =
+        new MonitorConnectionContext(monitor, connection, 100, SHORT_INTERVAL_MILLIS, 3, telemetryCounter);
+    final MonitorConnectionContext clearedContext =
+        new MonitorConnectionContext(monitor, connection, 100, SHORT_INTERVAL_MILLIS, 3, telemetryCounter);
+
+    monitor.startMonitoring(context);
+    monitor.stopMonitoring(context);
+    monitor.startMonitoring(clearedContext);
+    monitor.clearContexts();
+
+    TimeUnit.MILLISECONDS.sleep(500);
+    assertFalse(monitor.activeContexts.contains(context));
+    assertFalse(monitor.activeContexts.contains(clearedContext));
+    verify(telemetryCounter, times(3)).inc();
+  }
 }
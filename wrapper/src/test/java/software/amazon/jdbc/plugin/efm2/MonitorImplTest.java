@@ -0,0 +1,151 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.plugin.efm2;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import software.amazon.jdbc.HostSpec;
+import software.amazon.jdbc.HostSpecBuilder;
+import software.amazon.jdbc.PluginService;
+import software.amazon.jdbc.hostavailability.SimpleHostAvailabilityStrategy;
+import software.amazon.jdbc.util.telemetry.TelemetryContext;
+import software.amazon.jdbc.util.telemetry.TelemetryCounter;
+import software.amazon.jdbc.util.telemetry.TelemetryFactory;
+
+class MonitorImplTest {
+
+  private static final int FAILURE_DETECTION_INTERVAL_MILLIS = 200;
+
+  @Mock PluginService pluginService;
+  @Mock TelemetryFactory telemetryFactory;
+  @Mock TelemetryContext telemetryContext;
+  @Mock TelemetryCounter abortedConnectionsCounter;
+  @Mock Connection hangingMonitoringConnection;
+  @Mock Connection healthyMonitoringConnection;
+  @Mock Connection monitoredConnection1;
+  @Mock Connection monitoredConnection2;
+
+  private final HostSpec hangingHostSpec = new HostSpecBuilder(new SimpleHostAvailabilityStrategy())
+      .host("hanging-host").build();
+  private final HostSpec healthyHostSpec = new HostSpecBuilder(new SimpleHostAvailabilityStrategy())
+      .host("healthy-host").build();
+  private final Properties properties = new Properties();
+
+  private AutoCloseable closeable;
+  private ScheduledExecutorService scheduler;
+  private ExecutorService checkExecutor;
+
+  @BeforeEach
+  void init() {
+    closeable = MockitoAnnotations.openMocks(this);
+    when(pluginService.getTelemetryFactory()).thenReturn(telemetryFactory);
+    when(telemetryFactory.openTelemetryContext(anyString(), any())).thenReturn(telemetryContext);
+    scheduler = Executors.newSingleThreadScheduledExecutor();
+    checkExecutor = Executors.newFixedThreadPool(2);
+  }
+
+  @AfterEach
+  void cleanUp() throws Exception {
+    scheduler.shutdownNow();
+    checkExecutor.shutdownNow();
+    closeable.close();
+  }
+
+  @Test
+  void test_hangingHostDoesNotDelayChecksOfOtherHosts() throws Exception {
+    final CountDownLatch hangingCheckStarted = new CountDownLatch(1);
+    final CountDownLatch releaseHangingCheck = new CountDownLatch(1);
+    final AtomicInteger healthyChecks = new AtomicInteger();
+
+    when(pluginService.forceConnect(eq(hangingHostSpec), any(Properties.class)))
+        .thenReturn(hangingMonitoringConnection);
+    when(pluginService.forceConnect(eq(healthyHostSpec), any(Properties.class)))
+        .thenReturn(healthyMonitoringConnection);
+    when(hangingMonitoringConnection.isValid(anyInt())).thenAnswer(invocation -> {
+      hangingCheckStarted.countDown();
+      releaseHangingCheck.await();
+      return true;
+    });
+    when(healthyMonitoringConnection.isValid(anyInt())).thenAnswer(invocation -> {
+      healthyChecks.incrementAndGet();
+      return true;
+    });
+
+    final MonitorImpl hangingMonitor = createMonitor(hangingHostSpec);
+    final MonitorImpl healthyMonitor = createMonitor(healthyHostSpec);
+    final MonitorConnectionContext context1 = new MonitorConnectionContext(monitoredConnection1);
+    final MonitorConnectionContext context2 = new MonitorConnectionContext(monitoredConnection2);
+    hangingMonitor.startMonitoring(context1);
+    healthyMonitor.startMonitoring(context2);
+
+    try {
+      assertTrue(hangingCheckStarted.await(5, TimeUnit.SECONDS));
+      final int checksBefore = healthyChecks.get();
+
+      // The healthy host keeps being checked while a check of the hanging host holds a thread.
+      TimeUnit.MILLISECONDS.sleep(FAILURE_DETECTION_INTERVAL_MILLIS * 5);
+      assertTrue(healthyChecks.get() >= checksBefore + 3);
+      assertTrue(context1.isActive());
+      assertTrue(context2.isActive());
+
+      // The monitoring connection isn't closed while the hanging check still uses it.
+      hangingMonitor.close();
+      verify(hangingMonitoringConnection, never()).close();
+    } finally {
+      releaseHangingCheck.countDown();
+    }
+
+    verify(hangingMonitoringConnection, timeout(5000)).close();
+    healthyMonitor.close();
+    verify(healthyMonitoringConnection, timeout(5000)).close();
+  }
+
+  private MonitorImpl createMonitor(final HostSpec hostSpec) {
+    return new MonitorImpl(
+        pluginService,
+        hostSpec,
+        properties,
+        0,
+        FAILURE_DETECTION_INTERVAL_MILLIS,
+        3,
+        abortedConnectionsCounter,
+        scheduler,
+        checkExecutor);
+  }
+}
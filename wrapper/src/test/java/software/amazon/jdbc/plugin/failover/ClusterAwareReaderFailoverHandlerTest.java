@@ -39,6 +39,11 @@ import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -228,6 +233,140 @@ class ClusterAwareReaderFailoverHandlerTest {
         .setAvailability(eq(fastHost.asAliases()), eq(HostAvailability.AVAILABLE));
   }
 
+  @Test
+  public void testGetReader_connectionAttemptsRunConcurrently() throws SQLException {
+    // connection attempts to all readers start at the same time
+    // the fast reader connects while the other attempts are still in progress
+    // expected test result: successful connection for the fast reader, other attempts cancelled
+    final List<HostSpec> hosts = defaultHosts.subList(0, 6); // 5 connection attempts (writer not attempted)
+    final HostSpec fastHost = hosts.get(5);
+    when(mockPluginService.forceConnect(any(), eq(properties)))
+        .thenAnswer(
+            (Answer<Connection>)
+                invocation -> {
+                  Thread.sleep(20000);
+                  return mockConnection;
+                });
+    when(mockPluginService.forceConnect(eq(fastHost), eq(properties))).thenReturn(mockConnection);
+
+    Dialect mockDialect = Mockito.mock(Dialect.class);
+    when(mockDialect.getFailoverRestrictions()).thenReturn(EnumSet.noneOf(FailoverRestriction.class));
+    when(mockPluginService.getDialect()).thenReturn(mockDialect);
+
+    final ReaderFailoverHandler target =
+        new ClusterAwareReaderFailoverHandler(
+            mockPluginService,
+            properties,
+            DEFAULT_FAILOVER_TIMEOUT,
+            DEFAULT_READER_CONNECT_TIMEOUT,
+            false,
+            5);
+
+    final long startTimeNano = System.nanoTime();
+    final ReaderFailoverResult result = target.getReaderConnection(hosts);
+    final long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTimeNano);
+
+    assertTrue(result.isConnected());
+    assertSame(mockConnection, result.getConnection());
+    assertEquals(fastHost, result.getHost());
+    assertTrue(durationMs < 5000);
+
+    verify(mockPluginService, never()).setAvailability(any(), eq(HostAvailability.NOT_AVAILABLE));
+    verify(mockConnection, never()).close();
+  }
+
+  @Test
+  public void testReserveConnectThreads_limitedByMaxConnectThreads() {
+    final int reservedThreads = FailoverExecutors.getReservedConnectThreads();
+    final int maxConnectThreads = reservedThreads + 6;
+    final ThreadPoolExecutor connectExecutor = (ThreadPoolExecutor) FailoverExecutors.getConnectExecutor();
+
+    final FailoverExecutors.ConnectReservation first =
+        FailoverExecutors.reserveConnectThreads(4, maxConnectThreads);
+    final FailoverExecutors.ConnectReservation second =
+        FailoverExecutors.reserveConnectThreads(4, maxConnectThreads);
+    final FailoverExecutors.ConnectReservation third =
+        FailoverExecutors.reserveConnectThreads(4, maxConnectThreads);
+
+    assertEquals(maxConnectThreads, FailoverExecutors.getReservedConnectThreads());
+    assertEquals(
+        Math.max(FailoverExecutors.DEFAULT_CONNECT_PARALLELISM, maxConnectThreads),
+        connectExecutor.getMaximumPoolSize());
+
+    third.close();
+    second.close();
+    first.close();
+
+    assertEquals(reservedThreads, FailoverExecutors.getReservedConnectThreads());
+    assertEquals(
+        Math.max(FailoverExecutors.DEFAULT_CONNECT_PARALLELISM, reservedThreads),
+        connectExecutor.getMaximumPoolSize());
+  }
+
+  @Test
+  public void testGetReader_concurrentFailoversDoNotWaitForEachOther() throws Exception {
+    // another failover runs as many slow connection attempts as the default pool has threads
+    // the slow attempts ignore cancellation, as a driver blocked in a socket read does
+    // expected test result: the connection attempt of this failover runs right away and succeeds
+    final List<HostSpec> hosts = defaultHosts.subList(0, 6); // 5 connection attempts (writer not attempted)
+    final CountDownLatch slowAttemptsStarted = new CountDownLatch(FailoverExecutors.DEFAULT_CONNECT_PARALLELISM);
+    final CountDownLatch releaseSlowAttempts = new CountDownLatch(1);
+    final PluginService mockSlowPluginService = Mockito.mock(PluginService.class);
+    when(mockSlowPluginService.forceConnect(any(), eq(properties)))
+        .thenAnswer(
+            (Answer<Connection>)
+                invocation -> {
+                  slowAttemptsStarted.countDown();
+                  while (true) {
+                    try {
+                      releaseSlowAttempts.await();
+                      return mockConnection;
+                    } catch (InterruptedException exception) {
+                      // ignore
+                    }
+                  }
+                });
+    when(mockPluginService.forceConnect(any(), eq(properties))).thenReturn(mockConnection);
+
+    Dialect mockDialect = Mockito.mock(Dialect.class);
+    when(mockDialect.getFailoverRestrictions()).thenReturn(EnumSet.noneOf(FailoverRestriction.class));
+    when(mockSlowPluginService.getDialect()).thenReturn(mockDialect);
+    when(mockPluginService.getDialect()).thenReturn(mockDialect);
+
+    final ClusterAwareReaderFailoverHandler slowTarget =
+        new ClusterAwareReaderFailoverHandler(
+            mockSlowPluginService,
+            properties,
+            DEFAULT_FAILOVER_TIMEOUT,
+            DEFAULT_READER_CONNECT_TIMEOUT,
+            false,
+            FailoverExecutors.DEFAULT_CONNECT_PARALLELISM);
+    final ClusterAwareReaderFailoverHandler target =
+        new ClusterAwareReaderFailoverHandler(
+            mockPluginService,
+            properties,
+            DEFAULT_FAILOVER_TIMEOUT,
+            1000,
+            false,
+            1);
+
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      final Future<ReaderFailoverResult> slowResult = executor.submit(() -> slowTarget.getReaderConnection(hosts));
+      assertTrue(slowAttemptsStarted.await(5, TimeUnit.SECONDS));
+
+      final ReaderFailoverResult result = target.getReaderConnection(hosts);
+
+      assertTrue(result.isConnected());
+      assertSame(mockConnection, result.getConnection());
+      releaseSlowAttempts.countDown();
+      assertTrue(slowResult.get(5, TimeUnit.SECONDS).isConnected());
+    } finally {
+      releaseSlowAttempts.countDown();
+      executor.shutdownNow();
+    }
+  }
+
   @Test
   public void testGetReader_connectionFailure() throws SQLException {
     // odd number of connection attempts
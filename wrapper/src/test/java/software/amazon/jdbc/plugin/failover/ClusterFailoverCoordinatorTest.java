@@ -0,0 +1,318 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.plugin.failover;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import software.amazon.jdbc.HostRole;
+import software.amazon.jdbc.HostSpec;
+import software.amazon.jdbc.HostSpecBuilder;
+import software.amazon.jdbc.PluginService;
+import software.amazon.jdbc.hostavailability.HostAvailability;
+import software.amazon.jdbc.hostavailability.SimpleHostAvailabilityStrategy;
+
+class ClusterFailoverCoordinatorTest {
+
+  private static final long COORDINATION_WINDOW_MS = 60000;
+  private static final long FAILOVER_TIMEOUT_MS = 60000;
+
+  @Mock PluginService mockPluginService;
+  @Mock WriterFailoverHandler mockWriterFailoverHandler;
+  @Mock ReaderFailoverHandler mockReaderFailoverHandler;
+  @Mock Connection mockLeaderConnection;
+  @Mock Connection mockFollowerConnection;
+
+  private AutoCloseable closeable;
+  private final Properties properties = new Properties();
+  private final HostSpec oldWriter = new HostSpecBuilder(new SimpleHostAvailabilityStrategy())
+      .host("old-writer-host").role(HostRole.READER).build();
+  private final HostSpec newWriter = new HostSpecBuilder(new SimpleHostAvailabilityStrategy())
+      .host("new-writer-host").role(HostRole.WRITER).build();
+  private final HostSpec reader = new HostSpecBuilder(new SimpleHostAvailabilityStrategy())
+      .host("reader-host").role(HostRole.READER).build();
+  private final List<HostSpec> newTopology = Arrays.asList(newWriter, oldWriter, reader);
+  private ClusterFailoverCoordinator coordinator;
+
+  @BeforeEach
+  void setUp() {
+    closeable = MockitoAnnotations.openMocks(this);
+    coordinator = new ClusterFailoverCoordinator("test-cluster");
+    when(mockPluginService.getHostSpecBuilder()).thenReturn(new HostSpecBuilder(new SimpleHostAvailabilityStrategy()));
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    closeable.close();
+    ClusterFailoverCoordinator.clearCache();
+  }
+
+  @Test
+  public void testFailoverWriter_followerConnectsToElectedWriter() throws SQLException {
+    when(mockWriterFailoverHandler.failover(any()))
+        .thenReturn(new WriterFailoverResult(true, true, newTopology, mockLeaderConnection, "TaskB"));
+    when(mockPluginService.forceConnect(eq(newWriter), any())).thenReturn(mockFollowerConnection);
+    when(mockPluginService.getHostRole(mockFollowerConnection)).thenReturn(HostRole.WRITER);
+
+    final WriterFailoverResult leaderResult = failoverWriter(oldWriter);
+    final WriterFailoverResult followerResult = failoverWriter(oldWriter);
+
+    assertSame(mockLeaderConnection, leaderResult.getNewConnection());
+    assertTrue(followerResult.isConnected());
+    assertTrue(followerResult.isNewHost());
+    assertSame(mockFollowerConnection, followerResult.getNewConnection());
+    assertNotSame(newTopology, followerResult.getTopology());
+    assertEquals(newTopology.size(), followerResult.getTopology().size());
+    assertEquals(newWriter.getUrl(), followerResult.getTopology().get(0).getUrl());
+    verify(mockWriterFailoverHandler, times(1)).failover(any());
+  }
+
+  @Test
+  public void testFailoverWriter_followersWaitForEpochInProgress() throws Exception {
+    final CountDownLatch handlerStarted = new CountDownLatch(1);
+    final CountDownLatch completeHandler = new CountDownLatch(1);
+    when(mockWriterFailoverHandler.failover(any())).thenAnswer(invocation -> {
+      handlerStarted.countDown();
+      completeHandler.await();
+      return new WriterFailoverResult(true, true, newTopology, mockLeaderConnection, "TaskB");
+    });
+    when(mockPluginService.forceConnect(eq(newWriter), any())).thenReturn(mockFollowerConnection);
+    when(mockPluginService.getHostRole(mockFollowerConnection)).thenReturn(HostRole.WRITER);
+
+    final ExecutorService executor = Executors.newFixedThreadPool(3);
+    try {
+      final Future<WriterFailoverResult> leader = executor.submit(() -> failoverWriter(oldWriter));
+      assertTrue(handlerStarted.await(5, TimeUnit.SECONDS));
+      final Future<WriterFailoverResult> follower1 = executor.submit(() -> failoverWriter(oldWriter));
+      final Future<WriterFailoverResult> follower2 = executor.submit(() -> failoverWriter(oldWriter));
+      completeHandler.countDown();
+
+      assertSame(mockLeaderConnection, leader.get(5, TimeUnit.SECONDS).getNewConnection());
+      assertSame(mockFollowerConnection, follower1.get(5, TimeUnit.SECONDS).getNewConnection());
+      assertSame(mockFollowerConnection, follower2.get(5, TimeUnit.SECONDS).getNewConnection());
+      verify(mockWriterFailoverHandler, times(1)).failover(any());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testFailoverWriter_failureOfElectedWriterStartsNewEpoch() throws SQLException {
+    when(mockWriterFailoverHandler.failover(any()))
+        .thenReturn(new WriterFailoverResult(true, true, newTopology, mockLeaderConnection, "TaskB"));
+
+    failoverWriter(oldWriter);
+    failoverWriter(newWriter);
+
+    verify(mockWriterFailoverHandler, times(2)).failover(any());
+    verify(mockPluginService, never()).forceConnect(any(), any());
+  }
+
+  @Test
+  public void testFailoverWriter_followerFailsOverOnItsOwnWhenElectedWriterIsNotWriter() throws SQLException {
+    when(mockWriterFailoverHandler.failover(any()))
+        .thenReturn(new WriterFailoverResult(true, true, newTopology, mockLeaderConnection, "TaskB"));
+    when(mockWriterFailoverHandler.failover(any(), anyLong()))
+        .thenReturn(new WriterFailoverResult(true, true, newTopology, mockFollowerConnection, "TaskB"));
+    final Connection mockElectedWriterConnection = mock(Connection.class);
+    when(mockPluginService.forceConnect(eq(newWriter), any())).thenReturn(mockElectedWriterConnection);
+    when(mockPluginService.getHostRole(mockElectedWriterConnection)).thenReturn(HostRole.READER);
+
+    failoverWriter(oldWriter);
+    final WriterFailoverResult followerResult = failoverWriter(oldWriter);
+
+    assertSame(mockFollowerConnection, followerResult.getNewConnection());
+    verify(mockElectedWriterConnection).close();
+    verify(mockWriterFailoverHandler, times(1)).failover(any());
+    verify(mockWriterFailoverHandler, times(1)).failover(any(), anyLong());
+  }
+
+  @Test
+  public void testFailoverWriter_followerFailsOverOnItsOwnWhenNoWriterIsElected() throws Exception {
+    final CountDownLatch handlerStarted = new CountDownLatch(1);
+    final CountDownLatch completeHandler = new CountDownLatch(1);
+    when(mockWriterFailoverHandler.failover(any())).thenAnswer(invocation -> {
+      handlerStarted.countDown();
+      completeHandler.await();
+      return new WriterFailoverResult(false, false, null, null, "None");
+    });
+    when(mockWriterFailoverHandler.failover(any(), anyLong()))
+        .thenReturn(new WriterFailoverResult(true, true, newTopology, mockFollowerConnection, "TaskB"));
+
+    final ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      final Future<WriterFailoverResult> leader = executor.submit(() -> failoverWriter(oldWriter));
+      assertTrue(handlerStarted.await(5, TimeUnit.SECONDS));
+      final Future<WriterFailoverResult> follower = executor.submit(() -> failoverWriter(oldWriter));
+      completeHandler.countDown();
+
+      assertFalse(leader.get(5, TimeUnit.SECONDS).isConnected());
+      assertSame(mockFollowerConnection, follower.get(5, TimeUnit.SECONDS).getNewConnection());
+      verify(mockWriterFailoverHandler, times(1)).failover(any(), anyLong());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testFailoverWriter_followerOnlyUsesRemainingFailoverTime() throws Exception {
+    final CountDownLatch handlerStarted = new CountDownLatch(1);
+    final CountDownLatch completeHandler = new CountDownLatch(1);
+    when(mockWriterFailoverHandler.failover(any())).thenAnswer(invocation -> {
+      handlerStarted.countDown();
+      completeHandler.await();
+      return new WriterFailoverResult(true, true, newTopology, mockLeaderConnection, "TaskB");
+    });
+
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      final Future<WriterFailoverResult> leader = executor.submit(() -> failoverWriter(oldWriter));
+      assertTrue(handlerStarted.await(5, TimeUnit.SECONDS));
+
+      final WriterFailoverResult followerResult = coordinator.failoverWriter(mockWriterFailoverHandler, newTopology,
+          oldWriter, mockPluginService, properties, COORDINATION_WINDOW_MS, 100);
+      completeHandler.countDown();
+
+      assertFalse(followerResult.isConnected());
+      assertSame(mockLeaderConnection, leader.get(5, TimeUnit.SECONDS).getNewConnection());
+      verify(mockWriterFailoverHandler, never()).failover(any(), anyLong());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testFailoverWriter_failedEpochIsNotReused() throws SQLException {
+    when(mockWriterFailoverHandler.failover(any()))
+        .thenReturn(new WriterFailoverResult(false, false, null, null, "None"));
+
+    assertFalse(failoverWriter(oldWriter).isConnected());
+    assertFalse(failoverWriter(oldWriter).isConnected());
+
+    verify(mockWriterFailoverHandler, times(2)).failover(any());
+  }
+
+  @Test
+  public void testFailoverReader_followerConnectsToElectedReader() throws SQLException {
+    when(mockReaderFailoverHandler.failover(any(), any()))
+        .thenReturn(new ReaderFailoverResult(mockLeaderConnection, reader, true));
+    when(mockPluginService.forceConnect(eq(reader), any())).thenReturn(mockFollowerConnection);
+    when(mockPluginService.getHostRole(mockFollowerConnection)).thenReturn(HostRole.READER);
+
+    final ReaderFailoverResult leaderResult = failoverReader(oldWriter);
+    final ReaderFailoverResult followerResult = failoverReader(oldWriter);
+
+    assertSame(mockLeaderConnection, leaderResult.getConnection());
+    assertTrue(followerResult.isConnected());
+    assertSame(mockFollowerConnection, followerResult.getConnection());
+    assertSame(reader, followerResult.getHost());
+    verify(mockReaderFailoverHandler, times(1)).failover(any(), any());
+    verify(mockReaderFailoverHandler, never()).failover(any(), any(), anyLong());
+  }
+
+  @Test
+  public void testFailoverReader_followerChoosesReaderFromLeaderTopologyWhenElectedReaderFails() throws SQLException {
+    when(mockReaderFailoverHandler.failover(any(), any())).thenAnswer(invocation -> {
+      // The leader finds that the old writer is down.
+      oldWriter.setAvailability(HostAvailability.NOT_AVAILABLE);
+      return new ReaderFailoverResult(mockLeaderConnection, reader, true);
+    });
+    when(mockReaderFailoverHandler.failover(any(), any(), anyLong()))
+        .thenReturn(new ReaderFailoverResult(mockFollowerConnection, reader, true));
+    when(mockPluginService.forceConnect(eq(reader), any())).thenThrow(new SQLException("unreachable"));
+
+    failoverReader(oldWriter);
+    oldWriter.setAvailability(HostAvailability.AVAILABLE);
+    final ReaderFailoverResult followerResult = failoverReader(oldWriter);
+
+    assertTrue(followerResult.isConnected());
+    assertSame(mockFollowerConnection, followerResult.getConnection());
+    @SuppressWarnings("unchecked")
+    final ArgumentCaptor<List<HostSpec>> topologyCaptor = ArgumentCaptor.forClass(List.class);
+    verify(mockReaderFailoverHandler).failover(topologyCaptor.capture(), eq(oldWriter), anyLong());
+    final List<HostSpec> followerTopology = topologyCaptor.getValue();
+    assertNotSame(newTopology, followerTopology);
+    assertEquals(newTopology.size(), followerTopology.size());
+    assertEquals(oldWriter.getUrl(), followerTopology.get(1).getUrl());
+    assertEquals(HostAvailability.NOT_AVAILABLE, followerTopology.get(1).getRawAvailability());
+    verify(mockReaderFailoverHandler, times(1)).failover(any(), any());
+  }
+
+  @Test
+  public void testFailoverReader_followerFailsOverOnItsOwnWhenNoReaderIsElected() throws Exception {
+    final CountDownLatch handlerStarted = new CountDownLatch(1);
+    final CountDownLatch completeHandler = new CountDownLatch(1);
+    when(mockReaderFailoverHandler.failover(any(), any())).thenAnswer(invocation -> {
+      handlerStarted.countDown();
+      completeHandler.await();
+      return new ReaderFailoverResult(null, null, false);
+    });
+    when(mockReaderFailoverHandler.failover(any(), any(), anyLong()))
+        .thenReturn(new ReaderFailoverResult(mockFollowerConnection, reader, true));
+
+    final ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      final Future<ReaderFailoverResult> leader = executor.submit(() -> failoverReader(oldWriter));
+      assertTrue(handlerStarted.await(5, TimeUnit.SECONDS));
+      final Future<ReaderFailoverResult> follower = executor.submit(() -> failoverReader(oldWriter));
+      completeHandler.countDown();
+
+      assertFalse(leader.get(5, TimeUnit.SECONDS).isConnected());
+      assertSame(mockFollowerConnection, follower.get(5, TimeUnit.SECONDS).getConnection());
+      verify(mockReaderFailoverHandler).failover(eq(newTopology), eq(oldWriter), anyLong());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private WriterFailoverResult failoverWriter(final HostSpec failedHost) throws SQLException {
+    return coordinator.failoverWriter(mockWriterFailoverHandler, newTopology, failedHost, mockPluginService,
+        properties, COORDINATION_WINDOW_MS, FAILOVER_TIMEOUT_MS);
+  }
+
+  private ReaderFailoverResult failoverReader(final HostSpec failedHost) throws SQLException {
+    return coordinator.failoverReader(mockReaderFailoverHandler, newTopology, failedHost, mockPluginService,
+        properties, COORDINATION_WINDOW_MS, FAILOVER_TIMEOUT_MS);
+  }
+}
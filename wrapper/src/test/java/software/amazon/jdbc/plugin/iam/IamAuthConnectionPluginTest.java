@@ -23,6 +23,7 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -34,6 +35,8 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.time.Instant;
 import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -61,6 +64,7 @@ import software.amazon.jdbc.util.RdsUtils;
 import software.amazon.jdbc.util.telemetry.TelemetryContext;
 import software.amazon.jdbc.util.telemetry.TelemetryCounter;
 import software.amazon.jdbc.util.telemetry.TelemetryFactory;
+import software.amazon.jdbc.util.telemetry.TelemetryHistogram;
 import software.amazon.jdbc.util.telemetry.TelemetryTraceLevel;
 
 class IamAuthConnectionPluginTest {
@@ -88,6 +92,7 @@ class IamAuthConnectionPluginTest {
   @Mock PluginService mockPluginService;
   @Mock TelemetryFactory mockTelemetryFactory;
   @Mock TelemetryCounter mockTelemetryCounter;
+  @Mock TelemetryHistogram mockTelemetryHistogram;
   @Mock TelemetryContext mockTelemetryContext;
   @Mock JdbcCallable<Connection, SQLException> mockLambda;
   @Mock Dialect mockDialect;
@@ -114,6 +119,7 @@ class IamAuthConnectionPluginTest {
     when(mockPluginService.getDialect()).thenReturn(mockDialect);
     when(mockPluginService.getTelemetryFactory()).thenReturn(mockTelemetryFactory);
     when(mockTelemetryFactory.createCounter(anyString())).thenReturn(mockTelemetryCounter);
+    when(mockTelemetryFactory.createHistogram(anyString(), any())).thenReturn(mockTelemetryHistogram);
     when(mockTelemetryFactory.openTelemetryContext(anyString(), eq(TelemetryTraceLevel.NESTED))).thenReturn(
         mockTelemetryContext);
   }
@@ -144,6 +150,63 @@ class IamAuthConnectionPluginTest {
     testTokenSetInProps(PG_DRIVER_PROTOCOL, PG_HOST_SPEC);
   }
 
+  @Test
+  public void testConnectRefreshesExpiringTokenInBackground() throws Exception {
+    IamAuthCacheHolder.tokenCache.put(PG_CACHE_KEY,
+        new TokenInfo(TEST_TOKEN, Instant.now().plusMillis(60000)));
+
+    when(mockDialect.getDefaultPort()).thenReturn(DEFAULT_PG_PORT);
+
+    // The cached token is still valid, so it's used right away while a new one is generated.
+    testTokenSetInProps(PG_DRIVER_PROTOCOL, PG_HOST_SPEC);
+
+    verify(mockIamTokenUtils, timeout(5000)).generateAuthenticationToken(
+        any(DefaultCredentialsProvider.class),
+        eq(Region.US_EAST_2),
+        eq(PG_HOST_SPEC.getHost()),
+        eq(DEFAULT_PG_PORT),
+        eq("postgresqlUser"));
+    final long deadline = System.currentTimeMillis() + 5000;
+    while (!IamAuthCacheHolder.pendingTokens.isEmpty() && System.currentTimeMillis() < deadline) {
+      TimeUnit.MILLISECONDS.sleep(10);
+    }
+    assertEquals(GENERATED_TOKEN, IamAuthCacheHolder.tokenCache.get(PG_CACHE_KEY).getToken());
+    verify(mockTelemetryCounter, times(2)).inc();
+  }
+
+  @Test
+  public void testConnectCountsStaleTokenOnlyWhenStartingRefresh() throws Exception {
+    IamAuthCacheHolder.tokenCache.put(PG_CACHE_KEY,
+        new TokenInfo(TEST_TOKEN, Instant.now().plusMillis(60000)));
+    final TelemetryCounter mockStaleTokenCounter = Mockito.mock(TelemetryCounter.class);
+    when(mockTelemetryFactory.createCounter("iam.staleToken.count")).thenReturn(mockStaleTokenCounter);
+    final CountDownLatch releaseRefresh = new CountDownLatch(1);
+    when(mockIamTokenUtils.generateAuthenticationToken(
+        any(AwsCredentialsProvider.class),
+        any(Region.class),
+        anyString(),
+        anyInt(),
+        anyString())).thenAnswer(invocation -> {
+          releaseRefresh.await(5, TimeUnit.SECONDS);
+          return GENERATED_TOKEN;
+        });
+    when(mockDialect.getDefaultPort()).thenReturn(DEFAULT_PG_PORT);
+    doThrow(new SQLException()).when(mockLambda).call();
+
+    final IamAuthConnectionPlugin targetPlugin = new IamAuthConnectionPlugin(mockPluginService, mockIamTokenUtils);
+    try {
+      // The second connection finds the refresh started by the first one still in progress.
+      assertThrows(SQLException.class,
+          () -> targetPlugin.connect(PG_DRIVER_PROTOCOL, PG_HOST_SPEC, props, true, mockLambda));
+      assertThrows(SQLException.class,
+          () -> targetPlugin.connect(PG_DRIVER_PROTOCOL, PG_HOST_SPEC, props, true, mockLambda));
+
+      verify(mockStaleTokenCounter, times(1)).inc();
+    } finally {
+      releaseRefresh.countDown();
+    }
+  }
+
   @Test
   public void testMySqlConnectValidTokenInCache() throws SQLException {
     props.setProperty(PropertyDefinition.USER.name, "mysqlUser");
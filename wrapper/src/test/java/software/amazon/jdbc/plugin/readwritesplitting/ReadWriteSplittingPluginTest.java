@@ -22,6 +22,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.AdditionalMatchers.not;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.never;
@@ -611,6 +612,122 @@ public class ReadWriteSplittingPluginTest {
     verify(spyPlugin, times(1)).closeConnectionIfIdle(eq(mockWriterConn));
   }
 
+  @Test
+  public void testExecute_prewarmReaderConnection() throws Exception {
+    final Properties props = new Properties();
+    props.setProperty(ReadWriteSplittingPlugin.PREWARM_READER_CONNECTION.name, "true");
+
+    final ReadWriteSplittingPlugin plugin = new ReadWriteSplittingPlugin(
+        mockPluginService,
+        props,
+        mockHostListProviderService,
+        null,
+        null);
+    plugin.connect(TEST_PROTOCOL, writerHostSpec, props, true, this.mockConnectFunc);
+
+    verify(mockPluginService, never()).connect(eq(readerHostSpec1), any(Properties.class), any());
+    assertNull(plugin.getReaderConnection());
+
+    plugin.execute(
+        ResultSet.class,
+        SQLException.class,
+        mockWriterConn,
+        "Connection.createStatement",
+        mockSqlFunction,
+        new Object[] {});
+    plugin.execute(
+        ResultSet.class,
+        SQLException.class,
+        mockWriterConn,
+        "Connection.createStatement",
+        mockSqlFunction,
+        new Object[] {});
+
+    verify(mockPluginService, times(1)).connect(eq(readerHostSpec1), any(Properties.class), any());
+    verify(mockPluginService, never()).setCurrentConnection(any(Connection.class), any(HostSpec.class));
+    verify(mockSqlFunction, times(2)).call();
+    assertEquals(mockReaderConn1, plugin.getReaderConnection());
+
+    plugin.switchConnectionIfRequired(true);
+
+    verify(mockPluginService, times(1)).connect(eq(readerHostSpec1), any(Properties.class), any());
+    verify(mockPluginService, times(1)).setCurrentConnection(eq(mockReaderConn1), eq(readerHostSpec1));
+  }
+
+  @Test
+  public void testExecute_prewarmReaderConnectionFailed() throws Exception {
+    final Properties props = new Properties();
+    props.setProperty(ReadWriteSplittingPlugin.PREWARM_READER_CONNECTION.name, "true");
+    when(this.mockPluginService.connect(eq(readerHostSpec1), any(Properties.class), any()))
+        .thenThrow(SQLException.class);
+
+    final ReadWriteSplittingPlugin plugin = new ReadWriteSplittingPlugin(
+        mockPluginService,
+        props,
+        mockHostListProviderService,
+        null,
+        null);
+    plugin.connect(TEST_PROTOCOL, writerHostSpec, props, true, this.mockConnectFunc);
+
+    assertDoesNotThrow(() -> plugin.execute(
+        ResultSet.class,
+        SQLException.class,
+        mockWriterConn,
+        "Connection.prepareStatement",
+        mockSqlFunction,
+        new Object[] {"select 1"}));
+
+    verify(mockSqlFunction, times(1)).call();
+    verify(mockPluginService, times(1)).connect(any(HostSpec.class), any(Properties.class), any());
+    verify(mockPluginService, times(1)).connect(
+        eq(readerHostSpec1),
+        argThat(connectProps -> "1000".equals(PropertyDefinition.CONNECT_TIMEOUT.getString(connectProps))),
+        any());
+    assertNull(plugin.getReaderConnection());
+  }
+
+  @Test
+  public void testNotifyNodeListChanged_replacePrewarmedReaderConnection() throws Exception {
+    final Properties props = new Properties();
+    props.setProperty(ReadWriteSplittingPlugin.PREWARM_READER_CONNECTION.name, "true");
+    when(this.mockPluginService.getHostSpecByStrategy(eq(HostRole.READER), eq("random")))
+        .thenReturn(readerHostSpec1)
+        .thenReturn(readerHostSpec2);
+
+    final ReadWriteSplittingPlugin plugin = new ReadWriteSplittingPlugin(
+        mockPluginService,
+        props,
+        mockHostListProviderService,
+        mockWriterConn,
+        null);
+    plugin.notifyNodeListChanged(Collections.emptyMap());
+    assertNull(plugin.getReaderConnection());
+
+    plugin.execute(
+        ResultSet.class,
+        SQLException.class,
+        mockWriterConn,
+        "Connection.createStatement",
+        mockSqlFunction,
+        new Object[] {});
+    assertEquals(mockReaderConn1, plugin.getReaderConnection());
+
+    plugin.notifyNodeListChanged(Collections.singletonMap(
+        readerHostSpec1.getUrl(), EnumSet.of(NodeChangeOptions.WENT_DOWN, NodeChangeOptions.NODE_CHANGED)));
+
+    verify(mockReaderConn1, times(1)).close();
+    assertNull(plugin.getReaderConnection());
+
+    plugin.execute(
+        ResultSet.class,
+        SQLException.class,
+        mockWriterConn,
+        "Connection.createStatement",
+        mockSqlFunction,
+        new Object[] {});
+    assertEquals(mockReaderConn2, plugin.getReaderConnection());
+  }
+
   private static HikariConfig getHikariConfig(HostSpec hostSpec, Properties props) {
     final HikariConfig config = new HikariConfig();
     config.setMaximumPoolSize(3);
@@ -0,0 +1,152 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.plugin.strategy.leastload;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.jdbc.HostRole;
+import software.amazon.jdbc.HostSpec;
+import software.amazon.jdbc.HostSpecBuilder;
+import software.amazon.jdbc.hostavailability.HostAvailability;
+import software.amazon.jdbc.hostavailability.SimpleHostAvailabilityStrategy;
+
+public class LeastLoadHostSelectorTest {
+  private static final int TEST_PORT = 5432;
+
+  private final LeastLoadHostSelector selector = new LeastLoadHostSelector();
+
+  private final HostSpec writerHostSpec = new HostSpecBuilder(new SimpleHostAvailabilityStrategy())
+      .host("instance-0").port(TEST_PORT).build();
+  private final HostSpec readerHostSpec1 = new HostSpecBuilder(new SimpleHostAvailabilityStrategy())
+      .host("instance-1").port(TEST_PORT).role(HostRole.READER).build();
+  private final HostSpec readerHostSpec2 = new HostSpecBuilder(new SimpleHostAvailabilityStrategy())
+      .host("instance-2").port(TEST_PORT).role(HostRole.READER).build();
+  private final HostSpec readerHostSpec3 = new HostSpecBuilder(new SimpleHostAvailabilityStrategy())
+      .host("instance-3").port(TEST_PORT).role(HostRole.READER).build();
+  private final List<HostSpec> hosts = Arrays.asList(
+      writerHostSpec, readerHostSpec1, readerHostSpec2, readerHostSpec3);
+
+  @AfterEach
+  void cleanUp() {
+    HostLoadTracker.clear();
+  }
+
+  @Test
+  void testGetHost_avoidSlowHost() throws SQLException {
+    recordLatency(readerHostSpec1, 10);
+    recordLatency(readerHostSpec2, 10);
+    recordLatency(readerHostSpec3, 500);
+
+    final Map<HostSpec, Integer> selections = countSelections(300);
+    assertEquals(0, (int) selections.getOrDefault(readerHostSpec3, 0));
+    assertTrue(selections.get(readerHostSpec1) > 50);
+    assertTrue(selections.get(readerHostSpec2) > 50);
+  }
+
+  @Test
+  void testGetHost_avoidBusyHost() throws SQLException {
+    recordLatency(readerHostSpec1, 10);
+    recordLatency(readerHostSpec2, 10);
+    recordLatency(readerHostSpec3, 10);
+    for (int i = 0; i < 5; i++) {
+      HostLoadTracker.getHostLoad(readerHostSpec2).begin();
+    }
+
+    final Map<HostSpec, Integer> selections = countSelections(300);
+    assertEquals(0, (int) selections.getOrDefault(readerHostSpec2, 0));
+    assertEquals(300, (int) selections.get(readerHostSpec1) + selections.get(readerHostSpec3));
+  }
+
+  @Test
+  void testGetHost_unmeasuredHostIsPreferred() throws SQLException {
+    recordLatency(readerHostSpec1, 10);
+    recordLatency(readerHostSpec2, 10);
+
+    final Map<HostSpec, Integer> selections = countSelections(300);
+    // The unmeasured host wins every comparison it's part of, which is two thirds of them.
+    assertTrue(selections.get(readerHostSpec3) > 150);
+  }
+
+  @Test
+  void testGetHost_singleAndNoEligibleHosts() throws SQLException {
+    assertEquals(writerHostSpec, selector.getHost(hosts, HostRole.WRITER, null));
+
+    readerHostSpec1.setAvailability(HostAvailability.NOT_AVAILABLE);
+    readerHostSpec2.setAvailability(HostAvailability.NOT_AVAILABLE);
+    assertEquals(readerHostSpec3, selector.getHost(hosts, HostRole.READER, null));
+
+    readerHostSpec3.setAvailability(HostAvailability.NOT_AVAILABLE);
+    assertThrows(SQLException.class, () -> selector.getHost(hosts, HostRole.READER, null));
+  }
+
+  @Test
+  void testHostLoad_movingAverage() {
+    final HostLoadTracker.HostLoad hostLoad = HostLoadTracker.getHostLoad(readerHostSpec1);
+    assertEquals(0, hostLoad.getScore());
+
+    recordLatency(readerHostSpec1, 100);
+    assertEquals(TimeUnit.MILLISECONDS.toNanos(100), hostLoad.getLatencyEwmaNano());
+
+    recordLatency(readerHostSpec1, 200);
+    assertEquals(TimeUnit.MILLISECONDS.toNanos(130), hostLoad.getLatencyEwmaNano());
+
+    recordLatency(readerHostSpec1, 400);
+    assertEquals(TimeUnit.MILLISECONDS.toNanos(211), hostLoad.getLatencyEwmaNano());
+    assertEquals(0, hostLoad.getInFlight());
+
+    hostLoad.begin();
+    assertEquals(TimeUnit.MILLISECONDS.toNanos(211) * 2, hostLoad.getScore());
+  }
+
+  @Test
+  void testHostLoad_hangingStatements() throws InterruptedException {
+    final HostLoadTracker.HostLoad hungHostLoad = HostLoadTracker.getHostLoad(readerHostSpec1);
+    hungHostLoad.begin();
+    hungHostLoad.begin();
+    TimeUnit.MILLISECONDS.sleep(50);
+
+    // The statements haven't completed, so the host isn't ranked as an unmeasured idle host.
+    assertTrue(hungHostLoad.getScore() >= TimeUnit.MILLISECONDS.toNanos(50) * 3);
+
+    recordLatency(readerHostSpec2, 10);
+    assertTrue(HostLoadTracker.getHostLoad(readerHostSpec2).getScore() < hungHostLoad.getScore());
+  }
+
+  private void recordLatency(final HostSpec hostSpec, final long latencyMs) {
+    final HostLoadTracker.HostLoad hostLoad = HostLoadTracker.getHostLoad(hostSpec);
+    hostLoad.begin();
+    hostLoad.end(TimeUnit.MILLISECONDS.toNanos(latencyMs));
+  }
+
+  private Map<HostSpec, Integer> countSelections(final int count) throws SQLException {
+    final Map<HostSpec, Integer> selections = new HashMap<>();
+    for (int i = 0; i < count; i++) {
+      selections.merge(selector.getHost(hosts, HostRole.READER, null), 1, Integer::sum);
+    }
+    return selections;
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.plugin.strategy.leastload;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import software.amazon.jdbc.HostRole;
+import software.amazon.jdbc.HostSpec;
+import software.amazon.jdbc.HostSpecBuilder;
+import software.amazon.jdbc.PluginService;
+import software.amazon.jdbc.hostavailability.SimpleHostAvailabilityStrategy;
+
+public class LeastLoadStrategyPluginTest {
+
+  private final HostSpec readerHostSpec = new HostSpecBuilder(new SimpleHostAvailabilityStrategy())
+      .host("instance-1").port(5432).role(HostRole.READER).build();
+
+  @Mock PluginService mockPluginService;
+
+  private AutoCloseable closeable;
+  private LeastLoadStrategyPlugin plugin;
+
+  @BeforeEach
+  void init() {
+    closeable = MockitoAnnotations.openMocks(this);
+    when(mockPluginService.getCurrentHostSpec()).thenReturn(readerHostSpec);
+    plugin = new LeastLoadStrategyPlugin(mockPluginService, new Properties());
+  }
+
+  @AfterEach
+  void cleanUp() throws Exception {
+    closeable.close();
+    HostLoadTracker.clear();
+  }
+
+  @Test
+  void testExecute_recordsInFlightAndLatency() throws SQLException {
+    final HostLoadTracker.HostLoad hostLoad = HostLoadTracker.getHostLoad(readerHostSpec);
+
+    final Integer inFlight = plugin.execute(
+        Integer.class,
+        SQLException.class,
+        new Object(),
+        "Statement.executeQuery",
+        () -> {
+          sleep(50);
+          return hostLoad.getInFlight();
+        },
+        new Object[] {});
+
+    assertEquals(1, (int) inFlight);
+    assertEquals(0, hostLoad.getInFlight());
+    assertTrue(hostLoad.getLatencyEwmaNano() >= TimeUnit.MILLISECONDS.toNanos(50));
+  }
+
+  @Test
+  void testExecute_recordsLatencyOfTimedOutExecution() {
+    final HostLoadTracker.HostLoad hostLoad = HostLoadTracker.getHostLoad(readerHostSpec);
+
+    assertThrows(SQLTimeoutException.class, () -> plugin.execute(
+        Integer.class,
+        SQLException.class,
+        new Object(),
+        "Statement.executeQuery",
+        () -> {
+          sleep(50);
+          throw new SQLTimeoutException("Query timed out");
+        },
+        new Object[] {}));
+
+    assertEquals(0, hostLoad.getInFlight());
+    assertTrue(hostLoad.getLatencyEwmaNano() >= TimeUnit.MILLISECONDS.toNanos(50));
+    assertTrue(hostLoad.getScore() > 0);
+  }
+
+  @Test
+  void testExecute_withoutCurrentHost() throws SQLException {
+    when(mockPluginService.getCurrentHostSpec()).thenReturn(null);
+
+    final Integer result = plugin.execute(
+        Integer.class, SQLException.class, new Object(), "Statement.executeQuery", () -> 1, new Object[] {});
+
+    assertEquals(1, (int) result);
+    assertEquals(-1, HostLoadTracker.getHostLoad(readerHostSpec).getLatencyEwmaNano());
+  }
+
+  private static void sleep(final long millis) {
+    try {
+      TimeUnit.MILLISECONDS.sleep(millis);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -19,6 +19,8 @@ package software.amazon.jdbc.states;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -33,6 +35,7 @@ import java.util.Properties;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -245,7 +248,9 @@ public class SessionStateServiceImplTests {
 
   @ParameterizedTest
   @MethodSource("getBoolArguments")
-  public void test_TransferToNewConnection_ReadOnly(boolean pristineValue, boolean value) throws SQLException {
+  public void test_TransferToNewConnection_ReadOnly(
+      boolean pristineValue, boolean value, boolean shouldApply) throws SQLException {
+
     when(mockConnection.isReadOnly()).thenReturn(pristineValue);
     when(mockNewConnection.isReadOnly()).thenReturn(pristineValue);
     sessionStateService.setReadOnly(value);
@@ -255,13 +260,17 @@ public class SessionStateServiceImplTests {
     sessionStateService.applyCurrentSessionState(mockNewConnection);
     sessionStateService.complete();
 
-    verify(mockNewConnection, times(1)).setReadOnly(captorReadOnly.capture());
-    assertEquals(value, captorReadOnly.getValue());
+    verify(mockNewConnection, times(shouldApply ? 1 : 0)).setReadOnly(captorReadOnly.capture());
+    if (shouldApply) {
+      assertEquals(value, captorReadOnly.getValue());
+    }
   }
 
   @ParameterizedTest
   @MethodSource("getBoolArguments")
-  public void test_TransferToNewConnection_AutoCommit(boolean pristineValue, boolean value) throws SQLException {
+  public void test_TransferToNewConnection_AutoCommit(
+      boolean pristineValue, boolean value, boolean shouldApply) throws SQLException {
+
     when(mockConnection.getAutoCommit()).thenReturn(pristineValue);
     when(mockNewConnection.getAutoCommit()).thenReturn(pristineValue);
     sessionStateService.setAutoCommit(value);
@@ -271,13 +280,17 @@ public class SessionStateServiceImplTests {
     sessionStateService.applyCurrentSessionState(mockNewConnection);
     sessionStateService.complete();
 
-    verify(mockNewConnection, times(1)).setAutoCommit(captorAutoCommit.capture());
-    assertEquals(value, captorAutoCommit.getValue());
+    verify(mockNewConnection, times(shouldApply ? 1 : 0)).setAutoCommit(captorAutoCommit.capture());
+    if (shouldApply) {
+      assertEquals(value, captorAutoCommit.getValue());
+    }
   }
 
   @ParameterizedTest
   @MethodSource("getStringArguments")
-  public void test_TransferToNewConnection_Catalog(String pristineValue, String value) throws SQLException {
+  public void test_TransferToNewConnection_Catalog(
+      String pristineValue, String value, boolean shouldApply) throws SQLException {
+
     when(mockConnection.getCatalog()).thenReturn(pristineValue);
     when(mockNewConnection.getCatalog()).thenReturn(pristineValue);
     sessionStateService.setCatalog(value);
@@ -287,13 +300,17 @@ public class SessionStateServiceImplTests {
     sessionStateService.applyCurrentSessionState(mockNewConnection);
     sessionStateService.complete();
 
-    verify(mockNewConnection, times(1)).setCatalog(captorCatalog.capture());
-    assertEquals(value, captorCatalog.getValue());
+    verify(mockNewConnection, times(shouldApply ? 1 : 0)).setCatalog(captorCatalog.capture());
+    if (shouldApply) {
+      assertEquals(value, captorCatalog.getValue());
+    }
   }
 
   @ParameterizedTest
   @MethodSource("getStringArguments")
-  public void test_TransferToNewConnection_Schema(String pristineValue, String value) throws SQLException {
+  public void test_TransferToNewConnection_Schema(
+      String pristineValue, String value, boolean shouldApply) throws SQLException {
+
     when(mockConnection.getSchema()).thenReturn(pristineValue);
     when(mockNewConnection.getSchema()).thenReturn(pristineValue);
     sessionStateService.setSchema(value);
@@ -303,13 +320,17 @@ public class SessionStateServiceImplTests {
     sessionStateService.applyCurrentSessionState(mockNewConnection);
     sessionStateService.complete();
 
-    verify(mockNewConnection, times(1)).setSchema(captorSchema.capture());
-    assertEquals(value, captorSchema.getValue());
+    verify(mockNewConnection, times(shouldApply ? 1 : 0)).setSchema(captorSchema.capture());
+    if (shouldApply) {
+      assertEquals(value, captorSchema.getValue());
+    }
   }
 
   @ParameterizedTest
   @MethodSource("getIntegerArguments")
-  public void test_TransferToNewConnection_Holdability(int pristineValue, int value) throws SQLException {
+  public void test_TransferToNewConnection_Holdability(
+      int pristineValue, int value, boolean shouldApply) throws SQLException {
+
     when(mockConnection.getHoldability()).thenReturn(pristineValue);
     when(mockNewConnection.getHoldability()).thenReturn(pristineValue);
     sessionStateService.setHoldability(value);
@@ -319,13 +340,17 @@ public class SessionStateServiceImplTests {
     sessionStateService.applyCurrentSessionState(mockNewConnection);
     sessionStateService.complete();
 
-    verify(mockNewConnection, times(1)).setHoldability(captorHoldability.capture());
-    assertEquals(value, captorHoldability.getValue());
+    verify(mockNewConnection, times(shouldApply ? 1 : 0)).setHoldability(captorHoldability.capture());
+    if (shouldApply) {
+      assertEquals(value, captorHoldability.getValue());
+    }
   }
 
   @ParameterizedTest
   @MethodSource("getIntegerArguments")
-  public void test_TransferToNewConnection_NetworkTimeout(int pristineValue, int value) throws SQLException {
+  public void test_TransferToNewConnection_NetworkTimeout(
+      int pristineValue, int value, boolean shouldApply) throws SQLException {
+
     when(mockConnection.getNetworkTimeout()).thenReturn(pristineValue);
     when(mockNewConnection.getNetworkTimeout()).thenReturn(pristineValue);
     sessionStateService.setNetworkTimeout(value);
@@ -335,13 +360,17 @@ public class SessionStateServiceImplTests {
     sessionStateService.applyCurrentSessionState(mockNewConnection);
     sessionStateService.complete();
 
-    verify(mockNewConnection, times(1)).setNetworkTimeout(any(), captorNetworkTimeout.capture());
-    assertEquals(value, captorNetworkTimeout.getValue());
+    verify(mockNewConnection, times(shouldApply ? 1 : 0)).setNetworkTimeout(any(), captorNetworkTimeout.capture());
+    if (shouldApply) {
+      assertEquals(value, captorNetworkTimeout.getValue());
+    }
   }
 
   @ParameterizedTest
   @MethodSource("getIntegerArguments")
-  public void test_TransferToNewConnection_TransactionIsolation(int pristineValue, int value) throws SQLException {
+  public void test_TransferToNewConnection_TransactionIsolation(
+      int pristineValue, int value, boolean shouldApply) throws SQLException {
+
     when(mockConnection.getTransactionIsolation()).thenReturn(pristineValue);
     when(mockNewConnection.getTransactionIsolation()).thenReturn(pristineValue);
     sessionStateService.setTransactionIsolation(value);
@@ -351,15 +380,17 @@ public class SessionStateServiceImplTests {
     sessionStateService.applyCurrentSessionState(mockNewConnection);
     sessionStateService.complete();
 
-    verify(mockNewConnection, times(1))
+    verify(mockNewConnection, times(shouldApply ? 1 : 0))
         .setTransactionIsolation(captorTransactionIsolation.capture());
-    assertEquals(value, captorTransactionIsolation.getValue());
+    if (shouldApply) {
+      assertEquals(value, captorTransactionIsolation.getValue());
+    }
   }
 
   @ParameterizedTest
   @MethodSource("getTypeMapArguments")
   public void test_TransferToNewConnection_TypeMap(
-      Map<String, Class<?>> pristineValue, Map<String, Class<?>> value) throws SQLException {
+      Map<String, Class<?>> pristineValue, Map<String, Class<?>> value, boolean shouldApply) throws SQLException {
 
     when(mockConnection.getTypeMap()).thenReturn(pristineValue);
     when(mockNewConnection.getTypeMap()).thenReturn(pristineValue);
@@ -370,8 +401,46 @@ public class SessionStateServiceImplTests {
     sessionStateService.applyCurrentSessionState(mockNewConnection);
     sessionStateService.complete();
 
-    verify(mockNewConnection, times(1)).setTypeMap(captorTypeMap.capture());
-    assertEquals(value, captorTypeMap.getValue());
+    verify(mockNewConnection, times(shouldApply ? 1 : 0)).setTypeMap(captorTypeMap.capture());
+    if (shouldApply) {
+      assertEquals(value, captorTypeMap.getValue());
+    }
+  }
+
+  @Test
+  public void test_TransferToKnownConnection() throws SQLException {
+    when(mockConnection.isReadOnly()).thenReturn(false);
+    when(mockNewConnection.isReadOnly()).thenReturn(false);
+    when(mockConnection.getAutoCommit()).thenReturn(true);
+    when(mockNewConnection.getAutoCommit()).thenReturn(true);
+    sessionStateService.setupPristineReadOnly();
+    sessionStateService.setReadOnly(true);
+    sessionStateService.setupPristineAutoCommit();
+    sessionStateService.setAutoCommit(false);
+
+    sessionStateService.begin();
+    when(mockPluginService.getCurrentConnection()).thenReturn(mockNewConnection);
+    sessionStateService.applyCurrentSessionState(mockNewConnection);
+    sessionStateService.complete();
+
+    verify(mockNewConnection, times(1)).isReadOnly();
+    verify(mockNewConnection, times(1)).getAutoCommit();
+    verify(mockNewConnection, times(1)).setReadOnly(true);
+    verify(mockNewConnection, times(1)).setAutoCommit(false);
+
+    // Switch back to the first connection after changing the autoCommit setting of the new connection.
+    sessionStateService.setAutoCommit(true);
+
+    sessionStateService.begin();
+    when(mockPluginService.getCurrentConnection()).thenReturn(mockConnection);
+    sessionStateService.applyCurrentSessionState(mockConnection);
+    sessionStateService.complete();
+
+    // The settings of the first connection are known, so they aren't fetched again.
+    verify(mockConnection, times(1)).isReadOnly();
+    verify(mockConnection, times(1)).getAutoCommit();
+    verify(mockConnection, never()).setReadOnly(anyBoolean());
+    verify(mockConnection, times(1)).setAutoCommit(true);
   }
 
   static Stream<Arguments> getBoolArguments() {
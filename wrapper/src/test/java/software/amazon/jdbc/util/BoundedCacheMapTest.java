@@ -0,0 +1,185 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import software.amazon.jdbc.util.telemetry.TelemetryCounter;
+
+public class BoundedCacheMapTest {
+
+  @Test
+  public void testEvictLeastRecentlyUsedEntry() {
+    final BoundedCacheMap<Integer, String> map = new BoundedCacheMap<>(2, 100, String::length);
+    map.put(1, "a", 0);
+    map.put(2, "b", 0);
+    assertEquals("a", map.get(1));
+
+    map.put(3, "c", 0);
+    assertEquals(2, map.size());
+    assertEquals("a", map.get(1));
+    assertNull(map.get(2));
+    assertEquals("c", map.get(3));
+    assertEquals(1, map.getEvictionCount());
+  }
+
+  @Test
+  public void testEvictToStayWithinMaxSize() {
+    final BoundedCacheMap<Integer, String> map = new BoundedCacheMap<>(10, 5, String::length);
+    map.put(1, "aa", 0);
+    map.put(2, "bb", 0);
+    assertEquals(4, map.getEstimatedSize());
+
+    map.put(3, "ccc", 0);
+    assertNull(map.get(1));
+    assertEquals("bb", map.get(2));
+    assertEquals("ccc", map.get(3));
+    assertEquals(5, map.getEstimatedSize());
+    assertEquals(1, map.getEvictionCount());
+
+    assertFalse(map.put(4, "dddddd", 0));
+    assertNull(map.get(4));
+    assertEquals(2, map.size());
+  }
+
+  @Test
+  public void testReplaceItem() {
+    final BoundedCacheMap<Integer, String> map = new BoundedCacheMap<>(10, 100, String::length);
+    map.put(1, "aaa", 0);
+    assertTrue(map.put(1, "b", 0));
+    assertEquals("b", map.get(1));
+    assertEquals(1, map.size());
+    assertEquals(1, map.getEstimatedSize());
+  }
+
+  @Test
+  public void testExpiration() throws InterruptedException {
+    final BoundedCacheMap<Integer, String> map = new BoundedCacheMap<>(10, 100, String::length);
+    final long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(100);
+    map.put(1, "a", timeoutNanos);
+    map.put(2, "b", 0);
+    assertEquals("a", map.get(1));
+
+    TimeUnit.NANOSECONDS.sleep(timeoutNanos * 2);
+    assertNull(map.get(1));
+    assertEquals("b", map.get(2));
+    assertEquals(1, map.size());
+    assertEquals(1, map.getEstimatedSize());
+    assertEquals(0, map.getEvictionCount());
+  }
+
+  @Test
+  public void testSetLimits() {
+    final BoundedCacheMap<Integer, String> map = new BoundedCacheMap<>(10, 100, String::length);
+    map.put(1, "a", 0);
+    map.put(2, "b", 0);
+    map.put(3, "c", 0);
+
+    map.setLimits(1, 100);
+    assertEquals(1, map.size());
+    assertEquals("c", map.get(3));
+    assertEquals(2, map.getEvictionCount());
+  }
+
+  @Test
+  public void testRemoveAndClear() {
+    final BoundedCacheMap<Integer, String> map = new BoundedCacheMap<>(10, 100, String::length);
+    map.put(1, "a", 0);
+    map.put(2, "bb", 0);
+
+    map.remove(1);
+    assertNull(map.get(1));
+    assertEquals(2, map.getEstimatedSize());
+
+    map.clear();
+    assertEquals(0, map.size());
+    assertEquals(0, map.getEstimatedSize());
+  }
+
+  @Test
+  public void testEvictionCounter() {
+    final BoundedCacheMap<Integer, String> map = new BoundedCacheMap<>(2, 100, String::length);
+    final AtomicLong evictions = new AtomicLong();
+    final TelemetryCounter counter = new TelemetryCounter() {
+      @Override
+      public void add(final long value) {
+        evictions.addAndGet(value);
+      }
+
+      @Override
+      public void inc() {
+        evictions.incrementAndGet();
+      }
+    };
+
+    map.put(1, "a", 0, counter);
+    map.put(2, "b", 0, counter);
+    assertEquals(0, evictions.get());
+
+    map.put(3, "c", 0, counter);
+    map.put(4, "d", 0, counter);
+    assertEquals(2, evictions.get());
+    assertEquals(2, map.getEvictionCount());
+  }
+
+  @Test
+  public void testConcurrentReadsAndEvictions() throws Exception {
+    final BoundedCacheMap<Integer, String> map = new BoundedCacheMap<>(50, 1000, String::length);
+    final ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      final List<Future<?>> futures = new ArrayList<>();
+      for (int thread = 0; thread < 8; thread++) {
+        final int offset = thread;
+        futures.add(executor.submit(() -> {
+          for (int i = 0; i < 5000; i++) {
+            final int key = (i * 7 + offset) % 200;
+            if (map.get(key) == null) {
+              map.put(key, "item" + key, 0);
+            }
+            if (i % 100 == 0) {
+              map.remove(key);
+            }
+          }
+        }));
+      }
+      for (final Future<?> future : futures) {
+        future.get(30, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertTrue(map.size() <= 50);
+    long expectedSize = 0;
+    for (int key = 0; key < 200; key++) {
+      final String item = map.get(key);
+      expectedSize += item == null ? 0 : item.length();
+    }
+    assertEquals(expectedSize, map.getEstimatedSize());
+  }
+}
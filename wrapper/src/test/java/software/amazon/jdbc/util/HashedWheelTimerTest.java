@@ -0,0 +1,135 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class HashedWheelTimerTest {
+
+  private final HashedWheelTimer timer = new HashedWheelTimer("testTimer", 10, TimeUnit.MILLISECONDS, 8);
+
+  @AfterEach
+  void tearDown() {
+    timer.shutdown();
+  }
+
+  @Test
+  public void testTaskRunsAfterDelay() throws InterruptedException {
+    final CountDownLatch latch = new CountDownLatch(1);
+    final AtomicLong runTimeNano = new AtomicLong();
+    final long startTimeNano = System.nanoTime();
+
+    final HashedWheelTimer.Timeout timeout = timer.newTimeout(() -> {
+      runTimeNano.set(System.nanoTime());
+      latch.countDown();
+    }, 200, TimeUnit.MILLISECONDS);
+
+    assertTrue(latch.await(5, TimeUnit.SECONDS));
+    assertTrue(runTimeNano.get() - startTimeNano >= TimeUnit.MILLISECONDS.toNanos(200));
+    assertTrue(timeout.isExpired());
+    assertFalse(timeout.cancel());
+  }
+
+  @Test
+  public void testTaskRunsAfterSeveralRoundsOfTheWheel() throws InterruptedException {
+    // The wheel turns every 80ms, so this timeout stays on the wheel for several rounds.
+    final CountDownLatch latch = new CountDownLatch(1);
+    final long startTimeNano = System.nanoTime();
+
+    timer.newTimeout(latch::countDown, 300, TimeUnit.MILLISECONDS);
+
+    assertTrue(latch.await(5, TimeUnit.SECONDS));
+    assertTrue(System.nanoTime() - startTimeNano >= TimeUnit.MILLISECONDS.toNanos(300));
+  }
+
+  @Test
+  public void testCancelledTaskDoesNotRun() throws InterruptedException {
+    final AtomicInteger cancelledRuns = new AtomicInteger();
+    final CountDownLatch latch = new CountDownLatch(1);
+
+    final HashedWheelTimer.Timeout timeout =
+        timer.newTimeout(cancelledRuns::incrementAndGet, 50, TimeUnit.MILLISECONDS);
+    assertTrue(timeout.cancel());
+    assertFalse(timeout.cancel());
+    timer.newTimeout(latch::countDown, 100, TimeUnit.MILLISECONDS);
+
+    assertTrue(latch.await(5, TimeUnit.SECONDS));
+    assertTrue(timeout.isCancelled());
+    assertFalse(timeout.isExpired());
+    assertEquals(0, cancelledRuns.get());
+  }
+
+  @Test
+  public void testManyTasks() throws InterruptedException {
+    final int taskCount = 10_000;
+    final CountDownLatch latch = new CountDownLatch(taskCount / 2);
+    final AtomicInteger cancelledRuns = new AtomicInteger();
+    final List<HashedWheelTimer.Timeout> timeouts = new ArrayList<>();
+
+    for (int i = 0; i < taskCount; i++) {
+      if (i % 2 == 0) {
+        timer.newTimeout(latch::countDown, i % 200, TimeUnit.MILLISECONDS);
+      } else {
+        timeouts.add(timer.newTimeout(cancelledRuns::incrementAndGet, 100 + i % 200, TimeUnit.MILLISECONDS));
+      }
+    }
+    timeouts.forEach(HashedWheelTimer.Timeout::cancel);
+
+    assertTrue(latch.await(5, TimeUnit.SECONDS));
+    TimeUnit.MILLISECONDS.sleep(400);
+    assertEquals(0, cancelledRuns.get());
+  }
+
+  @Test
+  public void testShutdownDropsPendingTasksAndTimerRestarts() throws InterruptedException {
+    final AtomicInteger droppedRuns = new AtomicInteger();
+    final CountDownLatch latch = new CountDownLatch(1);
+
+    final HashedWheelTimer.Timeout timeout = timer.newTimeout(droppedRuns::incrementAndGet, 100, TimeUnit.MILLISECONDS);
+    timer.shutdown();
+    TimeUnit.MILLISECONDS.sleep(200);
+    assertEquals(0, droppedRuns.get());
+    assertFalse(timeout.isExpired());
+
+    timer.newTimeout(latch::countDown, 50, TimeUnit.MILLISECONDS);
+    assertTrue(latch.await(5, TimeUnit.SECONDS));
+    assertEquals(0, droppedRuns.get());
+  }
+
+  @Test
+  public void testExceptionInTaskDoesNotStopTimer() throws InterruptedException {
+    final CountDownLatch latch = new CountDownLatch(1);
+
+    timer.newTimeout(() -> {
+      throw new RuntimeException("test");
+    }, 10, TimeUnit.MILLISECONDS);
+    timer.newTimeout(latch::countDown, 50, TimeUnit.MILLISECONDS);
+
+    assertTrue(latch.await(5, TimeUnit.SECONDS));
+  }
+}
@@ -167,6 +167,12 @@ class SqlMethodAnalyzerTest {
     assertEquals(expected, actual);
   }
 
+  @ParameterizedTest
+  @MethodSource("statementTypeQueries")
+  void testGetStatementType(final String sql, final SqlMethodAnalyzer.SqlStatementType expected) {
+    assertEquals(expected, sqlMethodAnalyzer.getStatementType(sql));
+  }
+
   private static Stream<Arguments> openTransactionQueries() {
     return Stream.of(
         Arguments.of("Statement.execute", "  bEgIn ; ", true, true),
@@ -228,6 +234,25 @@ class SqlMethodAnalyzerTest {
     );
   }
 
+  private static Stream<Arguments> statementTypeQueries() {
+    return Stream.of(
+        Arguments.of(null, SqlMethodAnalyzer.SqlStatementType.EMPTY),
+        Arguments.of("  ; ", SqlMethodAnalyzer.SqlStatementType.EMPTY),
+        Arguments.of("-- comment\n begin", SqlMethodAnalyzer.SqlStatementType.START_TRANSACTION),
+        Arguments.of("beginning", SqlMethodAnalyzer.SqlStatementType.DML),
+        Arguments.of("START READ", SqlMethodAnalyzer.SqlStatementType.DML),
+        Arguments.of("/* begin */ select ';'; begin", SqlMethodAnalyzer.SqlStatementType.DML),
+        Arguments.of("Rollback /* comment */;", SqlMethodAnalyzer.SqlStatementType.CLOSE_TRANSACTION),
+        Arguments.of("use db", SqlMethodAnalyzer.SqlStatementType.USE),
+        Arguments.of("SHOW TABLES", SqlMethodAnalyzer.SqlStatementType.SHOW),
+        Arguments.of("SET TIME ZONE 'UTC'", SqlMethodAnalyzer.SqlStatementType.SET),
+        Arguments.of("SET AUTOCOMMIT=ON", SqlMethodAnalyzer.SqlStatementType.SET_AUTOCOMMIT_ON),
+        Arguments.of("SET AUTOCOMMIT = 'ON'", SqlMethodAnalyzer.SqlStatementType.SET_AUTOCOMMIT_UNKNOWN),
+        Arguments.of("SET AUTOCOMMIT = 0, x = 1", SqlMethodAnalyzer.SqlStatementType.SET_AUTOCOMMIT_UNKNOWN),
+        Arguments.of("SET AUTOCOMMIT = 0; SELECT 1", SqlMethodAnalyzer.SqlStatementType.SET_AUTOCOMMIT_OFF)
+    );
+  }
+
   private static Stream<Arguments> getIsMethodClosingSqlObjectMethods() {
     return Stream.of(
         Arguments.of("Statement.close", true),
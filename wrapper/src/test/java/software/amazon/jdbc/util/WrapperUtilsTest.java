@@ -18,6 +18,7 @@ package software.amazon.jdbc.util;
 
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -38,6 +39,7 @@ import java.util.concurrent.locks.ReentrantLock;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import software.amazon.jdbc.ConnectionPluginManager;
@@ -46,6 +48,7 @@ import software.amazon.jdbc.util.telemetry.TelemetryContext;
 import software.amazon.jdbc.util.telemetry.TelemetryFactory;
 import software.amazon.jdbc.wrapper.CallableStatementWrapper;
 import software.amazon.jdbc.wrapper.PreparedStatementWrapper;
+import software.amazon.jdbc.wrapper.ResultSetWrapper;
 import software.amazon.jdbc.wrapper.StatementWrapper;
 
 public class WrapperUtilsTest {
@@ -74,7 +77,9 @@ public class WrapperUtilsTest {
         any(Class.class),
         any(Class.class),
         any(Object.class),
-        argThat(methodName -> !AsynchronousMethodsHelper.ASYNCHRONOUS_METHODS.contains(methodName)),
+        any(),
+        ArgumentMatchers.<String>argThat(
+            methodName -> !AsynchronousMethodsHelper.ASYNCHRONOUS_METHODS.contains(methodName)),
         any(JdbcCallable.class),
         any(Object[].class));
 
@@ -192,4 +197,26 @@ public class WrapperUtilsTest {
             mock(CallableStatement.class),
             mockPluginManager));
   }
+
+  @Test
+  void testWrapperResolvedFromImplementedInterfaces() throws InstantiationException {
+    ConnectionPluginManager mockPluginManager = mock(ConnectionPluginManager.class);
+
+    assertInstanceOf(ResultSetWrapper.class,
+        WrapperUtils.wrapWithProxyIfNeeded(Object.class, mock(ResultSet.class), mockPluginManager));
+    assertInstanceOf(ResultSetWrapper.class,
+        WrapperUtils.wrapWithProxyIfNeeded(Object.class, mock(ResultSet.class), mockPluginManager));
+
+    final String notJdbcObject = "test";
+    assertSame(notJdbcObject, WrapperUtils.wrapWithProxyIfNeeded(Object.class, notJdbcObject, mockPluginManager));
+  }
+
+  @Test
+  void testPrimitiveResultIsNotWrapped() throws InstantiationException {
+    ConnectionPluginManager mockPluginManager = mock(ConnectionPluginManager.class);
+
+    final Integer updateCount = 5;
+    assertSame(updateCount, WrapperUtils.wrapWithProxyIfNeeded(int.class, updateCount, mockPluginManager));
+    assertSame(Boolean.TRUE, WrapperUtils.wrapWithProxyIfNeeded(boolean.class, Boolean.TRUE, mockPluginManager));
+  }
 }
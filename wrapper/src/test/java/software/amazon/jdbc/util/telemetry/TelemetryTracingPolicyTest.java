@@ -0,0 +1,134 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package software.amazon.jdbc.util.telemetry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.Properties;
+import org.junit.jupiter.api.Test;
+import software.amazon.jdbc.PropertyDefinition;
+import software.amazon.jdbc.util.telemetry.TelemetryTracingPolicy.CallCategory;
+
+public class TelemetryTracingPolicyTest {
+
+  @Test
+  void testGetCategory() {
+    assertEquals(CallCategory.EXECUTE, TelemetryTracingPolicy.getCategory("Statement.executeQuery"));
+    assertEquals(CallCategory.EXECUTE, TelemetryTracingPolicy.getCategory("PreparedStatement.executeBatch"));
+    assertEquals(CallCategory.OTHER, TelemetryTracingPolicy.getCategory("PreparedStatement.setString"));
+    assertEquals(CallCategory.TRANSACTION, TelemetryTracingPolicy.getCategory("Connection.commit"));
+    assertEquals(CallCategory.CONNECTION, TelemetryTracingPolicy.getCategory("Connection.createStatement"));
+    assertEquals(CallCategory.RESULT_SET, TelemetryTracingPolicy.getCategory("ResultSet.next"));
+    assertEquals(CallCategory.METADATA, TelemetryTracingPolicy.getCategory("DatabaseMetaData.getTables"));
+    assertEquals(CallCategory.OTHER, TelemetryTracingPolicy.getCategory("Blob.length"));
+    assertEquals(CallCategory.OTHER, TelemetryTracingPolicy.getCategory("unknownMethod"));
+  }
+
+  @Test
+  void testTracedCalls() {
+    final Properties props = new Properties();
+    PropertyDefinition.TELEMETRY_TRACED_CALLS.set(props, "execute, transaction");
+    final TelemetryTracingPolicy policy = new TelemetryTracingPolicy(props);
+
+    assertTrue(policy.shouldTrace(CallCategory.EXECUTE));
+    assertTrue(policy.shouldTrace(CallCategory.TRANSACTION));
+    assertFalse(policy.mayTrace(CallCategory.RESULT_SET));
+    assertFalse(policy.shouldTrace(CallCategory.RESULT_SET));
+  }
+
+  @Test
+  void testSamplingRate() {
+    final Properties props = new Properties();
+    PropertyDefinition.TELEMETRY_TRACES_SAMPLING_RATE.set(props, "0");
+    final TelemetryTracingPolicy policy = new TelemetryTracingPolicy(props);
+    for (final CallCategory category : CallCategory.values()) {
+      assertFalse(policy.mayTrace(category));
+      assertFalse(policy.shouldTrace(category));
+    }
+
+    final TelemetryTracingPolicy defaultPolicy = new TelemetryTracingPolicy(new Properties());
+    for (final CallCategory category : CallCategory.values()) {
+      assertTrue(defaultPolicy.shouldTrace(category));
+    }
+  }
+
+  @Test
+  void testInvalidSettings() {
+    final Properties invalidRate = new Properties();
+    PropertyDefinition.TELEMETRY_TRACES_SAMPLING_RATE.set(invalidRate, "1.5");
+    assertThrows(RuntimeException.class, () -> new TelemetryTracingPolicy(invalidRate));
+
+    final Properties invalidCategory = new Properties();
+    PropertyDefinition.TELEMETRY_TRACED_CALLS.set(invalidCategory, "execute,getters");
+    assertThrows(RuntimeException.class, () -> new TelemetryTracingPolicy(invalidCategory));
+  }
+
+  @Test
+  void testCallLatencyHistograms() {
+    final Properties props = new Properties();
+    PropertyDefinition.ENABLE_TELEMETRY.set(props, "true");
+    PropertyDefinition.TELEMETRY_TRACES_BACKEND.set(props, "none");
+    PropertyDefinition.TELEMETRY_METRICS_BACKEND.set(props, "none");
+    PropertyDefinition.TELEMETRY_CALL_LATENCY_HISTOGRAMS.set(props, "true");
+    final DefaultTelemetryFactory telemetryFactory = new DefaultTelemetryFactory(props);
+
+    assertTrue(telemetryFactory.isCallObserved("ResultSet.next"));
+    final TelemetryContext context =
+        telemetryFactory.openTelemetryContext("ResultSet.next", TelemetryTraceLevel.TOP_LEVEL);
+    assertInstanceOf(CallTelemetryContext.class, context);
+    assertFalse(telemetryFactory.isCurrentCallTraced());
+    context.closeContext();
+
+    assertFalse(new DefaultTelemetryFactory(new Properties()).isCallObserved("ResultSet.next"));
+  }
+
+  @Test
+  void testTelemetryFactoryDefaults() {
+    // A factory written before histograms and tracing checks were added still works.
+    final TelemetryFactory telemetryFactory = new TelemetryFactory() {
+      @Override
+      public TelemetryContext openTelemetryContext(final String name, final TelemetryTraceLevel traceLevel) {
+        return new NullTelemetryContext(name);
+      }
+
+      @Override
+      public void postCopy(final TelemetryContext telemetryContext, final TelemetryTraceLevel traceLevel) {
+      }
+
+      @Override
+      public TelemetryCounter createCounter(final String name) {
+        return new NullTelemetryCounter(name);
+      }
+
+      @Override
+      public TelemetryGauge createGauge(final String name, final GaugeCallable<Long> callback) {
+        return new NullTelemetryGauge(name);
+      }
+    };
+
+    assertTrue(telemetryFactory.isTracingEnabled());
+    assertTrue(telemetryFactory.isCallObserved("ResultSet.next"));
+    assertInstanceOf(
+        NullTelemetryHistogram.class,
+        telemetryFactory.createHistogram("histogram", Collections.singletonList(1L)));
+  }
+}